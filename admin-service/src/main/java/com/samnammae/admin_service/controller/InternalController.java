@@ -0,0 +1,32 @@
+package com.samnammae.admin_service.controller;
+
+import com.samnammae.admin_service.dto.response.StoreResponse;
+import com.samnammae.admin_service.service.StoreService;
+import com.samnammae.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 매장 소유자 검증 없이 연락처, 주소를 반환하므로 게이트웨이 라우트로 노출하지 않음 (서비스 간 호출 전용)
+@RestController
+@RequestMapping("/internal/store")
+@Tag(name = "Internal Store", description = "내부 서비스용 매장 API")
+@RequiredArgsConstructor
+public class InternalController {
+
+    private final StoreService storeService;
+
+    @GetMapping("/{storeId}")
+    @Operation(summary = "키오스크용 매장 조회", description = "키오스크 시작 화면과 테마에 필요한 매장 정보를 조회합니다.")
+    public ApiResponse<StoreResponse> getStore(
+            @PathVariable Long storeId) {
+
+        StoreResponse response = storeService.getStoreForKiosk(storeId);
+
+        return ApiResponse.success(response);
+    }
+}
@@ -87,6 +87,14 @@ public class StoreService {
         return StoreResponse.from(store);
     }
 
+    // 내부 서비스용 매장 조회 (게이트웨이 키오스크 번들에서 관리 매장 여부를 확인한 뒤 호출)
+    public StoreResponse getStoreForKiosk(Long storeId) {
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+
+        return StoreResponse.from(store);
+    }
+
     // 매장 정보 수정
     public StoreResponse updateStore(Long userId, Long storeId, StoreRequest request) {
         Store store = storeRepository.findById(storeId)
@@ -294,6 +294,47 @@ class StoreServiceTest {
                 });
     }
 
+    @Test
+    @DisplayName("키오스크용 매장 조회는 소유자 확인 없이 매장 정보를 반환")
+    void getStoreForKiosk_success() {
+        // given
+        Long storeId = 1L;
+
+        Store store = Store.builder()
+                .id(storeId)
+                .ownerId(2L)
+                .name("테스트매장")
+                .mainColor("#002F6C")
+                .build();
+
+        given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
+
+        // when
+        StoreResponse response = storeService.getStoreForKiosk(storeId);
+
+        // then
+        assertThat(response.getStoreId()).isEqualTo(storeId.toString());
+        assertThat(response.getName()).isEqualTo("테스트매장");
+        assertThat(response.getTheme().getMainColor()).isEqualTo("#002F6C");
+    }
+
+    @Test
+    @DisplayName("키오스크용 매장 조회 시 매장이 없으면 예외 발생")
+    void getStoreForKiosk_storeNotFound() {
+        // given
+        Long storeId = 999L;
+
+        given(storeRepository.findById(storeId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> storeService.getStoreForKiosk(storeId))
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> {
+                    CustomException ce = (CustomException) e;
+                    assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.STORE_NOT_FOUND);
+                });
+    }
+
     @Test
     @DisplayName("매장 정보 수정 성공 테스트")
     void updateStore_success() {
@@ -0,0 +1,69 @@
+package com.samnammae.api_gateway.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단계별 요청 제한기의 동시 처리 비용
+ * - sameStore: 모든 스레드가 같은 매장, 전체 버킷을 두고 경쟁 (CAS 경합 최악의 경우)
+ * - spreadStores: 키오스크와 매장이 stores개로 흩어진 경우
+ * - rejected: 한도를 모두 소진해 거절과 토큰 반환이 일어나는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class HierarchicalRateLimiterBenchmark {
+
+    @Param({"1000"})
+    public int stores;
+
+    private HierarchicalRateLimiter limiter;
+    private final RateLimit generous = new RateLimit(Long.MAX_VALUE / 1_000_000_000L, 1_000_000_000);
+    private final RateLimit exhausted = new RateLimit(1, 0.001);
+    private List<HierarchicalRateLimiter.Tier>[] spreadTiers;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        limiter = new HierarchicalRateLimiter(100_000);
+        spreadTiers = new List[stores];
+        for (int i = 0; i < stores; i++) {
+            spreadTiers[i] = List.of(
+                    new HierarchicalRateLimiter.Tier("chatbot|user|" + i, generous),
+                    new HierarchicalRateLimiter.Tier("chatbot|store|" + i, generous),
+                    new HierarchicalRateLimiter.Tier("chatbot|global", generous));
+        }
+    }
+
+    @Benchmark
+    public long sameStore() {
+        return limiter.tryAcquire(List.of(
+                new HierarchicalRateLimiter.Tier("menu|user|1", generous),
+                new HierarchicalRateLimiter.Tier("menu|store|1", generous),
+                new HierarchicalRateLimiter.Tier("menu|global", generous)));
+    }
+
+    @Benchmark
+    public long spreadStores() {
+        return limiter.tryAcquire(spreadTiers[ThreadLocalRandom.current().nextInt(stores)]);
+    }
+
+    @Benchmark
+    public long rejected() {
+        return limiter.tryAcquire(List.of(
+                new HierarchicalRateLimiter.Tier("order|user|1", generous),
+                new HierarchicalRateLimiter.Tier("order|store|1", exhausted)));
+    }
+}
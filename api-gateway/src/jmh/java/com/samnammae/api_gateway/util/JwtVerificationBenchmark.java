@@ -0,0 +1,92 @@
+package com.samnammae.api_gateway.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게이트웨이 인증 필터의 요청당 토큰 처리 비용
+ * - parserPerRequest: 변경 전 (요청마다 파서 생성 + 서명 검증 + storeIds 문자열 변환)
+ * - reusableParser: 파서 재사용 (서명 검증과 파싱은 매번 수행)
+ * - cachedAuthenticate: 검증된 사용자 정보 캐시 (activeTokens개의 토큰을 번갈아 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "this-is-a-benchmark-secret-key-for-jwt-util-class-1234567890";
+
+    // 동시에 사용 중인 키오스크/관리자 토큰 수
+    @Param({"1", "1000"})
+    public int activeTokens;
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtUtil = new JwtUtil(SECRET);
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            tokens[i] = Jwts.builder()
+                    .setSubject(String.valueOf(i))
+                    .claim("userEmail", "owner" + i + "@example.com")
+                    .claim("storeIds", List.of(i, i + 1, i + 2))
+                    .setIssuedAt(new Date())
+                    .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                    .signWith(key, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+    }
+
+    @Benchmark
+    public String parserPerRequest() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(nextToken())
+                .getBody();
+        Object storeIds = claims.get("storeIds");
+        return claims.getSubject() + claims.get("userEmail", String.class)
+                + ((List<?>) storeIds).stream()
+                .map(item -> String.valueOf(((Number) item).longValue()))
+                .collect(Collectors.joining(","));
+    }
+
+    @Benchmark
+    public String reusableParser() {
+        AuthenticatedUser user = AuthenticatedUser.from(jwtUtil.validateAndParseClaims(nextToken()));
+        return user.getUserId() + user.getUserEmail() + user.getManagedStoreIds();
+    }
+
+    @Benchmark
+    public String cachedAuthenticate() {
+        AuthenticatedUser user = jwtUtil.authenticate(nextToken());
+        return user.getUserId() + user.getUserEmail() + user.getManagedStoreIds();
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+}
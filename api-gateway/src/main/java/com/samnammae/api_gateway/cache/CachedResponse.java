@@ -0,0 +1,31 @@
+package com.samnammae.api_gateway.cache;
+
+/**
+ * 게이트웨이에 캐시된 GET 응답 (본문은 gzip으로 압축해 보관)
+ * @param routeId 라우트 ID
+ * @param storeId 경로의 매장 ID (매장 단위 경로가 아니면 null)
+ * @param etag 압축 전 본문의 SHA-256으로 만든 강한 ETag (따옴표 포함)
+ * @param version 백엔드가 X-Cache-Version 헤더로 알려준 데이터 버전 (없으면 null)
+ */
+public record CachedResponse(String key,
+                             String routeId,
+                             String storeId,
+                             String etag,
+                             String contentType,
+                             byte[] gzipBody,
+                             String version,
+                             long expiresAtMillis) {
+
+    // 본문 외 키, 헤더 값 등의 대략적인 메모리 사용량
+    private static final int OVERHEAD_BYTES = 256;
+
+    long sizeInBytes() {
+        return gzipBody.length + key.length() * 2L + OVERHEAD_BYTES;
+    }
+
+    // 매장을 지정하면 그 매장 항목과 매장 구분이 없는 목록 항목이 대상
+    boolean matches(String routeId, String storeId) {
+        return this.routeId.equals(routeId)
+                && (storeId == null || this.storeId == null || storeId.equals(this.storeId));
+    }
+}
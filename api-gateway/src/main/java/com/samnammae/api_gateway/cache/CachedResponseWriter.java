@@ -0,0 +1,60 @@
+package com.samnammae.api_gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 캐시된 본문을 클라이언트의 Accept-Encoding, If-None-Match에 맞춰 응답
+ */
+public final class CachedResponseWriter {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private CachedResponseWriter() {
+    }
+
+    /**
+     * @param cacheStatus X-Cache 헤더 값 (HIT, MISS)
+     */
+    public static Mono<Void> write(ServerHttpResponse response, ServerHttpRequest request,
+                                   CachedResponse entry, String cacheStatus) {
+        HttpHeaders headers = response.getHeaders();
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.CONTENT_ENCODING);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.setETag(entry.etag());
+        headers.setCacheControl("private, no-cache");
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        if (entry.contentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType());
+        }
+
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        if (ifNoneMatch.contains(entry.etag()) || ifNoneMatch.contains("*")) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        byte[] body;
+        if (acceptsGzip(request)) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = entry.gzipBody();
+        } else {
+            body = GzipCodec.gunzip(entry.gzipBody());
+        }
+        headers.setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    public static boolean acceptsGzip(ServerHttpRequest request) {
+        String acceptEncoding = request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+}
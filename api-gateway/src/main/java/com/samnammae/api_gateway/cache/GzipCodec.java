@@ -0,0 +1,48 @@
+package com.samnammae.api_gateway.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캐시 본문 압축/해제와 ETag 계산
+ */
+public final class GzipCodec {
+
+    private GzipCodec() {
+    }
+
+    public static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] gunzip(byte[] gzipBody) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 압축 방식과 관계없이 같은 내용이면 같은 값이 되도록 압축 전 본문으로 계산
+    public static String strongEtag(byte[] identityBody) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(identityBody);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.samnammae.api_gateway.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 게이트웨이 응답 캐시 저장소
+ * - 압축된 본문 크기 합계로 용량을 제한하고, 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 항목은 TTL이 지나거나 purge 호출, 쓰기 요청, 백엔드 버전 변경 시 제거
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final long maxBytes;
+    private final LongSupplier clock;
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    @Autowired
+    public ResponseCacheStore(@Value("${gateway.response-cache.max-bytes:67108864}") long maxBytes) {
+        this(maxBytes, System::currentTimeMillis);
+    }
+
+    ResponseCacheStore(long maxBytes, LongSupplier clock) {
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시 조회
+     * @return 만료되지 않은 항목 (없으면 null)
+     */
+    public synchronized CachedResponse get(String key) {
+        CachedResponse entry = entries.get(key);
+        if (entry != null && entry.expiresAtMillis() <= clock.getAsLong()) {
+            remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    public synchronized void put(CachedResponse entry) {
+        if (entry.sizeInBytes() > maxBytes) {
+            return;
+        }
+        remove(entry.key());
+        entries.put(entry.key(), entry);
+        totalBytes += entry.sizeInBytes();
+
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().sizeInBytes();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * 라우트의 특정 매장(없으면 라우트 전체) 항목 제거
+     * @return 제거한 항목 수
+     */
+    public synchronized int purge(String routeId, String storeId) {
+        return removeIf(entry -> entry.matches(routeId, storeId));
+    }
+
+    /**
+     * 백엔드가 알려준 버전과 다른 버전으로 저장된 같은 매장 항목 제거
+     */
+    public synchronized int purgeOtherVersions(String routeId, String storeId, String version) {
+        return removeIf(entry -> entry.matches(routeId, storeId) && !Objects.equals(entry.version(), version));
+    }
+
+    public synchronized int purgeStore(String storeId) {
+        return removeIf(entry -> storeId.equals(entry.storeId()));
+    }
+
+    public synchronized int purgeAll() {
+        int removed = entries.size();
+        entries.clear();
+        totalBytes = 0;
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.sizeInBytes();
+        }
+    }
+
+    private int removeIf(Predicate<CachedResponse> condition) {
+        int removed = 0;
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CachedResponse entry = iterator.next();
+            if (condition.test(entry)) {
+                totalBytes -= entry.sizeInBytes();
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,36 @@
+package com.samnammae.api_gateway.config;
+
+import com.samnammae.api_gateway.filter.AccessLogWebFilter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 라우트 단위 상세 접근 로그 스위치 (관리 포트의 /actuator/accesslog)
+ * 전역 TRACE 대신 문제가 있는 라우트 하나만 실행 중에 상세 로그를 켜고 끔
+ * e.g. POST /actuator/accesslog {"routeId": "menu-service-route", "enabled": true}
+ */
+@Component
+@Endpoint(id = "accesslog")
+public class AccessLogDebugEndpoint {
+
+    private final AccessLogWebFilter accessLogWebFilter;
+
+    public AccessLogDebugEndpoint(AccessLogWebFilter accessLogWebFilter) {
+        this.accessLogWebFilter = accessLogWebFilter;
+    }
+
+    @ReadOperation
+    public Set<String> debugRoutes() {
+        return accessLogWebFilter.getDebugRoutes();
+    }
+
+    @WriteOperation
+    public Set<String> setDebug(String routeId, boolean enabled) {
+        accessLogWebFilter.setDebug(routeId, enabled);
+        return accessLogWebFilter.getDebugRoutes();
+    }
+}
@@ -0,0 +1,59 @@
+package com.samnammae.api_gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게이트웨이 접근 로그 설정 (gateway.access-log)
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    // 접근 로그 사용 여부
+    private boolean enabled = true;
+
+    // 정상 응답 중 기록할 비율 (0.0 ~ 1.0), 5xx와 느린 응답은 항상 기록
+    private double sampleRate = 0.1;
+
+    // 이 시간 이상 걸린 응답은 샘플링과 관계없이 기록
+    private long slowThresholdMs = 1000;
+
+    // 시작 시 상세 로그를 켤 라우트 ID (실행 중에는 /actuator/accesslog로 변경)
+    private List<String> debugRoutes = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    public List<String> getDebugRoutes() {
+        return debugRoutes;
+    }
+
+    public void setDebugRoutes(List<String> debugRoutes) {
+        this.debugRoutes = debugRoutes;
+    }
+}
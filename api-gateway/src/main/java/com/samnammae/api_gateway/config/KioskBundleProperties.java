@@ -0,0 +1,74 @@
+package com.samnammae.api_gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키오스크 시작 번들 설정 (gateway.kiosk-bundle)
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.kiosk-bundle")
+public class KioskBundleProperties {
+
+    // 서비스별 스냅샷 유지 시간 (게이트웨이를 거친 쓰기 요청이 성공하면 그 전에 제거)
+    private long ttlSeconds = 60;
+
+    // 스냅샷을 가져오는 백엔드 호출 제한 시간
+    private long timeoutMillis = 3000;
+
+    // 매장 정보 스냅샷 주소 (서비스 이름은 로드밸런서로 해석)와 쓰기 시 스냅샷을 제거하는 라우트 ID
+    private String storeUri = "http://admin-service/internal/store/{storeId}";
+    private String storeRouteId = "admin-service-route";
+
+    // 카테고리, 메뉴, 옵션 스냅샷 주소와 쓰기 시 스냅샷을 제거하는 라우트 ID
+    private String menuUri = "http://menu-service/internal/menu/{storeId}/bundle";
+    private String menuRouteId = "menu-service-route";
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public String getStoreUri() {
+        return storeUri;
+    }
+
+    public void setStoreUri(String storeUri) {
+        this.storeUri = storeUri;
+    }
+
+    public String getStoreRouteId() {
+        return storeRouteId;
+    }
+
+    public void setStoreRouteId(String storeRouteId) {
+        this.storeRouteId = storeRouteId;
+    }
+
+    public String getMenuUri() {
+        return menuUri;
+    }
+
+    public void setMenuUri(String menuUri) {
+        this.menuUri = menuUri;
+    }
+
+    public String getMenuRouteId() {
+        return menuRouteId;
+    }
+
+    public void setMenuRouteId(String menuRouteId) {
+        this.menuRouteId = menuRouteId;
+    }
+}
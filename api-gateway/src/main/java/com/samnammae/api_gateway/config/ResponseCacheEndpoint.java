@@ -0,0 +1,36 @@
+package com.samnammae.api_gateway.config;
+
+import com.samnammae.api_gateway.cache.ResponseCacheStore;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 게이트웨이 응답 캐시 상태 조회와 명시적 제거 (관리 포트의 /actuator/responsecache)
+ * e.g. DELETE /actuator/responsecache?storeId=7, 매장을 지정하지 않으면 전체 제거
+ */
+@Component
+@Endpoint(id = "responsecache")
+public class ResponseCacheEndpoint {
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheEndpoint(ResponseCacheStore store) {
+        this.store = store;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return Map.of("entries", store.size(), "bytes", store.totalBytes());
+    }
+
+    @DeleteOperation
+    public Map<String, Object> purge(@Nullable String storeId) {
+        int removed = storeId != null ? store.purgeStore(storeId) : store.purgeAll();
+        return Map.of("removed", removed);
+    }
+}
@@ -46,10 +46,10 @@ public class GatewayExceptionHandler implements ErrorWebExceptionHandler {
             CustomException customEx = (CustomException) ex;
             errorCode = customEx.getErrorCode();
 
-            // CustomException의 경우 WARN 레벨로 로깅
-            logger.warn("Gateway Custom Exception - Code: {}, Message: {}, Path: {}",
+            // CustomException은 예상된 오류이므로 스택 트레이스 없이 DEBUG 레벨로 로깅 (상태 코드는 접근 로그에 기록)
+            logger.debug("Gateway Custom Exception - Code: {}, Message: {}, Path: {}",
                     errorCode.name(), errorCode.getMessage(),
-                    exchange.getRequest().getPath().value(), ex);
+                    exchange.getRequest().getPath().value());
         } else {
             errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
 
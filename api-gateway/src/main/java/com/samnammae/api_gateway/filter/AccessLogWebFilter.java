@@ -0,0 +1,120 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.config.AccessLogProperties;
+import com.samnammae.api_gateway.util.RequestPaths;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청당 한 줄의 구조화된 접근 로그
+ * - 응답 헤더가 커밋되는 시점에 라우트, 상태 코드, 지연 시간, 매장 ID를 기록 (인증 실패 등 오류 응답 포함)
+ * - 정상 응답은 샘플링, 5xx와 느린 응답은 항상 기록
+ * - ACCESS_LOG 로거는 비동기 링 버퍼 appender로 출력 (logback-spring.xml, 버퍼가 차면 버림)
+ * - 상세 로그를 켠 라우트는 샘플링 없이 요청/응답 헤더까지 기록
+ */
+@Component
+public class AccessLogWebFilter implements WebFilter, Ordered {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private static final Set<String> MASKED_HEADERS = Set.of(HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE, HttpHeaders.SET_COOKIE);
+
+    private final AccessLogProperties properties;
+    private final Set<String> debugRoutes = ConcurrentHashMap.newKeySet();
+
+    public AccessLogWebFilter(AccessLogProperties properties) {
+        this.properties = properties;
+        this.debugRoutes.addAll(properties.getDebugRoutes());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        long startedAt = System.nanoTime();
+        exchange.getResponse().beforeCommit(() -> {
+            log(exchange, (System.nanoTime() - startedAt) / 1_000_000);
+            return Mono.empty();
+        });
+        return chain.filter(exchange);
+    }
+
+    /**
+     * 라우트 상세 로그 켜기/끄기
+     */
+    public void setDebug(String routeId, boolean enabled) {
+        if (enabled) {
+            debugRoutes.add(routeId);
+        } else {
+            debugRoutes.remove(routeId);
+        }
+    }
+
+    public Set<String> getDebugRoutes() {
+        return Set.copyOf(debugRoutes);
+    }
+
+    private void log(ServerWebExchange exchange, long latencyMs) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "-";
+        HttpStatusCode status = response.getStatusCode();
+        int statusCode = status != null ? status.value() : 200;
+        String path = request.getPath().value();
+
+        boolean debug = !debugRoutes.isEmpty() && debugRoutes.contains(routeId);
+        if (!debug && !shouldLog(statusCode, latencyMs)) {
+            return;
+        }
+
+        accessLog.info("access route={} method={} path={} status={} latencyMs={} storeId={}",
+                routeId, request.getMethod().name(), path, statusCode, latencyMs,
+                Objects.requireNonNullElse(RequestPaths.storeIdOf(path), "-"));
+
+        if (debug) {
+            accessLog.info("access_debug route={} uri={} query={} requestHeaders={} responseHeaders={} remote={}",
+                    routeId, route != null ? route.getUri() : "-", request.getURI().getRawQuery(),
+                    masked(request.getHeaders()), masked(response.getHeaders()), request.getRemoteAddress());
+        }
+    }
+
+    private boolean shouldLog(int statusCode, long latencyMs) {
+        return statusCode >= 500
+                || latencyMs >= properties.getSlowThresholdMs()
+                || ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+    }
+
+    private static HttpHeaders masked(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        headers.forEach((name, values) -> copy.put(name, MASKED_HEADERS.contains(name) ? List.of("***") : values));
+        return copy;
+    }
+}
@@ -1,9 +1,9 @@
 package com.samnammae.api_gateway.filter;
 
+import com.samnammae.api_gateway.util.AuthenticatedUser;
 import com.samnammae.api_gateway.util.JwtUtil;
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
-import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
@@ -13,7 +13,6 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
 import java.util.Objects;
 
 @Component
@@ -21,6 +20,9 @@ public class AuthorizationHeaderGatewayFilterFactory extends AbstractGatewayFilt
 
     private static final Logger logger = LoggerFactory.getLogger(AuthorizationHeaderGatewayFilterFactory.class);
 
+    // 토큰에 담기지 않은 클라이언트 식별 헤더 (인증되지 않은 값이므로 백엔드와 요청 제한에 전달하지 않음)
+    static final String KIOSK_ID_HEADER = "X-KIOSK-ID";
+
     private final JwtUtil jwtUtil;
 
     public AuthorizationHeaderGatewayFilterFactory(JwtUtil jwtUtil) {
@@ -37,55 +39,35 @@ public class AuthorizationHeaderGatewayFilterFactory extends AbstractGatewayFilt
         return (exchange, chain) -> {
             ServerHttpRequest request = exchange.getRequest();
             String requestPath = request.getPath().value();
-            String requestId = request.getId();
-            String method = request.getMethod().name();
-
-            logger.info("=== Authorization Filter Start === RequestId: {}, Method: {}, Path: {}, RemoteAddress: {}",
-                    requestId, method, requestPath, request.getRemoteAddress());
 
+            // 요청 단위 기록은 AccessLogWebFilter가 담당하므로 여기서는 실패만 기록
             // 'Authorization' 헤더 존재 여부 확인
             if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
-                logger.warn("Authorization header missing - Path: {}, RemoteAddress: {}",
-                        requestPath, request.getRemoteAddress());
+                logger.debug("Authorization header missing - Path: {}", requestPath);
                 return Mono.error(new CustomException(ErrorCode.TOKEN_MISSING));
             }
 
             String authorizationHeader = Objects.requireNonNull(request.getHeaders().get(HttpHeaders.AUTHORIZATION)).get(0);
             String token = authorizationHeader.replace("Bearer ", "");
 
-            // 토큰 유효성 검증 및 클레임 추출
+            // 토큰 유효성 검증 및 사용자 정보 추출 (검증된 토큰은 만료 전까지 캐시에서 재사용)
             try {
-                Claims claims = jwtUtil.validateAndParseClaims(token);
-                String userId = claims.getSubject();
-                String userEmail = claims.get("userEmail", String.class);
-                Object storeIdsObj = claims.get("storeIds");
-                List<Long> storeIdsList = null;
-                if (storeIdsObj instanceof List<?>) {
-                    storeIdsList = ((List<?>) storeIdsObj).stream()
-                            .filter(item -> item instanceof Number)
-                            .map(item -> ((Number) item).longValue())
-                            .toList();
-                }
-                String storeIds = storeIdsList != null ?
-                        storeIdsList.stream().map(String::valueOf).collect(java.util.stream.Collectors.joining(",")) : "";
+                AuthenticatedUser user = jwtUtil.authenticate(token);
 
                 logger.debug("JWT validation successful - Path: {}, UserId: {}, UserEmail: {}",
-                        requestPath, userId, userEmail);
+                        requestPath, user.getUserId(), user.getUserEmail());
 
                 ServerHttpRequest newRequest = request.mutate()
-                        .header("X-USER-ID", userId)
-                        .header("X-USER-EMAIL", userEmail)
-                        .header("X-MANAGED-STORE-IDS", storeIds)
+                        .headers(headers -> headers.remove(KIOSK_ID_HEADER))
+                        .header("X-USER-ID", user.getUserId())
+                        .header("X-USER-EMAIL", user.getUserEmail())
+                        .header("X-MANAGED-STORE-IDS", user.getManagedStoreIds())
                         .build();
 
-                logger.info("Authorization Filter End - RequestId: {}, Method: {}, Path: {}, RemoteAddress: {}",
-                        requestId, method, requestPath, request.getRemoteAddress());
-
                 return chain.filter(exchange.mutate().request(newRequest).build());
 
             } catch (CustomException e) {
-                logger.warn("JWT validation failed - Path: {}, ErrorCode: {}, RemoteAddress: {}",
-                        requestPath, e.getErrorCode().name(), request.getRemoteAddress());
+                logger.debug("JWT validation failed - Path: {}, ErrorCode: {}", requestPath, e.getErrorCode().name());
                 return Mono.error(e);
             }
         };
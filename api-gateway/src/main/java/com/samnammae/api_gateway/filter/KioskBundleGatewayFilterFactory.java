@@ -0,0 +1,48 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.cache.CachedResponseWriter;
+import com.samnammae.api_gateway.kiosk.KioskBundleService;
+import com.samnammae.api_gateway.util.RequestPaths;
+import com.samnammae.common.auth.ManagedStores;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 키오스크 시작 번들 응답 (/api/kiosk/{storeId}/bundle)
+ * - 백엔드로 전달하지 않고 KioskBundleService가 조립한 번들을 gzip, 번들 버전 ETag와 함께 응답 (If-None-Match가 같으면 304)
+ * - AuthorizationHeader 필터 뒤에 두어 관리 매장 헤더로 접근 권한 확인
+ */
+@Component
+public class KioskBundleGatewayFilterFactory extends AbstractGatewayFilterFactory<KioskBundleGatewayFilterFactory.Config> {
+
+    private final KioskBundleService bundleService;
+
+    public KioskBundleGatewayFilterFactory(KioskBundleService bundleService) {
+        super(Config.class);
+        this.bundleService = bundleService;
+    }
+
+    public static class Config {
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String storeId = RequestPaths.storeIdOf(request.getPath().value());
+            ManagedStores managedStores = ManagedStores.parse(request.getHeaders().getFirst(ManagedStores.HEADER));
+            if (storeId == null || storeId.length() > 18 || !managedStores.contains(Long.valueOf(storeId))) {
+                return Mono.error(new CustomException(ErrorCode.STORE_ACCESS_DENIED));
+            }
+
+            return bundleService.bundle(storeId)
+                    .flatMap(bundle -> CachedResponseWriter.write(exchange.getResponse(), request,
+                            bundle.response(), bundle.reused() ? "HIT" : "MISS"));
+        };
+    }
+}
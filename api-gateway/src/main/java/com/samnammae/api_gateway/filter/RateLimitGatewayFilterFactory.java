@@ -0,0 +1,140 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.ratelimit.HierarchicalRateLimiter;
+import com.samnammae.api_gateway.ratelimit.RateLimit;
+import com.samnammae.api_gateway.util.RequestPaths;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 단계 요청 제한 (사용자 → 매장 → 라우트 전체)
+ * AuthorizationHeader 필터 뒤에 두어 토큰에서 꺼낸 X-USER-ID, X-MANAGED-STORE-IDS 헤더를 사용
+ * (클라이언트가 값을 바꿔 보낼 수 있는 헤더로 키를 나누면 요청마다 새 버킷이 생겨 한도를 우회하므로 사용하지 않음)
+ * 한도를 넘으면 429와 Retry-After(초)를 응답
+ */
+@Component
+public class RateLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<RateLimitGatewayFilterFactory.Config> {
+
+    private final HierarchicalRateLimiter rateLimiter;
+
+    public RateLimitGatewayFilterFactory(HierarchicalRateLimiter rateLimiter) {
+        super(Config.class);
+        this.rateLimiter = rateLimiter;
+    }
+
+    public static class Config {
+        // 라우트 전체
+        private long globalCapacity;
+        private double globalRefillPerSecond;
+        // 매장 단위
+        private long storeCapacity;
+        private double storeRefillPerSecond;
+        // 사용자 단위
+        private long userCapacity;
+        private double userRefillPerSecond;
+
+        public long getGlobalCapacity() {
+            return globalCapacity;
+        }
+
+        public void setGlobalCapacity(long globalCapacity) {
+            this.globalCapacity = globalCapacity;
+        }
+
+        public double getGlobalRefillPerSecond() {
+            return globalRefillPerSecond;
+        }
+
+        public void setGlobalRefillPerSecond(double globalRefillPerSecond) {
+            this.globalRefillPerSecond = globalRefillPerSecond;
+        }
+
+        public long getStoreCapacity() {
+            return storeCapacity;
+        }
+
+        public void setStoreCapacity(long storeCapacity) {
+            this.storeCapacity = storeCapacity;
+        }
+
+        public double getStoreRefillPerSecond() {
+            return storeRefillPerSecond;
+        }
+
+        public void setStoreRefillPerSecond(double storeRefillPerSecond) {
+            this.storeRefillPerSecond = storeRefillPerSecond;
+        }
+
+        public long getUserCapacity() {
+            return userCapacity;
+        }
+
+        public void setUserCapacity(long userCapacity) {
+            this.userCapacity = userCapacity;
+        }
+
+        public double getUserRefillPerSecond() {
+            return userRefillPerSecond;
+        }
+
+        public void setUserRefillPerSecond(double userRefillPerSecond) {
+            this.userRefillPerSecond = userRefillPerSecond;
+        }
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        RateLimit global = new RateLimit(config.getGlobalCapacity(), config.getGlobalRefillPerSecond());
+        RateLimit store = new RateLimit(config.getStoreCapacity(), config.getStoreRefillPerSecond());
+        RateLimit user = new RateLimit(config.getUserCapacity(), config.getUserRefillPerSecond());
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "-";
+
+            String userKey = userKeyOf(request);
+            String storeKey = storeKeyOf(request);
+            long waitNanos = rateLimiter.tryAcquire(List.of(
+                    new HierarchicalRateLimiter.Tier(userKey != null ? routeId + "|user|" + userKey : null, user),
+                    new HierarchicalRateLimiter.Tier(storeKey != null ? routeId + "|store|" + storeKey : null, store),
+                    new HierarchicalRateLimiter.Tier(routeId + "|global", global)));
+
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                return Mono.error(new CustomException(ErrorCode.TOO_MANY_REQUESTS));
+            }
+            return chain.filter(exchange);
+        };
+    }
+
+    // 토큰의 사용자 ID (같은 계정으로 로그인한 키오스크는 한도를 공유)
+    private static String userKeyOf(ServerHttpRequest request) {
+        return request.getHeaders().getFirst("X-USER-ID");
+    }
+
+    // 경로의 매장이 토큰의 관리 매장이면 그 매장, 아니면 관리 매장 목록 전체를 하나의 키로 사용
+    private static String storeKeyOf(ServerHttpRequest request) {
+        String managedStoreIds = request.getHeaders().getFirst("X-MANAGED-STORE-IDS");
+        if (managedStoreIds == null || managedStoreIds.isEmpty()) {
+            return null;
+        }
+        String storeId = RequestPaths.storeIdOf(request.getPath().value());
+        if (storeId != null && ("," + managedStoreIds + ",").contains("," + storeId + ",")) {
+            return storeId;
+        }
+        return managedStoreIds;
+    }
+}
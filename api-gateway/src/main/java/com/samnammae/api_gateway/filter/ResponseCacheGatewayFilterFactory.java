@@ -0,0 +1,209 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.cache.CachedResponse;
+import com.samnammae.api_gateway.cache.CachedResponseWriter;
+import com.samnammae.api_gateway.cache.GzipCodec;
+import com.samnammae.api_gateway.cache.ResponseCacheStore;
+import com.samnammae.api_gateway.util.RequestPaths;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 전용 라우트의 GET 응답 캐시
+ * - 키: 라우트 + 경로 + 쿼리 + 권한 범위 헤더 값 (AuthorizationHeader 필터 뒤에 두어 권한 검증은 매번 수행)
+ * - 200 JSON 응답만 gzip으로 압축해 보관하고 강한 ETag를 붙여 응답, If-None-Match가 같으면 304
+ * - 같은 라우트의 쓰기 요청이 성공하면 해당 매장 항목 제거, 백엔드가 X-Cache-Version을 바꿔 보내면 이전 버전 항목 제거
+ * - 명시적 제거는 /actuator/responsecache (게이트웨이 인스턴스마다 호출)
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    static final String VERSION_HEADER = "X-Cache-Version";
+
+    private final ResponseCacheStore store;
+    private final int maxEntryBytes;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store,
+                                             @Value("${gateway.response-cache.max-entry-bytes:1048576}") int maxEntryBytes) {
+        super(Config.class);
+        this.store = store;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public static class Config {
+        // 캐시 유지 시간
+        private long ttlSeconds = 30;
+        // 응답 내용을 결정하는 권한 범위 헤더 (e.g., X-MANAGED-STORE-IDS, X-USER-ID)
+        private String scopeHeader = "X-MANAGED-STORE-IDS";
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+
+        public String getScopeHeader() {
+            return scopeHeader;
+        }
+
+        public void setScopeHeader(String scopeHeader) {
+            this.scopeHeader = scopeHeader;
+        }
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "-";
+            String storeId = RequestPaths.storeIdOf(request.getPath().value());
+
+            // 쓰기 요청이 성공하면 같은 매장의 캐시 제거
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange).doOnSuccess(done -> {
+                    if (exchange.getResponse().getStatusCode() != null
+                            && exchange.getResponse().getStatusCode().is2xxSuccessful()) {
+                        store.purge(routeId, storeId);
+                    }
+                });
+            }
+
+            String key = routeId + " " + request.getURI().getRawPath()
+                    + "?" + request.getURI().getRawQuery()
+                    + " " + request.getHeaders().getFirst(config.getScopeHeader());
+            CachedResponse cached = store.get(key);
+            if (cached != null) {
+                return CachedResponseWriter.write(exchange.getResponse(), request, cached, "HIT");
+            }
+
+            // gzip을 받는 클라이언트만 백엔드에 gzip을 요청 (캐시 대상이 아니면 백엔드 응답을 그대로 전달하므로
+            // 나머지 클라이언트는 원래 Accept-Encoding 유지), If-None-Match는 게이트웨이가 처리
+            boolean clientAcceptsGzip = CachedResponseWriter.acceptsGzip(request);
+            ServerHttpRequest upstreamRequest = request.mutate()
+                    .headers(headers -> {
+                        if (clientAcceptsGzip) {
+                            headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+                        }
+                        headers.remove(HttpHeaders.IF_NONE_MATCH);
+                    })
+                    .build();
+            ServerHttpResponse cachingResponse = new CachingResponse(exchange.getResponse(), request,
+                    key, routeId, storeId, config.getTtlSeconds() * 1000);
+
+            return chain.filter(exchange.mutate().request(upstreamRequest).response(cachingResponse).build());
+        };
+    }
+
+    /**
+     * 백엔드 응답 본문을 모아 캐시에 저장한 뒤 클라이언트에 응답
+     * 캐시 대상이 아닌 응답(200이 아님, JSON이 아님, no-store, 크기 초과)은 그대로 전달
+     * Content-Length가 없으면 최대 크기까지만 모으고, 넘으면 모은 부분과 나머지를 그대로 전달
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+        private final String key;
+        private final String routeId;
+        private final String storeId;
+        private final long ttlMillis;
+
+        CachingResponse(ServerHttpResponse delegate, ServerHttpRequest request,
+                        String key, String routeId, String storeId, long ttlMillis) {
+            super(delegate);
+            this.request = request;
+            this.key = key;
+            this.routeId = routeId;
+            this.storeId = storeId;
+            this.ttlMillis = ttlMillis;
+        }
+
+        @Override
+        @NonNull
+        public Mono<Void> writeWith(@NonNull Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            String version = headers.getFirst(VERSION_HEADER);
+            if (version != null) {
+                store.purgeOtherVersions(routeId, storeId, version);
+            }
+            if (!isCacheable(headers)) {
+                headers.set(CachedResponseWriter.CACHE_STATUS_HEADER, "BYPASS");
+                return super.writeWith(body);
+            }
+
+            boolean upstreamGzip = "gzip".equalsIgnoreCase(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+            AtomicLong received = new AtomicLong();
+            return Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> received.addAndGet(buffer.readableByteCount()) > maxEntryBytes)
+                    .switchOnFirst((first, chunks) -> {
+                        Flux<DataBuffer> buffers = chunks.concatMapIterable(chunk -> chunk);
+                        if (received.get() > maxEntryBytes) {
+                            headers.set(CachedResponseWriter.CACHE_STATUS_HEADER, "BYPASS");
+                            return super.writeWith(buffers);
+                        }
+                        return cache(DataBufferUtils.join(buffers), upstreamGzip, version);
+                    })
+                    .then();
+        }
+
+        private Mono<Void> cache(Mono<DataBuffer> body, boolean upstreamGzip, String version) {
+            HttpHeaders headers = getHeaders();
+            return body
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        byte[] identity = upstreamGzip ? GzipCodec.gunzip(bytes) : bytes;
+                        byte[] gzipBody = upstreamGzip ? bytes : GzipCodec.gzip(bytes);
+                        CachedResponse entry = new CachedResponse(key, routeId, storeId,
+                                GzipCodec.strongEtag(identity), headers.getFirst(HttpHeaders.CONTENT_TYPE),
+                                gzipBody, version, System.currentTimeMillis() + ttlMillis);
+                        if (identity.length <= maxEntryBytes) {
+                            store.put(entry);
+                        }
+                        return CachedResponseWriter.write(getDelegate(), request, entry, "MISS");
+                    });
+        }
+
+        private boolean isCacheable(HttpHeaders headers) {
+            if (getStatusCode() == null || getStatusCode().value() != HttpStatus.OK.value()) {
+                return false;
+            }
+            MediaType contentType = headers.getContentType();
+            if (contentType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+                return false;
+            }
+            String cacheControl = headers.getCacheControl();
+            if (cacheControl != null && (cacheControl.contains("no-store") || cacheControl.contains("private"))) {
+                return false;
+            }
+            long contentLength = headers.getContentLength();
+            String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+            return contentLength <= maxEntryBytes
+                    && (contentEncoding == null || "gzip".equalsIgnoreCase(contentEncoding) || "identity".equalsIgnoreCase(contentEncoding));
+        }
+    }
+}
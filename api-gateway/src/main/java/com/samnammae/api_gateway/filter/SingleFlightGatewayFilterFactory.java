@@ -0,0 +1,173 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.singleflight.InFlightRequests;
+import com.samnammae.api_gateway.singleflight.SharedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시에 들어온 같은 GET 요청을 백엔드 호출 한 번으로 묶음 (single-flight)
+ * - 키: 라우트 + 경로 + 쿼리 + 권한 범위 헤더 값 + Accept-Encoding
+ * - 먼저 들어온 요청만 백엔드를 호출하고, 응답 본문을 모아 기다리던 요청들에 같은 응답을 전달
+ * - 대기자는 timeoutMillis까지만 기다리고, 시간 초과나 공유 불가(오류, 크기 초과, Set-Cookie, 스트리밍)면 직접 호출
+ * - ResponseCache 필터 뒤에 두어 캐시 미스만 묶음
+ */
+@Component
+public class SingleFlightGatewayFilterFactory extends AbstractGatewayFilterFactory<SingleFlightGatewayFilterFactory.Config> {
+
+    private final InFlightRequests inFlightRequests;
+    private final int maxBodyBytes;
+
+    public SingleFlightGatewayFilterFactory(InFlightRequests inFlightRequests,
+                                            @Value("${gateway.single-flight.max-body-bytes:1048576}") int maxBodyBytes) {
+        super(Config.class);
+        this.inFlightRequests = inFlightRequests;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public static class Config {
+        // 대기자가 대표 호출을 기다리는 최대 시간
+        private long timeoutMillis = 3000;
+        // 응답 내용을 결정하는 권한 범위 헤더
+        private String scopeHeader = "X-MANAGED-STORE-IDS";
+
+        public long getTimeoutMillis() {
+            return timeoutMillis;
+        }
+
+        public void setTimeoutMillis(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        public String getScopeHeader() {
+            return scopeHeader;
+        }
+
+        public void setScopeHeader(String scopeHeader) {
+            this.scopeHeader = scopeHeader;
+        }
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String key = (route != null ? route.getId() : "-")
+                    + " " + request.getURI().getRawPath()
+                    + "?" + request.getURI().getRawQuery()
+                    + " " + request.getHeaders().getFirst(config.getScopeHeader())
+                    + " " + request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+
+            InFlightRequests.Flight flight = inFlightRequests.join(key);
+            if (flight == null) {
+                return chain.filter(exchange);
+            }
+
+            // 대기자: 대표 응답을 받아 그대로 쓰고, 받지 못하면 직접 호출
+            if (!flight.leader()) {
+                return flight.result()
+                        .timeout(Duration.ofMillis(config.getTimeoutMillis()), Mono.empty())
+                        .flatMap(shared -> write(exchange.getResponse(), shared).thenReturn(Boolean.TRUE))
+                        .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(Boolean.TRUE)))
+                        .then();
+            }
+
+            // 대표: 오류, 취소로 응답을 쓰지 못하고 끝나도 대기자가 풀려나도록 종료 시 한 번 더 complete
+            ServerHttpResponse sharingResponse = new SharingResponse(exchange.getResponse(), flight);
+            return chain.filter(exchange.mutate().response(sharingResponse).build())
+                    .doFinally(signal -> inFlightRequests.complete(flight, null));
+        };
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        shared.headers().forEach((name, values) -> response.getHeaders().put(name, new ArrayList<>(values)));
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    /**
+     * 대표 요청의 응답 본문을 모아 대기자와 공유한 뒤 클라이언트에 응답
+     */
+    private class SharingResponse extends ServerHttpResponseDecorator {
+
+        private final InFlightRequests.Flight flight;
+
+        SharingResponse(ServerHttpResponse delegate, InFlightRequests.Flight flight) {
+            super(delegate);
+            this.flight = flight;
+        }
+
+        @Override
+        @NonNull
+        public Mono<Void> writeWith(@NonNull Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (getStatusCode() == null || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || headers.getContentLength() > maxBodyBytes) {
+                inFlightRequests.complete(flight, null);
+                return super.writeWith(body);
+            }
+
+            // Content-Length가 없으면 받은 크기를 세면서 모으다가 상한을 넘는 순간 공유를 포기하고 그대로 흘려보냄
+            AtomicLong received = new AtomicLong();
+            return Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> received.addAndGet(buffer.readableByteCount()) > maxBodyBytes)
+                    .switchOnFirst((first, chunks) -> {
+                        Flux<DataBuffer> buffers = chunks.concatMapIterable(chunk -> chunk);
+                        if (received.get() > maxBodyBytes) {
+                            inFlightRequests.complete(flight, null);
+                            return getDelegate().writeWith(buffers);
+                        }
+                        return share(DataBufferUtils.join(buffers), headers);
+                    })
+                    .then();
+        }
+
+        private Mono<Void> share(Mono<DataBuffer> body, HttpHeaders headers) {
+            return body
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        HttpHeaders snapshot = new HttpHeaders();
+                        headers.forEach((name, values) -> snapshot.put(name, List.copyOf(values)));
+                        inFlightRequests.complete(flight,
+                                new SharedResponse(getStatusCode(), HttpHeaders.readOnlyHttpHeaders(snapshot), bytes));
+                        return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        // 스트리밍 응답은 공유하지 않음
+        @Override
+        @NonNull
+        public Mono<Void> writeAndFlushWith(@NonNull Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            inFlightRequests.complete(flight, null);
+            return super.writeAndFlushWith(body);
+        }
+    }
+}
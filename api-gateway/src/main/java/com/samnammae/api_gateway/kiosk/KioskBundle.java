@@ -0,0 +1,11 @@
+package com.samnammae.api_gateway.kiosk;
+
+import com.samnammae.api_gateway.cache.CachedResponse;
+
+/**
+ * 조립된 키오스크 번들
+ * @param response gzip 본문과 번들 버전 ETag
+ * @param reused 스냅샷이 바뀌지 않아 이전에 조립한 번들을 그대로 사용했는지 여부
+ */
+public record KioskBundle(CachedResponse response, boolean reused) {
+}
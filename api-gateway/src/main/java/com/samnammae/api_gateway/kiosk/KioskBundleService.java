@@ -0,0 +1,136 @@
+package com.samnammae.api_gateway.kiosk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.samnammae.api_gateway.cache.CachedResponse;
+import com.samnammae.api_gateway.cache.GzipCodec;
+import com.samnammae.api_gateway.cache.ResponseCacheStore;
+import com.samnammae.api_gateway.config.KioskBundleProperties;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.common.response.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 키오스크 시작 번들 조립
+ * - admin-service 매장 정보(테마, 이미지)와 menu-service 카테고리/메뉴/옵션 스냅샷을 병렬로 가져와 하나의 응답으로 합침
+ * - 스냅샷은 응답 캐시 저장소에 각 서비스 라우트 ID로 보관하므로 게이트웨이를 거친 쓰기 요청이 성공하면 함께 제거됨
+ * - 번들 버전(ETag)은 두 스냅샷의 ETag로 계산해 스냅샷이 그대로면 이전에 조립한 번들을 재사용
+ */
+@Component
+public class KioskBundleService {
+
+    static final String BUNDLE_ROUTE_ID = "kiosk-bundle";
+
+    private final WebClient webClient;
+    private final ResponseCacheStore cacheStore;
+    private final ObjectMapper objectMapper;
+    private final KioskBundleProperties properties;
+
+    @Autowired
+    public KioskBundleService(WebClient.Builder webClientBuilder,
+                              ReactorLoadBalancerExchangeFilterFunction loadBalancer,
+                              ResponseCacheStore cacheStore,
+                              ObjectMapper objectMapper,
+                              KioskBundleProperties properties) {
+        this(webClientBuilder.filter(loadBalancer).build(), cacheStore, objectMapper, properties);
+    }
+
+    KioskBundleService(WebClient webClient, ResponseCacheStore cacheStore,
+                       ObjectMapper objectMapper, KioskBundleProperties properties) {
+        this.webClient = webClient;
+        this.cacheStore = cacheStore;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * 매장의 키오스크 번들 조회 (매장 접근 권한은 호출하는 쪽에서 확인)
+     */
+    public Mono<KioskBundle> bundle(String storeId) {
+        return Mono.zip(
+                        snapshot(properties.getStoreRouteId(), properties.getStoreUri(), storeId),
+                        snapshot(properties.getMenuRouteId(), properties.getMenuUri(), storeId))
+                .map(snapshots -> assemble(storeId, snapshots.getT1(), snapshots.getT2()));
+    }
+
+    // 서비스별 스냅샷 (캐시에 없을 때만 백엔드 호출)
+    private Mono<CachedResponse> snapshot(String routeId, String uri, String storeId) {
+        String key = "kiosk-snapshot " + routeId + " " + storeId;
+        return Mono.defer(() -> {
+            CachedResponse cached = cacheStore.get(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return webClient.get()
+                    .uri(uri, storeId)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(),
+                            response -> Mono.error(new CustomException(ErrorCode.STORE_NOT_FOUND)))
+                    .bodyToMono(byte[].class)
+                    .timeout(Duration.ofMillis(properties.getTimeoutMillis()))
+                    .map(body -> {
+                        CachedResponse entry = new CachedResponse(key, routeId, storeId,
+                                GzipCodec.strongEtag(body), MediaType.APPLICATION_JSON_VALUE,
+                                GzipCodec.gzip(body), null, expiresAt());
+                        cacheStore.put(entry);
+                        return entry;
+                    });
+        });
+    }
+
+    private KioskBundle assemble(String storeId, CachedResponse store, CachedResponse menu) {
+        String etag = GzipCodec.strongEtag((store.etag() + menu.etag()).getBytes(StandardCharsets.UTF_8));
+        String key = "kiosk-bundle " + storeId;
+        CachedResponse cached = cacheStore.get(key);
+        if (cached != null && cached.etag().equals(etag)) {
+            return new KioskBundle(cached, true);
+        }
+
+        ObjectNode bundle = objectMapper.createObjectNode();
+        bundle.put("storeId", Long.parseLong(storeId));
+        bundle.put("version", etag.substring(1, etag.length() - 1));
+        bundle.set("store", dataOf(store));
+        JsonNode categories = dataOf(menu).get("categories");
+        bundle.set("categories", categories != null ? categories : objectMapper.createArrayNode());
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.success(bundle));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CachedResponse assembled = new CachedResponse(key, BUNDLE_ROUTE_ID, storeId, etag,
+                MediaType.APPLICATION_JSON_VALUE, GzipCodec.gzip(body), null, expiresAt());
+        cacheStore.put(assembled);
+        return new KioskBundle(assembled, false);
+    }
+
+    // 스냅샷 본문(ApiResponse)의 data
+    private JsonNode dataOf(CachedResponse snapshot) {
+        try {
+            JsonNode data = objectMapper.readTree(GzipCodec.gunzip(snapshot.gzipBody())).get("data");
+            return data != null ? data : NullNode.getInstance();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + properties.getTtlSeconds() * 1000;
+    }
+}
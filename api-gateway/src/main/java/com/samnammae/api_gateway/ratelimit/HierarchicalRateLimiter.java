@@ -0,0 +1,113 @@
+package com.samnammae.api_gateway.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 단계별 토큰 버킷 제한 (사용자/키오스크 → 매장 → 전체)
+ * - 요청은 모든 단계에서 토큰을 얻어야 통과하며, 한 단계라도 거절되면 앞 단계에서 쓴 토큰은 반환
+ * - 버킷은 외부 저장소 없이 인스턴스 메모리에 보관 (게이트웨이 인스턴스별 한도)
+ * - 버킷 수가 상한에 닿으면 가득 찬(유휴) 버킷부터 제거하고, 그래도 넘치면 임의로 일부 제거
+ */
+@Component
+public class HierarchicalRateLimiter {
+
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    @Autowired
+    public HierarchicalRateLimiter(@Value("${gateway.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this(maxBuckets, System::nanoTime);
+    }
+
+    HierarchicalRateLimiter(int maxBuckets, LongSupplier nanoClock) {
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 제한 단계
+     * @param key 버킷 키 (null이면 이 단계는 건너뜀)
+     */
+    public record Tier(String key, RateLimit limit) {
+    }
+
+    /**
+     * 모든 단계에서 토큰 획득 시도
+     * @param tiers 좁은 단계부터 순서대로 (폭주하는 키오스크는 매장, 전체 버킷을 건드리기 전에 거절)
+     * @return 0이면 허용, 양수면 다시 시도할 수 있을 때까지의 시간(ns)
+     */
+    public long tryAcquire(List<Tier> tiers) {
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < tiers.size(); i++) {
+            Tier tier = tiers.get(i);
+            if (tier.key() == null || tier.limit().isUnlimited()) {
+                continue;
+            }
+
+            long wait = bucket(tier.key(), now).tryAcquire(now, tier.limit());
+            if (wait > 0) {
+                refund(tiers, i);
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void refund(List<Tier> tiers, int rejectedIndex) {
+        for (int i = 0; i < rejectedIndex; i++) {
+            Tier tier = tiers.get(i);
+            if (tier.key() == null || tier.limit().isUnlimited()) {
+                continue;
+            }
+            TokenBucket bucket = buckets.get(tier.key());
+            if (bucket != null) {
+                bucket.refund(tier.limit());
+            }
+        }
+    }
+
+    private TokenBucket bucket(String key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            evict(now);
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+    }
+
+    // 한 스레드만 정리하고 나머지는 기다리지 않고 진행
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+
+            // 모두 사용 중이면 상한의 90%까지 임의로 제거 (제거된 키는 가득 찬 버킷으로 다시 시작)
+            Iterator<TokenBucket> iterator = buckets.values().iterator();
+            int target = maxBuckets * 9 / 10;
+            while (buckets.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
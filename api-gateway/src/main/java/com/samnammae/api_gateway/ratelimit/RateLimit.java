@@ -0,0 +1,25 @@
+package com.samnammae.api_gateway.ratelimit;
+
+/**
+ * 토큰 버킷 한도
+ * @param capacity 한 번에 허용하는 최대 요청 수 (버스트), 0 이하면 제한 없음
+ * @param refillPerSecond 초당 보충되는 요청 수
+ */
+public record RateLimit(long capacity, double refillPerSecond) {
+
+    public static final RateLimit UNLIMITED = new RateLimit(0, 0);
+
+    public boolean isUnlimited() {
+        return capacity <= 0 || refillPerSecond <= 0;
+    }
+
+    // 토큰 하나가 보충되는 간격
+    long intervalNanos() {
+        return (long) (1_000_000_000L / refillPerSecond);
+    }
+
+    // 버킷이 가득 찬 상태에서 소진까지 허용되는 시간 폭
+    long burstNanos() {
+        return capacity * intervalNanos();
+    }
+}
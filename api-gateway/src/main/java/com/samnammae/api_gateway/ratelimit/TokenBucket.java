@@ -0,0 +1,47 @@
+package com.samnammae.api_gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ * 남은 토큰 수 대신 "다음 요청이 이론상 도착해야 하는 시각" 하나만 AtomicLong으로 관리하여
+ * 획득을 CAS 한 번으로 처리
+ */
+class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 획득
+     * @return 0이면 획득 성공, 양수면 토큰이 생길 때까지 기다려야 하는 시간(ns)
+     */
+    long tryAcquire(long nowNanos, RateLimit limit) {
+        long interval = limit.intervalNanos();
+        long burst = limit.burstNanos();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + interval;
+            long wait = next - nowNanos - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 상위 단계에서 거절된 요청이 쓴 토큰 반환
+    void refund(RateLimit limit) {
+        theoreticalArrival.addAndGet(-limit.intervalNanos());
+    }
+
+    // 버킷이 가득 찬 상태 (삭제해도 새 버킷과 같음)
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,69 @@
+package com.samnammae.api_gateway.singleflight;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 백엔드 호출 목록 (요청 키 → 결과)
+ * - 같은 키로 먼저 들어온 요청이 대표(leader)가 되어 백엔드를 호출하고, 나머지는 결과를 기다림
+ * - 대표 호출이 끝나면 목록에서 빠지므로 이후 요청은 새로 호출 (응답 캐시가 아님)
+ * - 동시에 유지하는 키 수가 상한을 넘으면 새 키는 묶지 않고 그대로 통과
+ */
+@Component
+public class InFlightRequests {
+
+    private final int maxInFlight;
+    private final Map<String, Sinks.One<SharedResponse>> flights = new ConcurrentHashMap<>();
+
+    public InFlightRequests(@Value("${gateway.single-flight.max-in-flight:10000}") int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * 진행 중인 호출에 합류
+     * @return 대표 또는 대기자 (상한 초과로 묶을 수 없으면 null)
+     */
+    public Flight join(String key) {
+        Sinks.One<SharedResponse> existing = flights.get(key);
+        if (existing != null) {
+            return new Flight(key, existing, false);
+        }
+        if (flights.size() >= maxInFlight) {
+            return null;
+        }
+
+        Sinks.One<SharedResponse> created = Sinks.one();
+        existing = flights.putIfAbsent(key, created);
+        return existing == null ? new Flight(key, created, true) : new Flight(key, existing, false);
+    }
+
+    /**
+     * 대표 호출 종료 (여러 번 호출해도 처음 한 번만 반영)
+     * @param response 공유할 응답 (공유할 수 없으면 null, 대기자는 각자 백엔드를 호출)
+     */
+    public void complete(Flight flight, SharedResponse response) {
+        flights.remove(flight.key(), flight.sink());
+        if (response != null) {
+            flight.sink().tryEmitValue(response);
+        } else {
+            flight.sink().tryEmitEmpty();
+        }
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    public record Flight(String key, Sinks.One<SharedResponse> sink, boolean leader) {
+
+        // 대표 호출의 결과 (공유할 수 없으면 empty)
+        public Mono<SharedResponse> result() {
+            return sink.asMono();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.samnammae.api_gateway.singleflight;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * 대표 요청이 받은 백엔드 응답 (상태, 헤더, 본문 전체)
+ * 같은 요청을 기다리던 다른 클라이언트에게 그대로 전달
+ */
+public record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+}
@@ -0,0 +1,65 @@
+package com.samnammae.api_gateway.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 검증이 끝난 토큰의 사용자 정보
+ * 하위 서비스로 전달할 헤더 값(X-USER-ID, X-USER-EMAIL, X-MANAGED-STORE-IDS)을 미리 문자열로 만들어 둠
+ */
+public class AuthenticatedUser {
+
+    private final String userId;
+    private final String userEmail;
+    private final String managedStoreIds;
+    private final long expiresAtMillis;     // 토큰 만료 시각 (exp 클레임이 없으면 Long.MAX_VALUE)
+
+    public AuthenticatedUser(String userId, String userEmail, String managedStoreIds, long expiresAtMillis) {
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.managedStoreIds = managedStoreIds;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public static AuthenticatedUser from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new AuthenticatedUser(
+                claims.getSubject(),
+                claims.get("userEmail", String.class),
+                renderStoreIds(claims.get("storeIds")),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    // storeIds 클레임을 "1,2,3" 형태로 변환 (숫자가 아닌 항목은 제외)
+    private static String renderStoreIds(Object storeIds) {
+        if (storeIds instanceof List<?> list) {
+            return list.stream()
+                    .filter(item -> item instanceof Number)
+                    .map(item -> String.valueOf(((Number) item).longValue()))
+                    .collect(Collectors.joining(","));
+        }
+        if (storeIds instanceof String rendered) {
+            return rendered;
+        }
+        return "";
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public String getManagedStoreIds() {
+        return managedStoreIds;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+}
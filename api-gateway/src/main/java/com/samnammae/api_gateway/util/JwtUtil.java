@@ -4,32 +4,39 @@ import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
-
 @Component
 public class JwtUtil {
 
-    private final Key secretKey;
+    // 서명 키가 고정이므로 파서를 한 번만 만들어 재사용 (JwtParser는 불변이라 스레드 안전)
+    private final JwtParser parser;
+    private final TokenClaimsCache claimsCache;
+
+    public JwtUtil(String secret) {
+        this(secret, 10000);
+    }
 
+    @Autowired
     public JwtUtil(
-            @Value("${jwt.secret}") String secret) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.claims-cache.max-entries:10000}") int claimsCacheMaxEntries) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
+                .build();
+        this.claimsCache = new TokenClaimsCache(claimsCacheMaxEntries);
     }
 
     public Claims validateAndParseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             // 토큰 만료 시
             throw new CustomException(ErrorCode.EXPIRED_TOKEN);
@@ -41,4 +48,24 @@ public class JwtUtil {
             throw new CustomException(ErrorCode.TOKEN_MISSING);
         }
     }
+
+    /**
+     * 토큰 검증 후 하위 서비스로 전달할 사용자 정보 반환
+     * 같은 토큰은 만료 전까지 서명 검증과 클레임 파싱 없이 캐시에서 반환
+     */
+    public AuthenticatedUser authenticate(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new CustomException(ErrorCode.TOKEN_MISSING);
+        }
+
+        String key = TokenClaimsCache.keyOf(token);
+        AuthenticatedUser cached = claimsCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AuthenticatedUser user = AuthenticatedUser.from(validateAndParseClaims(token));
+        claimsCache.put(key, user);
+        return user;
+    }
 }
@@ -0,0 +1,25 @@
+package com.samnammae.api_gateway.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게이트웨이로 들어온 요청 경로 해석
+ */
+public final class RequestPaths {
+
+    // /api/{서비스}/{storeId}/..., /api/admin/store/{storeId}/... 형태의 경로에서 매장 ID 추출
+    private static final Pattern STORE_ID_PATH = Pattern.compile("^/api/[a-z]+/(?:store/)?(\\d+)(?:/|$)");
+
+    private RequestPaths() {
+    }
+
+    /**
+     * 경로의 매장 ID
+     * @return 매장 ID 문자열 (매장 단위 경로가 아니면 null)
+     */
+    public static String storeIdOf(String path) {
+        Matcher matcher = STORE_ID_PATH.matcher(path);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
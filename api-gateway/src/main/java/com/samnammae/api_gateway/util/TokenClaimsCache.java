@@ -0,0 +1,78 @@
+package com.samnammae.api_gateway.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 검증이 끝난 토큰의 사용자 정보 캐시
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용 (메모리에 토큰을 남기지 않음)
+ * - 토큰 만료 시각까지만 유효하며, 크기를 넘으면 가장 오래 쓰지 않은 항목부터 제거 (LRU)
+ * - 검증에 실패한 토큰은 저장하지 않음
+ */
+class TokenClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final LongSupplier clock;
+    private final Map<String, AuthenticatedUser> entries;
+
+    TokenClaimsCache(int maxEntries) {
+        this(maxEntries, System::currentTimeMillis);
+    }
+
+    TokenClaimsCache(int maxEntries, LongSupplier clock) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AuthenticatedUser> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 사용자 정보 조회
+     * @return 만료되지 않은 항목 (없으면 null)
+     */
+    AuthenticatedUser get(String key) {
+        synchronized (entries) {
+            AuthenticatedUser user = entries.get(key);
+            if (user != null && user.getExpiresAtMillis() <= clock.getAsLong()) {
+                entries.remove(key);
+                return null;
+            }
+            return user;
+        }
+    }
+
+    void put(String key, AuthenticatedUser user) {
+        if (user.getExpiresAtMillis() <= clock.getAsLong()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, user);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static String keyOf(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+}
@@ -0,0 +1,86 @@
+package com.samnammae.api_gateway.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 반환하지 않고 용량에서도 제외한다")
+    void get_Expired_ReturnsNull() {
+        // given
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, now::get);
+        store.put(entry("a", "7", null, 100, now.get() + 1000));
+
+        // when
+        now.addAndGet(1000);
+
+        // then
+        assertThat(store.get("a")).isNull();
+        assertThat(store.totalBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("압축 본문 합계가 용량을 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void put_OverCapacity_EvictsLeastRecentlyUsed() {
+        // given: 항목 두 개만 들어가는 용량
+        long entrySize = entry("a", "7", null, 1000, Long.MAX_VALUE).sizeInBytes();
+        ResponseCacheStore store = new ResponseCacheStore(entrySize * 2, now::get);
+        store.put(entry("a", "7", null, 1000, Long.MAX_VALUE));
+        store.put(entry("b", "7", null, 1000, Long.MAX_VALUE));
+        store.get("a");
+
+        // when
+        store.put(entry("c", "7", null, 1000, Long.MAX_VALUE));
+
+        // then
+        assertThat(store.get("a")).isNotNull();
+        assertThat(store.get("b")).isNull();
+        assertThat(store.get("c")).isNotNull();
+        assertThat(store.totalBytes()).isEqualTo(entrySize * 2);
+    }
+
+    @Test
+    @DisplayName("매장 단위 제거는 해당 매장 항목과 매장 구분이 없는 목록 항목만 제거한다")
+    void purge_Store_RemovesStoreAndCollectionEntries() {
+        // given
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, now::get);
+        store.put(entry("store-7", "7", null, 10, Long.MAX_VALUE));
+        store.put(entry("store-8", "8", null, 10, Long.MAX_VALUE));
+        store.put(entry("list", null, null, 10, Long.MAX_VALUE));
+
+        // when
+        int removed = store.purge("menu-service-route", "7");
+
+        // then
+        assertThat(removed).isEqualTo(2);
+        assertThat(store.get("store-8")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("백엔드가 새 버전을 알리면 같은 매장의 이전 버전 항목을 제거한다")
+    void purgeOtherVersions_RemovesStaleVersions() {
+        // given
+        ResponseCacheStore store = new ResponseCacheStore(1024 * 1024, now::get);
+        store.put(entry("menus", "7", "v1", 10, Long.MAX_VALUE));
+        store.put(entry("menu-1", "7", "v2", 10, Long.MAX_VALUE));
+
+        // when
+        store.purgeOtherVersions("menu-service-route", "7", "v2");
+
+        // then
+        assertThat(store.get("menus")).isNull();
+        assertThat(store.get("menu-1")).isNotNull();
+    }
+
+    private CachedResponse entry(String key, String storeId, String version, int bodySize, long expiresAt) {
+        return new CachedResponse(key, "menu-service-route", storeId, "\"etag\"", "application/json",
+                new byte[bodySize], version, expiresAt);
+    }
+}
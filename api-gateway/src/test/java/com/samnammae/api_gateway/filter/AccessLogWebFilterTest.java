@@ -0,0 +1,110 @@
+package com.samnammae.api_gateway.filter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.samnammae.api_gateway.config.AccessLogProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogWebFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("ACCESS_LOG");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private AccessLogProperties properties;
+    private AccessLogWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+
+        // 정상 응답은 기록하지 않도록 샘플링 비율 0
+        properties = new AccessLogProperties();
+        properties.setSampleRate(0.0);
+        filter = new AccessLogWebFilter(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 정상 응답은 기록하지 않는다")
+    void filter_SuccessNotSampled_NoLog() {
+        // when
+        exchange("/api/menu/7", HttpStatus.OK);
+
+        // then
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 샘플링과 관계없이 라우트, 상태, 매장 ID를 한 줄로 기록한다")
+    void filter_ServerError_AlwaysLogged() {
+        // when
+        exchange("/api/menu/7/12", HttpStatus.SERVICE_UNAVAILABLE);
+
+        // then
+        assertThat(appender.list).hasSize(1);
+        String line = appender.list.get(0).getFormattedMessage();
+        assertThat(line).contains("route=menu-service-route", "method=GET", "status=503", "storeId=7");
+    }
+
+    @Test
+    @DisplayName("상세 로그를 켠 라우트는 샘플링 없이 기록하고 Authorization 헤더는 가린다")
+    void filter_DebugRoute_LogsDetailsWithMaskedHeaders() {
+        // given
+        filter.setDebug("menu-service-route", true);
+
+        // when
+        exchange("/api/menu/7", HttpStatus.OK);
+
+        // then
+        assertThat(appender.list).hasSize(2);
+        String debugLine = appender.list.get(1).getFormattedMessage();
+        assertThat(debugLine).startsWith("access_debug route=menu-service-route");
+        assertThat(debugLine).doesNotContain("secret-token");
+
+        // 끄면 다시 샘플링 대상
+        filter.setDebug("menu-service-route", false);
+        appender.list.clear();
+        exchange("/api/menu/7", HttpStatus.OK);
+        assertThat(appender.list).isEmpty();
+    }
+
+    private void exchange(String path, HttpStatus status) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get(path)
+                .header("Authorization", "Bearer secret-token")
+                .build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("menu-service-route")
+                .uri(URI.create("lb://menu-service"))
+                .predicate(ex -> true)
+                .build());
+
+        WebFilterChain chain = ex -> {
+            ex.getResponse().setStatusCode(status);
+            return ex.getResponse().setComplete();
+        };
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+    }
+}
@@ -1,10 +1,9 @@
 package com.samnammae.api_gateway.filter;
 
+import com.samnammae.api_gateway.util.AuthenticatedUser;
 import com.samnammae.api_gateway.util.JwtUtil;
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.impl.DefaultClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -66,12 +65,9 @@ class AuthorizationHeaderGatewayFilterFactoryTest {
 
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-        Claims claims = new DefaultClaims();
-        claims.setSubject(userId);
-        claims.put("userEmail", userEmail);
-        claims.put("storeIds", storeIds); // 추가
+        AuthenticatedUser user = new AuthenticatedUser(userId, userEmail, storeIds, Long.MAX_VALUE);
 
-        when(jwtUtil.validateAndParseClaims(token)).thenReturn(claims);
+        when(jwtUtil.authenticate(token)).thenReturn(user);
         when(filterChain.filter(any(ServerWebExchange.class))).thenReturn(Mono.empty());
 
         // when: 테스트 대상 메소드 실행
@@ -92,6 +88,31 @@ class AuthorizationHeaderGatewayFilterFactoryTest {
         }));
     }
 
+    @Test
+    @DisplayName("성공: 클라이언트가 보낸 X-KIOSK-ID 헤더는 제거하고 전달")
+    void apply_withClientKioskIdHeader_shouldStripIt() {
+        // given
+        String token = "valid-jwt-token";
+        MockServerHttpRequest request = MockServerHttpRequest
+                .get("/test")
+                .header("Authorization", "Bearer " + token)
+                .header(AuthorizationHeaderGatewayFilterFactory.KIOSK_ID_HEADER, "spoofed-kiosk")
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        when(jwtUtil.authenticate(token)).thenReturn(new AuthenticatedUser("testUser", "test@example.com", "1", Long.MAX_VALUE));
+        when(filterChain.filter(any(ServerWebExchange.class))).thenReturn(Mono.empty());
+
+        // when
+        Mono<Void> result = authorizationHeaderFilter.apply(config).filter(exchange, filterChain);
+
+        // then
+        StepVerifier.create(result)
+                .verifyComplete();
+        verify(filterChain).filter(argThat(ex ->
+                !ex.getRequest().getHeaders().containsKey(AuthorizationHeaderGatewayFilterFactory.KIOSK_ID_HEADER)));
+    }
+
     @Test
     @DisplayName("실패: Authorization 헤더가 없는 경우")
     void apply_withMissingAuthorizationHeader_shouldThrowException() {
@@ -126,7 +147,7 @@ class AuthorizationHeaderGatewayFilterFactoryTest {
         MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
         // jwtUtil이 유효하지 않은 토큰으로 CustomException을 발생시키도록 설정
-        when(jwtUtil.validateAndParseClaims(anyString()))
+        when(jwtUtil.authenticate(anyString()))
                 .thenThrow(new CustomException(ErrorCode.INVALID_TOKEN));
 
         // when
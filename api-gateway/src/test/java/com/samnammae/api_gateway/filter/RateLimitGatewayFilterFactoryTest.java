@@ -0,0 +1,91 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.ratelimit.HierarchicalRateLimiter;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitGatewayFilterFactoryTest {
+
+    private GatewayFilter filter;
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    @BeforeEach
+    void setUp() {
+        // 사용자당 2번까지 허용, 매장과 전체는 넉넉하게
+        RateLimitGatewayFilterFactory.Config config = new RateLimitGatewayFilterFactory.Config();
+        config.setGlobalCapacity(100);
+        config.setGlobalRefillPerSecond(100);
+        config.setStoreCapacity(100);
+        config.setStoreRefillPerSecond(100);
+        config.setUserCapacity(2);
+        config.setUserRefillPerSecond(0.1);
+
+        filter = new RateLimitGatewayFilterFactory(new HierarchicalRateLimiter(1000)).apply(config);
+    }
+
+    @Test
+    @DisplayName("사용자 한도를 넘으면 429 오류와 Retry-After 헤더를 응답한다")
+    void filter_OverUserLimit_TooManyRequests() {
+        // given
+        StepVerifier.create(filter.filter(exchange("1", "kiosk-1"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("1", "kiosk-1"), chain)).verifyComplete();
+
+        // when
+        MockServerWebExchange rejected = exchange("1", "kiosk-1");
+
+        // then
+        StepVerifier.create(filter.filter(rejected, chain))
+                .expectErrorMatches(throwable -> throwable instanceof CustomException &&
+                        ((CustomException) throwable).getErrorCode() == ErrorCode.TOO_MANY_REQUESTS)
+                .verify();
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("같은 매장이라도 다른 사용자는 별도의 한도를 가진다")
+    void filter_DifferentUser_SeparateLimit() {
+        // given
+        StepVerifier.create(filter.filter(exchange("1", null), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("1", null), chain)).verifyComplete();
+
+        // when & then
+        StepVerifier.create(filter.filter(exchange("2", null), chain)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 키오스크 ID를 바꿔도 사용자 한도를 우회하지 못한다")
+    void filter_ChangingKioskId_SharesUserLimit() {
+        // given
+        StepVerifier.create(filter.filter(exchange("1", "kiosk-1"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("1", "kiosk-2"), chain)).verifyComplete();
+
+        // when & then
+        StepVerifier.create(filter.filter(exchange("1", "kiosk-3"), chain))
+                .expectErrorMatches(throwable -> throwable instanceof CustomException &&
+                        ((CustomException) throwable).getErrorCode() == ErrorCode.TOO_MANY_REQUESTS)
+                .verify();
+    }
+
+    private MockServerWebExchange exchange(String userId, String kioskId) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest
+                .post("/api/chatbot/7")
+                .header("X-USER-ID", userId)
+                .header("X-MANAGED-STORE-IDS", "7,8");
+        if (kioskId != null) {
+            request.header("X-KIOSK-ID", kioskId);
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+}
@@ -0,0 +1,211 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.cache.GzipCodec;
+import com.samnammae.api_gateway.cache.ResponseCacheStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final String MENU_JSON = "{\"success\":true,\"data\":{\"menus\":[{\"menuId\":1,\"name\":\"아메리카노\"}]}}";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private HttpStatus upstreamStatus = HttpStatus.OK;
+    private String upstreamCacheControl;
+    private GatewayFilter filter;
+
+    // 백엔드 대역: 호출 횟수를 세고 JSON 본문 응답 (gzip을 요청받으면 압축)
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        exchange.getResponse().setStatusCode(upstreamStatus);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (upstreamCacheControl != null) {
+            headers.setCacheControl(upstreamCacheControl);
+        }
+        byte[] body = MENU_JSON.getBytes(StandardCharsets.UTF_8);
+        String acceptEncoding = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = GzipCodec.gzip(body);
+        }
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    };
+
+    // 백엔드 대역: Content-Length 없이 여러 조각으로 JSON 본문 응답
+    private final GatewayFilterChain chunkedUpstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBufferFactory factory = exchange.getResponse().bufferFactory();
+        return exchange.getResponse().writeWith(Flux.fromArray(MENU_JSON.split("(?<=,)"))
+                .map(part -> factory.wrap(part.getBytes(StandardCharsets.UTF_8))));
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseCacheGatewayFilterFactory(new ResponseCacheStore(1024 * 1024), 1024 * 1024)
+                .apply(new ResponseCacheGatewayFilterFactory.Config());
+    }
+
+    @Test
+    @DisplayName("같은 권한 범위의 두 번째 GET은 백엔드를 호출하지 않고 캐시된 본문과 ETag로 응답한다")
+    void get_SecondRequest_ServedFromCache() {
+        // given
+        MockServerWebExchange first = get("/api/menu/7", "7,8", null);
+        StepVerifier.create(filter.filter(first, upstream)).verifyComplete();
+
+        // when
+        MockServerWebExchange second = get("/api/menu/7", "7,8", null);
+        StepVerifier.create(filter.filter(second, upstream)).verifyComplete();
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(first.getResponse().getHeaders().getETag());
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 캐시된 ETag와 같으면 본문 없이 304로 응답한다")
+    void get_MatchingEtag_NotModified() {
+        // given
+        MockServerWebExchange first = get("/api/menu/7", "7", null);
+        StepVerifier.create(filter.filter(first, upstream)).verifyComplete();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        // when
+        MockServerWebExchange revalidate = get("/api/menu/7", "7", etag);
+        StepVerifier.create(filter.filter(revalidate, upstream)).verifyComplete();
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(revalidate.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidate.getResponse().getBodyAsString().block()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("권한 범위 헤더가 다르면 캐시를 공유하지 않는다")
+    void get_DifferentScope_NotShared() {
+        // when
+        StepVerifier.create(filter.filter(get("/api/menu/7", "7", null), upstream)).verifyComplete();
+        StepVerifier.create(filter.filter(get("/api/menu/7", "7,9", null), upstream)).verifyComplete();
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 매장의 쓰기 요청이 성공하면 해당 매장의 캐시를 제거한다")
+    void write_Success_PurgesStore() {
+        // given
+        StepVerifier.create(filter.filter(get("/api/menu/7", "7", null), upstream)).verifyComplete();
+
+        // when
+        MockServerWebExchange update = MockServerWebExchange.from(MockServerHttpRequest
+                .put("/api/menu/7/1")
+                .header("X-MANAGED-STORE-IDS", "7")
+                .build());
+        StepVerifier.create(filter.filter(update, upstream)).verifyComplete();
+        StepVerifier.create(filter.filter(get("/api/menu/7", "7", null), upstream)).verifyComplete();
+
+        // then: 최초 조회, 수정, 수정 후 조회
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("200이 아닌 응답은 캐시하지 않는다")
+    void get_ErrorResponse_NotCached() {
+        // given
+        upstreamStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+
+        // when
+        StepVerifier.create(filter.filter(get("/api/menu/7", "7", null), upstream)).verifyComplete();
+        StepVerifier.create(filter.filter(get("/api/menu/7", "7", null), upstream)).verifyComplete();
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gzip을 받지 않는 클라이언트에는 캐시하지 않는 응답도 압축하지 않은 본문으로 전달한다")
+    void get_BypassWithoutGzip_ForwardsIdentityBody() {
+        // given
+        upstreamCacheControl = "no-store";
+        MockServerWebExchange exchange = get("/api/menu/7", "7", null);
+
+        // when
+        StepVerifier.create(filter.filter(exchange, upstream)).verifyComplete();
+
+        // then
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("BYPASS");
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트는 백엔드의 gzip 본문을 그대로 캐시하고 압축된 본문으로 응답받는다")
+    void get_GzipClient_CachesUpstreamGzip() {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/menu/7")
+                .header("X-MANAGED-STORE-IDS", "7")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                .build());
+
+        // when
+        StepVerifier.create(filter.filter(first, upstream)).verifyComplete();
+        MockServerWebExchange second = get("/api/menu/7", "7", null);
+        StepVerifier.create(filter.filter(second, upstream)).verifyComplete();
+
+        // then
+        assertThat(first.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 최대 크기를 넘는 본문은 모두 모으지 않고 캐시 없이 그대로 전달한다")
+    void get_OversizedChunkedBody_PassesThrough() {
+        // given
+        filter = new ResponseCacheGatewayFilterFactory(new ResponseCacheStore(1024 * 1024), 32)
+                .apply(new ResponseCacheGatewayFilterFactory.Config());
+        MockServerWebExchange first = get("/api/menu/7", "7", null);
+
+        // when
+        StepVerifier.create(filter.filter(first, chunkedUpstream)).verifyComplete();
+        StepVerifier.create(filter.filter(get("/api/menu/7", "7", null), chunkedUpstream)).verifyComplete();
+
+        // then
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("BYPASS");
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    private MockServerWebExchange get(String path, String managedStoreIds, String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path)
+                .header("X-MANAGED-STORE-IDS", managedStoreIds);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+}
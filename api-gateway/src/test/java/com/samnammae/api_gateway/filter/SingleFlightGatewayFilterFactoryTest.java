@@ -0,0 +1,205 @@
+package com.samnammae.api_gateway.filter;
+
+import com.samnammae.api_gateway.singleflight.InFlightRequests;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightGatewayFilterFactoryTest {
+
+    private static final String MENU_JSON = "{\"success\":true,\"data\":{\"menus\":[{\"menuId\":1,\"name\":\"아메리카노\"}]}}";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    // 첫 번째 백엔드 호출은 gate가 열릴 때까지 응답하지 않음
+    private final Sinks.Empty<Void> gate = Sinks.empty();
+
+    private final GatewayFilterChain upstream = exchange -> {
+        Mono<Void> wait = upstreamCalls.incrementAndGet() == 1 ? gate.asMono() : Mono.empty();
+        return wait.then(Mono.defer(() -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = MENU_JSON.getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    };
+
+    @Test
+    @DisplayName("동시에 들어온 같은 GET 요청은 백엔드를 한 번만 호출하고 모두 같은 응답을 받는다")
+    void concurrentGets_CoalescedIntoOneUpstreamCall() {
+        // given
+        InFlightRequests inFlight = new InFlightRequests(100);
+        GatewayFilter filter = filter(inFlight, 3000);
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Mono<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            MockServerWebExchange exchange = get("/api/menu/7", "7");
+            exchanges.add(exchange);
+            results.add(filter.filter(exchange, upstream).cache());
+        }
+
+        // when: 대표 호출이 응답하기 전에 모든 요청이 합류
+        results.forEach(Mono::subscribe);
+        gate.tryEmitEmpty();
+        Mono.when(results).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(inFlight.size()).isZero();
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+        }
+    }
+
+    @Test
+    @DisplayName("권한 범위 헤더가 다르면 묶지 않는다")
+    void differentScope_NotCoalesced() {
+        // given
+        GatewayFilter filter = filter(new InFlightRequests(100), 3000);
+        Mono<Void> first = filter.filter(get("/api/menu/7", "7"), upstream).cache();
+        first.subscribe();
+
+        // when
+        filter.filter(get("/api/menu/7", "7,9"), upstream).block(Duration.ofSeconds(5));
+        gate.tryEmitEmpty();
+        first.block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 대표 응답을 기다리지 않고 직접 백엔드를 호출한다")
+    void followerTimeout_FallsBackToOwnCall() {
+        // given
+        GatewayFilter filter = filter(new InFlightRequests(100), 50);
+        Mono<Void> leader = filter.filter(get("/api/menu/7", "7"), upstream).cache();
+        leader.subscribe();
+
+        // when
+        MockServerWebExchange follower = get("/api/menu/7", "7");
+        filter.filter(follower, upstream).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+        gate.tryEmitEmpty();
+        leader.block(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("대표 호출이 오류로 끝나면 대기자는 직접 백엔드를 호출한다")
+    void leaderError_FollowersFallBack() {
+        // given
+        InFlightRequests inFlight = new InFlightRequests(100);
+        GatewayFilter filter = filter(inFlight, 3000);
+        Sinks.Empty<Void> failure = Sinks.empty();
+        GatewayFilterChain failingFirst = exchange -> upstreamCalls.get() == 0
+                ? Mono.fromRunnable(upstreamCalls::incrementAndGet).then(failure.asMono())
+                : upstream.filter(exchange);
+        Mono<Void> leader = filter.filter(get("/api/menu/7", "7"), failingFirst).cache();
+        leader.subscribe(null, error -> { });
+        MockServerWebExchange follower = get("/api/menu/7", "7");
+        Mono<Void> followerResult = filter.filter(follower, failingFirst).cache();
+        followerResult.subscribe();
+
+        // when
+        failure.tryEmitError(new IllegalStateException("upstream down"));
+        followerResult.block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+        assertThat(inFlight.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중인 키 수가 상한에 도달하면 새 키는 묶지 않고 그대로 통과한다")
+    void maxInFlightReached_Bypasses() {
+        // given
+        InFlightRequests inFlight = new InFlightRequests(1);
+        GatewayFilter filter = filter(inFlight, 3000);
+        Mono<Void> first = filter.filter(get("/api/menu/7", "7"), upstream).cache();
+        first.subscribe();
+
+        // when
+        filter.filter(get("/api/menu/8", "8"), upstream).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(inFlight.size()).isEqualTo(1);
+        gate.tryEmitEmpty();
+        first.block(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 상한을 넘는 응답은 모으지 않고 그대로 전달하고 대기자는 직접 백엔드를 호출한다")
+    void oversizedChunkedBody_PassesThroughAndFollowersFallBack() {
+        // given: 본문을 두 조각으로 나눠 Content-Length 없이 보내는 백엔드
+        InFlightRequests inFlight = new InFlightRequests(100);
+        GatewayFilter filter = filter(inFlight, 3000, 16);
+        GatewayFilterChain chunked = exchange -> {
+            Mono<Void> wait = upstreamCalls.incrementAndGet() == 1 ? gate.asMono() : Mono.empty();
+            return wait.then(Mono.defer(() -> {
+                exchange.getResponse().setStatusCode(HttpStatus.OK);
+                DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+                byte[] body = MENU_JSON.getBytes(StandardCharsets.UTF_8);
+                int half = body.length / 2;
+                return exchange.getResponse().writeWith(Flux.just(
+                        bufferFactory.wrap(Arrays.copyOfRange(body, 0, half)),
+                        bufferFactory.wrap(Arrays.copyOfRange(body, half, body.length))));
+            }));
+        };
+        MockServerWebExchange leaderExchange = get("/api/menu/7", "7");
+        Mono<Void> leader = filter.filter(leaderExchange, chunked).cache();
+        leader.subscribe();
+        MockServerWebExchange follower = get("/api/menu/7", "7");
+        Mono<Void> followerResult = filter.filter(follower, chunked).cache();
+        followerResult.subscribe();
+
+        // when
+        gate.tryEmitEmpty();
+        Mono.when(leader, followerResult).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(leaderExchange.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(MENU_JSON);
+        assertThat(inFlight.size()).isZero();
+    }
+
+    private GatewayFilter filter(InFlightRequests inFlight, long timeoutMillis) {
+        return filter(inFlight, timeoutMillis, 1024 * 1024);
+    }
+
+    private GatewayFilter filter(InFlightRequests inFlight, long timeoutMillis, int maxBodyBytes) {
+        SingleFlightGatewayFilterFactory.Config config = new SingleFlightGatewayFilterFactory.Config();
+        config.setTimeoutMillis(timeoutMillis);
+        return new SingleFlightGatewayFilterFactory(inFlight, maxBodyBytes).apply(config);
+    }
+
+    private MockServerWebExchange get(String path, String managedStoreIds) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .header("X-MANAGED-STORE-IDS", managedStoreIds)
+                .build());
+    }
+}
@@ -0,0 +1,120 @@
+package com.samnammae.api_gateway.kiosk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.api_gateway.cache.GzipCodec;
+import com.samnammae.api_gateway.cache.ResponseCacheStore;
+import com.samnammae.api_gateway.config.KioskBundleProperties;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KioskBundleServiceTest {
+
+    private static final String STORE_JSON = "{\"success\":true,\"data\":{\"storeId\":\"7\",\"name\":\"삼남매 카페\",\"theme\":{\"mainColor\":\"#002F6C\"}}}";
+    private static final String MENU_JSON = "{\"success\":true,\"data\":{\"categories\":["
+            + "{\"id\":2,\"name\":\"음료\",\"displayOrder\":1,\"menus\":[{\"id\":1,\"name\":\"아메리카노\"}]},"
+            + "{\"id\":1,\"name\":\"디저트\",\"displayOrder\":2,\"menus\":[]}]}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> upstreamCalls = new CopyOnWriteArrayList<>();
+    private final ResponseCacheStore cacheStore = new ResponseCacheStore(1024 * 1024);
+    private String menuJson = MENU_JSON;
+    private HttpStatus storeStatus = HttpStatus.OK;
+    private KioskBundleService bundleService;
+
+    @BeforeEach
+    void setUp() {
+        // 백엔드 대역: 호출 경로를 기록하고 서비스별 JSON 응답
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String path = request.url().getPath();
+                    upstreamCalls.add(path);
+                    boolean store = path.startsWith("/internal/store/");
+                    return Mono.just(ClientResponse.create(store ? storeStatus : HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(store ? STORE_JSON : menuJson)
+                            .build());
+                })
+                .build();
+        bundleService = new KioskBundleService(webClient, cacheStore, objectMapper, new KioskBundleProperties());
+    }
+
+    @Test
+    @DisplayName("매장 정보와 메뉴 스냅샷을 하나의 번들로 조립하고 카테고리 순서를 유지한다")
+    void bundle_AssemblesStoreAndMenu() throws Exception {
+        // when
+        KioskBundle bundle = bundleService.bundle("7").block();
+
+        // then
+        assertThat(upstreamCalls).containsExactlyInAnyOrder("/internal/store/7", "/internal/menu/7/bundle");
+        assertThat(bundle.reused()).isFalse();
+
+        JsonNode data = objectMapper.readTree(GzipCodec.gunzip(bundle.response().gzipBody())).get("data");
+        assertThat(data.get("storeId").asLong()).isEqualTo(7L);
+        assertThat("\"" + data.get("version").asText() + "\"").isEqualTo(bundle.response().etag());
+        assertThat(data.get("store").get("theme").get("mainColor").asText()).isEqualTo("#002F6C");
+        assertThat(data.get("categories").get(0).get("name").asText()).isEqualTo("음료");
+        assertThat(data.get("categories").get(1).get("name").asText()).isEqualTo("디저트");
+    }
+
+    @Test
+    @DisplayName("스냅샷이 캐시에 있으면 백엔드를 호출하지 않고 같은 버전의 번들을 재사용한다")
+    void bundle_SecondRequest_ReusesSnapshots() {
+        // given
+        KioskBundle first = bundleService.bundle("7").block();
+
+        // when
+        KioskBundle second = bundleService.bundle("7").block();
+
+        // then
+        assertThat(upstreamCalls).hasSize(2);
+        assertThat(second.reused()).isTrue();
+        assertThat(second.response().etag()).isEqualTo(first.response().etag());
+    }
+
+    @Test
+    @DisplayName("메뉴 라우트 쓰기로 스냅샷이 제거되면 메뉴만 다시 가져와 새 버전으로 조립한다")
+    void bundle_MenuSnapshotPurged_NewVersion() {
+        // given
+        KioskBundle first = bundleService.bundle("7").block();
+        menuJson = MENU_JSON.replace("아메리카노", "카페라떼");
+        cacheStore.purge("menu-service-route", "7");
+
+        // when
+        KioskBundle second = bundleService.bundle("7").block();
+
+        // then
+        assertThat(upstreamCalls).hasSize(3);
+        assertThat(upstreamCalls.get(2)).isEqualTo("/internal/menu/7/bundle");
+        assertThat(second.reused()).isFalse();
+        assertThat(second.response().etag()).isNotEqualTo(first.response().etag());
+    }
+
+    @Test
+    @DisplayName("매장이 없으면 STORE_NOT_FOUND 예외로 실패하고 번들을 저장하지 않는다")
+    void bundle_StoreNotFound() {
+        // given
+        storeStatus = HttpStatus.NOT_FOUND;
+
+        // when & then
+        StepVerifier.create(bundleService.bundle("7"))
+                .expectErrorSatisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.STORE_NOT_FOUND))
+                .verify();
+        assertThat(cacheStore.get("kiosk-bundle 7")).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+package com.samnammae.api_gateway.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(SECOND);
+
+    @Test
+    @DisplayName("버스트 용량만큼 허용한 뒤 거절하고, 보충 간격이 지나면 다시 허용한다")
+    void tryAcquire_BurstThenRefill() {
+        // given: 용량 3, 초당 1개 보충
+        HierarchicalRateLimiter limiter = new HierarchicalRateLimiter(100, now::get);
+        List<HierarchicalRateLimiter.Tier> tiers = List.of(new HierarchicalRateLimiter.Tier("kiosk-1", new RateLimit(3, 1)));
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(tiers)).isZero();
+        }
+        assertThat(limiter.tryAcquire(tiers)).isEqualTo(SECOND);
+
+        now.addAndGet(SECOND);
+        assertThat(limiter.tryAcquire(tiers)).isZero();
+        assertThat(limiter.tryAcquire(tiers)).isPositive();
+    }
+
+    @Test
+    @DisplayName("매장 단계에서 거절되면 키오스크 단계에서 쓴 토큰을 돌려준다")
+    void tryAcquire_StoreRejected_RefundsUserToken() {
+        // given: 키오스크 용량 2, 매장 용량 1
+        HierarchicalRateLimiter limiter = new HierarchicalRateLimiter(100, now::get);
+        RateLimit user = new RateLimit(2, 1);
+        RateLimit store = new RateLimit(1, 1);
+        List<HierarchicalRateLimiter.Tier> kioskA = List.of(
+                new HierarchicalRateLimiter.Tier("user-a", user),
+                new HierarchicalRateLimiter.Tier("store-1", store));
+
+        // when: 매장 토큰을 다 쓴 뒤 한 번 더 요청
+        assertThat(limiter.tryAcquire(kioskA)).isZero();
+        assertThat(limiter.tryAcquire(kioskA)).isPositive();
+
+        // then: 키오스크 토큰은 반환되어 아직 하나 남아 있음
+        assertThat(limiter.tryAcquire(List.of(new HierarchicalRateLimiter.Tier("user-a", user)))).isZero();
+        assertThat(limiter.tryAcquire(List.of(new HierarchicalRateLimiter.Tier("user-a", user)))).isPositive();
+    }
+
+    @Test
+    @DisplayName("키가 없거나 한도가 없는 단계는 건너뛴다")
+    void tryAcquire_SkipsMissingKeyAndUnlimited() {
+        // given
+        HierarchicalRateLimiter limiter = new HierarchicalRateLimiter(100, now::get);
+        List<HierarchicalRateLimiter.Tier> tiers = List.of(
+                new HierarchicalRateLimiter.Tier(null, new RateLimit(1, 1)),
+                new HierarchicalRateLimiter.Tier("global", RateLimit.UNLIMITED));
+
+        // when & then
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(tiers)).isZero();
+        }
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 수가 상한에 닿으면 가득 찬 유휴 버킷부터 제거한다")
+    void tryAcquire_EvictsIdleBuckets() {
+        // given: 상한 10, 서로 다른 키 10개가 한 번씩 사용
+        HierarchicalRateLimiter limiter = new HierarchicalRateLimiter(10, now::get);
+        RateLimit limit = new RateLimit(5, 1);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(List.of(new HierarchicalRateLimiter.Tier("kiosk-" + i, limit)));
+        }
+
+        // when: 토큰이 모두 보충된 뒤 새 키 요청
+        now.addAndGet(SECOND);
+        limiter.tryAcquire(List.of(new HierarchicalRateLimiter.Tier("kiosk-new", limit)));
+
+        // then
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 버킷을 동시에 사용해도 용량보다 많이 허용하지 않는다")
+    void tryAcquire_Concurrent_NeverExceedsCapacity() throws InterruptedException {
+        // given: 시간이 흐르지 않는 상태에서 용량 1000
+        HierarchicalRateLimiter limiter = new HierarchicalRateLimiter(100, now::get);
+        List<HierarchicalRateLimiter.Tier> tiers = List.of(new HierarchicalRateLimiter.Tier("store-1", new RateLimit(1000, 1)));
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+
+        // when: 8개 스레드가 500번씩 요청
+        List<Runnable> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            workers.add(() -> {
+                for (int i = 0; i < 500; i++) {
+                    if (limiter.tryAcquire(tiers) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        workers.forEach(executor::execute);
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(allowed.get()).isEqualTo(1000);
+    }
+}
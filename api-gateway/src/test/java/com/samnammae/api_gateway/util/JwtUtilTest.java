@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -95,6 +96,48 @@ class JwtUtilTest {
                 .hasMessageContaining(ErrorCode.TOKEN_MISSING.getMessage());
     }
 
+    @Test
+    @DisplayName("성공: 토큰 검증 후 하위 서비스 전달용 헤더 값을 만들고, 같은 토큰은 캐시에서 반환한다")
+    void authenticate_Success_CachesVerifiedUser() {
+        // given: 관리 매장 목록이 포함된 토큰
+        Key key = Keys.hmacShaKeyFor(TEST_SECRET.getBytes());
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("userEmail", "test@example.com")
+                .claim("storeIds", List.of(1, 2, 3))
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 5))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when: 같은 토큰으로 두 번 인증
+        AuthenticatedUser first = jwtUtil.authenticate(token);
+        AuthenticatedUser second = jwtUtil.authenticate(token);
+
+        // then: 헤더 값이 미리 만들어져 있고, 두 번째는 캐시된 같은 객체
+        assertThat(first.getUserId()).isEqualTo("1");
+        assertThat(first.getUserEmail()).isEqualTo("test@example.com");
+        assertThat(first.getManagedStoreIds()).isEqualTo("1,2,3");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("실패: 잘못된 서명의 토큰은 캐시하지 않고 매번 CustomException(INVALID_TOKEN)을 던진다")
+    void authenticate_Fail_InvalidSignatureNotCached() {
+        // given: 다른 시크릿 키로 서명된 토큰
+        Key wrongKey = Keys.hmacShaKeyFor("this-is-a-completely-different-wrong-secret-key-0987654321".getBytes());
+        String invalidSignatureToken = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 5))
+                .signWith(wrongKey)
+                .compact();
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> jwtUtil.authenticate(invalidSignatureToken))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessageContaining(ErrorCode.INVALID_TOKEN.getMessage());
+        }
+    }
 
     /**
      * 테스트용 JWT를 생성하는 헬퍼 메서드
@@ -0,0 +1,62 @@
+package com.samnammae.api_gateway.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenClaimsCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시된 사용자 정보를 반환하지 않는다")
+    void get_ExpiredEntry_ReturnsNull() {
+        // given
+        TokenClaimsCache cache = new TokenClaimsCache(10, now::get);
+        String key = TokenClaimsCache.keyOf("token-a");
+        cache.put(key, user(now.get() + 1000));
+
+        // when & then
+        assertThat(cache.get(key)).isNotNull();
+        now.addAndGet(1000);
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void put_OverCapacity_EvictsLeastRecentlyUsed() {
+        // given
+        TokenClaimsCache cache = new TokenClaimsCache(2, now::get);
+        cache.put("a", user(now.get() + 60000));
+        cache.put("b", user(now.get() + 60000));
+        cache.get("a");
+
+        // when
+        cache.put("c", user(now.get() + 60000));
+
+        // then
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("토큰 해시 키는 토큰 원문을 포함하지 않고, 같은 토큰이면 같은 키를 만든다")
+    void keyOf_HashesToken() {
+        // when
+        String key = TokenClaimsCache.keyOf("header.payload.signature");
+
+        // then
+        assertThat(key).isEqualTo(TokenClaimsCache.keyOf("header.payload.signature"));
+        assertThat(key).doesNotContain("payload");
+        assertThat(key).isNotEqualTo(TokenClaimsCache.keyOf("header.payload.signaturf"));
+    }
+
+    private AuthenticatedUser user(long expiresAtMillis) {
+        return new AuthenticatedUser("1", "test@example.com", "1,2", expiresAtMillis);
+    }
+}
@@ -0,0 +1,309 @@
+package com.samnammae.chatbot_service.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.chatbot_service.client.MenuServiceClient;
+import com.samnammae.chatbot_service.client.OrderServiceClient;
+import com.samnammae.chatbot_service.dto.response.ChatResponse;
+import com.samnammae.chatbot_service.dto.response.MenuResponseDto;
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import com.samnammae.chatbot_service.dto.response.OrderResponseDto;
+import com.samnammae.chatbot_service.metrics.ChatMetrics;
+import com.samnammae.chatbot_service.resilience.AdaptiveConcurrencyLimiter;
+import com.samnammae.chatbot_service.resilience.StoreBulkhead;
+import com.samnammae.chatbot_service.service.*;
+import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.common.response.ApiResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오프라인 대화 재생 벤치마크
+ * - 녹화된 키오스크 대화를 ChatService.processChat으로 그대로 재생
+ * - Gemini, menu-service, order-service, Mongo는 모두 프로세스 내부 대역으로 대체 (네트워크 없음, 결정적 지연)
+ * - ChatMetrics가 기록한 단계별 p50/p95/p99, 턴별 프롬프트 토큰, 동시 세션 N개에서의 처리량을 출력
+ *
+ * 옵션 (--key=value)
+ * --sessions: 측정할 세션 수 (기본 1000)
+ * --warmup-sessions: 측정 전 버리는 세션 수 (기본 200)
+ * --concurrency: 동시에 진행하는 세션 수 (기본 16)
+ * --stores: 세션을 나눠 배정할 매장 수 (기본 8)
+ * --gemini-latency-ms, --gemini-ms-per-1k-chars: Gemini 대역 지연 (기본 300, 20)
+ * --chars-per-token: 토큰 추정에 쓰는 토큰당 문자 수 (기본 2.5)
+ * --menu-latency-ms, --order-latency-ms, --mongo-latency-ms: 각 대역 지연 (기본 20, 30, 1)
+ * --bulkhead-per-store, --limiter-initial-limit: Gemini 호출 보호 설정 (기본 5, 20)
+ * --replay: 녹화 대화 JSON 파일 경로 (기본 classpath의 replay/kiosk-conversations.json)
+ */
+public class ChatReplayBenchmark {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final Set<String> REJECTED_REPLIES = Set.of(
+            ErrorCode.CHATBOT_OVERLOADED.getMessage(),
+            ErrorCode.GEMINI_UNAVAILABLE.getMessage(),
+            ErrorCode.CHATBOT_SESSION_LIMIT.getMessage());
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int sessions = intOption(options, "sessions", 1000);
+        int warmupSessions = intOption(options, "warmup-sessions", 200);
+        int concurrency = intOption(options, "concurrency", 16);
+        int stores = intOption(options, "stores", 8);
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        List<ReplaySession> recorded = readJson(objectMapper, options.get("replay"),
+                "replay/kiosk-conversations.json", new TypeReference<List<ReplaySession>>() {});
+        MenuWithOptionsResponseDto menu = readJson(objectMapper, null,
+                "replay/menu.json", new TypeReference<MenuWithOptionsResponseDto>() {});
+
+        // 1. 워밍업 (JIT 컴파일, 캐시 적재) 후 결과는 버림
+        run(new Pipeline(options, objectMapper, menu), recorded, warmupSessions, concurrency, stores);
+
+        // 2. 새 파이프라인으로 측정
+        Pipeline pipeline = new Pipeline(options, objectMapper, menu);
+        long elapsedNanos = run(pipeline, recorded, sessions, concurrency, stores);
+
+        report(pipeline, sessions, concurrency, stores, elapsedNanos, options);
+    }
+
+    // 세션을 동시 실행 수만큼의 작업자가 나눠서 재생 (세션 안의 턴은 순서대로)
+    private static long run(Pipeline pipeline, List<ReplaySession> recorded,
+                            int sessions, int concurrency, int stores) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        AtomicInteger next = new AtomicInteger();
+        long startedAt = System.nanoTime();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < sessions) {
+                        ReplaySession session = recorded.get(index % recorded.size());
+                        pipeline.replay(session, "replay-" + startedAt + "-" + index, (long) (index % stores) + 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private static void report(Pipeline pipeline, int sessions, int concurrency, int stores,
+                               long elapsedNanos, Map<String, String> options) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long turns = pipeline.turns.sum();
+
+        System.out.println();
+        System.out.println("== Chat replay benchmark ==");
+        System.out.printf("sessions: %d, turns: %d, concurrency: %d, stores: %d, elapsed: %.2fs%n",
+                sessions, turns, concurrency, stores, seconds);
+        System.out.printf("throughput: %.1f turns/s, %.1f sessions/s, rejected turns: %d%n",
+                turns / seconds, sessions / seconds, pipeline.rejectedTurns.sum());
+        System.out.printf("gemini stub: %sms + %sms/1k chars, tokens estimated at %s chars/token%n",
+                options.getOrDefault("gemini-latency-ms", "300"),
+                options.getOrDefault("gemini-ms-per-1k-chars", "20"),
+                options.getOrDefault("chars-per-token", "2.5"));
+
+        System.out.println();
+        System.out.printf("%-16s %8s %9s %9s %9s %9s%n", "stage", "count", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        printTimer("turn", pipeline.turnTimer);
+        for (ChatMetrics.Stage stage : ChatMetrics.Stage.values()) {
+            String tag = stage.name().toLowerCase(Locale.ROOT);
+            Timer timer = pipeline.registry.find("chatbot.stage.duration").tag("stage", tag).timer();
+            if (timer != null) {
+                printTimer(tag, timer);
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-16s %8s %9s %9s %9s%n", "prompt tokens", "calls", "mean", "p95", "max");
+        pipeline.promptTokensByTurn.forEach((turn, summary) -> {
+            HistogramSnapshot snapshot = summary.takeSnapshot();
+            System.out.printf("%-16s %8d %9.0f %9.0f %9.0f%n", "turn " + turn, snapshot.count(),
+                    snapshot.mean(), percentile(snapshot, 0.95, null), snapshot.max());
+        });
+    }
+
+    private static void printTimer(String name, Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        System.out.printf("%-16s %8d %9.1f %9.1f %9.1f %9.1f%n", name, snapshot.count(),
+                percentile(snapshot, 0.5, TimeUnit.MILLISECONDS),
+                percentile(snapshot, 0.95, TimeUnit.MILLISECONDS),
+                percentile(snapshot, 0.99, TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    // 단위를 주지 않으면 분포 요약(토큰 수) 값 그대로 반환
+    private static double percentile(HistogramSnapshot snapshot, double percentile, TimeUnit unit) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return unit != null ? value.value(unit) : value.value();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static <T> T readJson(ObjectMapper objectMapper, String path, String defaultResource,
+                                  TypeReference<T> type) throws IOException {
+        if (path != null) {
+            return objectMapper.readValue(Files.readAllBytes(Path.of(path)), type);
+        }
+        try (InputStream in = ChatReplayBenchmark.class.getClassLoader().getResourceAsStream(defaultResource)) {
+            if (in == null) {
+                throw new IllegalStateException("Benchmark resource not found: " + defaultResource);
+            }
+            return objectMapper.readValue(in, type);
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must look like --key=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    static int intOption(Map<String, String> options, String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+
+    private static double doubleOption(Map<String, String> options, String key, double defaultValue) {
+        return options.containsKey(key) ? Double.parseDouble(options.get(key)) : defaultValue;
+    }
+
+    /**
+     * 대역으로 조립한 ChatService와 측정용 레지스트리
+     */
+    private static class Pipeline {
+
+        private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        private final StubLlmRouter llmRouter;
+        private final ChatService chatService;
+        private final Timer turnTimer;
+        private final Map<Integer, DistributionSummary> promptTokensByTurn = new TreeMap<>();
+        private final LongAdder turns = new LongAdder();
+        private final LongAdder rejectedTurns = new LongAdder();
+
+        Pipeline(Map<String, String> options, ObjectMapper objectMapper, MenuWithOptionsResponseDto menu) {
+            // 측정 중 백분위가 만료되지 않도록 고정 구간으로 집계
+            registry.config().meterFilter(new MeterFilter() {
+                @Override
+                public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(PERCENTILES)
+                            .expiry(Duration.ofHours(1))
+                            .bufferLength(1)
+                            .build()
+                            .merge(config);
+                }
+            });
+            turnTimer = Timer.builder("benchmark.turn").register(registry);
+
+            long menuLatencyMs = intOption(options, "menu-latency-ms", 20);
+            long orderLatencyMs = intOption(options, "order-latency-ms", 30);
+            AtomicInteger orderSequence = new AtomicInteger();
+
+            MenuServiceClient menuServiceClient = new MenuServiceClient() {
+                @Override
+                public ApiResponse<MenuResponseDto> getMenusByStore(Long storeId, String managedStoreIds) {
+                    throw new UnsupportedOperationException("getMenusByStore");
+                }
+
+                @Override
+                public ApiResponse<MenuWithOptionsResponseDto> getMenusWithOptions(Long storeId) {
+                    StubLlmRouter.sleep(menuLatencyMs);
+                    return ApiResponse.success(menu);
+                }
+            };
+            OrderServiceClient orderServiceClient = request -> {
+                StubLlmRouter.sleep(orderLatencyMs);
+                int sequence = orderSequence.incrementAndGet();
+                return ApiResponse.success(new OrderResponseDto(UUID.randomUUID().toString(), "B-" + sequence));
+            };
+
+            llmRouter = new StubLlmRouter(objectMapper,
+                    intOption(options, "gemini-latency-ms", 300),
+                    doubleOption(options, "gemini-ms-per-1k-chars", 20),
+                    doubleOption(options, "chars-per-token", 2.5));
+            GeminiCallService geminiCallService = new GeminiCallService(
+                    llmRouter,
+                    new StoreBulkhead(intOption(options, "bulkhead-per-store", 5)),
+                    new AdaptiveConcurrencyLimiter(intOption(options, "limiter-initial-limit", 20),
+                            4, 100, 50, 2000, 4000, 0.9),
+                    CircuitBreaker.ofDefaults("gemini-benchmark"));
+
+            chatService = new ChatService(
+                    InMemoryConversationRepository.create(intOption(options, "mongo-latency-ms", 1)),
+                    new MenuSnapshotService(menuServiceClient, 30000, 600000),
+                    new GeminiPromptService(6),
+                    new CartService(),
+                    new OrderValidator(),
+                    geminiCallService,
+                    orderServiceClient,
+                    new ChatResponseCache(true, 200, 100),
+                    // 녹화 세션 중 주문 없이 끝나는 세션이 쌓여도 상한에 걸리지 않도록 제한 해제
+                    new ActiveSessionRegistry(Integer.MAX_VALUE, 600000),
+                    new ChatMetrics(registry, 0),
+                    objectMapper);
+        }
+
+        void replay(ReplaySession session, String sessionId, Long storeId) {
+            int turnIndex = 0;
+            for (ReplaySession.Turn turn : session.getTurns()) {
+                turnIndex++;
+                llmRouter.expect(turn.getAssistant().toString());
+
+                long startedAt = System.nanoTime();
+                ChatResponse response = chatService.processChat(storeId, sessionId, turn.getUser(), "벤치마크 매장");
+                turnTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+                Integer promptTokens = llmRouter.takePromptTokens();
+                if (promptTokens != null) {
+                    promptTokens(turnIndex).record(promptTokens);
+                }
+                turns.increment();
+                if (REJECTED_REPLIES.contains(response.getAiMessage())) {
+                    rejectedTurns.increment();
+                }
+            }
+        }
+
+        private DistributionSummary promptTokens(int turnIndex) {
+            synchronized (promptTokensByTurn) {
+                return promptTokensByTurn.computeIfAbsent(turnIndex, index ->
+                        DistributionSummary.builder("benchmark.prompt.tokens")
+                                .tag("turn", String.valueOf(index))
+                                .register(registry));
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.samnammae.chatbot_service.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Feign 호출 오버헤드 마이크로벤치마크
+ * - 로컬 스텁 서버가 /internal/menu/{storeId} 모양의 JSON을 응답 (네트워크 지연 없음, 클라이언트 비용만 측정)
+ * - before: Feign 기본 클라이언트 (HttpURLConnection, 압축 없음)
+ * - after: 공통 설정과 같은 Apache HttpClient 5 커넥션 풀 (압축 없음 / gzip 협상)
+ * - 호출당 p50/p99, 처리량, 호출당 전송 바이트, 새로 맺은 TCP 연결 수를 출력
+ *
+ * 옵션 (--key=value)
+ * --calls: 측정할 호출 수 (기본 20000)
+ * --warmup-calls: 측정 전 버리는 호출 수 (기본 5000)
+ * --concurrency: 동시 호출 스레드 수 (기본 16)
+ * --payload-kb: 응답 JSON 크기 (기본 64)
+ */
+public class FeignCallOverheadBenchmark {
+
+    interface MenuApi {
+        @RequestLine("GET /internal/menu/{storeId}")
+        String getMenusWithOptions(@Param("storeId") long storeId);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = ChatReplayBenchmark.parseOptions(args);
+        int calls = ChatReplayBenchmark.intOption(options, "calls", 20000);
+        int warmupCalls = ChatReplayBenchmark.intOption(options, "warmup-calls", 5000);
+        int concurrency = ChatReplayBenchmark.intOption(options, "concurrency", 16);
+        int payloadKb = ChatReplayBenchmark.intOption(options, "payload-kb", 64);
+
+        StubMenuServer server = new StubMenuServer(payload(payloadKb * 1024));
+        try {
+            System.out.printf("Feign call overhead: calls=%d, concurrency=%d, payload=%dKB%n%n", calls, concurrency, payloadKb);
+            System.out.printf("%-28s %10s %10s %12s %12s %12s%n",
+                    "client", "p50(us)", "p99(us)", "calls/s", "bytes/call", "connections");
+
+            measure("default (before)", new Client.Default(null, null), server, calls, warmupCalls, concurrency);
+
+            try (CloseableHttpClient pooled = pooledClient(concurrency).disableContentCompression().build()) {
+                measure("hc5 pool", new ApacheHttp5Client(pooled), server, calls, warmupCalls, concurrency);
+            }
+            try (CloseableHttpClient pooledGzip = pooledClient(concurrency).build()) {
+                measure("hc5 pool + gzip (after)", new ApacheHttp5Client(pooledGzip), server, calls, warmupCalls, concurrency);
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    // common-module FeignDefaultsEnvironmentPostProcessor와 같은 풀 설정
+    private static HttpClientBuilder pooledClient(int concurrency) {
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(200)
+                        .setMaxConnPerRoute(Math.max(50, concurrency))
+                        .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                        .build());
+    }
+
+    private static void measure(String name, Client client, StubMenuServer server,
+                                int calls, int warmupCalls, int concurrency) throws Exception {
+        MenuApi api = Feign.builder()
+                .client(client)
+                .target(MenuApi.class, "http://127.0.0.1:" + server.port());
+
+        // 1. 워밍업 (JIT 컴파일, 연결 생성) 후 결과는 버림
+        run(api, warmupCalls, concurrency);
+        server.reset();
+
+        // 2. 측정
+        long startedAt = System.nanoTime();
+        long[] latencies = run(api, calls, concurrency);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-28s %10.0f %10.0f %12.0f %12d %12d%n",
+                name,
+                latencies[(int) (latencies.length * 0.5)] / 1000.0,
+                latencies[Math.min(latencies.length - 1, (int) (latencies.length * 0.99))] / 1000.0,
+                calls / elapsedSeconds,
+                server.bytesSent.sum() / calls,
+                server.connections.size());
+    }
+
+    private static long[] run(MenuApi api, int calls, int concurrency) throws Exception {
+        long[] latencies = new long[calls];
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < calls) {
+                        long startedAt = System.nanoTime();
+                        String body = api.getMenusWithOptions(index % 8 + 1);
+                        latencies[index] = System.nanoTime() - startedAt;
+                        if (body.isEmpty()) {
+                            throw new IllegalStateException("Empty response");
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return latencies;
+    }
+
+    // 메뉴 전체 조회 응답과 비슷한 모양으로 원하는 크기의 JSON 생성
+    private static byte[] payload(int targetBytes) {
+        StringBuilder json = new StringBuilder("{\"success\":true,\"data\":{\"storeId\":1,\"menus\":[");
+        for (int id = 1; json.length() < targetBytes; id++) {
+            if (id > 1) {
+                json.append(',');
+            }
+            json.append("{\"menuId\":").append(id)
+                    .append(",\"name\":\"메뉴 ").append(id).append("\"")
+                    .append(",\"description\":\"신선한 원두로 내린 시그니처 음료입니다.\"")
+                    .append(",\"price\":").append(3000 + id % 20 * 500)
+                    .append(",\"isSoldOut\":false")
+                    .append(",\"optionCategories\":[{\"name\":\"사이즈\",\"isRequired\":true,\"options\":[")
+                    .append("{\"optionId\":").append(id * 10).append(",\"name\":\"레귤러\",\"price\":0},")
+                    .append("{\"optionId\":").append(id * 10 + 1).append(",\"name\":\"라지\",\"price\":500}]}]}");
+        }
+        return json.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * menu-service 대역 (server.compression과 같이 Accept-Encoding에 gzip이 있으면 압축해서 응답)
+     */
+    private static class StubMenuServer {
+        private final HttpServer server;
+        private final byte[] body;
+        private final byte[] gzippedBody;
+        private final LongAdder bytesSent = new LongAdder();
+        private final Map<InetSocketAddress, Boolean> connections = new ConcurrentHashMap<>();
+
+        StubMenuServer(byte[] body) throws IOException {
+            this.body = body;
+            this.gzippedBody = gzip(body);
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+            this.server.createContext("/internal/menu/", this::handle);
+            this.server.setExecutor(Executors.newFixedThreadPool(32));
+            this.server.start();
+        }
+
+        int port() {
+            return server.getAddress().getPort();
+        }
+
+        void reset() {
+            bytesSent.reset();
+            connections.clear();
+        }
+
+        void stop() {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            // 클라이언트 주소(포트)가 새로 보이면 새 TCP 연결
+            connections.put(exchange.getRemoteAddress(), Boolean.TRUE);
+
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            byte[] response = gzip ? gzippedBody : body;
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+            bytesSent.add(response.length);
+        }
+
+        private static byte[] gzip(byte[] body) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                out.write(body);
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
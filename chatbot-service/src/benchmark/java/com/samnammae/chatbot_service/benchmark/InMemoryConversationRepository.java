@@ -0,0 +1,62 @@
+package com.samnammae.chatbot_service.benchmark;
+
+import com.samnammae.chatbot_service.domain.conversation.Conversation;
+import com.samnammae.chatbot_service.domain.conversation.ConversationRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mongo 대역
+ * ChatService가 사용하는 조회/저장/삭제만 sessionId 기준 맵으로 처리하고 나머지 메서드는 지원하지 않음
+ */
+final class InMemoryConversationRepository {
+
+    private InMemoryConversationRepository() {
+    }
+
+    static ConversationRepository create(long latencyMs) {
+        Map<String, Conversation> conversations = new ConcurrentHashMap<>();
+
+        return (ConversationRepository) Proxy.newProxyInstance(
+                ConversationRepository.class.getClassLoader(),
+                new Class<?>[]{ConversationRepository.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findBySessionId" -> {
+                            StubLlmRouter.sleep(latencyMs);
+                            return Optional.ofNullable(conversations.get((String) args[0]));
+                        }
+                        case "save" -> {
+                            StubLlmRouter.sleep(latencyMs);
+                            Conversation conversation = (Conversation) args[0];
+                            conversations.put(conversation.getSessionId(), conversation);
+                            return conversation;
+                        }
+                        case "delete" -> {
+                            conversations.remove(((Conversation) args[0]).getSessionId());
+                            return null;
+                        }
+                        case "count" -> {
+                            return (long) conversations.size();
+                        }
+                        case "findArchivable" -> {
+                            return List.of();
+                        }
+                        case "toString" -> {
+                            return "InMemoryConversationRepository";
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,26 @@
+package com.samnammae.chatbot_service.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 녹화된 키오스크 대화 한 세션
+ * assistant는 Gemini가 돌려준 {"reply", "tool_calls"} 응답 원본
+ */
+@Getter
+@NoArgsConstructor
+class ReplaySession {
+
+    private String name;
+    private List<Turn> turns;
+
+    @Getter
+    @NoArgsConstructor
+    static class Turn {
+        private String user;
+        private JsonNode assistant;
+    }
+}
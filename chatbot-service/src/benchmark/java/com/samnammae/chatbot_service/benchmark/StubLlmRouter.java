@@ -0,0 +1,87 @@
+package com.samnammae.chatbot_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.service.LlmRouter;
+
+/**
+ * 결정적 Gemini 대역
+ * - 재생 드라이버가 턴마다 지정한 녹화 응답을 그대로 반환
+ * - 지연 시간은 기본 지연 + 프롬프트 1,000자당 지연으로 계산 (난수 없음)
+ * - 토큰 수는 문자 수 기반 추정치로 usageMetadata에 채움
+ */
+class StubLlmRouter implements LlmRouter {
+
+    private static final String FALLBACK_TURN = "{\"reply\":\"네, 알겠습니다.\",\"tool_calls\":[]}";
+
+    // GeminiCallService는 호출 스레드에서 라우터를 실행하므로 스레드 로컬로 턴 정보를 주고받음
+    private final ThreadLocal<String> nextTurn = new ThreadLocal<>();
+    private final ThreadLocal<Integer> lastPromptTokens = new ThreadLocal<>();
+
+    private final ObjectMapper objectMapper;
+    private final long baseLatencyMs;
+    private final double latencyMsPerThousandChars;
+    private final double charsPerToken;
+
+    StubLlmRouter(ObjectMapper objectMapper, long baseLatencyMs, double latencyMsPerThousandChars, double charsPerToken) {
+        this.objectMapper = objectMapper;
+        this.baseLatencyMs = baseLatencyMs;
+        this.latencyMsPerThousandChars = latencyMsPerThousandChars;
+        this.charsPerToken = charsPerToken;
+    }
+
+    // 다음 호출에 돌려줄 녹화 응답 지정
+    void expect(String turnJson) {
+        nextTurn.set(turnJson);
+        lastPromptTokens.remove();
+    }
+
+    // 직전 턴의 프롬프트 토큰 추정치 (응답 캐시 적중 등으로 호출이 없었으면 null)
+    Integer takePromptTokens() {
+        Integer tokens = lastPromptTokens.get();
+        lastPromptTokens.remove();
+        return tokens;
+    }
+
+    @Override
+    public GeminiResponse generate(GeminiRequest request, Route route) {
+        // 실제 Feign 호출처럼 요청 본문을 JSON으로 직렬화
+        objectMapper.valueToTree(request);
+        int promptChars = request.getPromptLength();
+        String turn = nextTurn.get() != null ? nextTurn.get() : FALLBACK_TURN;
+
+        sleep(baseLatencyMs + Math.round(latencyMsPerThousandChars * promptChars / 1000.0));
+
+        int promptTokens = estimateTokens(promptChars);
+        int candidatesTokens = estimateTokens(turn.length());
+        lastPromptTokens.set(promptTokens);
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putArray("candidates").addObject()
+                .putObject("content").putArray("parts").addObject()
+                .put("text", turn);
+        response.putObject("usageMetadata")
+                .put("promptTokenCount", promptTokens)
+                .put("candidatesTokenCount", candidatesTokens)
+                .put("totalTokenCount", promptTokens + candidatesTokens);
+        return objectMapper.convertValue(response, GeminiResponse.class);
+    }
+
+    private int estimateTokens(int chars) {
+        return (int) Math.ceil(chars / charsPerToken);
+    }
+
+    static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Benchmark interrupted", e);
+        }
+    }
+}
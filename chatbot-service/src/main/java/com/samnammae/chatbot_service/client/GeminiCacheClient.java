@@ -0,0 +1,38 @@
+package com.samnammae.chatbot_service.client;
+
+import com.samnammae.chatbot_service.config.GeminiClientConfig;
+import com.samnammae.chatbot_service.dto.request.CachedContentRequest;
+import com.samnammae.chatbot_service.dto.response.CachedContentResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.net.URI;
+
+/**
+ * Gemini 컨텍스트 캐시(cachedContents) API
+ */
+@FeignClient(name = "gemini-api",
+        contextId = "gemini-cache-api",
+        url = "https://generativelanguage.googleapis.com",
+        configuration = GeminiClientConfig.class)
+public interface GeminiCacheClient {
+
+    /**
+     * 컨텍스트 캐시 생성
+     * @param baseUrl 호출할 엔드포인트 (FeignClient의 url 대신 사용)
+     * @return 생성된 캐시 이름 (cachedContents/{id})
+     */
+    @PostMapping(value = "/v1beta/cachedContents",
+            headers = {"Content-Type=application/json"})
+    CachedContentResponse create(URI baseUrl, @RequestBody CachedContentRequest request);
+
+    /**
+     * 컨텍스트 캐시 삭제
+     * @param id 캐시 이름에서 cachedContents/ 를 뺀 ID
+     */
+    @DeleteMapping("/v1beta/cachedContents/{id}")
+    void delete(URI baseUrl, @PathVariable("id") String id);
+}
@@ -4,15 +4,23 @@ import com.samnammae.chatbot_service.config.GeminiClientConfig;
 import com.samnammae.chatbot_service.dto.request.GeminiRequest;
 import com.samnammae.chatbot_service.dto.response.GeminiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.net.URI;
+
 @FeignClient(name = "gemini-api",
         url = "https://generativelanguage.googleapis.com",
         configuration = GeminiClientConfig.class)
 public interface GeminiClient {
 
-    @PostMapping(value = "/v1/models/gemini-2.5-flash-lite:generateContent",
+    /**
+     * 모델 호출
+     * @param baseUrl 호출할 엔드포인트 (FeignClient의 url 대신 사용)
+     * @param model 모델 이름 (e.g., gemini-2.5-flash-lite)
+     */
+    @PostMapping(value = "/v1beta/models/{model}:generateContent",
             headers = {"Content-Type=application/json"})
-    GeminiResponse call(@RequestBody GeminiRequest request);
-}
\ No newline at end of file
+    GeminiResponse generate(URI baseUrl, @PathVariable("model") String model, @RequestBody GeminiRequest request);
+}
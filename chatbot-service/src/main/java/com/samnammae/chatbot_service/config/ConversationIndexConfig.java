@@ -0,0 +1,55 @@
+package com.samnammae.chatbot_service.config;
+
+import com.samnammae.chatbot_service.domain.archive.ConversationArchive;
+import com.samnammae.chatbot_service.domain.conversation.Conversation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.time.Duration;
+
+/**
+ * 대화 컬렉션 인덱스 설정
+ * - auto-index-creation이 꺼져 있어도 조회/만료에 필요한 인덱스를 기동 시점에 보장
+ * - updatedAt TTL 인덱스로 방치된 세션을 자동 삭제
+ */
+@Slf4j
+@Configuration
+public class ConversationIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration sessionTtl;
+
+    public ConversationIndexConfig(MongoTemplate mongoTemplate,
+                                   @Value("${chatbot.session.ttl-minutes:120}") long sessionTtlMinutes) {
+        this.mongoTemplate = mongoTemplate;
+        this.sessionTtl = Duration.ofMinutes(sessionTtlMinutes);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        IndexOperations conversations = mongoTemplate.indexOps(Conversation.class);
+        // @Indexed(unique = true)와 같은 이름을 사용해 자동 생성 인덱스와 충돌하지 않도록 함
+        conversations.ensureIndex(new Index().on("sessionId", Sort.Direction.ASC).named("sessionId").unique());
+        try {
+            conversations.ensureIndex(new Index().on("updatedAt", Sort.Direction.ASC).named("updatedAt_ttl").expire(sessionTtl));
+        } catch (DataAccessException e) {
+            // 이미 다른 만료 시간으로 생성된 TTL 인덱스는 collMod로 변경해야 하므로 기동은 계속 진행
+            log.warn("Failed to ensure TTL index on conversations.updatedAt: {}", e.getMessage());
+        }
+        conversations.ensureIndex(new Index().on("completedAt", Sort.Direction.ASC).named("completedAt").sparse());
+
+        IndexOperations archives = mongoTemplate.indexOps(ConversationArchive.class);
+        archives.ensureIndex(new Index().on("storeId", Sort.Direction.ASC).on("day", Sort.Direction.ASC)
+                .on("sessionCount", Sort.Direction.ASC).named("storeId_day_sessionCount"));
+
+        log.info("Conversation indexes ensured. sessionTtl: {}", sessionTtl);
+    }
+}
@@ -0,0 +1,54 @@
+package com.samnammae.chatbot_service.config;
+
+import com.samnammae.chatbot_service.resilience.AdaptiveConcurrencyLimiter;
+import com.samnammae.chatbot_service.resilience.StoreBulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(LlmProperties.class)
+public class GeminiResilienceConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter geminiConcurrencyLimiter(
+            @Value("${chatbot.gemini.limiter.initial-limit:20}") int initialLimit,
+            @Value("${chatbot.gemini.limiter.min-limit:4}") int minLimit,
+            @Value("${chatbot.gemini.limiter.max-limit:100}") int maxLimit,
+            @Value("${chatbot.gemini.limiter.max-queue-size:50}") int maxQueueSize,
+            @Value("${chatbot.gemini.limiter.max-queue-wait-ms:2000}") long maxQueueWaitMillis,
+            @Value("${chatbot.gemini.limiter.latency-threshold-ms:4000}") long latencyThresholdMillis,
+            @Value("${chatbot.gemini.limiter.backoff-ratio:0.9}") double backoffRatio) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                maxQueueSize, maxQueueWaitMillis, latencyThresholdMillis, backoffRatio);
+    }
+
+    @Bean
+    public StoreBulkhead geminiStoreBulkhead(
+            @Value("${chatbot.gemini.bulkhead.max-concurrent-per-store:5}") int maxConcurrentPerStore) {
+        return new StoreBulkhead(maxConcurrentPerStore);
+    }
+
+    @Bean
+    public CircuitBreaker geminiCircuitBreaker(
+            @Value("${chatbot.gemini.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${chatbot.gemini.circuit-breaker.slow-call-duration-ms:8000}") long slowCallDurationMillis,
+            @Value("${chatbot.gemini.circuit-breaker.wait-in-open-state-ms:10000}") long waitInOpenStateMillis) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(80)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenStateMillis))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build();
+        return CircuitBreaker.of("gemini", config);
+    }
+}
@@ -0,0 +1,74 @@
+package com.samnammae.chatbot_service.config;
+
+import com.samnammae.chatbot_service.service.LlmRouter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.llm")
+public class LlmProperties {
+
+    // 모델 키 -> 엔드포인트, 모델 이름
+    private Map<String, Model> models = new HashMap<>();
+
+    // 라우트 이름(default, simple) -> 기본 모델, 헤지 모델
+    private Map<String, Route> routes = new HashMap<>();
+
+    private Hedge hedge = new Hedge();
+
+    private ContextCache contextCache = new ContextCache();
+
+    // 모델 호출(헤지 요청 포함)에 사용하는 스레드 수 (대기열 없음, 모두 사용 중이면 요청 스레드에서 헤지 없이 호출)
+    private int executorThreads = 200;
+
+    /**
+     * 라우트 설정 조회 (해당 라우트 설정이 없으면 default 라우트 사용)
+     */
+    public Route route(LlmRouter.Route route) {
+        Route properties = routes.get(route.name().toLowerCase(Locale.ROOT));
+        return properties != null ? properties : routes.get("default");
+    }
+
+    @Getter
+    @Setter
+    public static class Model {
+        private String baseUrl = "https://generativelanguage.googleapis.com";
+        private String model;
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String primary;
+        private String hedge;   // 없으면 헤지 요청을 보내지 않음
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+        private boolean enabled = true;
+        private double percentile = 0.9;
+        private int minSamples = 20;
+        private int windowSize = 200;
+        private long initialDelayMs = 3000;     // 지연 시간 표본이 부족할 때 사용할 헤지 대기 시간
+        private long minDelayMs = 500;
+        private long maxDelayMs = 8000;
+    }
+
+    @Getter
+    @Setter
+    public static class ContextCache {
+        private boolean enabled = true;
+        private long ttlSeconds = 900;
+        private long refreshMarginSeconds = 120;   // 만료 전 이 시간 안에 들어오면 새 캐시 생성
+        private long retryAfterMs = 300000;        // 캐시 생성 실패 후 재시도까지 전체 프롬프트 전송
+        private int minPrefixChars = 4000;         // 접두부가 이보다 짧으면 캐시하지 않음 (모델별 최소 토큰 수 미달)
+        private int createThreads = 4;             // 캐시 생성 호출 스레드 수 (대화 요청 스레드에서는 생성하지 않음)
+    }
+}
@@ -0,0 +1,37 @@
+package com.samnammae.chatbot_service.config;
+
+import com.samnammae.chatbot_service.resilience.AdaptiveConcurrencyLimiter;
+import com.samnammae.chatbot_service.resilience.LatencyWindow;
+import com.samnammae.chatbot_service.service.impl.HedgingLlmRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Gemini 동시 실행 제한 상태
+    @Bean
+    public MeterBinder geminiLimiterMetrics(AdaptiveConcurrencyLimiter geminiConcurrencyLimiter) {
+        return registry -> {
+            Gauge.builder("chatbot.gemini.limiter.limit", geminiConcurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .register(registry);
+            Gauge.builder("chatbot.gemini.limiter.in_flight", geminiConcurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .register(registry);
+        };
+    }
+
+    // 헤지 대기 시간 계산에 쓰는 모델별 최근 p90 지연 시간
+    @Bean
+    public MeterBinder llmLatencyMetrics(HedgingLlmRouter hedgingLlmRouter, LlmProperties llmProperties) {
+        return registry -> llmProperties.getModels().keySet().forEach(model ->
+                Gauge.builder("chatbot.llm.latency.p90", hedgingLlmRouter, router -> {
+                            LatencyWindow window = router.getLatencies().get(model);
+                            return window == null || window.getCount() == 0 ? Double.NaN : window.percentile(0.9);
+                        })
+                        .tag("model", model)
+                        .baseUnit("milliseconds")
+                        .register(registry));
+    }
+}
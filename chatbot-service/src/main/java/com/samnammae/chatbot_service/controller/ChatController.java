@@ -2,9 +2,13 @@ package com.samnammae.chatbot_service.controller;
 
 
 import com.samnammae.chatbot_service.dto.request.ChatRequest;
+import com.samnammae.chatbot_service.dto.request.SessionStartRequest;
 import com.samnammae.chatbot_service.dto.response.ChatResponse;
+import com.samnammae.chatbot_service.dto.response.SessionStartResponse;
 import com.samnammae.chatbot_service.service.ChatService;
+import com.samnammae.common.auth.ManagedStores;
 import com.samnammae.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -21,12 +25,28 @@ public class ChatController {
     public ApiResponse<ChatResponse> handleChat(
             @PathVariable Long storeId,
             @RequestBody ChatRequest request,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
 
         //  매장 권한 검증
-        chatService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
-        ChatResponse response = chatService.processChat(storeId, request.getSessionId(), request.getMessage(), managedStoreIds, request.getStoreName());
+        ChatResponse response = chatService.processChat(storeId, request.getSessionId(), request.getMessage(), request.getStoreName());
+
+        return ApiResponse.success(response);
+    }
+
+    // 음성 모드 진입 시 호출하여 첫 발화 전에 세션과 메뉴 프롬프트를 미리 준비
+    @PostMapping("/{storeId}/session")
+    public ApiResponse<SessionStartResponse> startSession(
+            @PathVariable Long storeId,
+            @RequestBody(required = false) SessionStartRequest request,
+            @Parameter(hidden = true) ManagedStores managedStores) {
+
+        //  매장 권한 검증
+        managedStores.validate(storeId);
+
+        SessionStartRequest body = request != null ? request : new SessionStartRequest();
+        SessionStartResponse response = chatService.startSession(storeId, body.getSessionId(), body.getWarmUp());
 
         return ApiResponse.success(response);
     }
@@ -0,0 +1,19 @@
+package com.samnammae.chatbot_service.domain.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedSession {
+
+    private String sessionId;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private int messageCount;
+    private byte[] messages; // GZIP 압축된 메시지 목록 JSON
+}
@@ -0,0 +1,32 @@
+package com.samnammae.chatbot_service.domain.archive;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 완료된 대화 보관용 버킷 문서
+ * - 매장, 날짜(day) 단위로 세션을 묶어 저장하며, 버킷당 세션 수가 상한에 도달하면 새 버킷 문서를 생성
+ * - 각 세션의 대화 내용은 GZIP 압축된 JSON으로 저장
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Document(collection = "conversation_archives")
+public class ConversationArchive {
+
+    @Id
+    private String id;
+
+    private Long storeId;
+
+    private String day; // yyyy-MM-dd
+
+    private int sessionCount;
+
+    private List<ArchivedSession> sessions = new ArrayList<>();
+}
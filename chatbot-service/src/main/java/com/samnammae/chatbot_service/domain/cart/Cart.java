@@ -0,0 +1,77 @@
+package com.samnammae.chatbot_service.domain.cart;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 챗봇 세션의 장바구니
+ * LLM의 도구 호출로만 변경되며, 모든 가격은 서버가 메뉴 스냅샷 기준으로 계산
+ */
+@Getter
+@NoArgsConstructor
+public class Cart {
+
+    private List<CartItem> items = new ArrayList<>();
+    private String orderType;       // "STORE", "TAKEOUT"
+    private String paymentMethod;   // "CARD", "CASH"
+    private int lastLine;           // 마지막으로 부여한 항목 번호
+
+    // 도구 호출을 모두 적용하기 전까지 원래 장바구니를 건드리지 않도록 쓰는 복사본
+    public Cart copy() {
+        Cart copy = new Cart();
+        items.forEach(item -> copy.items.add(new CartItem(item)));
+        copy.orderType = orderType;
+        copy.paymentMethod = paymentMethod;
+        copy.lastLine = lastLine;
+        return copy;
+    }
+
+    public CartItem addItem(Long menuId, String menuName, int basePrice, int quantity) {
+        CartItem item = new CartItem(++lastLine, menuId, menuName, basePrice, quantity);
+        items.add(item);
+        return item;
+    }
+
+    public Optional<CartItem> findItem(int line) {
+        return items.stream()
+                .filter(item -> item.getLine() == line)
+                .findFirst();
+    }
+
+    public boolean removeItem(int line) {
+        return items.removeIf(item -> item.getLine() == line);
+    }
+
+    // 전달된 값만 변경
+    public void updateOrderInfo(String orderType, String paymentMethod) {
+        if (orderType != null) {
+            this.orderType = orderType;
+        }
+        if (paymentMethod != null) {
+            this.paymentMethod = paymentMethod;
+        }
+    }
+
+    public void clear() {
+        items.clear();
+        orderType = null;
+        paymentMethod = null;
+        lastLine = 0;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public int getTotalAmount() {
+        return items.stream().mapToInt(CartItem::getTotalPrice).sum();
+    }
+
+    public int getTotalItems() {
+        return items.stream().mapToInt(CartItem::getQuantity).sum();
+    }
+}
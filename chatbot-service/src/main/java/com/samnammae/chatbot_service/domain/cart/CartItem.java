@@ -0,0 +1,64 @@
+package com.samnammae.chatbot_service.domain.cart;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class CartItem {
+
+    private int line;
+    private Long menuId;
+    private String menuName;
+    private int basePrice;
+    private Map<Long, List<Long>> selectedOptions = new LinkedHashMap<>();  // 옵션 카테고리 ID -> 옵션 ID 목록
+    private int optionPrice;
+    private int quantity;
+    private int totalPrice;
+
+    public CartItem(int line, Long menuId, String menuName, int basePrice, int quantity) {
+        this.line = line;
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.quantity = quantity;
+        updatePrices(basePrice, 0);
+    }
+
+    // 다른 항목의 값을 그대로 복사 (선택 옵션 목록까지 새로 만듦)
+    public CartItem(CartItem other) {
+        this.line = other.line;
+        this.menuId = other.menuId;
+        this.menuName = other.menuName;
+        this.basePrice = other.basePrice;
+        other.selectedOptions.forEach((categoryId, optionIds) -> selectedOptions.put(categoryId, new ArrayList<>(optionIds)));
+        this.optionPrice = other.optionPrice;
+        this.quantity = other.quantity;
+        this.totalPrice = other.totalPrice;
+    }
+
+    // 옵션 카테고리의 선택을 교체 (빈 목록이면 선택 해제)
+    public void selectOptions(Long optionCategoryId, List<Long> optionIds) {
+        if (optionIds == null || optionIds.isEmpty()) {
+            selectedOptions.remove(optionCategoryId);
+        } else {
+            selectedOptions.put(optionCategoryId, new ArrayList<>(optionIds));
+        }
+    }
+
+    public void changeQuantity(int quantity) {
+        this.quantity = quantity;
+        updatePrices(basePrice, optionPrice);
+    }
+
+    // 서버 기준 가격으로 갱신
+    public void updatePrices(int basePrice, int optionPrice) {
+        this.basePrice = basePrice;
+        this.optionPrice = optionPrice;
+        this.totalPrice = (basePrice + optionPrice) * quantity;
+    }
+}
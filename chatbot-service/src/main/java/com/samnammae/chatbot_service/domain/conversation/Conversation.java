@@ -1,7 +1,10 @@
 package com.samnammae.chatbot_service.domain.conversation;
 
+import com.samnammae.chatbot_service.domain.cart.Cart;
 import com.samnammae.chatbot_service.domain.message.Message;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -13,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Document(collection = "conversations")
 public class Conversation {
 
@@ -22,11 +26,21 @@ public class Conversation {
     @Indexed(unique = true)
     private String sessionId;
 
+    private Long storeId;
+
     private List<Message> messages = new ArrayList<>();
 
+    private Cart cart = new Cart();
+
     @CreatedDate
     private LocalDateTime createdAt;
 
+    // 주문이 완료된 세션만 값이 있으며, 보관(archive) 대상 조회에 사용
+    private LocalDateTime completedAt;
+
+    // 보관 작업을 가져간 시각 (여러 인스턴스가 같은 세션을 중복 보관하지 않도록 findAndModify로 선점)
+    private LocalDateTime archivingAt;
+
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
@@ -35,8 +49,34 @@ public class Conversation {
         this.sessionId = sessionId;
     }
 
+    public Conversation(String sessionId, Long storeId) {
+        this.sessionId = sessionId;
+        this.storeId = storeId;
+    }
+
     // 대화 기록을 추가하는 편의 메소드
     public void addMessage(Message message) {
         this.messages.add(message);
     }
+
+    // 주문 완료 처리 (이후 보관 스케줄러가 보관 컬렉션으로 옮김)
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+
+    public void replaceCart(Cart cart) {
+        this.cart = cart;
+    }
+
+    // 장바구니 필드가 없는 기존 문서도 빈 장바구니로 처리
+    public Cart getCart() {
+        if (cart == null) {
+            cart = new Cart();
+        }
+        return cart;
+    }
 }
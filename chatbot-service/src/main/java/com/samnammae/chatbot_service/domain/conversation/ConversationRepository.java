@@ -1,9 +1,17 @@
 package com.samnammae.chatbot_service.domain.conversation;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ConversationRepository extends MongoRepository<Conversation, String> {
     Optional<Conversation> findBySessionId(String sessionId);
-}
\ No newline at end of file
+
+    // 주문 완료 후 일정 시간이 지난 세션 중 다른 인스턴스가 보관 중이 아닌 세션 조회 (선점이 오래된 세션은 다시 대상)
+    @Query("{ 'completedAt': { $lt: ?0 }, $or: [ { 'archivingAt': null }, { 'archivingAt': { $lt: ?1 } } ] }")
+    List<Conversation> findArchivable(LocalDateTime cutoff, LocalDateTime staleClaimBefore, Pageable pageable);
+}
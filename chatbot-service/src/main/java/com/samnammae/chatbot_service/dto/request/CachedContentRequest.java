@@ -0,0 +1,25 @@
+package com.samnammae.chatbot_service.dto.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Gemini 컨텍스트 캐시 생성 요청 (cachedContents.create)
+ */
+@Getter
+public class CachedContentRequest {
+
+    private final String model;     // models/{model}
+    private final GeminiRequest.Content systemInstruction;
+    private final List<GeminiRequest.Content> contents;
+    private final String ttl;       // e.g., "600s"
+
+    CachedContentRequest(String model, GeminiRequest.Content systemInstruction,
+                         List<GeminiRequest.Content> contents, String ttl) {
+        this.model = model;
+        this.systemInstruction = systemInstruction;
+        this.contents = contents;
+        this.ttl = ttl;
+    }
+}
@@ -1,35 +1,147 @@
 package com.samnammae.chatbot_service.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Gemini generateContent 요청
+ * - 안정 접두부(시스템 프롬프트 + 매장 메뉴)와 변동부(장바구니 + 최근 대화)를 별도 파트로 전송
+ * - 접두부가 컨텍스트 캐시에 올라가 있으면 cachedContent 이름과 변동부만 전송
+ */
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GeminiRequest {
 
+    private static final GenerationConfig JSON_RESPONSE = new GenerationConfig("application/json");
+
+    private final Content systemInstruction;
     private final List<Content> contents;
+    private final String cachedContent;
+    private final GenerationConfig generationConfig;
+
+    // 컨텍스트 캐시용 접두부 정보 (요청 본문에는 포함하지 않음)
+    @JsonIgnore
+    private final Prefix prefix;
+    @JsonIgnore
+    private final String volatileText;
 
-    // 프롬프트 문자열 하나만으로 간단히 요청 객체를 생성하는 생성자
+    // 프롬프트 문자열 하나만으로 간단히 요청 객체를 생성하는 생성자 (응답은 JSON 형식으로 받음)
     public GeminiRequest(String prompt) {
-        this.contents = Collections.singletonList(new Content(Collections.singletonList(new Part(prompt))));
+        this(null, Collections.singletonList(Content.user(prompt)), null, null, prompt);
+    }
+
+    private GeminiRequest(Content systemInstruction, List<Content> contents, String cachedContent,
+                          Prefix prefix, String volatileText) {
+        this.systemInstruction = systemInstruction;
+        this.contents = contents;
+        this.cachedContent = cachedContent;
+        this.generationConfig = JSON_RESPONSE;
+        this.prefix = prefix;
+        this.volatileText = volatileText;
+    }
+
+    /**
+     * 안정 접두부와 변동부를 나눈 요청 생성
+     * @param scope 접두부 캐시 단위 (e.g., 매장 ID)
+     * @param version 접두부 버전 (메뉴 버전이 바뀌면 달라짐, null이면 캐시 사용 안 함)
+     */
+    public static GeminiRequest withPrefix(String systemPrompt, String prefixText, String volatileText,
+                                           String scope, String version) {
+        Prefix prefix = new Prefix(systemPrompt, prefixText, scope, version);
+        return new GeminiRequest(Content.system(systemPrompt),
+                Collections.singletonList(Content.user(prefixText, volatileText)), null, prefix, volatileText);
+    }
+
+    /**
+     * 캐시된 접두부를 참조하는 요청으로 변환 (시스템 프롬프트와 메뉴는 보내지 않음)
+     */
+    public GeminiRequest withCachedContent(String cachedContentName) {
+        return new GeminiRequest(null, Collections.singletonList(Content.user(volatileText)),
+                cachedContentName, prefix, volatileText);
+    }
+
+    /**
+     * 접두부를 컨텍스트 캐시로 생성하는 요청
+     */
+    public CachedContentRequest toCachedContentRequest(String model, long ttlSeconds) {
+        return new CachedContentRequest("models/" + model, Content.system(prefix.getSystemPrompt()),
+                Collections.singletonList(Content.user(prefix.getText())), ttlSeconds + "s");
+    }
+
+    @JsonIgnore
+    public boolean isCacheable() {
+        return prefix != null && prefix.getVersion() != null && cachedContent == null;
+    }
+
+    // 프롬프트 전체 문자 수 (지표 기록용)
+    @JsonIgnore
+    public int getPromptLength() {
+        int length = systemInstruction != null ? systemInstruction.length() : 0;
+        for (Content content : contents) {
+            length += content.length();
+        }
+        return length;
     }
 
     @Getter
-    private static class Content {
+    public static class Prefix {
+        private final String systemPrompt;
+        private final String text;
+        private final String scope;
+        private final String version;
+
+        Prefix(String systemPrompt, String text, String scope, String version) {
+            this.systemPrompt = systemPrompt;
+            this.text = text;
+            this.scope = scope;
+            this.version = version;
+        }
+    }
+
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class Content {
+        private final String role;
         private final List<Part> parts;
 
-        public Content(List<Part> parts) {
+        Content(String role, List<Part> parts) {
+            this.role = role;
             this.parts = parts;
         }
+
+        static Content system(String text) {
+            return new Content(null, Collections.singletonList(new Part(text)));
+        }
+
+        static Content user(String... texts) {
+            return new Content("user", Arrays.stream(texts).map(Part::new).toList());
+        }
+
+        int length() {
+            return parts.stream().mapToInt(part -> part.getText().length()).sum();
+        }
     }
 
     @Getter
-    private static class Part {
+    static class Part {
         private final String text;
 
-        public Part(String text) {
+        Part(String text) {
             this.text = text;
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    private static class GenerationConfig {
+        private final String responseMimeType;
+
+        public GenerationConfig(String responseMimeType) {
+            this.responseMimeType = responseMimeType;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.samnammae.chatbot_service.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SessionStartRequest {
+    private String sessionId;   // 없으면 서버에서 생성
+    private Boolean warmUp;     // LLM 사전 준비 여부 (없으면 서버 설정 사용)
+}
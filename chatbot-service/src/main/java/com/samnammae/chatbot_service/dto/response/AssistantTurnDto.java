@@ -0,0 +1,42 @@
+package com.samnammae.chatbot_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Gemini가 반환하는 한 턴의 응답 (음성 안내 문장 + 장바구니 도구 호출)
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AssistantTurnDto {
+
+    private String reply;
+
+    @JsonProperty("tool_calls")
+    private List<ToolCall> toolCalls;
+
+    // JSON 형식이 아닌 응답은 전체를 음성 안내 문장으로 사용
+    public static AssistantTurnDto replyOnly(String reply) {
+        AssistantTurnDto turn = new AssistantTurnDto();
+        turn.reply = reply;
+        return turn;
+    }
+
+    public List<ToolCall> getToolCalls() {
+        return toolCalls != null ? toolCalls : List.of();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ToolCall {
+        private String name;
+        private JsonNode args;
+    }
+}
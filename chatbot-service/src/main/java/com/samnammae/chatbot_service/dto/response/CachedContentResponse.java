@@ -0,0 +1,16 @@
+package com.samnammae.chatbot_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CachedContentResponse {
+
+    private String name;        // cachedContents/{id}
+    private String expireTime;
+}
@@ -13,6 +13,8 @@ public class GeminiResponse {
 
     private List<Candidate> candidates;
 
+    private UsageMetadata usageMetadata;
+
     /**
      * 복잡한 응답 객체에서 실제 텍스트 답변만 쉽게 추출하는 편의 메소드
      * @return AI가 생성한 텍스트 응답
@@ -28,6 +30,32 @@ public class GeminiResponse {
         return "죄송합니다. 답변을 생성하는 데 문제가 발생했습니다.";
     }
 
+    /**
+     * 응답에 AI가 생성한 텍스트가 있는지 확인
+     * @return 텍스트 존재 여부 (없으면 extractText는 기본 안내 문구를 반환)
+     */
+    public boolean hasText() {
+        try {
+            String text = candidates.get(0).getContent().getParts().get(0).getText();
+            return text != null && !text.isBlank();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public Integer promptTokenCount() {
+        return usageMetadata != null ? usageMetadata.getPromptTokenCount() : null;
+    }
+
+    // 컨텍스트 캐시에서 읽은 입력 토큰 수 (캐시를 쓰지 않았으면 null)
+    public Integer cachedContentTokenCount() {
+        return usageMetadata != null ? usageMetadata.getCachedContentTokenCount() : null;
+    }
+
+    public Integer candidatesTokenCount() {
+        return usageMetadata != null ? usageMetadata.getCandidatesTokenCount() : null;
+    }
+
     @Getter
     @NoArgsConstructor
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -48,4 +76,15 @@ public class GeminiResponse {
     public static class Part {
         private String text;
     }
-}
\ No newline at end of file
+
+    // 요청/응답 토큰 사용량
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class UsageMetadata {
+        private Integer promptTokenCount;
+        private Integer cachedContentTokenCount;
+        private Integer candidatesTokenCount;
+        private Integer totalTokenCount;
+    }
+}
@@ -0,0 +1,22 @@
+package com.samnammae.chatbot_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SessionStartResponse {
+    private String sessionId;
+    private boolean menuReady;  // 메뉴 스냅샷 적재 성공 여부
+    private boolean accepted;   // 활성 세션 상한으로 시작하지 못하면 false
+    private String message;     // 시작하지 못한 경우 음성으로 안내할 문구
+
+    public static SessionStartResponse started(String sessionId, boolean menuReady) {
+        return new SessionStartResponse(sessionId, menuReady, true, null);
+    }
+
+    // 대화 턴과 같은 방식으로 오류 대신 안내 문구를 정상 응답으로 전달
+    public static SessionStartResponse rejected(String sessionId, String message) {
+        return new SessionStartResponse(sessionId, false, false, message);
+    }
+}
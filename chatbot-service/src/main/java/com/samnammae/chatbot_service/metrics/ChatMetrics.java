@@ -0,0 +1,108 @@
+package com.samnammae.chatbot_service.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 챗봇 처리 단계별 지표 기록
+ * - 단계별 소요 시간은 stage 태그 하나로 구분한 타이머(히스토그램 포함)로 기록
+ * - 프롬프트/응답 크기와 토큰 수는 매장별 분포로 기록
+ * - 턴 요약 로그 샘플링 여부 결정
+ */
+@Component
+public class ChatMetrics {
+
+    public enum Stage {
+        HISTORY_LOAD("history_load"),
+        MENU_FETCH("menu_fetch"),
+        PROMPT_BUILD("prompt_build"),
+        GEMINI_CALL("gemini_call"),
+        ORDER_PLACEMENT("order_placement"),
+        PERSISTENCE("persistence");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final double logSampleRate;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+
+    @Autowired
+    public ChatMetrics(MeterRegistry registry,
+                       @Value("${chatbot.metrics.log-sample-rate:0.05}") double logSampleRate) {
+        this.registry = registry;
+        this.logSampleRate = logSampleRate;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("chatbot.stage.duration")
+                    .description("Chat turn stage latency")
+                    .tag("stage", stage.tagValue)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 단계 실행 시간 측정 (예외가 발생해도 기록)
+     */
+    public <T> T record(Stage stage, Supplier<T> supplier) {
+        return stageTimers.get(stage).record(supplier);
+    }
+
+    public void record(Stage stage, Runnable runnable) {
+        stageTimers.get(stage).record(runnable);
+    }
+
+    /**
+     * 프롬프트 크기 기록
+     * @param promptTokens Gemini가 집계한 입력 토큰 수 (응답에 없으면 null)
+     * @param cachedTokens 입력 토큰 중 컨텍스트 캐시에서 읽은 토큰 수 (캐시를 쓰지 않았으면 null)
+     */
+    public void recordPrompt(Long storeId, int promptChars, Integer promptTokens, Integer cachedTokens) {
+        summary("chatbot.prompt.chars", "characters", storeId).record(promptChars);
+        if (promptTokens != null) {
+            summary("chatbot.prompt.tokens", "tokens", storeId).record(promptTokens);
+        }
+        if (cachedTokens != null) {
+            summary("chatbot.prompt.cached_tokens", "tokens", storeId).record(cachedTokens);
+        }
+    }
+
+    /**
+     * 응답 크기 기록
+     * @param responseTokens Gemini가 집계한 출력 토큰 수 (응답에 없으면 null)
+     */
+    public void recordResponse(Long storeId, int responseChars, Integer responseTokens) {
+        summary("chatbot.response.chars", "characters", storeId).record(responseChars);
+        if (responseTokens != null) {
+            summary("chatbot.response.tokens", "tokens", storeId).record(responseTokens);
+        }
+    }
+
+    /**
+     * 턴 요약 로그를 남길지 결정 (설정한 비율만큼만 기록)
+     */
+    public boolean sampleTurnLog() {
+        return logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate;
+    }
+
+    // 매장 수만큼 시계열이 늘어나므로 매장별 분포는 히스토그램 없이 count/sum/max만 기록
+    private DistributionSummary summary(String name, String baseUnit, Long storeId) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("store", String.valueOf(storeId))
+                .register(registry);
+    }
+}
@@ -0,0 +1,137 @@
+package com.samnammae.chatbot_service.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 방식의 적응형 동시 실행 제한기
+ * - 응답이 기준 지연 시간 안에 오면 한도를 조금씩 늘리고 (additive increase)
+ * - 느리거나 실패하면 한도를 비율로 줄임 (multiplicative decrease)
+ * - 한도를 넘는 요청은 제한된 대기열에서 잠시 기다리며, 대기열이 가득 차면 즉시 거절
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final long maxQueueWaitMillis;
+    private final long latencyThresholdMillis;
+    private final double backoffRatio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      int maxQueueSize, long maxQueueWaitMillis,
+                                      long latencyThresholdMillis, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueWaitMillis = maxQueueWaitMillis;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 실행 권한 획득
+     * @return 획득 성공 여부 (대기열이 가득 찼거나 대기 시간이 지나면 false)
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueueSize) {
+                return false;
+            }
+
+            waiting++;
+            try {
+                long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMillis);
+                while (inFlight >= currentLimit()) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 성공 시 반환 (지연 시간이 기준을 넘으면 과부하로 판단)
+     */
+    public void onSuccess(long latencyMillis) {
+        release(latencyMillis <= latencyThresholdMillis ? Feedback.INCREASE : Feedback.DECREASE);
+    }
+
+    /**
+     * 호출 실패 또는 타임아웃 시 반환
+     */
+    public void onDropped() {
+        release(Feedback.DECREASE);
+    }
+
+    /**
+     * 한도 조정 없이 반환 (서킷 차단 등 호출 자체가 일어나지 않은 경우)
+     */
+    public void onIgnore() {
+        release(Feedback.NONE);
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Feedback feedback) {
+        lock.lock();
+        try {
+            // 한도의 절반 이상을 사용 중일 때만 증가시켜 유휴 상태에서 한도가 무한히 커지지 않도록 함
+            if (feedback == Feedback.INCREASE && inFlight * 2 >= currentLimit()) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            } else if (feedback == Feedback.DECREASE) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            }
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private enum Feedback {
+        INCREASE, DECREASE, NONE
+    }
+}
@@ -0,0 +1,47 @@
+package com.samnammae.chatbot_service.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건의 지연 시간을 보관하는 슬라이딩 윈도우
+ * 헤지 요청 대기 시간 등 동적 기준값을 백분위로 계산할 때 사용
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private long count;
+
+    public LatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+
+    public synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        count++;
+    }
+
+    /**
+     * 윈도우 내 백분위 지연 시간
+     * @param percentile 0 ~ 1 (e.g., 0.9 = p90)
+     * @return 지연 시간(ms), 기록이 없으면 0
+     */
+    public long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            int size = (int) Math.min(count, samples.length);
+            if (size == 0) {
+                return 0;
+            }
+            sorted = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,46 @@
+package com.samnammae.chatbot_service.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매장별 동시 호출 격벽
+ * - 한 매장이 전체 LLM 호출 한도를 독점하지 못하도록 매장마다 동시 호출 수를 제한 (대기 없이 즉시 판단)
+ * - 진행 중인 호출 수만 매장별로 기록하고 0이 되면 항목을 지우므로, 호출이 없는 매장은 메모리에 남지 않음
+ */
+public class StoreBulkhead {
+
+    private final int maxConcurrentPerStore;
+    private final Map<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    public StoreBulkhead(int maxConcurrentPerStore) {
+        this.maxConcurrentPerStore = maxConcurrentPerStore;
+    }
+
+    public boolean tryAcquire(Long storeId) {
+        AtomicBoolean acquired = new AtomicBoolean();
+        inFlight.compute(storeId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxConcurrentPerStore) {
+                return count;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+        return acquired.get();
+    }
+
+    public void release(Long storeId) {
+        inFlight.computeIfPresent(storeId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public int availablePermits(Long storeId) {
+        return maxConcurrentPerStore - inFlight.getOrDefault(storeId, 0);
+    }
+
+    // 진행 중인 호출이 있는 매장 수
+    public int trackedStores() {
+        return inFlight.size();
+    }
+}
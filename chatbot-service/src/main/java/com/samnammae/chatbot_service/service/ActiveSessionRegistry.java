@@ -0,0 +1,118 @@
+package com.samnammae.chatbot_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 매장별 활성 세션 관리 (인메모리)
+ * - 매장마다 동시에 진행 중인 대화 세션 수를 제한
+ * - 마지막 요청 이후 일정 시간이 지난 세션은 비활성으로 보고 제거
+ */
+@Slf4j
+@Component
+public class ActiveSessionRegistry {
+
+    private final int maxActivePerStore;
+    private final long idleTimeoutMs;
+    private final LongSupplier clock;
+
+    private final Map<Long, StoreSessions> stores = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ActiveSessionRegistry(@Value("${chatbot.session.max-active-per-store:30}") int maxActivePerStore,
+                                 @Value("${chatbot.session.idle-timeout-ms:600000}") long idleTimeoutMs) {
+        this(maxActivePerStore, idleTimeoutMs, System::currentTimeMillis);
+    }
+
+    ActiveSessionRegistry(int maxActivePerStore, long idleTimeoutMs, LongSupplier clock) {
+        this.maxActivePerStore = maxActivePerStore;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 세션 진입 (이미 활성 세션이면 마지막 접근 시간만 갱신)
+     * @return 매장의 활성 세션 수가 상한에 도달해 새 세션을 받을 수 없으면 false
+     */
+    public boolean tryEnter(Long storeId, String sessionId) {
+        StoreSessions sessions = stores.computeIfAbsent(storeId, id -> new StoreSessions());
+        return sessions.enter(sessionId, clock.getAsLong(), maxActivePerStore, idleTimeoutMs);
+    }
+
+    /**
+     * 세션 종료 (주문 완료 등)
+     */
+    public void leave(Long storeId, String sessionId) {
+        StoreSessions sessions = stores.get(storeId);
+        if (sessions != null) {
+            sessions.remove(sessionId);
+        }
+    }
+
+    public int getActiveCount(Long storeId) {
+        StoreSessions sessions = stores.get(storeId);
+        return sessions == null ? 0 : sessions.size();
+    }
+
+    // 새 세션 진입이 없는 매장도 주기적으로 비활성 세션 정리
+    @Scheduled(fixedDelayString = "${chatbot.session.idle-sweep-interval-ms:60000}")
+    public void evictIdleSessions() {
+        long now = clock.getAsLong();
+        stores.forEach((storeId, sessions) -> {
+            int evicted = sessions.evictIdle(now, idleTimeoutMs);
+            if (evicted > 0) {
+                log.debug("Evicted {} idle sessions. storeId: {}", evicted, storeId);
+            }
+        });
+    }
+
+    // 매장 단위 세션 목록 (접근 순서를 유지해 가장 오래된 세션부터 정리)
+    private static class StoreSessions {
+        private final LinkedHashMap<String, Long> lastSeen = new LinkedHashMap<>(16, 0.75f, true);
+
+        synchronized boolean enter(String sessionId, long now, int maxActive, long idleTimeoutMs) {
+            if (lastSeen.containsKey(sessionId)) {
+                lastSeen.put(sessionId, now);
+                return true;
+            }
+            if (lastSeen.size() >= maxActive) {
+                evictIdle(now, idleTimeoutMs);
+            }
+            if (lastSeen.size() >= maxActive) {
+                return false;
+            }
+            lastSeen.put(sessionId, now);
+            return true;
+        }
+
+        synchronized void remove(String sessionId) {
+            lastSeen.remove(sessionId);
+        }
+
+        synchronized int size() {
+            return lastSeen.size();
+        }
+
+        synchronized int evictIdle(long now, long idleTimeoutMs) {
+            int evicted = 0;
+            Iterator<Map.Entry<String, Long>> iterator = lastSeen.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().getValue() < idleTimeoutMs) {
+                    break;
+                }
+                iterator.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.samnammae.chatbot_service.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.samnammae.chatbot_service.domain.cart.Cart;
+import com.samnammae.chatbot_service.domain.cart.CartItem;
+import com.samnammae.chatbot_service.dto.request.OrderRequestDto;
+import com.samnammae.chatbot_service.dto.response.AssistantTurnDto;
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LLM 도구 호출을 장바구니에 반영하고, 메뉴 스냅샷 기준으로 가격을 계산
+ */
+@Slf4j
+@Service
+public class CartService {
+
+    public static final String PLACE_ORDER = "place_order";
+
+    private static final Set<String> ORDER_TYPES = Set.of("STORE", "TAKEOUT");
+    private static final Set<String> PAYMENT_METHODS = Set.of("CARD", "CASH");
+
+    /**
+     * 도구 호출 하나를 장바구니에 반영 (place_order는 호출 측에서 처리)
+     */
+    public void apply(Cart cart, AssistantTurnDto.ToolCall toolCall, MenuSnapshot menuSnapshot) {
+        JsonNode args = toolCall.getArgs() != null ? toolCall.getArgs() : MissingNode.getInstance();
+
+        switch (String.valueOf(toolCall.getName())) {
+            case "add_item" -> addItem(cart, args.path("menuId").asLong(), args.path("quantity").asInt(1), menuSnapshot);
+            case "set_option" -> setOption(cart, args.path("line").asInt(), args.path("optionCategoryId").asLong(),
+                    toLongList(args.path("optionIds")), menuSnapshot);
+            case "set_quantity" -> setQuantity(cart, args.path("line").asInt(), args.path("quantity").asInt());
+            case "remove_item" -> {
+                if (!cart.removeItem(args.path("line").asInt())) {
+                    throw new CustomException(ErrorCode.CART_ITEM_NOT_FOUND);
+                }
+            }
+            case "set_order_info" -> setOrderInfo(cart, textOrNull(args, "orderType"), textOrNull(args, "paymentMethod"));
+            case "clear_cart" -> cart.clear();
+            default -> log.warn("Unknown tool call ignored: {}", toolCall.getName());
+        }
+    }
+
+    /**
+     * 한 턴의 도구 호출을 장바구니 복사본에 차례로 반영해 반환 (place_order는 건너뜀)
+     * 중간에 실패하면 예외가 그대로 전파되고 원래 장바구니는 바뀌지 않으므로 일부만 반영된 장바구니가 남지 않음
+     */
+    public Cart applyAll(Cart cart, List<AssistantTurnDto.ToolCall> toolCalls, MenuSnapshot menuSnapshot) {
+        Cart draft = cart.copy();
+        for (AssistantTurnDto.ToolCall toolCall : toolCalls) {
+            if (!PLACE_ORDER.equals(toolCall.getName())) {
+                apply(draft, toolCall, menuSnapshot);
+            }
+        }
+        return draft;
+    }
+
+    /**
+     * 장바구니로 주문 요청 생성 (최신 메뉴 기준 검증과 가격 보정은 OrderValidator에서 수행)
+     */
+    public OrderRequestDto toOrderRequest(Cart cart, Long storeId, String storeName) {
+        if (cart.isEmpty()) {
+            throw new CustomException(ErrorCode.CART_EMPTY);
+        }
+        if (cart.getOrderType() == null || cart.getPaymentMethod() == null) {
+            throw new CustomException(ErrorCode.CART_ORDER_INFO_MISSING);
+        }
+
+        List<OrderRequestDto.OrderItemDto> items = new ArrayList<>();
+        for (CartItem item : cart.getItems()) {
+            Map<Long, List<Long>> selectedOptions = new LinkedHashMap<>();
+            item.getSelectedOptions().forEach((categoryId, optionIds) -> selectedOptions.put(categoryId, List.copyOf(optionIds)));
+
+            items.add(new OrderRequestDto.OrderItemDto(
+                    item.getMenuId(), item.getMenuName(), item.getBasePrice(), selectedOptions,
+                    item.getOptionPrice(), item.getQuantity(), item.getTotalPrice()));
+        }
+
+        return new OrderRequestDto(storeId, storeName, cart.getOrderType(), cart.getPaymentMethod(),
+                items, cart.getTotalAmount(), cart.getTotalItems());
+    }
+
+    private void addItem(Cart cart, Long menuId, int quantity, MenuSnapshot menuSnapshot) {
+        MenuWithOptionsResponseDto.MenuDetail menu = findMenu(menuSnapshot, menuId);
+        if (menu.isSoldOut()) {
+            throw new CustomException(ErrorCode.CART_MENU_SOLD_OUT);
+        }
+        validateQuantity(quantity);
+        cart.addItem(menu.getId(), menu.getName(), menu.getPrice(), quantity);
+    }
+
+    private void setOption(Cart cart, int line, Long optionCategoryId, List<Long> optionIds, MenuSnapshot menuSnapshot) {
+        CartItem item = findItem(cart, line);
+        MenuWithOptionsResponseDto.MenuDetail menu = findMenu(menuSnapshot, item.getMenuId());
+
+        MenuWithOptionsResponseDto.OptionCategory category = MenuSnapshot.findOptionCategory(menu, optionCategoryId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CART_INVALID_OPTION));
+        if ("SINGLE".equals(category.getType()) && optionIds.size() > 1) {
+            throw new CustomException(ErrorCode.CART_SINGLE_OPTION_ONLY);
+        }
+        for (Long optionId : optionIds) {
+            if (MenuSnapshot.findOption(category, optionId).isEmpty()) {
+                throw new CustomException(ErrorCode.CART_INVALID_OPTION);
+            }
+        }
+
+        item.selectOptions(optionCategoryId, optionIds.stream().distinct().toList());
+        reprice(item, menu);
+    }
+
+    private void setQuantity(Cart cart, int line, int quantity) {
+        validateQuantity(quantity);
+        findItem(cart, line).changeQuantity(quantity);
+    }
+
+    private void setOrderInfo(Cart cart, String orderType, String paymentMethod) {
+        if ((orderType != null && !ORDER_TYPES.contains(orderType))
+                || (paymentMethod != null && !PAYMENT_METHODS.contains(paymentMethod))) {
+            throw new CustomException(ErrorCode.CART_INVALID_ORDER_INFO);
+        }
+        cart.updateOrderInfo(orderType, paymentMethod);
+    }
+
+    // 메뉴 기본가와 선택 옵션 가격을 메뉴 스냅샷에서 다시 계산
+    private void reprice(CartItem item, MenuWithOptionsResponseDto.MenuDetail menu) {
+        int optionPrice = 0;
+        for (Map.Entry<Long, List<Long>> selection : item.getSelectedOptions().entrySet()) {
+            MenuWithOptionsResponseDto.OptionCategory category = MenuSnapshot.findOptionCategory(menu, selection.getKey())
+                    .orElseThrow(() -> new CustomException(ErrorCode.CART_INVALID_OPTION));
+            for (Long optionId : selection.getValue()) {
+                optionPrice += MenuSnapshot.findOption(category, optionId)
+                        .orElseThrow(() -> new CustomException(ErrorCode.CART_INVALID_OPTION))
+                        .getPrice();
+            }
+        }
+        item.updatePrices(menu.getPrice(), optionPrice);
+    }
+
+    private MenuWithOptionsResponseDto.MenuDetail findMenu(MenuSnapshot menuSnapshot, Long menuId) {
+        return menuSnapshot.findMenu(menuId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CART_MENU_NOT_FOUND));
+    }
+
+    private CartItem findItem(Cart cart, int line) {
+        return cart.findItem(line)
+                .orElseThrow(() -> new CustomException(ErrorCode.CART_ITEM_NOT_FOUND));
+    }
+
+    private void validateQuantity(int quantity) {
+        if (quantity < 1) {
+            throw new CustomException(ErrorCode.CART_INVALID_QUANTITY);
+        }
+    }
+
+    private List<Long> toLongList(JsonNode node) {
+        List<Long> values = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(value -> values.add(value.asLong()));
+        } else if (!node.isMissingNode() && !node.isNull()) {
+            values.add(node.asLong());
+        }
+        return values;
+    }
+
+    private String textOrNull(JsonNode args, String field) {
+        JsonNode value = args.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
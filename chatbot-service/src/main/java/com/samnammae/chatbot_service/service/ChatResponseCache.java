@@ -0,0 +1,163 @@
+package com.samnammae.chatbot_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 매장별 첫 질문 응답 캐시
+ * - 대화 맥락이 없는 첫 턴 질문만 대상으로 하며, 정규화된 질문 문자열을 키로 사용
+ * - 매장마다 LRU로 크기를 제한하고, 메뉴 버전이 바뀌면 해당 매장 캐시 전체를 폐기
+ */
+@Slf4j
+@Component
+public class ChatResponseCache {
+
+    // 공백과 문장부호 제거용 (문자, 숫자만 남김)
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    // 같은 의미의 구어체 어미를 하나의 형태로 정규화 (긴 어미부터 검사)
+    private static final String[][] ENDINGS = {
+            {"주시겠어요", "줘"},
+            {"주실래요", "줘"},
+            {"주세요", "줘"},
+            {"줄래요", "줘"},
+            {"줄래", "줘"},
+            {"줘요", "줘"},
+            {"있습니까", "있어"},
+            {"있나요", "있어"},
+            {"있어요", "있어"},
+            {"뭐예요", "뭐야"},
+            {"뭐에요", "뭐야"},
+            {"뭔가요", "뭐야"},
+            {"인가요", "야"},
+            {"입니까", "야"},
+            {"이에요", "야"},
+            {"예요", "야"}
+    };
+
+    private final boolean enabled;
+    private final int maxEntriesPerStore;
+    private final int maxQuestionLength;
+
+    private final Map<Long, StoreEntry> stores = new ConcurrentHashMap<>();
+
+    public ChatResponseCache(@Value("${chatbot.response-cache.enabled:true}") boolean enabled,
+                             @Value("${chatbot.response-cache.max-entries-per-store:200}") int maxEntriesPerStore,
+                             @Value("${chatbot.response-cache.max-question-length:100}") int maxQuestionLength) {
+        this.enabled = enabled;
+        this.maxEntriesPerStore = maxEntriesPerStore;
+        this.maxQuestionLength = maxQuestionLength;
+    }
+
+    /**
+     * 캐시된 응답 조회
+     * @param storeId 매장 ID
+     * @param menuVersion 현재 메뉴 버전
+     * @param question 사용자 질문 원문
+     * @return 캐시된 AI 응답 (없거나 메뉴 버전이 다르면 empty)
+     */
+    public Optional<String> get(Long storeId, String menuVersion, String question) {
+        String key = keyOf(question);
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        StoreEntry entry = stores.get(storeId);
+        if (entry == null || !entry.menuVersion.equals(menuVersion)) {
+            return Optional.empty();
+        }
+
+        String answer = entry.get(key);
+        if (answer != null) {
+            log.debug("Response cache hit. storeId: {}, key: {}", storeId, key);
+        }
+        return Optional.ofNullable(answer);
+    }
+
+    /**
+     * 응답 저장
+     * 메뉴 버전이 바뀐 경우 기존 매장 캐시를 버리고 새로 시작
+     */
+    public void put(Long storeId, String menuVersion, String question, String answer) {
+        String key = keyOf(question);
+        if (key == null || answer == null || answer.isBlank()) {
+            return;
+        }
+
+        StoreEntry entry = stores.compute(storeId, (id, current) ->
+                current == null || !current.menuVersion.equals(menuVersion)
+                        ? new StoreEntry(menuVersion, maxEntriesPerStore)
+                        : current);
+        entry.put(key, answer);
+    }
+
+    /**
+     * 특정 매장 캐시 폐기
+     */
+    public void evict(Long storeId) {
+        stores.remove(storeId);
+    }
+
+    // 캐시 키 생성 (캐시 비활성화 또는 캐시 대상이 아니면 null)
+    private String keyOf(String question) {
+        if (!enabled || question == null) {
+            return null;
+        }
+        String key = normalize(question);
+        if (key.isEmpty() || key.length() > maxQuestionLength) {
+            return null;
+        }
+        return key;
+    }
+
+    /**
+     * 질문 정규화
+     * - 유니코드 NFC 정규화 및 소문자 변환
+     * - 공백, 문장부호 제거
+     * - 같은 의미의 문장 끝 어미 통일
+     */
+    static String normalize(String question) {
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        normalized = NON_WORD.matcher(normalized).replaceAll("");
+
+        for (String[] ending : ENDINGS) {
+            if (normalized.endsWith(ending[0])) {
+                return normalized.substring(0, normalized.length() - ending[0].length()) + ending[1];
+            }
+        }
+        return normalized;
+    }
+
+    // 매장 단위 LRU 캐시
+    private static class StoreEntry {
+        private final String menuVersion;
+        private final Map<String, String> answers;
+
+        StoreEntry(String menuVersion, int maxEntries) {
+            this.menuVersion = menuVersion;
+            this.answers = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized String get(String key) {
+            return answers.get(key);
+        }
+
+        synchronized void put(String key, String answer) {
+            answers.put(key, answer);
+        }
+    }
+}
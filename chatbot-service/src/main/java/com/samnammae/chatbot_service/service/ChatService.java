@@ -2,27 +2,27 @@ package com.samnammae.chatbot_service.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.samnammae.chatbot_service.client.GeminiClient;
 import com.samnammae.chatbot_service.client.OrderServiceClient;
 import com.samnammae.chatbot_service.domain.conversation.Conversation;
 import com.samnammae.chatbot_service.domain.conversation.ConversationRepository;
 import com.samnammae.chatbot_service.domain.message.Message;
 import com.samnammae.chatbot_service.dto.request.GeminiRequest;
 import com.samnammae.chatbot_service.dto.request.OrderRequestDto;
+import com.samnammae.chatbot_service.dto.response.AssistantTurnDto;
 import com.samnammae.chatbot_service.dto.response.ChatResponse;
 import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.dto.response.SessionStartResponse;
+import com.samnammae.chatbot_service.metrics.ChatMetrics;
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -30,114 +30,216 @@ import java.util.Optional;
 public class ChatService {
 
     private final ConversationRepository conversationRepository;
+    private final MenuSnapshotService menuSnapshotService;
     private final GeminiPromptService geminiPromptService;
-    private final GeminiClient geminiClient;
+    private final CartService cartService;
+    private final OrderValidator orderValidator;
+    private final GeminiCallService geminiCallService;
     private final OrderServiceClient orderServiceClient;
+    private final ChatResponseCache chatResponseCache;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final ChatMetrics chatMetrics;
     private final ObjectMapper objectMapper;
 
-    // 매장 권한 검증 메서드
-    public void validateStoreAccess(Long storeId, String managedStoreIds) {
-        List<Long> accessibleStoreIds = Arrays.stream(managedStoreIds.split(","))
-                .map(Long::parseLong)
-                .toList();
+    @Value("${chatbot.session.warm-up-llm:true}")
+    private boolean warmUpLlm;
+
+    private static final String DEFAULT_REPLY = "네, 알겠습니다.";
+
+    /**
+     * 음성 모드 진입 시 세션 사전 준비
+     * - 대화 기록을 미리 만들어 두어 첫 턴에서 조회, 생성 비용을 없앰
+     * - 매장 메뉴 스냅샷(프롬프트 텍스트 포함)을 세션에 고정해 첫 발화까지 유지
+     * - 필요하면 LLM 접두부 캐시를 비동기로 준비 (응답 생성은 하지 않음)
+     * - 활성 세션 상한 초과 시 대화 턴과 마찬가지로 오류 대신 안내 문구를 응답 (accepted=false)
+     * @param sessionId 키오스크가 정한 세션 ID (없으면 생성)
+     * @param warmUp LLM 사전 준비 여부 (null이면 서버 설정 사용)
+     */
+    public SessionStartResponse startSession(Long storeId, String sessionId, Boolean warmUp) {
+        String id = sessionId == null || sessionId.isBlank() ? UUID.randomUUID().toString() : sessionId;
+
+        if (!activeSessionRegistry.tryEnter(storeId, id)) {
+            log.info("Active session limit reached. storeId: {}", storeId);
+            return SessionStartResponse.rejected(id, ErrorCode.CHATBOT_SESSION_LIMIT.getMessage());
+        }
 
-        if (!accessibleStoreIds.contains(storeId)) {
-            throw new CustomException(ErrorCode.STORE_ACCESS_DENIED);
+        Conversation conversation = chatMetrics.record(ChatMetrics.Stage.HISTORY_LOAD,
+                () -> conversationRepository.findBySessionId(id))
+                .orElse(null);
+        if (conversation == null) {
+            conversation = new Conversation(id, storeId);
+            save(conversation);
         }
+
+        MenuSnapshot menuSnapshot = chatMetrics.record(ChatMetrics.Stage.MENU_FETCH,
+                () -> menuSnapshotService.getSnapshot(storeId, id));
+
+        if ((warmUp != null ? warmUp : warmUpLlm) && menuSnapshot.isAvailable()) {
+            GeminiRequest geminiRequest = geminiPromptService.createRequest(menuSnapshot, conversation);
+            // 첫 턴과 이후 턴이 사용하는 모델 모두 준비
+            geminiCallService.warmUp(geminiRequest, LlmRouter.Route.SIMPLE);
+            geminiCallService.warmUp(geminiRequest, LlmRouter.Route.DEFAULT);
+        }
+
+        return SessionStartResponse.started(id, menuSnapshot.isAvailable());
     }
 
     @Transactional
-    public ChatResponse processChat(Long storeId, String sessionId, String userMessage, String managedStoreIds, String storeName) {
-        log.info("Processing chat for storeId: {}, sessionId: {}, userMessage: {}", storeId, sessionId, userMessage);
+    public ChatResponse processChat(Long storeId, String sessionId, String userMessage, String storeName) {
+        long startedAt = System.nanoTime();
+
+        // 매장별 활성 세션 상한 초과 시 대화 기록을 만들지 않고 안내만 반환
+        if (!activeSessionRegistry.tryEnter(storeId, sessionId)) {
+            log.info("Active session limit reached. storeId: {}", storeId);
+            return new ChatResponse(sessionId, ErrorCode.CHATBOT_SESSION_LIMIT.getMessage());
+        }
 
         // 1. 대화 기록 조회 또는 생성
-        Conversation conversation = conversationRepository.findBySessionId(sessionId)
-                .orElseGet(() -> new Conversation(sessionId));
+        Conversation conversation = chatMetrics.record(ChatMetrics.Stage.HISTORY_LOAD,
+                () -> conversationRepository.findBySessionId(sessionId))
+                .orElseGet(() -> new Conversation(sessionId, storeId));
+
+        // 대화 맥락이 없는 첫 질문만 응답 캐시 대상
+        boolean firstTurn = conversation.getMessages().isEmpty();
 
         // 2. 현재 사용자 메시지를 대화 기록에 추가
         conversation.addMessage(Message.of("USER", userMessage));
 
-        // 3. Gemini에 보낼 프롬프트 생성
-        String prompt = geminiPromptService.createPrompt(storeId, conversation, managedStoreIds);
-        log.debug("Generated prompt: {}", prompt);
+        // 3. 세션에 고정된 메뉴 스냅샷 조회 후 캐시된 응답이 있으면 Gemini 호출 생략
+        MenuSnapshot menuSnapshot = chatMetrics.record(ChatMetrics.Stage.MENU_FETCH,
+                () -> menuSnapshotService.getSnapshot(storeId, sessionId));
+        boolean cacheable = firstTurn && menuSnapshot.isAvailable();
+
+        if (cacheable) {
+            Optional<String> cachedAnswer = chatResponseCache.get(storeId, menuSnapshot.getVersion(), userMessage);
+            if (cachedAnswer.isPresent()) {
+                conversation.addMessage(Message.of("AI", cachedAnswer.get()));
+                save(conversation);
+                logTurn(storeId, sessionId, "cache_hit", 0, null, startedAt);
+                return new ChatResponse(conversation.getSessionId(), cachedAnswer.get());
+            }
+        }
+
+        // 4. Gemini에 보낼 프롬프트 생성 후 API 호출하여 AI의 원본 응답 받기
+        GeminiRequest geminiRequest = chatMetrics.record(ChatMetrics.Stage.PROMPT_BUILD,
+                () -> geminiPromptService.createRequest(menuSnapshot, conversation));
+        int promptLength = geminiRequest.getPromptLength();
 
-        // 4. Gemini API 호출하여 AI의 원본 응답 받기
-        GeminiResponse geminiResponse = geminiClient.call(new GeminiRequest(prompt));
+        GeminiResponse geminiResponse;
+        try {
+            // 맥락 없는 첫 질문은 가벼운 모델 라우트 사용
+            LlmRouter.Route route = firstTurn ? LlmRouter.Route.SIMPLE : LlmRouter.Route.DEFAULT;
+            geminiResponse = chatMetrics.record(ChatMetrics.Stage.GEMINI_CALL,
+                    () -> geminiCallService.call(storeId, geminiRequest, route));
+        } catch (CustomException e) {
+            // LLM 과부하 또는 장애 시 음성으로 안내할 대체 응답
+            String fallbackMessage = e.getErrorCode().getMessage();
+            conversation.addMessage(Message.of("AI", fallbackMessage));
+            save(conversation);
+            chatMetrics.recordPrompt(storeId, promptLength, null, null);
+            logTurn(storeId, sessionId, e.getErrorCode().name(), promptLength, null, startedAt);
+            return new ChatResponse(conversation.getSessionId(), fallbackMessage);
+        }
         String aiRawResponse = geminiResponse.extractText();
-        log.info("Gemini raw response: {}", aiRawResponse);
+        chatMetrics.recordPrompt(storeId, promptLength,
+                geminiResponse.promptTokenCount(), geminiResponse.cachedContentTokenCount());
+        chatMetrics.recordResponse(storeId, aiRawResponse.length(), geminiResponse.candidatesTokenCount());
 
-        // 5. AI 응답 분석 후 최종 메시지 결정
+        // 5. AI 응답의 도구 호출을 장바구니에 반영한 뒤 최종 메시지 결정
+        AssistantTurnDto turn = parseTurn(aiRawResponse);
         String finalAiMessage;
-        Optional<OrderRequestDto> orderRequestOpt = parseOrderAction(aiRawResponse, storeId, storeName);
-
-        if (orderRequestOpt.isPresent()) {
-            log.info("Order action detected, processing order...");
-            // 5-1. 주문 요청인 경우: Order Service 호출
-            OrderRequestDto orderRequest = orderRequestOpt.get();
-            log.info("Order request details: {}", orderRequest);
-
-            try {
-                var orderApiResponse = orderServiceClient.placeOrder(orderRequest);
-                log.info("Order service response: {}", orderApiResponse);
-                finalAiMessage = "주문이 완료되었습니다. 주문번호는 " + orderApiResponse.getData().getOrderNumber() + "입니다.";
-            } catch (Exception e) {
-                log.error("Failed to place order", e);
-                finalAiMessage = "주문 처리 중 오류가 발생했습니다. 다시 시도해 주세요.";
-            }
-        } else {
-            log.info("Regular conversation, using Gemini response as is");
+
+        try {
+            // 모든 도구 호출이 성공한 경우에만 장바구니 교체 (하나라도 거절되면 이번 턴의 변경은 모두 버림)
+            conversation.replaceCart(cartService.applyAll(conversation.getCart(), turn.getToolCalls(), menuSnapshot));
+            boolean placeOrder = turn.getToolCalls().stream()
+                    .anyMatch(toolCall -> CartService.PLACE_ORDER.equals(toolCall.getName()));
+
+            // 5-1. 주문 요청인 경우: 장바구니로 주문을 만들어 Order Service 호출
             // 5-2. 일반 대화인 경우: Gemini 응답 그대로 사용
-            finalAiMessage = aiRawResponse;
+            if (placeOrder) {
+                finalAiMessage = placeOrder(conversation, menuSnapshot, storeId, storeName);
+            } else {
+                finalAiMessage = turn.getReply() == null || turn.getReply().isBlank() ? DEFAULT_REPLY : turn.getReply();
+            }
+        } catch (CustomException e) {
+            // 장바구니에 반영할 수 없는 요청은 AI 응답 대신 이유를 안내 (이번 턴의 장바구니 변경은 반영되지 않음)
+            log.info("Tool call rejected: {}", e.getErrorCode());
+            finalAiMessage = e.getErrorCode().getMessage();
+        }
+
+        // 장바구니를 바꾸지 않은 정상 응답만 캐시에 저장
+        if (cacheable && geminiResponse.hasText() && turn.getToolCalls().isEmpty()) {
+            chatResponseCache.put(storeId, menuSnapshot.getVersion(), userMessage, finalAiMessage);
         }
 
         // 6. 최종 AI 응답을 대화 기록에 저장
         conversation.addMessage(Message.of("AI", finalAiMessage));
-        conversationRepository.save(conversation);
+        save(conversation);
 
-        log.info("Final AI message: {}", finalAiMessage);
+        logTurn(storeId, sessionId, turn.getToolCalls().isEmpty() ? "reply" : "tool_calls",
+                promptLength, geminiResponse.promptTokenCount(), startedAt);
         // 7. 클라이언트에 전달할 최종 응답 생성
         return new ChatResponse(conversation.getSessionId(), finalAiMessage);
     }
 
-    // Gemini가 반환한 텍스트가 주문을 위한 JSON 액션인지 파싱하는 헬퍼 메소드
-    private Optional<OrderRequestDto> parseOrderAction(String textResponse, Long storeId, String storeName) {
-        log.debug("Parsing order action from response: {}", textResponse);
+    // 장바구니 기준으로 주문을 생성하고 결과 안내 문구 반환
+    private String placeOrder(Conversation conversation, MenuSnapshot menuSnapshot, Long storeId, String storeName) {
+        OrderRequestDto cartOrder = cartService.toOrderRequest(conversation.getCart(), storeId, storeName);
+
+        // order-service 호출 전 메뉴 스냅샷으로 사전 검증 (가격은 자동 보정, 사용자가 골라야 하는 내용만 질문)
+        OrderValidator.Result validation = orderValidator.validate(cartOrder, menuSnapshot);
+        if (!validation.isValid()) {
+            log.info("Order pre-validation requires user input: {}", validation.getQuestion());
+            return validation.getQuestion();
+        }
+        OrderRequestDto orderRequest = validation.getOrder();
+
+        try {
+            var orderApiResponse = chatMetrics.record(ChatMetrics.Stage.ORDER_PLACEMENT,
+                    () -> orderServiceClient.placeOrder(orderRequest));
+            log.info("Order placed. storeId: {}, orderNumber: {}", storeId, orderApiResponse.getData().getOrderNumber());
+            conversation.getCart().clear();
+            // 주문 완료 세션은 보관 대상으로 표시하고 활성 세션에서 제외
+            conversation.complete();
+            activeSessionRegistry.leave(storeId, conversation.getSessionId());
+            menuSnapshotService.release(conversation.getSessionId());
+            return "주문이 완료되었습니다. 주문번호는 " + orderApiResponse.getData().getOrderNumber() + "입니다.";
+        } catch (Exception e) {
+            log.error("Failed to place order", e);
+            return "주문 처리 중 오류가 발생했습니다. 다시 시도해 주세요.";
+        }
+    }
+
+    private void save(Conversation conversation) {
+        chatMetrics.record(ChatMetrics.Stage.PERSISTENCE, () -> conversationRepository.save(conversation));
+    }
+
+    // 샘플링된 턴만 요약 로그 기록 (메시지 원문과 프롬프트는 남기지 않음)
+    private void logTurn(Long storeId, String sessionId, String outcome, int promptChars, Integer promptTokens, long startedAt) {
+        if (chatMetrics.sampleTurnLog()) {
+            log.info("chat_turn storeId={} sessionId={} outcome={} promptChars={} promptTokens={} elapsedMs={}",
+                    storeId, sessionId, outcome, promptChars, promptTokens, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
 
+    // Gemini가 반환한 텍스트를 응답 문장과 도구 호출로 파싱하는 헬퍼 메소드
+    private AssistantTurnDto parseTurn(String textResponse) {
         // markdown 코드 블록 제거
         String cleanedResponse = textResponse
                 .replaceAll("```json\\s*", "")  // ```json 제거
                 .replaceAll("```\\s*", "")      // ``` 제거
                 .trim();
 
-        log.debug("Cleaned response for JSON parsing: {}", cleanedResponse);
+        if (!cleanedResponse.startsWith("{")) {
+            return AssistantTurnDto.replyOnly(textResponse);
+        }
 
         try {
-            GeminiOrderActionDto actionDto = objectMapper.readValue(cleanedResponse, GeminiOrderActionDto.class);
-            log.debug("Parsed action DTO: action={}, order_details={}", actionDto.getAction(), actionDto.getOrder_details());
-
-            if ("PLACE_ORDER".equals(actionDto.getAction()) && actionDto.getOrder_details() != null) {
-                log.info("Valid order action found");
-                OrderRequestDto orderRequest = actionDto.getOrder_details();
-
-                // 요청에서 받은 매장 정보 주입
-                orderRequest.setStoreId(storeId);
-                orderRequest.setStoreName(storeName);
-
-                return Optional.of(orderRequest);
-            } else {
-                log.debug("Not a valid order action: action={}", actionDto.getAction());
-            }
+            return objectMapper.readValue(cleanedResponse, AssistantTurnDto.class);
         } catch (JsonProcessingException e) {
-            log.debug("Failed to parse as JSON order action, treating as regular text: {}", e.getMessage());
+            log.debug("Failed to parse as JSON turn, treating as regular text: {}", e.getMessage());
+            return AssistantTurnDto.replyOnly(textResponse);
         }
-        return Optional.empty();
-    }
-
-    // Gemini의 주문 액션 응답을 파싱하기 위한 내부 DTO
-    @Getter
-    @NoArgsConstructor
-    private static class GeminiOrderActionDto {
-        private String action;
-        private OrderRequestDto order_details;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package com.samnammae.chatbot_service.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.chatbot_service.domain.archive.ArchivedSession;
+import com.samnammae.chatbot_service.domain.archive.ConversationArchive;
+import com.samnammae.chatbot_service.domain.conversation.Conversation;
+import com.samnammae.chatbot_service.domain.conversation.ConversationRepository;
+import com.samnammae.chatbot_service.domain.message.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 완료된 대화 보관 서비스
+ * - 주문이 완료된 세션을 conversations 컬렉션에서 꺼내 매장/일자 버킷 문서로 옮김
+ * - 메시지 목록은 GZIP 압축 JSON으로 저장해 보관 용량을 줄임
+ * - 주문 없이 방치된 세션은 updatedAt TTL 인덱스로 삭제되므로 여기서 다루지 않음
+ * - 여러 인스턴스가 함께 실행되므로 세션마다 archivingAt을 findAndModify로 선점한 인스턴스만 보관하고,
+ *   버킷 추가 후 원본 삭제 전에 중단된 세션은 이미 보관된 세션인지 확인해 다시 추가하지 않음
+ */
+@Slf4j
+@Service
+public class ConversationArchiveService {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final TypeReference<List<Message>> MESSAGE_LIST = new TypeReference<>() {};
+
+    private final ConversationRepository conversationRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long graceMinutes;
+    private final int maxSessionsPerBucket;
+    private final long claimTimeoutMinutes;
+
+    public ConversationArchiveService(ConversationRepository conversationRepository,
+                                      MongoTemplate mongoTemplate,
+                                      ObjectMapper objectMapper,
+                                      @Value("${chatbot.session.archive.batch-size:200}") int batchSize,
+                                      @Value("${chatbot.session.archive.grace-minutes:5}") long graceMinutes,
+                                      @Value("${chatbot.session.archive.max-sessions-per-bucket:500}") int maxSessionsPerBucket,
+                                      @Value("${chatbot.session.archive.claim-timeout-minutes:10}") long claimTimeoutMinutes) {
+        this.conversationRepository = conversationRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.graceMinutes = graceMinutes;
+        this.maxSessionsPerBucket = maxSessionsPerBucket;
+        this.claimTimeoutMinutes = claimTimeoutMinutes;
+    }
+
+    /**
+     * 완료 후 유예 시간이 지난 세션을 배치 단위로 보관
+     * 유예 시간은 주문 완료 직후 이어지는 요청과 보관 작업이 겹치지 않도록 하기 위함
+     */
+    @Scheduled(fixedDelayString = "${chatbot.session.archive.interval-ms:60000}")
+    public void archiveCompletedSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(graceMinutes);
+        int archived = 0;
+
+        try {
+            List<Conversation> completed;
+            do {
+                completed = conversationRepository.findArchivable(cutoff, staleClaimBefore(),
+                        PageRequest.of(0, batchSize));
+                for (Conversation conversation : completed) {
+                    if (archive(conversation)) {
+                        archived++;
+                    }
+                }
+            } while (completed.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Conversation archiving stopped after {} sessions", archived, e);
+            return;
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} completed conversations", archived);
+        }
+    }
+
+    /**
+     * 세션 하나를 아직 여유가 있는 버킷에 추가한 뒤 원본 삭제 (여유 버킷이 없으면 upsert로 새 버킷 생성)
+     * @return 다른 인스턴스가 먼저 선점해 건너뛰었으면 false
+     */
+    boolean archive(Conversation conversation) {
+        if (!claim(conversation)) {
+            return false;
+        }
+
+        String day = conversation.getCompletedAt().format(DAY_FORMAT);
+        Query archived = Query.query(Criteria.where("storeId").is(conversation.getStoreId())
+                .and("day").is(day)
+                .and("sessions.sessionId").is(conversation.getSessionId()));
+        if (!mongoTemplate.exists(archived, ConversationArchive.class)) {
+            push(conversation, day);
+        }
+        conversationRepository.delete(conversation);
+        return true;
+    }
+
+    // 선점 표시가 없거나 오래된(보관 중 중단된) 세션만 선점
+    private boolean claim(Conversation conversation) {
+        Query claimable = Query.query(Criteria.where("_id").is(conversation.getId())
+                .orOperator(Criteria.where("archivingAt").is(null), Criteria.where("archivingAt").lt(staleClaimBefore())));
+        return mongoTemplate.findAndModify(claimable, Update.update("archivingAt", LocalDateTime.now()),
+                Conversation.class) != null;
+    }
+
+    private void push(Conversation conversation, String day) {
+        ArchivedSession session = new ArchivedSession(
+                conversation.getSessionId(),
+                conversation.getCreatedAt(),
+                conversation.getCompletedAt(),
+                conversation.getMessages().size(),
+                compress(conversation.getMessages())
+        );
+
+        Query bucket = Query.query(Criteria.where("storeId").is(conversation.getStoreId())
+                .and("day").is(day)
+                .and("sessionCount").lt(maxSessionsPerBucket));
+        Update update = new Update()
+                .push("sessions", session)
+                .inc("sessionCount", 1);
+
+        mongoTemplate.upsert(bucket, update, ConversationArchive.class);
+    }
+
+    private LocalDateTime staleClaimBefore() {
+        return LocalDateTime.now().minusMinutes(claimTimeoutMinutes);
+    }
+
+    /**
+     * 보관된 세션의 메시지 목록 복원 (분석용)
+     */
+    public List<Message> readMessages(ArchivedSession session) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(session.getMessages()))) {
+            return objectMapper.readValue(in, MESSAGE_LIST);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    byte[] compress(List<Message> messages) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,83 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.resilience.AdaptiveConcurrencyLimiter;
+import com.samnammae.chatbot_service.resilience.StoreBulkhead;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Gemini 호출 보호 계층
+ * 매장별 격벽 -> 적응형 동시 실행 제한 -> 서킷 브레이커 순서로 호출을 감싸며,
+ * 거절되거나 실패한 호출은 CustomException으로 변환해 호출 측에서 음성 안내 문구로 응답하도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeminiCallService {
+
+    private final LlmRouter llmRouter;
+    private final StoreBulkhead geminiStoreBulkhead;
+    private final AdaptiveConcurrencyLimiter geminiConcurrencyLimiter;
+    private final CircuitBreaker geminiCircuitBreaker;
+
+    public GeminiResponse call(Long storeId, GeminiRequest request, LlmRouter.Route route) {
+        // 1. 매장별 동시 호출 한도 확인 (한 매장이 전체 한도를 독점하지 못하도록)
+        if (!geminiStoreBulkhead.tryAcquire(storeId)) {
+            log.warn("Gemini call rejected by store bulkhead. storeId: {}", storeId);
+            throw new CustomException(ErrorCode.CHATBOT_OVERLOADED);
+        }
+
+        try {
+            // 2. 전체 동시 실행 한도 확인 (대기열이 가득 차면 즉시 거절)
+            if (!acquireLimiter()) {
+                log.warn("Gemini call rejected by concurrency limiter. storeId: {}, limit: {}",
+                        storeId, geminiConcurrencyLimiter.getLimit());
+                throw new CustomException(ErrorCode.CHATBOT_OVERLOADED);
+            }
+
+            // 3. 서킷 브레이커를 거쳐 실제 호출
+            long startedAt = System.nanoTime();
+            try {
+                GeminiResponse response = geminiCircuitBreaker.executeSupplier(() -> llmRouter.generate(request, route));
+                geminiConcurrencyLimiter.onSuccess((System.nanoTime() - startedAt) / 1_000_000);
+                return response;
+            } catch (CallNotPermittedException e) {
+                geminiConcurrencyLimiter.onIgnore();
+                log.warn("Gemini circuit breaker is open. storeId: {}", storeId);
+                throw new CustomException(ErrorCode.GEMINI_UNAVAILABLE);
+            } catch (Exception e) {
+                geminiConcurrencyLimiter.onDropped();
+                log.error("Gemini call failed. storeId: {}", storeId, e);
+                throw new CustomException(ErrorCode.GEMINI_UNAVAILABLE);
+            }
+        } finally {
+            geminiStoreBulkhead.release(storeId);
+        }
+    }
+
+    /**
+     * 첫 턴 전에 LLM 접두부 캐시 준비 (서킷이 열려 있으면 생략)
+     */
+    public void warmUp(GeminiRequest request, LlmRouter.Route route) {
+        if (geminiCircuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            return;
+        }
+        llmRouter.warmUp(request, route);
+    }
+
+    private boolean acquireLimiter() {
+        try {
+            return geminiConcurrencyLimiter.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
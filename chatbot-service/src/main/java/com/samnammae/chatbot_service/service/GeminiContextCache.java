@@ -0,0 +1,254 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.client.GeminiCacheClient;
+import com.samnammae.chatbot_service.config.LlmProperties;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.CachedContentResponse;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Gemini 컨텍스트 캐시 핸들 관리
+ * - 시스템 프롬프트 + 매장 메뉴로 이루어진 안정 접두부를 모델, 매장 단위로 캐시
+ * - 캐시 생성은 별도 스레드에서 비동기로 수행하고, 만들어지기 전까지는 전체 프롬프트를 그대로 전송
+ *   (대화 요청이 생성 호출을 기다리거나 같은 매장의 다른 요청이 잠금을 기다리지 않음)
+ * - 메뉴 버전이 바뀌면 새 캐시를 만들고 이전 캐시는 삭제, 만료가 가까워지면 새 캐시로 교체 (교체 중에는 기존 캐시 사용)
+ * - 캐시 생성에 실패하면 일정 시간 동안 전체 프롬프트를 그대로 전송 (호출 측에는 투명)
+ */
+@Slf4j
+@Component
+public class GeminiContextCache {
+
+    private static final String NAME_PREFIX = "cachedContents/";
+
+    private final GeminiCacheClient geminiCacheClient;
+    private final LlmProperties properties;
+    private final LongSupplier clock;
+    private final ExecutorService creator;
+
+    // "모델 키|매장" -> 캐시 핸들
+    private final Map<String, Handle> handles = new ConcurrentHashMap<>();
+    // 진행 중인 캐시 생성 (키마다 하나)
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GeminiContextCache(GeminiCacheClient geminiCacheClient, LlmProperties properties) {
+        this(geminiCacheClient, properties, System::currentTimeMillis);
+    }
+
+    GeminiContextCache(GeminiCacheClient geminiCacheClient, LlmProperties properties, LongSupplier clock) {
+        this.geminiCacheClient = geminiCacheClient;
+        this.properties = properties;
+        this.clock = clock;
+        AtomicInteger sequence = new AtomicInteger();
+        this.creator = Executors.newFixedThreadPool(properties.getContextCache().getCreateThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "gemini-context-cache-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 요청의 접두부에 해당하는 캐시 이름 조회 (없으면 비동기로 생성을 시작하고 바로 반환)
+     * @return 캐시 이름, 캐시를 사용할 수 없거나 아직 만들어지지 않았으면 empty (전체 프롬프트 전송)
+     */
+    public Optional<String> resolve(String modelKey, LlmProperties.Model model, GeminiRequest request) {
+        LlmProperties.ContextCache config = properties.getContextCache();
+        if (!config.isEnabled() || !request.isCacheable()) {
+            return Optional.empty();
+        }
+
+        GeminiRequest.Prefix prefix = request.getPrefix();
+        if (prefix.getSystemPrompt().length() + prefix.getText().length() < config.getMinPrefixChars()) {
+            return Optional.empty();
+        }
+
+        String key = keyOf(modelKey, prefix);
+        long now = clock.getAsLong();
+        Handle handle = handles.get(key);
+        if (handle != null && handle.isUsable(prefix.getVersion(), now)) {
+            return Optional.ofNullable(handle.name);
+        }
+
+        startCreate(key, modelKey, model, request);
+
+        // 만료 임박으로 교체하는 동안에는 아직 서버에 남아 있는 기존 캐시 사용
+        if (handle != null && handle.isAlive(prefix.getVersion(), now)) {
+            return Optional.of(handle.name);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 진행 중인 캐시 생성이 모두 끝나면 완료 (테스트용)
+     */
+    CompletableFuture<Void> awaitPending() {
+        return CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * 캐시 참조 호출이 거절된 경우 핸들 폐기 (다음 호출에서 새로 생성)
+     */
+    public void invalidate(String modelKey, GeminiRequest request, String cacheName) {
+        if (request.getPrefix() == null) {
+            return;
+        }
+        handles.computeIfPresent(keyOf(modelKey, request.getPrefix()),
+                (key, handle) -> cacheName.equals(handle.name) ? null : handle);
+    }
+
+    /**
+     * 캐시 참조 호출 실패가 캐시 만료/삭제로 인한 거절인지 확인 (이 경우 전체 프롬프트로 재시도)
+     * 404는 참조한 캐시가 없다는 뜻이고, 400/403은 오류 내용이 캐시를 가리킬 때만 거절로 판단
+     * (요청 자체가 잘못된 400까지 재시도하면 같은 오류를 전체 프롬프트로 한 번 더 받게 됨)
+     */
+    public static boolean isCacheRejected(Exception e) {
+        if (!(e instanceof FeignException feignException)) {
+            return false;
+        }
+        int status = feignException.status();
+        if (status == 404) {
+            return true;
+        }
+        if (status != 400 && status != 403) {
+            return false;
+        }
+        String body = feignException.contentUTF8();
+        if (body == null) {
+            return false;
+        }
+        String normalized = body.toLowerCase(Locale.ROOT);
+        return normalized.contains("cachedcontent") || normalized.contains("cached content")
+                || normalized.contains("cached_content");
+    }
+
+    // 종료 시 남은 캐시 삭제 (저장 비용 절감, 실패해도 TTL로 만료됨)
+    @PreDestroy
+    public void deleteAll() {
+        creator.shutdownNow();
+        handles.forEach((key, handle) -> {
+            if (handle.name != null) {
+                String modelKey = key.substring(0, key.indexOf('|'));
+                LlmProperties.Model model = properties.getModels().get(modelKey);
+                if (model != null) {
+                    deleteQuietly(URI.create(model.getBaseUrl()), handle.name);
+                }
+            }
+        });
+        handles.clear();
+    }
+
+    // 키마다 한 번만 생성 작업을 시작 (이미 진행 중이면 무시)
+    private void startCreate(String key, String modelKey, LlmProperties.Model model, GeminiRequest request) {
+        CompletableFuture<Void> task = new CompletableFuture<>();
+        if (pending.putIfAbsent(key, task) != null) {
+            return;
+        }
+
+        try {
+            creator.execute(() -> {
+                try {
+                    refresh(key, modelKey, model, request);
+                } finally {
+                    pending.remove(key, task);
+                    task.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key, task);
+            task.complete(null);
+        }
+    }
+
+    private void refresh(String key, String modelKey, LlmProperties.Model model, GeminiRequest request) {
+        GeminiRequest.Prefix prefix = request.getPrefix();
+        Handle previous = handles.get(key);
+        if (previous != null && previous.isUsable(prefix.getVersion(), clock.getAsLong())) {
+            return;
+        }
+
+        URI baseUrl = URI.create(model.getBaseUrl());
+        handles.put(key, create(modelKey, model, baseUrl, request, clock.getAsLong()));
+
+        // 메뉴 버전이 바뀐 이전 캐시는 더 이상 쓰이지 않으므로 삭제 (만료 임박으로 교체한 캐시는 진행 중인 요청을 위해 그대로 둠)
+        if (previous != null && previous.name != null && !previous.version.equals(prefix.getVersion())) {
+            deleteQuietly(baseUrl, previous.name);
+        }
+    }
+
+    private Handle create(String modelKey, LlmProperties.Model model, URI baseUrl, GeminiRequest request, long now) {
+        LlmProperties.ContextCache config = properties.getContextCache();
+        GeminiRequest.Prefix prefix = request.getPrefix();
+
+        try {
+            CachedContentResponse response = geminiCacheClient.create(baseUrl,
+                    request.toCachedContentRequest(model.getModel(), config.getTtlSeconds()));
+            if (response == null || response.getName() == null) {
+                throw new IllegalStateException("Empty cachedContents response");
+            }
+
+            log.info("Gemini context cache created. model: {}, scope: {}, version: {}, name: {}",
+                    modelKey, prefix.getScope(), prefix.getVersion(), response.getName());
+            long usableMillis = (config.getTtlSeconds() - config.getRefreshMarginSeconds()) * 1000;
+            return new Handle(prefix.getVersion(), response.getName(), now + usableMillis, now + config.getTtlSeconds() * 1000);
+
+        } catch (Exception e) {
+            log.warn("Gemini context cache unavailable, sending full prompt. model: {}, scope: {}, reason: {}",
+                    modelKey, prefix.getScope(), e.getMessage());
+            long retryAt = now + config.getRetryAfterMs();
+            return new Handle(prefix.getVersion(), null, retryAt, retryAt);
+        }
+    }
+
+    private void deleteQuietly(URI baseUrl, String cacheName) {
+        try {
+            String id = cacheName.startsWith(NAME_PREFIX) ? cacheName.substring(NAME_PREFIX.length()) : cacheName;
+            geminiCacheClient.delete(baseUrl, id);
+        } catch (Exception e) {
+            log.debug("Failed to delete Gemini context cache {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private static String keyOf(String modelKey, GeminiRequest.Prefix prefix) {
+        return modelKey + "|" + prefix.getScope();
+    }
+
+    // 캐시 핸들 (name이 null이면 생성 실패 후 재시도 대기 중)
+    private static class Handle {
+        private final String version;
+        private final String name;
+        private final long usableUntil;   // 이 시각 이후에는 새 캐시로 교체
+        private final long expiresAt;     // 서버에서 캐시가 만료되는 시각
+
+        Handle(String version, String name, long usableUntil, long expiresAt) {
+            this.version = version;
+            this.name = name;
+            this.usableUntil = usableUntil;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isUsable(String version, long now) {
+            return this.version.equals(version) && now < usableUntil;
+        }
+
+        // 교체 시점은 지났지만 아직 서버에 남아 있는 캐시
+        boolean isAlive(String version, long now) {
+            return name != null && this.version.equals(version) && now < expiresAt;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.samnammae.chatbot_service.service;
 
-import com.samnammae.chatbot_service.client.MenuServiceClient;
+import com.samnammae.chatbot_service.domain.cart.Cart;
+import com.samnammae.chatbot_service.domain.cart.CartItem;
 import com.samnammae.chatbot_service.domain.conversation.Conversation;
 import com.samnammae.chatbot_service.domain.message.Message;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
 import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
-import com.samnammae.common.response.ApiResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,27 +15,30 @@ import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GeminiPromptService {
 
-    private final MenuServiceClient menuServiceClient;
+    // 프롬프트에 포함할 최근 대화 메시지 수 (주문 상태는 장바구니로 전달하므로 전체 기록은 보내지 않음)
+    private final int historyWindow;
 
-    public String createPrompt(Long storeId, Conversation conversation, String managedStoreIds) {
-        log.info("Creating prompt for storeId: {}", storeId);
-
-        String systemPrompt = createSystemPrompt();
-        String menuData = fetchAndFormatMenuData(storeId);
-        String history = formatHistory(conversation.getMessages());
-
-        StringBuilder promptBuilder = new StringBuilder();
-        promptBuilder.append(systemPrompt);
-        promptBuilder.append("\n\n# MENU DATA\n");
-        promptBuilder.append(menuData);
-        promptBuilder.append("\n\n# CONVERSATION HISTORY & CURRENT QUESTION\n");
-        promptBuilder.append(history);
+    public GeminiPromptService(@Value("${chatbot.prompt.history-window:6}") int historyWindow) {
+        this.historyWindow = historyWindow;
+    }
 
-        log.debug("Generated prompt length: {}", promptBuilder.length());
-        return promptBuilder.toString();
+    /**
+     * Gemini 요청 생성
+     * 시스템 프롬프트와 메뉴는 매장 메뉴 버전이 같으면 변하지 않는 접두부로, 장바구니와 최근 대화는 변동부로 분리
+     */
+    public GeminiRequest createRequest(MenuSnapshot menuSnapshot, Conversation conversation) {
+        String menu = "# MENU DATA\n" + menuSnapshot.getPromptText();
+
+        StringBuilder volatileBuilder = new StringBuilder();
+        volatileBuilder.append("# CURRENT CART\n");
+        volatileBuilder.append(formatCart(conversation.getCart(), menuSnapshot));
+        volatileBuilder.append("\n\n# RECENT CONVERSATION & CURRENT QUESTION\n");
+        volatileBuilder.append(formatHistory(conversation.getMessages()));
+
+        return GeminiRequest.withPrefix(createSystemPrompt(), menu, volatileBuilder.toString(),
+                String.valueOf(menuSnapshot.getStoreId()), menuSnapshot.getVersion());
     }
 
     private String createSystemPrompt() {
@@ -45,161 +49,111 @@ public class GeminiPromptService {
                 
                 ## Rules for Voice (TTS) Responses
                 
-                All of your conversational responses are converted to speech by a TTS system. You MUST follow these rules for all conversational replies:
+                The `reply` field of your response is converted to speech by a TTS system. You MUST follow these rules for every reply:
                 
-                1.  **No Markdown:** NEVER use any Markdown formatting (like `*`, `-`, `#`, etc.). All responses must be plain text.
-                2.  **Natural Language:** Your responses must be complete, natural-sounding sentences that are easy to understand when heard.
-                3.  **Conciseness:** Keep responses clear and to the point. For broad questions like "메뉴 전체 알려줘", do not list every single item. Instead, summarize by listing the menu categories. For example, respond with "네, 저희 매장에는 커피, 디저트, 그리고 디카페인 음료 카테고리가 있습니다. 어떤 종류를 안내해 드릴까요?"
+                1.  **No Markdown:** NEVER use any Markdown formatting (like `*`, `-`, `#`, etc.). All replies must be plain text.
+                2.  **Natural Language:** Your replies must be complete, natural-sounding sentences that are easy to understand when heard.
+                3.  **Conciseness:** Keep replies clear and to the point. For broad questions like "메뉴 전체 알려줘", do not list every single item. Instead, summarize by listing the menu categories. For example, reply with "네, 저희 매장에는 커피, 디저트, 그리고 디카페인 음료 카테고리가 있습니다. 어떤 종류를 안내해 드릴까요?"
                 
-                ## Rules for Order Accuracy
+                ## Response Format
                 
-                1.  **Check Required Options:** Before finalizing an order, you MUST check every item in the user's request.
-                2.  **Ask if Missing:** If an item has an option category marked with `"required": true"` in the `MENU DATA` that the user has not yet selected, you MUST ask the user to choose that option. For example, ask, "아메리카노의 사이즈는 어떻게 해드릴까요?"
-                3.  **Do Not Proceed:** Do not proceed to final confirmation until all required options have been selected by the user.
+                Your ENTIRE response MUST be ONLY one JSON object with this structure, without markdown or any other text:
                 
-                ## Rules for Order Confirmation and Final JSON Generation
+                    {"reply": "음성으로 안내할 한국어 문장", "tool_calls": []}
                 
-                1.  **Complete Order Summary:** When all required options, order type, and payment method are selected, provide a complete summary of the entire order including item names, selected options, quantities, order type, payment method, and total price. Then ask for confirmation like "주문하신 내용이 맞으시면 '네, 주문할게요' 또는 '주문하겠습니다'라고 말씀해 주세요."
-                2.  **Wait for Confirmation:** Only proceed to JSON generation after the user explicitly confirms they want to place the order with phrases like "네, 주문할게요", "주문하겠습니다", "맞습니다", or similar affirmative responses.
-                3.  **JSON Only Response:** After user confirmation, your **ENTIRE next response MUST be ONLY the JSON object** described below.
-                4.  **No Additional Text:** Do NOT add any other text, explanations, or markdown formatting around the JSON object.
-                5.  **Exact Structure:** The JSON object MUST match this exact structure and use NUMERIC IDs from the `MENU DATA`.
+                The server keeps the user's cart in `CURRENT CART` and calculates every price. NEVER calculate prices yourself; read totals from `CURRENT CART`.
+                Use `tool_calls` to change the cart. Tool calls are applied in order before your reply is spoken, so your reply should describe the cart after the changes.
                 
-                    ```json
-                    {
-                      "action": "PLACE_ORDER",
-                      "order_details": {
-                        "storeId": 1,
-                        "storeName": "인클루키오스크 강남점",
-                        "orderType": "TAKEOUT",
-                        "paymentMethod": "CARD",
-                        "items": [
-                          {
-                            "menuId": 8,
-                            "menuName": "아메리카노",
-                            "basePrice": 5500,
-                            "selectedOptions": {
-                              "14": [53],
-                              "15": [55]
-                            },
-                            "optionPrice": 1500,
-                            "quantity": 1,
-                            "totalPrice": 7000
-                          }
-                        ],
-                        "totalAmount": 7000,
-                        "totalItems": 1
-                      }
-                    }
-                    ```
+                Available tools (use NUMERIC IDs from `MENU DATA` and line numbers from `CURRENT CART`):
+                - {"name": "add_item", "args": {"menuId": 8, "quantity": 1}}
+                - {"name": "set_option", "args": {"line": 1, "optionCategoryId": 14, "optionIds": [53]}}
+                - {"name": "set_quantity", "args": {"line": 1, "quantity": 2}}
+                - {"name": "remove_item", "args": {"line": 1}}
+                - {"name": "set_order_info", "args": {"orderType": "TAKEOUT", "paymentMethod": "CARD"}}
+                - {"name": "clear_cart", "args": {}}
+                - {"name": "place_order", "args": {}}
+                
+                A newly added item gets the next line number after the last line in `CURRENT CART` (the first line of an empty cart is 1).
+                `set_option` replaces the selection of that option category. Options marked [하나만 선택] accept exactly one option ID.
+                orderType is one of "STORE" (매장 식사) or "TAKEOUT" (포장). paymentMethod is one of "CARD" or "CASH".
+                
+                ## Rules for Order Accuracy
                 
-                **CRITICAL ID FORMAT RULES:**
-                - menuId: Use numeric menu ID from MENU DATA (not string)
-                - selectedOptions keys: Use numeric option category IDs (as strings)
-                - selectedOptions values: Use numeric option IDs in arrays (not strings)
+                1.  **Check Required Options:** Before finalizing an order, you MUST check every item in `CURRENT CART`.
+                2.  **Ask if Missing:** If an item has an option category marked [필수] in the `MENU DATA` that has not been selected yet, you MUST ask the user to choose that option. For example, ask, "아메리카노의 사이즈는 어떻게 해드릴까요?"
+                3.  **Do Not Proceed:** Do not proceed to final confirmation until all required options have been selected by the user.
+                
+                ## Rules for Order Confirmation
+                
+                1.  **Complete Order Summary:** When all required options, order type, and payment method are selected, summarize the entire order from `CURRENT CART` including item names, selected options, quantities, order type, payment method, and total price. Then ask for confirmation like "주문하신 내용이 맞으시면 '네, 주문할게요' 또는 '주문하겠습니다'라고 말씀해 주세요."
+                2.  **Wait for Confirmation:** Only call `place_order` after the user explicitly confirms with phrases like "네, 주문할게요", "주문하겠습니다", "맞습니다", or similar affirmative responses.
+                3.  **Place Order:** When the user confirms, respond with `place_order` as the only tool call. The server places the order and tells the user the order number.
                 
-                For all other conversation that is not a final order confirmation, respond naturally in Korean.       
+                For all other conversation, respond naturally in Korean in `reply` with an empty `tool_calls` array.
                 """;
     }
 
-    private String fetchAndFormatMenuData(Long storeId) {
-        log.info("Fetching menu data for storeId: {}", storeId);
-
-        try {
-            log.debug("Calling menuServiceClient.getMenusWithOptions with storeId: {}", storeId);
-            ApiResponse<MenuWithOptionsResponseDto> response = menuServiceClient.getMenusWithOptions(storeId);
-
-            log.info("MenuServiceClient response received. Status: {}, HasData: {}",
-                    response != null ? "SUCCESS" : "NULL",
-                    response != null && response.getData() != null);
-
-            if (response == null) {
-                log.error("MenuServiceClient returned null response");
-                return "메뉴 정보를 불러오는 데 실패했습니다. (응답이 null)";
-            }
-
-            MenuWithOptionsResponseDto menuData = response.getData();
-
-            if (menuData == null) {
-                log.error("MenuServiceClient returned null data in response");
-                return "메뉴 정보가 없습니다. (데이터가 null)";
-            }
-
-            log.info("Menu data received. Categories count: {}",
-                    menuData.getMenusByCategory() != null ? menuData.getMenusByCategory().size() : 0);
-
-            if (menuData.getMenusByCategory().isEmpty()) {
-                log.warn("Menu data is empty for storeId: {}", storeId);
-                return "메뉴 정보가 없습니다. (카테고리가 비어있음)";
-            }
-
-            StringBuilder sb = new StringBuilder();
-            int totalMenuItems = 0;
-
-            for (Map.Entry<String, List<MenuWithOptionsResponseDto.MenuDetail>> entry : menuData.getMenusByCategory().entrySet()) {
-                String category = entry.getKey();
-                List<MenuWithOptionsResponseDto.MenuDetail> items = entry.getValue();
-
-                log.debug("Processing category: {}, items count: {}", category, items.size());
-                totalMenuItems += items.size();
-
-                sb.append("## ").append(category).append("\n");
-                for (MenuWithOptionsResponseDto.MenuDetail item : items) {
-                    sb.append("- ID: ").append(item.getId())
-                            .append(", 이름: ").append(item.getName())
-                            .append(", 가격: ").append(item.getPrice()).append("원")
-                            .append(", 설명: ").append(item.getDescription());
-
-                    if (item.isSoldOut()) {
-                        sb.append(" [품절]");
-                    }
+    // 장바구니를 한 줄에 한 항목씩 간결하게 표현 (옵션 이름은 메뉴 스냅샷에서 조회)
+    private String formatCart(Cart cart, MenuSnapshot menuSnapshot) {
+        if (cart.isEmpty()) {
+            return "(비어 있음, 다음 line 번호: " + (cart.getLastLine() + 1) + ")\n";
+        }
 
-                    // 옵션 카테고리 정보 추가 (ID 포함)
-                    if (item.getOptionCategories() != null && !item.getOptionCategories().isEmpty()) {
-                        sb.append("\n  옵션 카테고리:");
-                        for (MenuWithOptionsResponseDto.OptionCategory optCat : item.getOptionCategories()) {
-                            sb.append("\n    - ID: ").append(optCat.getId())
-                                    .append(", 이름: ").append(optCat.getName())
-                                    .append(optCat.isRequired() ? " [필수]" : " [선택]");
-
-                            // 중복 제거를 위해 Map 사용 (ID를 키로 사용)
-                            java.util.Map<Long, MenuWithOptionsResponseDto.Option> uniqueOptions = new java.util.LinkedHashMap<>();
-                            for (MenuWithOptionsResponseDto.Option option : optCat.getOptions()) {
-                                uniqueOptions.put(option.getId(), option);
-                            }
-
-                            // 중복 제거된 옵션들 출력 (ID 포함)
-                            for (MenuWithOptionsResponseDto.Option option : uniqueOptions.values()) {
-                                sb.append("\n      * ID: ").append(option.getId())
-                                        .append(", 이름: ").append(option.getName())
-                                        .append(" (+").append(option.getPrice()).append("원)");
-                            }
-                        }
+        StringBuilder sb = new StringBuilder();
+        for (CartItem item : cart.getItems()) {
+            sb.append("- line ").append(item.getLine())
+                    .append(": ").append(item.getMenuName())
+                    .append("(ID ").append(item.getMenuId()).append(")")
+                    .append(" x").append(item.getQuantity());
+
+            MenuWithOptionsResponseDto.MenuDetail menu = menuSnapshot.findMenu(item.getMenuId()).orElse(null);
+            for (Map.Entry<Long, List<Long>> selection : item.getSelectedOptions().entrySet()) {
+                sb.append(", ").append(optionCategoryName(menu, selection.getKey()))
+                        .append("(ID ").append(selection.getKey()).append(")=");
+                for (int i = 0; i < selection.getValue().size(); i++) {
+                    Long optionId = selection.getValue().get(i);
+                    if (i > 0) {
+                        sb.append("/");
                     }
-                    sb.append("\n");
+                    sb.append(optionName(menu, selection.getKey(), optionId)).append("(ID ").append(optionId).append(")");
                 }
             }
+            sb.append(", ").append(item.getTotalPrice()).append("원\n");
+        }
 
-            log.info("Menu data formatting completed. Total items: {}, formatted length: {}",
-                    totalMenuItems, sb.length());
+        sb.append("다음 line 번호: ").append(cart.getLastLine() + 1)
+                .append(", 주문 유형: ").append(cart.getOrderType() != null ? cart.getOrderType() : "미선택")
+                .append(", 결제 방법: ").append(cart.getPaymentMethod() != null ? cart.getPaymentMethod() : "미선택")
+                .append(", 총액: ").append(cart.getTotalAmount()).append("원\n");
+        return sb.toString();
+    }
 
-            return sb.toString();
+    private String optionCategoryName(MenuWithOptionsResponseDto.MenuDetail menu, Long optionCategoryId) {
+        if (menu == null) {
+            return "옵션";
+        }
+        return MenuSnapshot.findOptionCategory(menu, optionCategoryId)
+                .map(MenuWithOptionsResponseDto.OptionCategory::getName)
+                .orElse("옵션");
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to fetch menu data for storeId: {}. Error: {}", storeId, e.getMessage(), e);
-            return "메뉴 정보를 불러오는 데 실패했습니다. (" + e.getMessage() + ")";
+    private String optionName(MenuWithOptionsResponseDto.MenuDetail menu, Long optionCategoryId, Long optionId) {
+        if (menu == null) {
+            return "?";
         }
+        return MenuSnapshot.findOptionCategory(menu, optionCategoryId)
+                .flatMap(category -> MenuSnapshot.findOption(category, optionId))
+                .map(MenuWithOptionsResponseDto.Option::getName)
+                .orElse("?");
     }
 
     private String formatHistory(List<Message> messages) {
-        log.debug("Formatting conversation history. Messages count: {}", messages.size());
+        List<Message> recent = messages.subList(Math.max(0, messages.size() - historyWindow), messages.size());
 
         StringBuilder sb = new StringBuilder();
-        for (Message message : messages) {
+        for (Message message : recent) {
             sb.append(message.getRole()).append(": ").append(message.getContent()).append("\n");
         }
-
-        log.debug("History formatting completed. Length: {}", sb.length());
         return sb.toString();
     }
-}
\ No newline at end of file
+}
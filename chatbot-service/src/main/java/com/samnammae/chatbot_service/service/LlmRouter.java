@@ -0,0 +1,23 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+
+/**
+ * 대화 턴 종류에 따라 호출할 LLM 모델(엔드포인트)을 선택해 응답을 생성
+ */
+public interface LlmRouter {
+
+    GeminiResponse generate(GeminiRequest request, Route route);
+
+    /**
+     * 라우트에 속한 모델의 접두부 캐시를 미리 준비 (응답 생성 없이 비동기로 수행)
+     */
+    default void warmUp(GeminiRequest request, Route route) {
+    }
+
+    enum Route {
+        DEFAULT,    // 주문 진행 등 대화 맥락이 필요한 턴
+        SIMPLE      // 맥락 없는 첫 질문 등 가벼운 턴
+    }
+}
@@ -0,0 +1,63 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 매장 메뉴 스냅샷
+ * - 메뉴 ID로 조회할 수 있는 메뉴/옵션 정보 (중복 제거 완료)
+ * - 프롬프트용 메뉴 텍스트와 메뉴 버전 (텍스트 해시, 메뉴가 바뀌면 달라짐)
+ */
+@Getter
+public class MenuSnapshot {
+
+    private final Long storeId;
+    private final String version;   // 메뉴 조회 실패 시 null
+    private final String promptText;
+    private final Map<Long, MenuWithOptionsResponseDto.MenuDetail> menus;
+    private final long loadedAt;
+
+    public MenuSnapshot(Long storeId, String version, String promptText,
+                        Map<Long, MenuWithOptionsResponseDto.MenuDetail> menus) {
+        this.storeId = storeId;
+        this.version = version;
+        this.promptText = promptText;
+        this.menus = Collections.unmodifiableMap(new LinkedHashMap<>(menus));
+        this.loadedAt = System.currentTimeMillis();
+    }
+
+    // 메뉴를 불러오지 못한 경우 (프롬프트에는 안내 문구만 포함)
+    public static MenuSnapshot unavailable(Long storeId, String promptText) {
+        return new MenuSnapshot(storeId, null, promptText, Map.of());
+    }
+
+    public boolean isAvailable() {
+        return version != null;
+    }
+
+    public Optional<MenuWithOptionsResponseDto.MenuDetail> findMenu(Long menuId) {
+        return Optional.ofNullable(menus.get(menuId));
+    }
+
+    public static Optional<MenuWithOptionsResponseDto.OptionCategory> findOptionCategory(
+            MenuWithOptionsResponseDto.MenuDetail menu, Long optionCategoryId) {
+        if (menu.getOptionCategories() == null) {
+            return Optional.empty();
+        }
+        return menu.getOptionCategories().stream()
+                .filter(category -> category.getId().equals(optionCategoryId))
+                .findFirst();
+    }
+
+    public static Optional<MenuWithOptionsResponseDto.Option> findOption(
+            MenuWithOptionsResponseDto.OptionCategory category, Long optionId) {
+        return category.getOptions().stream()
+                .filter(option -> option.getId().equals(optionId))
+                .findFirst();
+    }
+}
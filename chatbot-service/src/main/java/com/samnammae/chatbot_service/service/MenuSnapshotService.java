@@ -0,0 +1,211 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.client.MenuServiceClient;
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import com.samnammae.common.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 메뉴 스냅샷 조회 및 캐시
+ * - 매 턴마다 menu-service를 호출하지 않도록 매장별 스냅샷을 TTL 동안 재사용
+ * - 대화 세션은 처음 받은 스냅샷을 세션이 끝날 때까지 고정해서 사용 (세션 시작 시 사전 준비한 메뉴와
+ *   LLM 접두부 캐시가 매장 캐시 TTL과 무관하게 첫 발화까지 유지되고, 대화 중 메뉴 버전이 바뀌지 않음)
+ *   주문 시 가격, 품절은 order-service가 최신 메뉴로 다시 확인
+ */
+@Slf4j
+@Service
+public class MenuSnapshotService {
+
+    private final MenuServiceClient menuServiceClient;
+    private final long ttlMillis;
+    private final long sessionIdleTimeoutMillis;
+    private final Map<Long, MenuSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, SessionSnapshot> sessionSnapshots = new ConcurrentHashMap<>();
+
+    public MenuSnapshotService(MenuServiceClient menuServiceClient,
+                               @Value("${chatbot.menu-cache.ttl-ms:30000}") long ttlMillis,
+                               @Value("${chatbot.session.idle-timeout-ms:600000}") long sessionIdleTimeoutMillis) {
+        this.menuServiceClient = menuServiceClient;
+        this.ttlMillis = ttlMillis;
+        this.sessionIdleTimeoutMillis = sessionIdleTimeoutMillis;
+    }
+
+    /**
+     * 세션에 고정된 스냅샷 조회 (없으면 매장 스냅샷을 받아 세션에 고정)
+     * 활성 세션과 같은 유휴 시간 동안 요청이 없으면 고정을 풀어 다음 요청에서 새로 받음
+     */
+    public MenuSnapshot getSnapshot(Long storeId, String sessionId) {
+        long now = System.currentTimeMillis();
+        SessionSnapshot pinned = sessionSnapshots.get(sessionId);
+        if (pinned != null && pinned.snapshot().getStoreId().equals(storeId)
+                && now - pinned.lastUsedAt() < sessionIdleTimeoutMillis) {
+            sessionSnapshots.put(sessionId, new SessionSnapshot(pinned.snapshot(), now));
+            return pinned.snapshot();
+        }
+
+        MenuSnapshot snapshot = getSnapshot(storeId);
+        // 조회 실패한 스냅샷은 고정하지 않고 다음 턴에 다시 시도
+        if (snapshot.isAvailable()) {
+            sessionSnapshots.put(sessionId, new SessionSnapshot(snapshot, now));
+        } else {
+            sessionSnapshots.remove(sessionId);
+        }
+        return snapshot;
+    }
+
+    // 세션 종료 (주문 완료 등)
+    public void release(String sessionId) {
+        sessionSnapshots.remove(sessionId);
+    }
+
+    // 종료 요청 없이 떠난 세션의 고정 스냅샷 정리
+    @Scheduled(fixedDelayString = "${chatbot.session.idle-sweep-interval-ms:60000}")
+    public void evictIdleSessions() {
+        long now = System.currentTimeMillis();
+        sessionSnapshots.values().removeIf(pinned -> now - pinned.lastUsedAt() >= sessionIdleTimeoutMillis);
+    }
+
+    public MenuSnapshot getSnapshot(Long storeId) {
+        MenuSnapshot cached = snapshots.get(storeId);
+        if (cached != null && System.currentTimeMillis() - cached.getLoadedAt() < ttlMillis) {
+            return cached;
+        }
+
+        MenuSnapshot loaded = load(storeId);
+        // 조회 실패한 스냅샷은 캐시하지 않고 다음 턴에 다시 시도
+        if (loaded.isAvailable()) {
+            snapshots.put(storeId, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(Long storeId) {
+        snapshots.remove(storeId);
+    }
+
+    private record SessionSnapshot(MenuSnapshot snapshot, long lastUsedAt) {
+    }
+
+    private MenuSnapshot load(Long storeId) {
+        MenuWithOptionsResponseDto menuData = fetchMenuData(storeId);
+        if (menuData == null) {
+            return MenuSnapshot.unavailable(storeId, "메뉴 정보를 불러오는 데 실패했습니다.");
+        }
+        if (menuData.getMenusByCategory() == null || menuData.getMenusByCategory().isEmpty()) {
+            log.warn("Menu data is empty for storeId: {}", storeId);
+            return MenuSnapshot.unavailable(storeId, "메뉴 정보가 없습니다. (카테고리가 비어있음)");
+        }
+
+        Map<String, List<MenuWithOptionsResponseDto.MenuDetail>> menusByCategory = deduplicate(menuData);
+        String promptText = formatMenuData(menusByCategory);
+        String version = DigestUtils.md5DigestAsHex(promptText.getBytes(StandardCharsets.UTF_8));
+
+        Map<Long, MenuWithOptionsResponseDto.MenuDetail> menus = new LinkedHashMap<>();
+        menusByCategory.values().forEach(items -> items.forEach(item -> menus.put(item.getId(), item)));
+
+        return new MenuSnapshot(storeId, version, promptText, menus);
+    }
+
+    private MenuWithOptionsResponseDto fetchMenuData(Long storeId) {
+        log.debug("Fetching menu data for storeId: {}", storeId);
+
+        try {
+            ApiResponse<MenuWithOptionsResponseDto> response = menuServiceClient.getMenusWithOptions(storeId);
+
+            if (response == null || response.getData() == null) {
+                log.error("MenuServiceClient returned empty response for storeId: {}", storeId);
+                return null;
+            }
+            return response.getData();
+
+        } catch (Exception e) {
+            log.error("Failed to fetch menu data for storeId: {}. Error: {}", storeId, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    // fetch join 결과로 중복된 옵션 카테고리, 옵션을 ID 기준으로 제거
+    private Map<String, List<MenuWithOptionsResponseDto.MenuDetail>> deduplicate(MenuWithOptionsResponseDto menuData) {
+        Map<String, List<MenuWithOptionsResponseDto.MenuDetail>> result = new LinkedHashMap<>();
+
+        for (Map.Entry<String, List<MenuWithOptionsResponseDto.MenuDetail>> entry : menuData.getMenusByCategory().entrySet()) {
+            List<MenuWithOptionsResponseDto.MenuDetail> items = new ArrayList<>();
+            for (MenuWithOptionsResponseDto.MenuDetail item : entry.getValue()) {
+                Map<Long, MenuWithOptionsResponseDto.OptionCategory> uniqueCategories = new LinkedHashMap<>();
+                if (item.getOptionCategories() != null) {
+                    for (MenuWithOptionsResponseDto.OptionCategory category : item.getOptionCategories()) {
+                        Map<Long, MenuWithOptionsResponseDto.Option> uniqueOptions = new LinkedHashMap<>();
+                        if (category.getOptions() != null) {
+                            category.getOptions().forEach(option -> uniqueOptions.putIfAbsent(option.getId(), option));
+                        }
+                        uniqueCategories.putIfAbsent(category.getId(), new MenuWithOptionsResponseDto.OptionCategory(
+                                category.getId(), category.getName(), category.getType(), category.isRequired(),
+                                new ArrayList<>(uniqueOptions.values())));
+                    }
+                }
+                items.add(new MenuWithOptionsResponseDto.MenuDetail(
+                        item.getId(), item.getName(), item.getPrice(), item.getDescription(),
+                        new ArrayList<>(uniqueCategories.values()), item.isSoldOut()));
+            }
+            result.put(entry.getKey(), items);
+        }
+        return result;
+    }
+
+    private String formatMenuData(Map<String, List<MenuWithOptionsResponseDto.MenuDetail>> menusByCategory) {
+        StringBuilder sb = new StringBuilder();
+        int totalMenuItems = 0;
+
+        for (Map.Entry<String, List<MenuWithOptionsResponseDto.MenuDetail>> entry : menusByCategory.entrySet()) {
+            String category = entry.getKey();
+            List<MenuWithOptionsResponseDto.MenuDetail> items = entry.getValue();
+            totalMenuItems += items.size();
+
+            sb.append("## ").append(category).append("\n");
+            for (MenuWithOptionsResponseDto.MenuDetail item : items) {
+                sb.append("- ID: ").append(item.getId())
+                        .append(", 이름: ").append(item.getName())
+                        .append(", 가격: ").append(item.getPrice()).append("원")
+                        .append(", 설명: ").append(item.getDescription());
+
+                if (item.isSoldOut()) {
+                    sb.append(" [품절]");
+                }
+
+                // 옵션 카테고리 정보 추가 (ID 포함)
+                if (!item.getOptionCategories().isEmpty()) {
+                    sb.append("\n  옵션 카테고리:");
+                    for (MenuWithOptionsResponseDto.OptionCategory optCat : item.getOptionCategories()) {
+                        sb.append("\n    - ID: ").append(optCat.getId())
+                                .append(", 이름: ").append(optCat.getName())
+                                .append(optCat.isRequired() ? " [필수]" : " [선택]")
+                                .append("MULTIPLE".equals(optCat.getType()) ? " [복수 선택]" : " [하나만 선택]");
+
+                        for (MenuWithOptionsResponseDto.Option option : optCat.getOptions()) {
+                            sb.append("\n      * ID: ").append(option.getId())
+                                    .append(", 이름: ").append(option.getName())
+                                    .append(" (+").append(option.getPrice()).append("원)");
+                        }
+                    }
+                }
+                sb.append("\n");
+            }
+        }
+
+        log.debug("Menu data formatting completed. Total items: {}, formatted length: {}",
+                totalMenuItems, sb.length());
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,135 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.dto.request.OrderRequestDto;
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * order-service 호출 전 메뉴 스냅샷 기준 주문 사전 검증
+ * - 메뉴/옵션 ID, 필수 옵션 선택, 단일/복수 선택 규칙을 확인
+ * - 가격, 총액, 총 수량은 서버 기준으로 다시 계산해 자동 보정
+ * - 선택지가 하나뿐인 필수 옵션은 자동 선택하고, 사용자가 골라야 하는 경우에만 질문 문장 반환
+ */
+@Slf4j
+@Service
+public class OrderValidator {
+
+    public Result validate(OrderRequestDto order, MenuSnapshot menuSnapshot) {
+        if (order.getItems() == null || order.getItems().isEmpty()) {
+            return Result.ask("장바구니가 비어 있습니다. 먼저 메뉴를 골라 주세요.");
+        }
+
+        List<OrderRequestDto.OrderItemDto> repairedItems = new ArrayList<>();
+        for (OrderRequestDto.OrderItemDto item : order.getItems()) {
+            MenuWithOptionsResponseDto.MenuDetail menu = menuSnapshot.findMenu(item.getMenuId()).orElse(null);
+            String menuName = menu != null ? menu.getName() : item.getMenuName();
+
+            if (menu == null) {
+                return Result.ask(menuName + "은(는) 지금 주문할 수 없는 메뉴입니다. 다른 메뉴를 골라 주세요.");
+            }
+            if (menu.isSoldOut()) {
+                return Result.ask("죄송합니다. " + menuName + "은(는) 지금 품절입니다. 장바구니에서 빼고 주문할까요?");
+            }
+            if (item.getQuantity() < 1) {
+                return Result.ask(menuName + "의 수량을 다시 말씀해 주세요.");
+            }
+
+            Map<Long, List<Long>> selectedOptions = new LinkedHashMap<>();
+            int optionPrice = 0;
+
+            // 1. 선택된 옵션 검증 (메뉴에 속한 옵션인지, 단일 선택 규칙을 지키는지)
+            Map<Long, List<Long>> requested = item.getSelectedOptions() != null ? item.getSelectedOptions() : Map.of();
+            for (Map.Entry<Long, List<Long>> selection : requested.entrySet()) {
+                MenuWithOptionsResponseDto.OptionCategory category =
+                        MenuSnapshot.findOptionCategory(menu, selection.getKey()).orElse(null);
+                if (category == null) {
+                    return Result.ask(menuName + "에 선택하신 옵션을 지금 고를 수 없습니다. 옵션을 다시 말씀해 주세요.");
+                }
+
+                List<Long> optionIds = new ArrayList<>(new LinkedHashSet<>(selection.getValue()));
+                if (optionIds.isEmpty()) {
+                    continue;
+                }
+                if ("SINGLE".equals(category.getType()) && optionIds.size() > 1) {
+                    return Result.ask(menuName + "의 " + category.getName() + "은(는) 하나만 고를 수 있습니다. "
+                            + optionNames(category) + " 중에서 하나를 골라 주세요.");
+                }
+                for (Long optionId : optionIds) {
+                    MenuWithOptionsResponseDto.Option option = MenuSnapshot.findOption(category, optionId).orElse(null);
+                    if (option == null) {
+                        return Result.ask(menuName + "의 " + category.getName() + " 옵션을 다시 골라 주세요. "
+                                + optionNames(category) + " 중에서 선택하실 수 있습니다.");
+                    }
+                    optionPrice += option.getPrice();
+                }
+                selectedOptions.put(category.getId(), optionIds);
+            }
+
+            // 2. 필수 옵션 확인 (선택지가 하나뿐이면 자동 선택)
+            for (MenuWithOptionsResponseDto.OptionCategory category : menu.getOptionCategories()) {
+                if (!category.isRequired() || selectedOptions.containsKey(category.getId())) {
+                    continue;
+                }
+                if (category.getOptions().size() == 1) {
+                    MenuWithOptionsResponseDto.Option onlyOption = category.getOptions().get(0);
+                    selectedOptions.put(category.getId(), List.of(onlyOption.getId()));
+                    optionPrice += onlyOption.getPrice();
+                    continue;
+                }
+                return Result.ask(menuName + "의 " + category.getName() + "을(를) 골라 주세요. "
+                        + optionNames(category) + " 중에서 선택하실 수 있습니다.");
+            }
+
+            // 3. 가격 보정
+            int totalPrice = (menu.getPrice() + optionPrice) * item.getQuantity();
+            if (totalPrice != item.getTotalPrice()) {
+                log.info("Order item price repaired. menuId: {}, requested: {}, calculated: {}",
+                        menu.getId(), item.getTotalPrice(), totalPrice);
+            }
+            repairedItems.add(new OrderRequestDto.OrderItemDto(menu.getId(), menu.getName(), menu.getPrice(),
+                    selectedOptions, optionPrice, item.getQuantity(), totalPrice));
+        }
+
+        OrderRequestDto repaired = new OrderRequestDto(order.getStoreId(), order.getStoreName(),
+                order.getOrderType(), order.getPaymentMethod(), repairedItems,
+                repairedItems.stream().mapToInt(OrderRequestDto.OrderItemDto::getTotalPrice).sum(),
+                repairedItems.stream().mapToInt(OrderRequestDto.OrderItemDto::getQuantity).sum());
+        return Result.valid(repaired);
+    }
+
+    private String optionNames(MenuWithOptionsResponseDto.OptionCategory category) {
+        return category.getOptions().stream()
+                .map(MenuWithOptionsResponseDto.Option::getName)
+                .collect(Collectors.joining(", "));
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Result {
+        private final OrderRequestDto order;    // 보정된 주문 (질문이 필요하면 null)
+        private final String question;          // 사용자에게 확인할 내용 (검증 통과 시 null)
+
+        static Result valid(OrderRequestDto order) {
+            return new Result(order, null);
+        }
+
+        static Result ask(String question) {
+            return new Result(null, question);
+        }
+
+        public boolean isValid() {
+            return question == null;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.samnammae.chatbot_service.service.impl;
+
+import com.samnammae.chatbot_service.client.GeminiClient;
+import com.samnammae.chatbot_service.config.LlmProperties;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.resilience.LatencyWindow;
+import com.samnammae.chatbot_service.service.GeminiContextCache;
+import com.samnammae.chatbot_service.service.LlmRouter;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 헤지 요청을 지원하는 LLM 라우터
+ * - 기본 모델이 동적 p90 지연 시간 안에 응답하지 않으면 헤지 모델로 같은 요청을 한 번 더 보냄
+ * - 먼저 성공한 응답을 사용하고 나머지 요청은 취소
+ * - 모델별 최근 지연 시간을 기록해 헤지 대기 시간 계산에 사용 (실패, 취소된 호출도 걸린 시간까지 기록)
+ * - 호출 스레드 풀은 대기열 없이 바로 실행하며, 스레드가 모두 사용 중이면 기본 모델은 요청 스레드에서
+ *   헤지 없이 호출하고 헤지 요청은 생략 (대기열에서 기다린 시간이 헤지 대기 시간을 소모하지 않도록)
+ * - 모델별 컨텍스트 캐시가 있으면 안정 접두부 대신 캐시를 참조
+ */
+@Slf4j
+@Service
+public class HedgingLlmRouter implements LlmRouter {
+
+    private final GeminiClient geminiClient;
+    private final LlmProperties properties;
+    private final GeminiContextCache contextCache;
+    private final ExecutorService executor;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    public HedgingLlmRouter(GeminiClient geminiClient, LlmProperties properties, GeminiContextCache contextCache) {
+        this.geminiClient = geminiClient;
+        this.properties = properties;
+        this.contextCache = contextCache;
+        int threads = properties.getExecutorThreads();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new LlmThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public GeminiResponse generate(GeminiRequest request, Route route) {
+        LlmProperties.Route routeProperties = properties.route(route);
+        String primary = routeProperties.getPrimary();
+        String hedge = routeProperties.getHedge();
+
+        if (!properties.getHedge().isEnabled() || hedge == null) {
+            return callModel(primary, request);
+        }
+
+        CompletionService<GeminiResponse> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<GeminiResponse>> futures = new ArrayList<>(2);
+        if (!submit(completionService, futures, primary, request)) {
+            log.warn("LLM executor saturated, calling primary without hedge. route: {}, primary: {}", route, primary);
+            return callModel(primary, request);
+        }
+
+        try {
+            // 1. 기본 모델이 헤지 대기 시간 안에 끝나지 않으면 헤지 요청 발송 (스레드가 없으면 기본 모델만 대기)
+            Future<GeminiResponse> first = completionService.poll(hedgeDelayMillis(primary), TimeUnit.MILLISECONDS);
+            if (first == null) {
+                log.info("Sending hedged request. route: {}, primary: {}, hedge: {}", route, primary, hedge);
+                if (!submit(completionService, futures, hedge, request)) {
+                    log.warn("LLM executor saturated, skipping hedged request. route: {}, hedge: {}", route, hedge);
+                }
+                first = completionService.take();
+            }
+
+            // 2. 먼저 끝난 요청이 성공하면 그대로 사용
+            try {
+                return first.get();
+            } catch (ExecutionException e) {
+                log.warn("LLM call failed, waiting for the other model. route: {}", route, e.getCause());
+            }
+
+            // 3. 먼저 끝난 요청이 실패하면 나머지 요청 결과 사용 (헤지 전이면 즉시 헤지 모델 호출)
+            if (futures.size() == 1) {
+                return callModel(hedge, request);
+            }
+            return completionService.take().get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("LLM call interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(e.getCause());
+        } finally {
+            // 아직 진행 중인 요청 취소 (이미 끝난 요청에는 영향 없음)
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public void warmUp(GeminiRequest request, Route route) {
+        LlmProperties.Route routeProperties = properties.route(route);
+        Set<String> modelKeys = new LinkedHashSet<>();
+        modelKeys.add(routeProperties.getPrimary());
+        if (properties.getHedge().isEnabled() && routeProperties.getHedge() != null) {
+            modelKeys.add(routeProperties.getHedge());
+        }
+
+        for (String modelKey : modelKeys) {
+            LlmProperties.Model model = properties.getModels().get(modelKey);
+            if (model != null) {
+                // 캐시 생성은 GeminiContextCache가 비동기로 수행하므로 바로 반환됨
+                contextCache.resolve(modelKey, model, request);
+            }
+        }
+    }
+
+    /**
+     * 모델별 최근 지연 시간 조회
+     */
+    public Map<String, LatencyWindow> getLatencies() {
+        return latencies;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private GeminiResponse callModel(String modelKey, GeminiRequest request) {
+        LlmProperties.Model model = properties.getModels().get(modelKey);
+        if (model == null) {
+            throw new IllegalStateException("Unknown LLM model: " + modelKey);
+        }
+
+        long startedAt = System.nanoTime();
+        boolean record = true;
+        try {
+            return generate(modelKey, model, request);
+        } catch (FeignException e) {
+            // 요청 자체가 거절된 4xx는 모델 지연과 무관하므로 기록하지 않음 (타임아웃, 5xx, 취소는 기록)
+            record = e.status() < 400 || e.status() >= 500;
+            throw e;
+        } finally {
+            if (record) {
+                latencyOf(modelKey).record((System.nanoTime() - startedAt) / 1_000_000);
+            }
+        }
+    }
+
+    // 대기열 없이 바로 실행할 스레드가 있을 때만 제출
+    private boolean submit(CompletionService<GeminiResponse> completionService, List<Future<GeminiResponse>> futures,
+                           String modelKey, GeminiRequest request) {
+        try {
+            futures.add(completionService.submit(() -> callModel(modelKey, request)));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // 접두부 캐시가 있으면 캐시를 참조해 호출하고, 캐시가 거절되면 전체 프롬프트로 한 번 더 호출
+    private GeminiResponse generate(String modelKey, LlmProperties.Model model, GeminiRequest request) {
+        URI baseUrl = URI.create(model.getBaseUrl());
+        Optional<String> cachedContent = contextCache.resolve(modelKey, model, request);
+        if (cachedContent.isEmpty()) {
+            return geminiClient.generate(baseUrl, model.getModel(), request);
+        }
+
+        try {
+            return geminiClient.generate(baseUrl, model.getModel(), request.withCachedContent(cachedContent.get()));
+        } catch (FeignException e) {
+            if (!GeminiContextCache.isCacheRejected(e)) {
+                throw e;
+            }
+            log.warn("Cached content rejected, retrying with full prompt. model: {}, status: {}", modelKey, e.status());
+            contextCache.invalidate(modelKey, request, cachedContent.get());
+            return geminiClient.generate(baseUrl, model.getModel(), request);
+        }
+    }
+
+    // 기본 모델의 최근 p90 지연 시간 (표본이 부족하면 초기값)
+    private long hedgeDelayMillis(String modelKey) {
+        LlmProperties.Hedge hedge = properties.getHedge();
+        LatencyWindow window = latencyOf(modelKey);
+        if (window.getCount() < hedge.getMinSamples()) {
+            return hedge.getInitialDelayMs();
+        }
+        long delay = window.percentile(hedge.getPercentile());
+        return Math.max(hedge.getMinDelayMs(), Math.min(hedge.getMaxDelayMs(), delay));
+    }
+
+    private LatencyWindow latencyOf(String modelKey) {
+        return latencies.computeIfAbsent(modelKey, key -> new LatencyWindow(properties.getHedge().getWindowSize()));
+    }
+
+    private static class LlmThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "llm-router-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -4,8 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samnammae.chatbot_service.dto.response.ChatResponse;
 import com.samnammae.chatbot_service.exception.GlobalExceptionHandler;
 import com.samnammae.chatbot_service.service.ChatService;
-import com.samnammae.common.exception.CustomException;
-import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.common.auth.ManagedStoresArgumentResolver;
+import com.samnammae.common.auth.ManagedStoresCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,8 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -41,6 +40,8 @@ class ChatControllerTest {
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(chatController)
                 .setControllerAdvice(new GlobalExceptionHandler()) // 예외 핸들러 추가
+                // 실제 애플리케이션과 같이 X-MANAGED-STORE-IDS 헤더로 ManagedStores를 만들어 매장 권한 검증
+                .setCustomArgumentResolvers(new ManagedStoresArgumentResolver(new ManagedStoresCache(100)))
                 .build();
         objectMapper = new ObjectMapper();
     }
@@ -61,12 +62,11 @@ class ChatControllerTest {
 
         ChatResponse expectedResponse = new ChatResponse("test-session", "요청을 확인했습니다. AI 연동은 다음 이슈에서 진행될 예정입니다.");
 
-        doNothing().when(chatService).validateStoreAccess(storeId, managedStoreIds);
-        given(chatService.processChat("test-session", "안녕하세요"))
+        given(chatService.processChat(storeId, "test-session", "안녕하세요", null))
                 .willReturn(expectedResponse);
 
         // when & then
-        mockMvc.perform(post("/api/chat/api/chatbot/{storeId}/chat", storeId)
+        mockMvc.perform(post("/api/chatbot/{storeId}", storeId)
                         .header("X-MANAGED-STORE-IDS", managedStoreIds)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
@@ -91,17 +91,16 @@ class ChatControllerTest {
             }
             """;
 
-        doThrow(new CustomException(ErrorCode.STORE_ACCESS_DENIED))
-                .when(chatService).validateStoreAccess(storeId, managedStoreIds);
-
         // when & then
-        mockMvc.perform(post("/api/chat/api/chatbot/{storeId}/chat", storeId)
+        mockMvc.perform(post("/api/chatbot/{storeId}", storeId)
                         .header("X-MANAGED-STORE-IDS", managedStoreIds)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andDo(print())
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.success").value(false));
+
+        verifyNoInteractions(chatService);
     }
 
     @Test
@@ -120,12 +119,11 @@ class ChatControllerTest {
 
         ChatResponse expectedResponse = new ChatResponse("session-456", "요청을 확인했습니다. AI 연동은 다음 이슈에서 진행될 예정입니다.");
 
-        doNothing().when(chatService).validateStoreAccess(storeId, managedStoreIds);
-        given(chatService.processChat("session-456", "메뉴 추천해주세요"))
+        given(chatService.processChat(storeId, "session-456", "메뉴 추천해주세요", null))
                 .willReturn(expectedResponse);
 
         // when & then
-        mockMvc.perform(post("/api/chat/api/chatbot/{storeId}/chat", storeId)
+        mockMvc.perform(post("/api/chatbot/{storeId}", storeId)
                         .header("X-MANAGED-STORE-IDS", managedStoreIds)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
@@ -149,10 +147,8 @@ class ChatControllerTest {
             }
             """;
 
-        doNothing().when(chatService).validateStoreAccess(storeId, managedStoreIds);
-
         // when & then
-        mockMvc.perform(post("/api/chat/api/chatbot/{storeId}/chat", storeId)
+        mockMvc.perform(post("/api/chatbot/{storeId}", storeId)
                         .header("X-MANAGED-STORE-IDS", managedStoreIds)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(invalidRequestBody))
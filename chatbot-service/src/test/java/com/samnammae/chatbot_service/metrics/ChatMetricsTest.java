@@ -0,0 +1,65 @@
+package com.samnammae.chatbot_service.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ChatMetrics chatMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        chatMetrics = new ChatMetrics(registry, 0);
+    }
+
+    @Test
+    @DisplayName("단계 측정 - 예외가 발생한 호출도 단계 타이머에 기록")
+    void record_StageTimer() {
+        // when
+        String result = chatMetrics.record(ChatMetrics.Stage.PROMPT_BUILD, () -> "prompt");
+        assertThrows(IllegalStateException.class, () -> chatMetrics.record(ChatMetrics.Stage.GEMINI_CALL, () -> {
+            throw new IllegalStateException("fail");
+        }));
+
+        // then
+        assertEquals("prompt", result);
+        Timer promptBuild = registry.get("chatbot.stage.duration").tag("stage", "prompt_build").timer();
+        Timer geminiCall = registry.get("chatbot.stage.duration").tag("stage", "gemini_call").timer();
+        assertEquals(1, promptBuild.count());
+        assertEquals(1, geminiCall.count());
+    }
+
+    @Test
+    @DisplayName("크기 기록 - 매장별로 프롬프트/응답 크기와 토큰 수를 분리 집계")
+    void recordPromptAndResponse_PerStore() {
+        // when
+        chatMetrics.recordPrompt(1L, 1000, 300, 250);
+        chatMetrics.recordPrompt(1L, 2000, null, null);
+        chatMetrics.recordPrompt(2L, 500, 150, null);
+        chatMetrics.recordResponse(1L, 80, 20);
+
+        // then
+        DistributionSummary store1Chars = registry.get("chatbot.prompt.chars").tag("store", "1").summary();
+        assertEquals(2, store1Chars.count());
+        assertEquals(3000, store1Chars.totalAmount());
+        assertEquals(1, registry.get("chatbot.prompt.tokens").tag("store", "1").summary().count());
+        assertEquals(150, registry.get("chatbot.prompt.tokens").tag("store", "2").summary().totalAmount());
+        assertEquals(250, registry.get("chatbot.prompt.cached_tokens").tag("store", "1").summary().totalAmount());
+        assertEquals(20, registry.get("chatbot.response.tokens").tag("store", "1").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("로그 샘플링 - 비율이 0이면 요약 로그를 남기지 않음")
+    void sampleTurnLog_Disabled() {
+        assertFalse(chatMetrics.sampleTurnLog());
+        assertTrue(new ChatMetrics(registry, 1.0).sampleTurnLog());
+    }
+}
@@ -0,0 +1,70 @@
+package com.samnammae.chatbot_service.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("한도와 대기열이 모두 차면 즉시 거절")
+    void tryAcquire_RejectsWhenQueueFull() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 4, 0, 1000, 100, 0.5);
+        assertTrue(limiter.tryAcquire());
+
+        // when
+        long startedAt = System.nanoTime();
+        boolean acquired = limiter.tryAcquire();
+
+        // then
+        assertFalse(acquired);
+        assertTrue((System.nanoTime() - startedAt) / 1_000_000 < 100);
+    }
+
+    @Test
+    @DisplayName("느린 응답이 이어지면 한도 감소, 빠른 응답이 이어지면 한도 증가")
+    void limit_AdjustsByLatency() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 16, 0, 0, 100, 0.5);
+
+        // when: 느린 응답
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(500);
+
+        // then
+        assertEquals(4, limiter.getLimit());
+
+        // when: 한도를 모두 사용하는 빠른 응답 반복
+        for (int round = 0; round < 20; round++) {
+            int limit = limiter.getLimit();
+            for (int i = 0; i < limit; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = 0; i < limit; i++) {
+                limiter.onSuccess(10);
+            }
+        }
+
+        // then
+        assertTrue(limiter.getLimit() > 4);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("실패가 이어져도 최소 한도 아래로 내려가지 않음")
+    void limit_NotBelowMinimum() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 16, 0, 0, 100, 0.5);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onDropped();
+        }
+
+        // then
+        assertEquals(2, limiter.getLimit());
+    }
+}
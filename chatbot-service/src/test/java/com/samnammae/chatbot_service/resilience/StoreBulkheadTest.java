@@ -0,0 +1,45 @@
+package com.samnammae.chatbot_service.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreBulkheadTest {
+
+    @Test
+    @DisplayName("매장별 동시 호출 수가 상한에 도달하면 거절하고 다른 매장은 영향 없음")
+    void tryAcquire_LimitsPerStore() {
+        // given
+        StoreBulkhead bulkhead = new StoreBulkhead(2);
+        assertTrue(bulkhead.tryAcquire(1L));
+        assertTrue(bulkhead.tryAcquire(1L));
+
+        // when & then
+        assertFalse(bulkhead.tryAcquire(1L));
+        assertTrue(bulkhead.tryAcquire(2L));
+        assertEquals(0, bulkhead.availablePermits(1L));
+
+        bulkhead.release(1L);
+        assertTrue(bulkhead.tryAcquire(1L));
+    }
+
+    @Test
+    @DisplayName("진행 중인 호출이 모두 끝난 매장은 항목을 지워 매장 수만큼 쌓이지 않음")
+    void release_RemovesIdleStores() {
+        // given
+        StoreBulkhead bulkhead = new StoreBulkhead(5);
+        for (long storeId = 1; storeId <= 1000; storeId++) {
+            assertTrue(bulkhead.tryAcquire(storeId));
+        }
+
+        // when
+        for (long storeId = 1; storeId <= 1000; storeId++) {
+            bulkhead.release(storeId);
+        }
+
+        // then
+        assertEquals(0, bulkhead.trackedStores());
+        assertEquals(5, bulkhead.availablePermits(1L));
+    }
+}
@@ -0,0 +1,83 @@
+package com.samnammae.chatbot_service.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveSessionRegistryTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private ActiveSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ActiveSessionRegistry(2, 1000, now::get);
+    }
+
+    @Test
+    @DisplayName("세션 진입 - 상한에 도달하면 새 세션은 거절하고 기존 세션은 계속 허용")
+    void tryEnter_LimitReached() {
+        // given
+        assertTrue(registry.tryEnter(1L, "s1"));
+        assertTrue(registry.tryEnter(1L, "s2"));
+
+        // when & then
+        assertFalse(registry.tryEnter(1L, "s3"));
+        assertTrue(registry.tryEnter(1L, "s1"));
+        assertTrue(registry.tryEnter(2L, "s3")); // 다른 매장은 별도 집계
+        assertEquals(2, registry.getActiveCount(1L));
+    }
+
+    @Test
+    @DisplayName("세션 진입 - 상한 도달 시 유휴 세션을 정리하고 새 세션 허용")
+    void tryEnter_EvictsIdleSession() {
+        // given
+        registry.tryEnter(1L, "s1");
+        now.set(500);
+        registry.tryEnter(1L, "s2");
+
+        // when
+        now.set(1200); // s1만 유휴 시간 초과
+        boolean entered = registry.tryEnter(1L, "s3");
+
+        // then
+        assertTrue(entered);
+        assertEquals(2, registry.getActiveCount(1L));
+        assertTrue(registry.tryEnter(1L, "s2"));
+        assertFalse(registry.tryEnter(1L, "s1"));
+    }
+
+    @Test
+    @DisplayName("세션 종료 - 주문 완료된 세션 자리는 바로 반환")
+    void leave_FreesSlot() {
+        // given
+        registry.tryEnter(1L, "s1");
+        registry.tryEnter(1L, "s2");
+
+        // when
+        registry.leave(1L, "s1");
+
+        // then
+        assertTrue(registry.tryEnter(1L, "s3"));
+    }
+
+    @Test
+    @DisplayName("주기적 정리 - 유휴 시간이 지난 세션 제거")
+    void evictIdleSessions() {
+        // given
+        registry.tryEnter(1L, "s1");
+        registry.tryEnter(2L, "s2");
+
+        // when
+        now.set(1000);
+        registry.evictIdleSessions();
+
+        // then
+        assertEquals(0, registry.getActiveCount(1L));
+        assertEquals(0, registry.getActiveCount(2L));
+    }
+}
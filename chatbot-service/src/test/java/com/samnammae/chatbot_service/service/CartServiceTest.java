@@ -0,0 +1,177 @@
+package com.samnammae.chatbot_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.chatbot_service.domain.cart.Cart;
+import com.samnammae.chatbot_service.domain.cart.CartItem;
+import com.samnammae.chatbot_service.dto.request.OrderRequestDto;
+import com.samnammae.chatbot_service.dto.response.AssistantTurnDto;
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CartServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CartService cartService = new CartService();
+
+    private MenuSnapshot menuSnapshot;
+    private Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        MenuWithOptionsResponseDto.OptionCategory size = new MenuWithOptionsResponseDto.OptionCategory(
+                14L, "사이즈", "SINGLE", true, List.of(
+                new MenuWithOptionsResponseDto.Option(52L, "레귤러", 0, true),
+                new MenuWithOptionsResponseDto.Option(53L, "라지", 1000, false)));
+        MenuWithOptionsResponseDto.OptionCategory topping = new MenuWithOptionsResponseDto.OptionCategory(
+                15L, "추가", "MULTIPLE", false, List.of(
+                new MenuWithOptionsResponseDto.Option(55L, "샷 추가", 500, false),
+                new MenuWithOptionsResponseDto.Option(56L, "시럽 추가", 300, false)));
+
+        MenuWithOptionsResponseDto.MenuDetail americano = new MenuWithOptionsResponseDto.MenuDetail(
+                8L, "아메리카노", 5500, "기본 커피", List.of(size, topping), false);
+        MenuWithOptionsResponseDto.MenuDetail latte = new MenuWithOptionsResponseDto.MenuDetail(
+                9L, "라떼", 6000, "우유 커피", List.of(), true);
+
+        menuSnapshot = new MenuSnapshot(1L, "v1", "메뉴", Map.of(8L, americano, 9L, latte));
+        cart = new Cart();
+    }
+
+    @Test
+    @DisplayName("메뉴 추가와 옵션 선택 - 가격은 메뉴 스냅샷 기준으로 계산")
+    void apply_AddItemAndSetOptions() throws Exception {
+        // when
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8, \"quantity\": 2}"), menuSnapshot);
+        cartService.apply(cart, toolCall("set_option", "{\"line\": 1, \"optionCategoryId\": 14, \"optionIds\": [53]}"), menuSnapshot);
+        cartService.apply(cart, toolCall("set_option", "{\"line\": 1, \"optionCategoryId\": 15, \"optionIds\": [55, 56]}"), menuSnapshot);
+
+        // then
+        CartItem item = cart.getItems().get(0);
+        assertEquals(1, item.getLine());
+        assertEquals(1800, item.getOptionPrice());
+        assertEquals((5500 + 1800) * 2, item.getTotalPrice());
+        assertEquals(item.getTotalPrice(), cart.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("단일 선택 옵션에 여러 옵션 선택 시 예외")
+    void apply_SingleOptionWithMultipleIds() throws Exception {
+        // given
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8}"), menuSnapshot);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class, () -> cartService.apply(cart,
+                toolCall("set_option", "{\"line\": 1, \"optionCategoryId\": 14, \"optionIds\": [52, 53]}"), menuSnapshot));
+        assertEquals(ErrorCode.CART_SINGLE_OPTION_ONLY, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("품절 메뉴, 없는 메뉴, 다른 메뉴의 옵션은 담을 수 없음")
+    void apply_InvalidRequests() throws Exception {
+        // given
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8}"), menuSnapshot);
+
+        // when & then
+        assertEquals(ErrorCode.CART_MENU_SOLD_OUT, assertThrows(CustomException.class, () ->
+                cartService.apply(cart, toolCall("add_item", "{\"menuId\": 9}"), menuSnapshot)).getErrorCode());
+        assertEquals(ErrorCode.CART_MENU_NOT_FOUND, assertThrows(CustomException.class, () ->
+                cartService.apply(cart, toolCall("add_item", "{\"menuId\": 99}"), menuSnapshot)).getErrorCode());
+        assertEquals(ErrorCode.CART_INVALID_OPTION, assertThrows(CustomException.class, () ->
+                cartService.apply(cart, toolCall("set_option", "{\"line\": 1, \"optionCategoryId\": 14, \"optionIds\": [55]}"), menuSnapshot)).getErrorCode());
+        assertEquals(1, cart.getItems().size());
+    }
+
+    @Test
+    @DisplayName("항목 삭제 후 새로 담으면 다음 line 번호 부여")
+    void apply_RemoveItem() throws Exception {
+        // given
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8}"), menuSnapshot);
+
+        // when
+        cartService.apply(cart, toolCall("remove_item", "{\"line\": 1}"), menuSnapshot);
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8}"), menuSnapshot);
+
+        // then
+        assertEquals(1, cart.getItems().size());
+        assertEquals(2, cart.getItems().get(0).getLine());
+    }
+
+    @Test
+    @DisplayName("주문 요청 생성 - 서버 계산 가격으로 생성")
+    void toOrderRequest_Success() throws Exception {
+        // given
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8, \"quantity\": 1}"), menuSnapshot);
+        cartService.apply(cart, toolCall("set_option", "{\"line\": 1, \"optionCategoryId\": 14, \"optionIds\": [53]}"), menuSnapshot);
+        cartService.apply(cart, toolCall("set_order_info", "{\"orderType\": \"TAKEOUT\", \"paymentMethod\": \"CARD\"}"), menuSnapshot);
+
+        // when
+        OrderRequestDto orderRequest = cartService.toOrderRequest(cart, 1L, "강남점");
+
+        // then
+        assertEquals(1L, orderRequest.getStoreId());
+        assertEquals("TAKEOUT", orderRequest.getOrderType());
+        assertEquals(6500, orderRequest.getTotalAmount());
+        assertEquals(1, orderRequest.getTotalItems());
+        assertEquals(List.of(53L), orderRequest.getItems().get(0).getSelectedOptions().get(14L));
+    }
+
+    @Test
+    @DisplayName("주문 요청 생성 - 주문 유형, 결제 방법이 없으면 예외")
+    void toOrderRequest_OrderInfoMissing() throws Exception {
+        // given
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8}"), menuSnapshot);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> cartService.toOrderRequest(cart, 1L, "강남점"));
+        assertEquals(ErrorCode.CART_ORDER_INFO_MISSING, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("한 턴의 도구 호출 일괄 반영 - 모두 성공하면 반영된 장바구니 반환")
+    void applyAll_Success() throws Exception {
+        // given
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8}"), menuSnapshot);
+
+        // when
+        Cart result = cartService.applyAll(cart, List.of(
+                toolCall("set_option", "{\"line\": 1, \"optionCategoryId\": 14, \"optionIds\": [53]}"),
+                toolCall("set_quantity", "{\"line\": 1, \"quantity\": 2}"),
+                toolCall("place_order", "{}")), menuSnapshot);
+
+        // then
+        assertEquals((5500 + 1000) * 2, result.getTotalAmount());
+        assertEquals(5500, cart.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("한 턴의 도구 호출 일괄 반영 - 중간에 실패하면 앞선 호출도 원래 장바구니에 반영되지 않음")
+    void applyAll_FailureKeepsOriginalCart() throws Exception {
+        // given
+        cartService.apply(cart, toolCall("add_item", "{\"menuId\": 8}"), menuSnapshot);
+        List<AssistantTurnDto.ToolCall> toolCalls = List.of(
+                toolCall("set_option", "{\"line\": 1, \"optionCategoryId\": 14, \"optionIds\": [53]}"),
+                toolCall("add_item", "{\"menuId\": 8}"),
+                toolCall("add_item", "{\"menuId\": 9}"));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> cartService.applyAll(cart, toolCalls, menuSnapshot));
+        assertEquals(ErrorCode.CART_MENU_SOLD_OUT, exception.getErrorCode());
+        assertEquals(1, cart.getItems().size());
+        assertTrue(cart.getItems().get(0).getSelectedOptions().isEmpty());
+        assertEquals(5500, cart.getTotalAmount());
+    }
+
+    private AssistantTurnDto.ToolCall toolCall(String name, String args) throws Exception {
+        return objectMapper.readValue("{\"name\": \"" + name + "\", \"args\": " + args + "}", AssistantTurnDto.ToolCall.class);
+    }
+}
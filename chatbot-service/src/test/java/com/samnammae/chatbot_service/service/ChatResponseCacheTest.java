@@ -0,0 +1,100 @@
+package com.samnammae.chatbot_service.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatResponseCacheTest {
+
+    private ChatResponseCache chatResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        chatResponseCache = new ChatResponseCache(true, 2, 100);
+    }
+
+    @Test
+    @DisplayName("질문 정규화 - 공백, 문장부호, 어미 차이는 같은 키로 처리")
+    void normalize_EquivalentQuestions() {
+        // when
+        String key1 = ChatResponseCache.normalize("메뉴 알려주세요?");
+        String key2 = ChatResponseCache.normalize("메뉴알려 줘요!");
+        String key3 = ChatResponseCache.normalize("  메뉴 알려줘  ");
+
+        // then
+        assertEquals("메뉴알려줘", key1);
+        assertEquals(key1, key2);
+        assertEquals(key1, key3);
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 같은 메뉴 버전이면 정규화된 질문으로 조회 성공")
+    void get_Hit() {
+        // given
+        chatResponseCache.put(1L, "v1", "메뉴 알려주세요", "커피와 디저트가 있습니다.");
+
+        // when
+        Optional<String> result = chatResponseCache.get(1L, "v1", "메뉴 알려줘?");
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals("커피와 디저트가 있습니다.", result.get());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 메뉴 버전이 바뀌면 기존 응답은 무효")
+    void get_MenuVersionChanged() {
+        // given
+        chatResponseCache.put(1L, "v1", "메뉴 알려주세요", "커피와 디저트가 있습니다.");
+
+        // when
+        chatResponseCache.put(1L, "v2", "영업시간", "오전 9시부터 영업합니다.");
+
+        // then
+        assertTrue(chatResponseCache.get(1L, "v1", "메뉴 알려주세요").isEmpty());
+        assertTrue(chatResponseCache.get(1L, "v2", "메뉴 알려주세요").isEmpty());
+        assertTrue(chatResponseCache.get(1L, "v2", "영업시간").isPresent());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 매장별로 분리")
+    void get_OtherStore() {
+        // given
+        chatResponseCache.put(1L, "v1", "메뉴 알려주세요", "커피와 디저트가 있습니다.");
+
+        // when & then
+        assertTrue(chatResponseCache.get(2L, "v1", "메뉴 알려주세요").isEmpty());
+    }
+
+    @Test
+    @DisplayName("캐시 저장 - 매장별 최대 개수를 넘으면 가장 오래 사용하지 않은 응답 제거")
+    void put_LruEviction() {
+        // given
+        chatResponseCache.put(1L, "v1", "질문1", "답변1");
+        chatResponseCache.put(1L, "v1", "질문2", "답변2");
+        chatResponseCache.get(1L, "v1", "질문1");
+
+        // when
+        chatResponseCache.put(1L, "v1", "질문3", "답변3");
+
+        // then
+        assertTrue(chatResponseCache.get(1L, "v1", "질문1").isPresent());
+        assertTrue(chatResponseCache.get(1L, "v1", "질문2").isEmpty());
+        assertTrue(chatResponseCache.get(1L, "v1", "질문3").isPresent());
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 시 저장, 조회하지 않음")
+    void disabled() {
+        // given
+        ChatResponseCache disabledCache = new ChatResponseCache(false, 2, 100);
+        disabledCache.put(1L, "v1", "메뉴 알려주세요", "커피와 디저트가 있습니다.");
+
+        // when & then
+        assertTrue(disabledCache.get(1L, "v1", "메뉴 알려주세요").isEmpty());
+    }
+}
@@ -1,103 +1,170 @@
 package com.samnammae.chatbot_service.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.chatbot_service.client.OrderServiceClient;
 import com.samnammae.chatbot_service.domain.conversation.Conversation;
 import com.samnammae.chatbot_service.domain.conversation.ConversationRepository;
+import com.samnammae.chatbot_service.domain.message.Message;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
 import com.samnammae.chatbot_service.dto.response.ChatResponse;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.metrics.ChatMetrics;
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ChatServiceTest {
 
+    private static final Long STORE_ID = 1L;
+
     @Mock
     private ConversationRepository conversationRepository;
 
-    @InjectMocks
+    @Mock
+    private MenuSnapshotService menuSnapshotService;
+
+    @Mock
+    private GeminiPromptService geminiPromptService;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private OrderValidator orderValidator;
+
+    @Mock
+    private GeminiCallService geminiCallService;
+
+    @Mock
+    private OrderServiceClient orderServiceClient;
+
+    @Mock
+    private ChatResponseCache chatResponseCache;
+
+    @Mock
+    private ActiveSessionRegistry activeSessionRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MenuSnapshot menuSnapshot = new MenuSnapshot(STORE_ID, "v1", "메뉴", Map.of());
+
     private ChatService chatService;
 
+    @BeforeEach
+    void setUp() {
+        chatService = new ChatService(conversationRepository, menuSnapshotService, geminiPromptService, cartService,
+                orderValidator, geminiCallService, orderServiceClient, chatResponseCache, activeSessionRegistry,
+                new ChatMetrics(new SimpleMeterRegistry(), 0), objectMapper);
+    }
+
     @Test
-    @DisplayName("매장 권한 검증 - 권한이 있는 경우")
-    void validateStoreAccess_Success() {
+    @DisplayName("채팅 처리 - 기존 대화가 있는 경우 이전 대화에 이어서 응답하고 응답 캐시는 사용하지 않음")
+    void processChat_ExistingConversation() throws Exception {
         // given
-        Long storeId = 1L;
-        String managedStoreIds = "1,2,3";
+        Conversation conversation = new Conversation("test-session", STORE_ID);
+        conversation.addMessage(Message.of("USER", "안녕하세요"));
+        conversation.addMessage(Message.of("AI", "무엇을 도와드릴까요?"));
+        givenTurn("test-session", conversation, "{\"reply\": \"아메리카노는 4500원입니다.\"}");
+
+        // when
+        ChatResponse response = chatService.processChat(STORE_ID, "test-session", "아메리카노 얼마예요?", "강남점");
 
-        // when & then
-        assertDoesNotThrow(() -> chatService.validateStoreAccess(storeId, managedStoreIds));
+        // then
+        assertEquals("test-session", response.getSessionId());
+        assertEquals("아메리카노는 4500원입니다.", response.getAiMessage());
+        assertEquals(4, conversation.getMessages().size());
+        verify(geminiCallService).call(eq(STORE_ID), any(GeminiRequest.class), eq(LlmRouter.Route.DEFAULT));
+        verify(conversationRepository).save(conversation);
+        verifyNoInteractions(chatResponseCache);
     }
 
     @Test
-    @DisplayName("매장 권한 검증 - 권한이 없는 경우")
-    void validateStoreAccess_Failure() {
+    @DisplayName("채팅 처리 - 새로운 대화인 경우 대화를 만들고 첫 질문 응답을 캐시에 저장")
+    void processChat_NewConversation() throws Exception {
         // given
-        Long storeId = 4L;
-        String managedStoreIds = "1,2,3";
-
-        // when & then
-        CustomException exception = assertThrows(
-                CustomException.class,
-                () -> chatService.validateStoreAccess(storeId, managedStoreIds)
-        );
-        assertEquals(ErrorCode.STORE_ACCESS_DENIED, exception.getErrorCode());
+        givenTurn("new-session", null, "{\"reply\": \"어서 오세요.\"}");
+
+        // when
+        ChatResponse response = chatService.processChat(STORE_ID, "new-session", "처음 질문입니다", "강남점");
+
+        // then
+        assertEquals("new-session", response.getSessionId());
+        assertEquals("어서 오세요.", response.getAiMessage());
+        verify(geminiCallService).call(eq(STORE_ID), any(GeminiRequest.class), eq(LlmRouter.Route.SIMPLE));
+        verify(chatResponseCache).put(STORE_ID, "v1", "처음 질문입니다", "어서 오세요.");
+
+        ArgumentCaptor<Conversation> saved = ArgumentCaptor.forClass(Conversation.class);
+        verify(conversationRepository).save(saved.capture());
+        assertEquals("new-session", saved.getValue().getSessionId());
+        assertEquals(2, saved.getValue().getMessages().size());
     }
 
     @Test
-    @DisplayName("채팅 처리 - 기존 대화가 있는 경우")
-    void processChat_ExistingConversation() {
+    @DisplayName("채팅 처리 - 도구 호출이 거절되면 이유를 안내하고 장바구니는 이전 상태 유지")
+    void processChat_ToolCallRejected_KeepsCart() throws Exception {
         // given
-        String sessionId = "test-session";
-        String userMessage = "안녕하세요";
-        Conversation existingConversation = new Conversation(sessionId);
-
-        when(conversationRepository.findBySessionId(sessionId))
-                .thenReturn(Optional.of(existingConversation));
-        when(conversationRepository.save(any(Conversation.class)))
-                .thenReturn(existingConversation);
+        Conversation conversation = new Conversation("test-session", STORE_ID);
+        conversation.addMessage(Message.of("USER", "라떼 주세요"));
+        var cart = conversation.getCart();
+        givenTurn("test-session", conversation,
+                "{\"reply\": \"담았습니다.\", \"tool_calls\": [{\"name\": \"add_item\", \"args\": {\"menuId\": 9}}]}");
+        when(cartService.applyAll(eq(cart), anyList(), eq(menuSnapshot)))
+                .thenThrow(new CustomException(ErrorCode.CART_MENU_SOLD_OUT));
 
         // when
-        ChatResponse response = chatService.processChat(sessionId, userMessage);
+        ChatResponse response = chatService.processChat(STORE_ID, "test-session", "라떼 하나요", "강남점");
 
         // then
-        assertNotNull(response);
-        assertEquals(sessionId, response.getSessionId());
-        assertEquals("요청을 확인했습니다. AI 연동은 다음 이슈에서 진행될 예정입니다.", response.getAiMessage());
-        verify(conversationRepository).findBySessionId(sessionId);
-        verify(conversationRepository).save(any(Conversation.class));
+        assertEquals(ErrorCode.CART_MENU_SOLD_OUT.getMessage(), response.getAiMessage());
+        assertSame(cart, conversation.getCart());
+        verify(conversationRepository).save(conversation);
     }
 
     @Test
-    @DisplayName("채팅 처리 - 새로운 대화인 경우")
-    void processChat_NewConversation() {
+    @DisplayName("채팅 처리 - 매장 활성 세션 상한 초과 시 대화 기록 없이 안내 문구 응답")
+    void processChat_SessionLimit() {
         // given
-        String sessionId = "new-session";
-        String userMessage = "처음 질문입니다";
-
-        when(conversationRepository.findBySessionId(sessionId))
-                .thenReturn(Optional.empty());
-        when(conversationRepository.save(any(Conversation.class)))
-                .thenReturn(new Conversation(sessionId));
+        when(activeSessionRegistry.tryEnter(STORE_ID, "test-session")).thenReturn(false);
 
         // when
-        ChatResponse response = chatService.processChat(sessionId, userMessage);
+        ChatResponse response = chatService.processChat(STORE_ID, "test-session", "안녕하세요", "강남점");
 
         // then
-        assertNotNull(response);
-        assertEquals(sessionId, response.getSessionId());
-        assertEquals("요청을 확인했습니다. AI 연동은 다음 이슈에서 진행될 예정입니다.", response.getAiMessage());
-        verify(conversationRepository).findBySessionId(sessionId);
-        verify(conversationRepository).save(any(Conversation.class));
+        assertEquals(ErrorCode.CHATBOT_SESSION_LIMIT.getMessage(), response.getAiMessage());
+        verifyNoInteractions(conversationRepository, geminiCallService);
+    }
+
+    // conversation이 null이면 새 대화
+    private void givenTurn(String sessionId, Conversation conversation, String geminiText) throws Exception {
+        when(activeSessionRegistry.tryEnter(STORE_ID, sessionId)).thenReturn(true);
+        when(conversationRepository.findBySessionId(sessionId)).thenReturn(Optional.ofNullable(conversation));
+        when(menuSnapshotService.getSnapshot(STORE_ID, sessionId)).thenReturn(menuSnapshot);
+        when(geminiPromptService.createRequest(eq(menuSnapshot), any(Conversation.class)))
+                .thenReturn(new GeminiRequest("prompt"));
+        when(geminiCallService.call(eq(STORE_ID), any(GeminiRequest.class), any(LlmRouter.Route.class)))
+                .thenReturn(geminiResponse(geminiText));
+    }
+
+    private GeminiResponse geminiResponse(String text) throws Exception {
+        Map<String, Object> body = Map.of("candidates",
+                List.of(Map.of("content", Map.of("parts", List.of(Map.of("text", text))))));
+        return objectMapper.readValue(objectMapper.writeValueAsString(body), GeminiResponse.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package com.samnammae.chatbot_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.samnammae.chatbot_service.domain.archive.ArchivedSession;
+import com.samnammae.chatbot_service.domain.archive.ConversationArchive;
+import com.samnammae.chatbot_service.domain.conversation.Conversation;
+import com.samnammae.chatbot_service.domain.conversation.ConversationRepository;
+import com.samnammae.chatbot_service.domain.message.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ConversationArchiveServiceTest {
+
+    private ConversationRepository conversationRepository;
+    private MongoTemplate mongoTemplate;
+    private ConversationArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        conversationRepository = mock(ConversationRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        archiveService = new ConversationArchiveService(conversationRepository, mongoTemplate, objectMapper, 2, 5, 500, 10);
+    }
+
+    @Test
+    @DisplayName("메시지 압축 - 압축 후 복원하면 원래 메시지 목록과 동일")
+    void compress_RoundTrip() {
+        // given
+        List<Message> messages = List.of(Message.of("USER", "아메리카노 한 잔 주세요"), Message.of("AI", "네, 담았습니다."));
+
+        // when
+        byte[] compressed = archiveService.compress(messages);
+        List<Message> restored = archiveService.readMessages(new ArchivedSession("s1", null, null, 2, compressed));
+
+        // then
+        assertEquals(2, restored.size());
+        assertEquals("USER", restored.get(0).getRole());
+        assertEquals("아메리카노 한 잔 주세요", restored.get(0).getContent());
+        assertEquals(messages.get(1).getTimestamp(), restored.get(1).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("세션 보관 - 매장/일자 버킷에 추가한 뒤 원본 대화 삭제")
+    void archive_PushesToBucketAndDeletes() {
+        // given
+        Conversation conversation = new Conversation("s1", 1L);
+        conversation.addMessage(Message.of("USER", "주문할게요"));
+        conversation.complete();
+        claimSucceeds();
+
+        // when
+        boolean archived = archiveService.archive(conversation);
+
+        // then
+        assertTrue(archived);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(ConversationArchive.class));
+        assertEquals(1L, query.getValue().getQueryObject().get("storeId"));
+        assertEquals(LocalDateTime.now().toLocalDate().toString(), query.getValue().getQueryObject().get("day"));
+        assertTrue(update.getValue().modifies("sessions"));
+        verify(conversationRepository).delete(conversation);
+    }
+
+    @Test
+    @DisplayName("세션 보관 - 다른 인스턴스가 먼저 선점한 세션은 건너뜀")
+    void archive_ClaimedByOtherInstance_Skips() {
+        // given
+        Conversation conversation = completed("s1");
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(Conversation.class))).thenReturn(null);
+
+        // when
+        boolean archived = archiveService.archive(conversation);
+
+        // then
+        assertFalse(archived);
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(ConversationArchive.class));
+        verify(conversationRepository, never()).delete(any(Conversation.class));
+    }
+
+    @Test
+    @DisplayName("세션 보관 - 버킷에 이미 보관된 세션(원본 삭제 전 중단)은 다시 추가하지 않고 원본만 삭제")
+    void archive_AlreadyArchived_DeletesWithoutPush() {
+        // given
+        Conversation conversation = completed("s1");
+        claimSucceeds();
+        when(mongoTemplate.exists(any(Query.class), eq(ConversationArchive.class))).thenReturn(true);
+
+        // when
+        archiveService.archive(conversation);
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).exists(query.capture(), eq(ConversationArchive.class));
+        assertEquals("s1", query.getValue().getQueryObject().get("sessions.sessionId"));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(ConversationArchive.class));
+        verify(conversationRepository).delete(conversation);
+    }
+
+    @Test
+    @DisplayName("보관 스케줄 - 배치가 가득 차면 다음 배치를 이어서 처리")
+    void archiveCompletedSessions_Batches() {
+        // given
+        Conversation c1 = completed("s1");
+        Conversation c2 = completed("s2");
+        Conversation c3 = completed("s3");
+        when(conversationRepository.findArchivable(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(c1, c2))
+                .thenReturn(List.of(c3));
+        claimSucceeds();
+
+        // when
+        archiveService.archiveCompletedSessions();
+
+        // then
+        verify(conversationRepository, times(2))
+                .findArchivable(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
+        verify(mongoTemplate, times(3)).upsert(any(Query.class), any(Update.class), eq(ConversationArchive.class));
+        verify(conversationRepository, times(3)).delete(any(Conversation.class));
+    }
+
+    // findAndModify는 선점 전 문서를 돌려주므로 null이 아니면 선점 성공
+    private void claimSucceeds() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(Conversation.class)))
+                .thenReturn(new Conversation("claimed", 1L));
+    }
+
+    private Conversation completed(String sessionId) {
+        Conversation conversation = new Conversation(sessionId, 1L);
+        conversation.complete();
+        return conversation;
+    }
+}
@@ -0,0 +1,207 @@
+package com.samnammae.chatbot_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.resilience.AdaptiveConcurrencyLimiter;
+import com.samnammae.chatbot_service.resilience.StoreBulkhead;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 느린 가짜 Gemini 서버를 상대로 한 GeminiCallService 부하 테스트
+ */
+class GeminiCallServiceLoadTest {
+
+    private static final String OK_BODY = """
+            {"candidates":[{"content":{"parts":[{"text":"네, 안내해 드릴게요."}]}}]}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+    private final AtomicInteger totalCalls = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private ExecutorService clients;
+
+    @AfterEach
+    void tearDown() {
+        if (clients != null) {
+            clients.shutdownNow();
+        }
+        if (server != null) {
+            server.stop(0);
+            serverThreads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("느린 Gemini - 동시 호출 수 제한, 초과 요청 즉시 거절, 다른 매장은 정상 처리")
+    void slowGemini_LimitsConcurrencyAndKeepsFairness() throws Exception {
+        // given
+        startFakeGemini(300, 200);
+        GeminiCallService geminiCallService = new GeminiCallService(
+                fakeLlmRouter(),
+                new StoreBulkhead(6),
+                new AdaptiveConcurrencyLimiter(8, 2, 8, 10, 1000, 1000, 0.9),
+                CircuitBreaker.of("gemini-test", CircuitBreakerConfig.ofDefaults()));
+
+        clients = Executors.newFixedThreadPool(50);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<CallResult>> busyStoreCalls = new ArrayList<>();
+        List<Future<CallResult>> quietStoreCalls = new ArrayList<>();
+
+        // when: 바쁜 매장 40건, 조용한 매장 2건 동시 요청
+        for (int i = 0; i < 40; i++) {
+            busyStoreCalls.add(clients.submit(() -> timedCall(geminiCallService, 1L, startGate)));
+        }
+        for (int i = 0; i < 2; i++) {
+            quietStoreCalls.add(clients.submit(() -> timedCall(geminiCallService, 2L, startGate)));
+        }
+        startGate.countDown();
+
+        // then
+        List<CallResult> busyResults = collect(busyStoreCalls);
+        List<CallResult> quietResults = collect(quietStoreCalls);
+
+        assertTrue(maxConcurrentCalls.get() <= 8, "동시 호출 수가 한도를 넘음: " + maxConcurrentCalls.get());
+
+        long busySucceeded = busyResults.stream().filter(r -> r.errorCode == null).count();
+        assertTrue(busySucceeded <= 6, "매장 격벽 한도를 넘어 처리됨: " + busySucceeded);
+        assertTrue(busyResults.stream()
+                .filter(r -> r.errorCode == ErrorCode.CHATBOT_OVERLOADED)
+                .allMatch(r -> r.elapsedMillis < 300), "거절된 요청이 느린 호출을 기다림");
+
+        assertTrue(quietResults.stream().allMatch(r -> r.errorCode == null), "다른 매장 요청이 거절됨");
+    }
+
+    @Test
+    @DisplayName("Gemini 장애 - 서킷이 열리면 서버를 호출하지 않고 즉시 실패")
+    void failingGemini_OpensCircuit() throws Exception {
+        // given
+        startFakeGemini(0, 500);
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("gemini-test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(5)
+                .minimumNumberOfCalls(5)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        GeminiCallService geminiCallService = new GeminiCallService(
+                fakeLlmRouter(),
+                new StoreBulkhead(5),
+                new AdaptiveConcurrencyLimiter(8, 2, 8, 10, 1000, 1000, 0.9),
+                circuitBreaker);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> geminiCallService.call(1L, new GeminiRequest("메뉴 알려줘"), LlmRouter.Route.DEFAULT));
+            assertEquals(ErrorCode.GEMINI_UNAVAILABLE, exception.getErrorCode());
+        }
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(5, totalCalls.get());
+    }
+
+    private void startFakeGemini(long delayMillis, int status) throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverThreads = Executors.newFixedThreadPool(32);
+        server.setExecutor(serverThreads);
+        server.createContext("/", exchange -> {
+            int current = concurrentCalls.incrementAndGet();
+            maxConcurrentCalls.accumulateAndGet(current, Math::max);
+            totalCalls.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+                byte[] body = OK_BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentCalls.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    // Feign 대신 JDK HttpClient로 가짜 서버를 호출하는 LlmRouter
+    private LlmRouter fakeLlmRouter() {
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1beta/models/fake:generateContent");
+        return (request, route) -> {
+            try {
+                HttpRequest httpRequest = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofSeconds(5))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                        .build();
+                HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 400) {
+                    throw new IllegalStateException("Gemini error status: " + response.statusCode());
+                }
+                return objectMapper.readValue(response.body(), GeminiResponse.class);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private CallResult timedCall(GeminiCallService geminiCallService, Long storeId, CountDownLatch startGate)
+            throws InterruptedException {
+        startGate.await();
+        long startedAt = System.nanoTime();
+        try {
+            geminiCallService.call(storeId, new GeminiRequest("메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+            return new CallResult(null, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (CustomException e) {
+            return new CallResult(e.getErrorCode(), (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    private List<CallResult> collect(List<Future<CallResult>> futures) throws Exception {
+        List<CallResult> results = new ArrayList<>();
+        for (Future<CallResult> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private record CallResult(ErrorCode errorCode, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,382 @@
+package com.samnammae.chatbot_service.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.chatbot_service.client.GeminiCacheClient;
+import com.samnammae.chatbot_service.client.GeminiClient;
+import com.samnammae.chatbot_service.config.LlmProperties;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.CachedContentResponse;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.service.impl.HedgingLlmRouter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * cachedContents 엔드포인트를 구현한 로컬 스텁 서버를 상대로 한 컨텍스트 캐시 테스트
+ */
+class GeminiContextCacheTest {
+
+    private static final String SYSTEM_PROMPT = "# ROLE\nYou are a kiosk assistant.";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private StubGemini stub;
+    private LlmProperties properties;
+    private GeminiContextCache contextCache;
+    private HedgingLlmRouter router;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubGemini();
+
+        LlmProperties.Model model = new LlmProperties.Model();
+        model.setBaseUrl("http://127.0.0.1:" + stub.server.getAddress().getPort());
+        model.setModel("flash-lite-model");
+
+        LlmProperties.Route route = new LlmProperties.Route();
+        route.setPrimary("flash-lite");
+
+        properties = new LlmProperties();
+        properties.getModels().put("flash-lite", model);
+        properties.getRoutes().put("default", route);
+        properties.getHedge().setEnabled(false);
+        properties.getContextCache().setMinPrefixChars(0);
+        properties.setExecutorThreads(2);
+
+        contextCache = new GeminiContextCache(cacheClient(), properties);
+        router = new HedgingLlmRouter(geminiClient(), properties, contextCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.shutdown();
+        contextCache.deleteAll();
+        stub.server.stop(0);
+    }
+
+    @Test
+    @DisplayName("캐시가 만들어지기 전에는 전체 프롬프트를 전송하고, 이후 요청은 캐시 이름과 변동부만 전송")
+    void sameVersion_ReusesCache() throws Exception {
+        // when
+        GeminiResponse first = router.generate(request("v1", "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+        GeminiResponse second = router.generate(request("v1", "USER: 아메리카노 주세요"), LlmRouter.Route.DEFAULT);
+        GeminiResponse third = router.generate(request("v1", "USER: 라지로 주세요"), LlmRouter.Route.DEFAULT);
+
+        // then
+        assertEquals("full", first.extractText());
+        assertEquals("cached", second.extractText());
+        assertEquals("cached", third.extractText());
+        assertEquals(1, stub.creates.get());
+        assertTrue(stub.createBodies.get(0).contains("# MENU DATA"));
+        assertEquals(3, stub.generateBodies.size());
+        for (JsonNode body : stub.generateBodies.subList(1, 3)) {
+            assertEquals("cachedContents/c1", body.path("cachedContent").asText());
+            assertTrue(body.path("systemInstruction").isMissingNode());
+            assertFalse(body.toString().contains("# MENU DATA"));
+        }
+        assertTrue(stub.generateBodies.get(1).toString().contains("아메리카노 주세요"));
+    }
+
+    @Test
+    @DisplayName("캐시 생성 응답이 늦어도 대화 요청은 기다리지 않고 전체 프롬프트로 바로 응답")
+    void slowCreate_DoesNotBlockRequest() throws Exception {
+        // given
+        stub.createDelayMs = 1000;
+
+        // when
+        long startedAt = System.nanoTime();
+        GeminiResponse first = router.generate(request("v1", "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        GeminiResponse second = router.generate(request("v1", "USER: 아메리카노 주세요"), LlmRouter.Route.DEFAULT);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        awaitCache();
+
+        // then
+        assertEquals("full", first.extractText());
+        assertEquals("full", second.extractText());
+        assertTrue(elapsedMs < 1000, "elapsed: " + elapsedMs);
+        assertEquals(1, stub.creates.get());
+    }
+
+    @Test
+    @DisplayName("메뉴 버전이 바뀌면 새 캐시를 만들고 이전 캐시는 삭제")
+    void versionChanged_RecreatesAndDeletesOldCache() throws Exception {
+        // given
+        router.generate(request("v1", "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+
+        // when
+        GeminiResponse changed = router.generate(request("v2", "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+        router.generate(request("v2", "USER: 아메리카노 주세요"), LlmRouter.Route.DEFAULT);
+
+        // then
+        assertEquals("full", changed.extractText());
+        assertEquals(2, stub.creates.get());
+        assertEquals("cachedContents/c2", stub.generateBodies.get(2).path("cachedContent").asText());
+        waitUntil(() -> stub.deleted.contains("c1"));
+        assertTrue(stub.deleted.contains("c1"));
+    }
+
+    @Test
+    @DisplayName("캐시 생성이 실패하면 전체 프롬프트를 전송하고, 재시도 대기 중에는 다시 생성하지 않음")
+    void createFails_FallsBackToFullPrompt() throws Exception {
+        // given
+        stub.createStatus = 400;
+
+        // when
+        GeminiResponse first = router.generate(request("v1", "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+        GeminiResponse second = router.generate(request("v1", "USER: 아메리카노 주세요"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+
+        // then
+        assertEquals("full", first.extractText());
+        assertEquals("full", second.extractText());
+        assertEquals(1, stub.creates.get());
+        assertEquals(SYSTEM_PROMPT, stub.generateBodies.get(1).at("/systemInstruction/parts/0/text").asText());
+        assertTrue(stub.generateBodies.get(1).toString().contains("# MENU DATA"));
+    }
+
+    @Test
+    @DisplayName("서버에서 캐시가 사라지면 전체 프롬프트로 재시도하고, 캐시를 다시 생성")
+    void cacheExpiredOnServer_RetriesWithFullPrompt() throws Exception {
+        // given
+        router.generate(request("v1", "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+        stub.known.clear();
+
+        // when
+        GeminiResponse retried = router.generate(request("v1", "USER: 아메리카노 주세요"), LlmRouter.Route.DEFAULT);
+        router.generate(request("v1", "USER: 라지로 주세요"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+        GeminiResponse next = router.generate(request("v1", "USER: 샷 추가해줘"), LlmRouter.Route.DEFAULT);
+
+        // then
+        assertEquals("full", retried.extractText());
+        assertEquals("cached", next.extractText());
+        assertEquals(2, stub.creates.get());
+    }
+
+    @Test
+    @DisplayName("캐시와 무관한 400 오류는 캐시 거절로 보지 않고 재시도 없이 그대로 전달")
+    void unrelatedBadRequest_NotTreatedAsCacheRejection() throws Exception {
+        // given
+        router.generate(request("v1", "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        awaitCache();
+        stub.generateStatus = 400;
+
+        // when
+        FeignException exception = assertThrows(FeignException.class,
+                () -> router.generate(request("v1", "USER: 아메리카노 주세요"), LlmRouter.Route.DEFAULT));
+        stub.generateStatus = 200;
+        GeminiResponse next = router.generate(request("v1", "USER: 라지로 주세요"), LlmRouter.Route.DEFAULT);
+
+        // then
+        assertEquals(400, exception.status());
+        assertFalse(GeminiContextCache.isCacheRejected(exception));
+        assertEquals(3, stub.generateBodies.size());
+        assertEquals("cached", next.extractText());
+        assertEquals(1, stub.creates.get());
+    }
+
+    @Test
+    @DisplayName("세션 사전 준비는 응답 생성 없이 캐시만 만들고, 첫 턴은 만들어진 캐시를 사용")
+    void warmUp_CreatesCacheWithoutGenerating() throws Exception {
+        // when
+        router.warmUp(request("v1", ""), LlmRouter.Route.SIMPLE);
+        awaitCache();
+        GeminiResponse response = router.generate(request("v1", "USER: 메뉴 알려줘"), LlmRouter.Route.SIMPLE);
+
+        // then
+        assertEquals("cached", response.extractText());
+        assertEquals(1, stub.creates.get());
+        assertEquals(1, stub.generateBodies.size());
+    }
+
+    @Test
+    @DisplayName("메뉴 버전이 없는 요청(메뉴 조회 실패)은 캐시를 만들지 않음")
+    void noVersion_SkipsCache() {
+        // when
+        GeminiResponse response = router.generate(request(null, "USER: 메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+
+        // then
+        assertEquals("full", response.extractText());
+        assertEquals(0, stub.creates.get());
+    }
+
+    private GeminiRequest request(String menuVersion, String history) {
+        return GeminiRequest.withPrefix(SYSTEM_PROMPT, "# MENU DATA\n- ID: 8, 이름: 아메리카노", "# CURRENT CART\n(비어 있음)\n\n" + history,
+                "1", menuVersion);
+    }
+
+    private void awaitCache() throws Exception {
+        contextCache.awaitPending().get(5, TimeUnit.SECONDS);
+    }
+
+    private void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    // Feign 대신 JDK HttpClient로 스텁 서버를 호출하는 클라이언트 (오류 상태는 FeignException으로 변환)
+    private GeminiClient geminiClient() {
+        return (baseUrl, model, request) -> objectMapper.convertValue(
+                send("POST", baseUrl + "/v1beta/models/" + model + ":generateContent", request), GeminiResponse.class);
+    }
+
+    private GeminiCacheClient cacheClient() {
+        return new GeminiCacheClient() {
+            @Override
+            public CachedContentResponse create(URI baseUrl, com.samnammae.chatbot_service.dto.request.CachedContentRequest request) {
+                return objectMapper.convertValue(send("POST", baseUrl + "/v1beta/cachedContents", request),
+                        CachedContentResponse.class);
+            }
+
+            @Override
+            public void delete(URI baseUrl, String id) {
+                send("DELETE", baseUrl + "/v1beta/cachedContents/" + id, null);
+            }
+        };
+    }
+
+    private JsonNode send(String method, String url, Object body) {
+        try {
+            HttpRequest.BodyPublisher publisher = body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Content-Type", "application/json")
+                    .method(method, publisher)
+                    .build();
+            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                Request feignRequest = Request.create(Request.HttpMethod.valueOf(method), url, Map.of(), null,
+                        StandardCharsets.UTF_8, null);
+                throw FeignException.errorStatus("GeminiClient", Response.builder()
+                        .status(response.statusCode())
+                        .reason("stub error")
+                        .request(feignRequest)
+                        .headers(Map.of())
+                        .body(response.body(), StandardCharsets.UTF_8)
+                        .build());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // generateContent, cachedContents 생성/삭제를 흉내내는 스텁 서버
+    private class StubGemini {
+        private final HttpServer server;
+        private final AtomicInteger creates = new AtomicInteger();
+        private final List<String> createBodies = new CopyOnWriteArrayList<>();
+        private final List<JsonNode> generateBodies = new CopyOnWriteArrayList<>();
+        private final Set<String> known = ConcurrentHashMap.newKeySet();
+        private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+        private volatile int createStatus = 200;
+        private volatile long createDelayMs = 0;
+        private volatile int generateStatus = 200;
+
+        StubGemini() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/v1beta/cachedContents", this::handleCache);
+            server.createContext("/v1beta/models/", this::handleGenerate);
+            // 느린 캐시 생성이 generateContent 응답을 막지 않도록 요청마다 별도 스레드에서 처리
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+        }
+
+        private void handleCache(HttpExchange exchange) throws IOException {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                String path = exchange.getRequestURI().getPath();
+                String id = path.substring(path.lastIndexOf('/') + 1);
+                known.remove(id);
+                deleted.add(id);
+                respond(exchange, 200, "{}");
+                return;
+            }
+
+            if (createDelayMs > 0) {
+                try {
+                    Thread.sleep(createDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            int sequence = creates.incrementAndGet();
+            createBodies.add(body);
+            if (createStatus != 200) {
+                respond(exchange, createStatus, "{\"error\":{\"message\":\"too few tokens\"}}");
+                return;
+            }
+            known.add("c" + sequence);
+            respond(exchange, 200, "{\"name\":\"cachedContents/c" + sequence + "\",\"expireTime\":\"2099-01-01T00:00:00Z\"}");
+        }
+
+        private void handleGenerate(HttpExchange exchange) throws IOException {
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            generateBodies.add(body);
+
+            if (generateStatus != 200) {
+                respond(exchange, generateStatus, "{\"error\":{\"message\":\"contents must not be empty\"}}");
+                return;
+            }
+            String cachedContent = body.path("cachedContent").asText(null);
+            if (cachedContent != null && !known.contains(cachedContent.substring("cachedContents/".length()))) {
+                respond(exchange, 404, "{\"error\":{\"message\":\"cached content not found\"}}");
+                return;
+            }
+            String text = cachedContent != null ? "cached" : "full";
+            respond(exchange, 200, "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + text + "\"}]}}]}");
+        }
+
+        private void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.client.MenuServiceClient;
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import com.samnammae.common.response.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MenuSnapshotServiceTest {
+
+    private MenuServiceClient menuServiceClient;
+    private MenuSnapshotService menuSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        menuServiceClient = mock(MenuServiceClient.class);
+        // 매장 캐시 TTL을 0으로 두어 세션 고정 여부만 확인
+        menuSnapshotService = new MenuSnapshotService(menuServiceClient, 0, 600000);
+    }
+
+    @Test
+    @DisplayName("세션 스냅샷 - 매장 캐시 TTL이 지나도 세션이 끝날 때까지 처음 받은 스냅샷 사용")
+    void getSnapshot_PinnedForSession() {
+        // given
+        when(menuServiceClient.getMenusWithOptions(1L)).thenReturn(ApiResponse.success(menu()));
+        MenuSnapshot started = menuSnapshotService.getSnapshot(1L, "s1");
+
+        // when
+        MenuSnapshot firstTurn = menuSnapshotService.getSnapshot(1L, "s1");
+
+        // then
+        assertSame(started, firstTurn);
+        verify(menuServiceClient, times(1)).getMenusWithOptions(1L);
+    }
+
+    @Test
+    @DisplayName("세션 스냅샷 - 세션 종료 후에는 새로 조회")
+    void getSnapshot_ReleasedSession_Reloads() {
+        // given
+        when(menuServiceClient.getMenusWithOptions(1L)).thenReturn(ApiResponse.success(menu()));
+        MenuSnapshot started = menuSnapshotService.getSnapshot(1L, "s1");
+
+        // when
+        menuSnapshotService.release("s1");
+        MenuSnapshot reloaded = menuSnapshotService.getSnapshot(1L, "s1");
+
+        // then
+        assertNotSame(started, reloaded);
+        verify(menuServiceClient, times(2)).getMenusWithOptions(1L);
+    }
+
+    @Test
+    @DisplayName("세션 스냅샷 - 조회에 실패한 스냅샷은 고정하지 않고 다음 턴에 다시 조회")
+    void getSnapshot_Unavailable_NotPinned() {
+        // given
+        when(menuServiceClient.getMenusWithOptions(1L))
+                .thenReturn(null)
+                .thenReturn(ApiResponse.success(menu()));
+
+        // when
+        MenuSnapshot failed = menuSnapshotService.getSnapshot(1L, "s1");
+        MenuSnapshot retried = menuSnapshotService.getSnapshot(1L, "s1");
+
+        // then
+        assertFalse(failed.isAvailable());
+        assertTrue(retried.isAvailable());
+    }
+
+    private MenuWithOptionsResponseDto menu() {
+        MenuWithOptionsResponseDto.MenuDetail americano = new MenuWithOptionsResponseDto.MenuDetail(
+                8L, "아메리카노", 4500, "기본 커피", List.of(), false);
+        return new MenuWithOptionsResponseDto(List.of("커피"), Map.of("커피", List.of(americano)));
+    }
+}
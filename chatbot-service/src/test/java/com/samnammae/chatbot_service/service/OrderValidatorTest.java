@@ -0,0 +1,111 @@
+package com.samnammae.chatbot_service.service;
+
+import com.samnammae.chatbot_service.dto.request.OrderRequestDto;
+import com.samnammae.chatbot_service.dto.response.MenuWithOptionsResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderValidatorTest {
+
+    private final OrderValidator orderValidator = new OrderValidator();
+
+    private MenuSnapshot menuSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        MenuWithOptionsResponseDto.OptionCategory size = new MenuWithOptionsResponseDto.OptionCategory(
+                14L, "사이즈", "SINGLE", true, List.of(
+                new MenuWithOptionsResponseDto.Option(52L, "레귤러", 0, true),
+                new MenuWithOptionsResponseDto.Option(53L, "라지", 1000, false)));
+        MenuWithOptionsResponseDto.OptionCategory cup = new MenuWithOptionsResponseDto.OptionCategory(
+                16L, "컵", "SINGLE", true, List.of(
+                new MenuWithOptionsResponseDto.Option(60L, "일회용컵", 0, true)));
+        MenuWithOptionsResponseDto.OptionCategory topping = new MenuWithOptionsResponseDto.OptionCategory(
+                15L, "추가", "MULTIPLE", false, List.of(
+                new MenuWithOptionsResponseDto.Option(55L, "샷 추가", 500, false),
+                new MenuWithOptionsResponseDto.Option(56L, "시럽 추가", 300, false)));
+
+        MenuWithOptionsResponseDto.MenuDetail americano = new MenuWithOptionsResponseDto.MenuDetail(
+                8L, "아메리카노", 5500, "기본 커피", List.of(size, cup, topping), false);
+        MenuWithOptionsResponseDto.MenuDetail latte = new MenuWithOptionsResponseDto.MenuDetail(
+                9L, "라떼", 6000, "우유 커피", List.of(), true);
+
+        menuSnapshot = new MenuSnapshot(1L, "v1", "메뉴", Map.of(8L, americano, 9L, latte));
+    }
+
+    @Test
+    @DisplayName("잘못 계산된 가격과 총액은 자동 보정하고, 선택지가 하나뿐인 필수 옵션은 자동 선택")
+    void validate_RepairsArithmetic() {
+        // given
+        OrderRequestDto order = order(new OrderRequestDto.OrderItemDto(
+                8L, "아메리카노", 5000, Map.of(14L, List.of(53L), 15L, List.of(55L, 56L)), 0, 2, 9999));
+
+        // when
+        OrderValidator.Result result = orderValidator.validate(order, menuSnapshot);
+
+        // then
+        assertTrue(result.isValid());
+        OrderRequestDto.OrderItemDto item = result.getOrder().getItems().get(0);
+        assertEquals(5500, item.getBasePrice());
+        assertEquals(1800, item.getOptionPrice());
+        assertEquals((5500 + 1800) * 2, item.getTotalPrice());
+        assertEquals(List.of(60L), item.getSelectedOptions().get(16L));
+        assertEquals(item.getTotalPrice(), result.getOrder().getTotalAmount());
+        assertEquals(2, result.getOrder().getTotalItems());
+    }
+
+    @Test
+    @DisplayName("선택지가 여러 개인 필수 옵션이 없으면 사용자에게 질문")
+    void validate_AsksForRequiredOption() {
+        // given
+        OrderRequestDto order = order(new OrderRequestDto.OrderItemDto(
+                8L, "아메리카노", 5500, Map.of(), 0, 1, 5500));
+
+        // when
+        OrderValidator.Result result = orderValidator.validate(order, menuSnapshot);
+
+        // then
+        assertFalse(result.isValid());
+        assertTrue(result.getQuestion().contains("사이즈"));
+        assertTrue(result.getQuestion().contains("레귤러, 라지"));
+    }
+
+    @Test
+    @DisplayName("단일 선택 옵션에 여러 옵션을 고르면 사용자에게 질문")
+    void validate_SingleOptionViolation() {
+        // given
+        OrderRequestDto order = order(new OrderRequestDto.OrderItemDto(
+                8L, "아메리카노", 5500, Map.of(14L, List.of(52L, 53L)), 1000, 1, 6500));
+
+        // when
+        OrderValidator.Result result = orderValidator.validate(order, menuSnapshot);
+
+        // then
+        assertFalse(result.isValid());
+        assertTrue(result.getQuestion().contains("하나만"));
+    }
+
+    @Test
+    @DisplayName("다른 메뉴의 옵션 ID, 품절 메뉴는 주문하지 않음")
+    void validate_InvalidIds() {
+        // given
+        OrderRequestDto wrongOption = order(new OrderRequestDto.OrderItemDto(
+                8L, "아메리카노", 5500, Map.of(14L, List.of(99L)), 0, 1, 5500));
+        OrderRequestDto soldOut = order(new OrderRequestDto.OrderItemDto(
+                9L, "라떼", 6000, Map.of(), 0, 1, 6000));
+
+        // when & then
+        assertFalse(orderValidator.validate(wrongOption, menuSnapshot).isValid());
+        assertTrue(orderValidator.validate(soldOut, menuSnapshot).getQuestion().contains("품절"));
+    }
+
+    private OrderRequestDto order(OrderRequestDto.OrderItemDto item) {
+        return new OrderRequestDto(1L, "강남점", "TAKEOUT", "CARD", List.of(item), 0, 0);
+    }
+}
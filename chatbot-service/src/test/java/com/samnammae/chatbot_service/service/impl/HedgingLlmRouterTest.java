@@ -0,0 +1,261 @@
+package com.samnammae.chatbot_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.chatbot_service.client.GeminiClient;
+import com.samnammae.chatbot_service.config.LlmProperties;
+import com.samnammae.chatbot_service.dto.request.GeminiRequest;
+import com.samnammae.chatbot_service.dto.response.GeminiResponse;
+import com.samnammae.chatbot_service.service.GeminiContextCache;
+import com.samnammae.chatbot_service.service.LlmRouter;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 지연 특성이 다른 두 로컬 스텁 서버를 상대로 한 헤지 라우터 테스트
+ */
+class HedgingLlmRouterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private final List<StubServer> servers = new ArrayList<>();
+    private HedgingLlmRouter router;
+
+    @AfterEach
+    void tearDown() {
+        if (router != null) {
+            router.shutdown();
+        }
+        servers.forEach(StubServer::stop);
+    }
+
+    @Test
+    @DisplayName("기본 모델이 느리면 헤지 모델 응답 사용")
+    void generate_SlowPrimary_UsesHedge() throws Exception {
+        // given
+        StubServer slow = startStub("slow", 1500, 200);
+        StubServer fast = startStub("fast", 50, 200);
+        router = router(properties(slow, fast, 200));
+
+        // when
+        long startedAt = System.nanoTime();
+        GeminiResponse response = router.generate(new GeminiRequest("메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertEquals("fast", response.extractText());
+        assertTrue(elapsedMillis < 1000, "헤지 응답을 기다리지 않고 느린 응답을 기다림: " + elapsedMillis);
+        assertEquals(1, slow.calls.get());
+        assertEquals(1, fast.calls.get());
+        assertEquals(1, router.getLatencies().get("fast").getCount());
+        // 취소된 기본 모델 호출도 취소될 때까지 걸린 시간을 기록
+        waitUntil(() -> router.getLatencies().get("slow").getCount() == 1);
+        assertEquals(1, router.getLatencies().get("slow").getCount());
+    }
+
+    @Test
+    @DisplayName("기본 모델이 헤지 대기 시간 안에 응답하면 헤지 요청을 보내지 않음")
+    void generate_FastPrimary_NoHedge() throws Exception {
+        // given
+        StubServer fast = startStub("fast", 20, 200);
+        StubServer slow = startStub("slow", 1500, 200);
+        router = router(properties(fast, slow, 500));
+
+        // when
+        GeminiResponse response = router.generate(new GeminiRequest("메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+
+        // then
+        assertEquals("fast", response.extractText());
+        assertEquals(0, slow.calls.get());
+    }
+
+    @Test
+    @DisplayName("기본 모델이 실패하면 헤지 대기 없이 헤지 모델 응답 사용")
+    void generate_FailingPrimary_UsesHedge() throws Exception {
+        // given
+        StubServer failing = startStub("failing", 0, 500);
+        StubServer backup = startStub("backup", 50, 200);
+        router = router(properties(failing, backup, 5000));
+
+        // when
+        long startedAt = System.nanoTime();
+        GeminiResponse response = router.generate(new GeminiRequest("메뉴 알려줘"), LlmRouter.Route.DEFAULT);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertEquals("backup", response.extractText());
+        assertTrue(elapsedMillis < 5000);
+        assertEquals(1, router.getLatencies().get("failing").getCount());
+    }
+
+    @Test
+    @DisplayName("호출 스레드가 모두 사용 중이면 대기열에서 기다리지 않고 기본 모델만 호출 (헤지 생략)")
+    void generate_SaturatedExecutor_CallsPrimaryWithoutHedge() throws Exception {
+        // given
+        StubServer slow = startStub("slow", 300, 200);
+        StubServer fast = startStub("fast", 20, 200);
+        LlmProperties properties = properties(slow, fast, 100);
+        properties.setExecutorThreads(1);
+        router = router(properties);
+
+        // when
+        CompletableFuture<GeminiResponse> first = CompletableFuture.supplyAsync(
+                () -> router.generate(new GeminiRequest("메뉴 알려줘"), LlmRouter.Route.DEFAULT));
+        CompletableFuture<GeminiResponse> second = CompletableFuture.supplyAsync(
+                () -> router.generate(new GeminiRequest("아메리카노 주세요"), LlmRouter.Route.DEFAULT));
+
+        // then
+        assertEquals("slow", first.get(5, TimeUnit.SECONDS).extractText());
+        assertEquals("slow", second.get(5, TimeUnit.SECONDS).extractText());
+        assertEquals(2, slow.calls.get());
+        assertEquals(0, fast.calls.get());
+    }
+
+    @Test
+    @DisplayName("simple 라우트는 설정된 가벼운 모델만 호출")
+    void generate_SimpleRoute_UsesConfiguredModel() throws Exception {
+        // given
+        StubServer heavy = startStub("heavy", 50, 200);
+        StubServer light = startStub("light", 50, 200);
+        LlmProperties properties = properties(heavy, light, 200);
+        LlmProperties.Route simple = new LlmProperties.Route();
+        simple.setPrimary("light");
+        properties.getRoutes().put("simple", simple);
+        router = router(properties);
+
+        // when
+        GeminiResponse response = router.generate(new GeminiRequest("영업시간 알려줘"), LlmRouter.Route.SIMPLE);
+
+        // then
+        assertEquals("light", response.extractText());
+        assertEquals(0, heavy.calls.get());
+        assertEquals("light-model", light.lastModel);
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    // 평문 프롬프트 요청은 컨텍스트 캐시 대상이 아니므로 캐시 클라이언트 없이 생성
+    private HedgingLlmRouter router(LlmProperties properties) {
+        return new HedgingLlmRouter(stubGeminiClient(), properties, new GeminiContextCache(null, properties));
+    }
+
+    private LlmProperties properties(StubServer primary, StubServer hedge, long initialHedgeDelayMs) {
+        LlmProperties properties = new LlmProperties();
+        properties.getModels().put(primary.name, primary.toModel());
+        properties.getModels().put(hedge.name, hedge.toModel());
+
+        LlmProperties.Route route = new LlmProperties.Route();
+        route.setPrimary(primary.name);
+        route.setHedge(hedge.name);
+        properties.getRoutes().put("default", route);
+
+        properties.getHedge().setInitialDelayMs(initialHedgeDelayMs);
+        properties.setExecutorThreads(4);
+        return properties;
+    }
+
+    // Feign 대신 JDK HttpClient로 baseUrl, model 경로를 그대로 호출하는 GeminiClient
+    private GeminiClient stubGeminiClient() {
+        return (baseUrl, model, request) -> {
+            try {
+                HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/v1beta/models/" + model + ":generateContent"))
+                        .timeout(Duration.ofSeconds(5))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                        .build();
+                HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 400) {
+                    throw new IllegalStateException("LLM error status: " + response.statusCode());
+                }
+                return objectMapper.readValue(response.body(), GeminiResponse.class);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private StubServer startStub(String name, long delayMillis, int status) throws IOException {
+        StubServer stub = new StubServer(name, delayMillis, status);
+        servers.add(stub);
+        return stub;
+    }
+
+    // 고정 지연 후 자신의 이름을 답변으로 돌려주는 스텁 서버
+    private static class StubServer {
+        private final String name;
+        private final HttpServer server;
+        private final ExecutorService threads = Executors.newFixedThreadPool(4);
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile String lastModel;
+
+        StubServer(String name, long delayMillis, int status) throws IOException {
+            this.name = name;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(threads);
+            server.createContext("/v1beta/models/", exchange -> {
+                calls.incrementAndGet();
+                String path = exchange.getRequestURI().getPath();
+                lastModel = path.substring("/v1beta/models/".length(), path.indexOf(':'));
+                try {
+                    Thread.sleep(delayMillis);
+                    byte[] body = ("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + name + "\"}]}}]}")
+                            .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(status, body.length);
+                    try (OutputStream os = exchange.getResponseBody()) {
+                        os.write(body);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    exchange.close();
+                }
+            });
+            server.start();
+        }
+
+        LlmProperties.Model toModel() {
+            LlmProperties.Model model = new LlmProperties.Model();
+            model.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+            model.setModel(name + "-model");
+            return model;
+        }
+
+        void stop() {
+            server.stop(0);
+            threads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.samnammae.common.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 접근 권한 검증 비용 (매장 수가 많은 프랜차이즈 관리자)
+ * - legacySplitContains: 기존 서비스별 validateStoreAccess (split → List<Long> → contains)
+ * - parseBinarySearch: 캐시 없이 매 요청 파싱 후 이진 탐색
+ * - cachedBinarySearch: 헤더 원문 캐시 조회 후 이진 탐색 (실제 요청 경로)
+ * 검증 대상 매장은 목록의 마지막 매장 (선형 탐색의 최악의 경우)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ManagedStoresBenchmark {
+
+    @Param({"3", "50", "500"})
+    public int stores;
+
+    private String header;
+    private Long storeId;
+    private ManagedStoresCache cache;
+
+    @Setup
+    public void setUp() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 1; i <= stores; i++) {
+            joiner.add(String.valueOf(1000 + i * 7));
+        }
+        header = joiner.toString();
+        storeId = (long) (1000 + stores * 7);
+        cache = new ManagedStoresCache(1024);
+        cache.get(header);
+    }
+
+    @Benchmark
+    public boolean legacySplitContains() {
+        List<Long> accessibleStoreIds = Arrays.stream(header.split(","))
+                .map(Long::parseLong)
+                .toList();
+        return accessibleStoreIds.contains(storeId);
+    }
+
+    @Benchmark
+    public boolean parseBinarySearch() {
+        return ManagedStores.parse(header).contains(storeId);
+    }
+
+    @Benchmark
+    public boolean cachedBinarySearch() {
+        return cache.get(header).contains(storeId);
+    }
+}
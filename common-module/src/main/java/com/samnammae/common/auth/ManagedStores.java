@@ -0,0 +1,103 @@
+package com.samnammae.common.auth;
+
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+
+import java.util.Arrays;
+
+/**
+ * 게이트웨이가 전달한 관리 매장 목록 (X-MANAGED-STORE-IDS, e.g., "1,2,3")
+ * 정렬된 long[]로 보관하여 권한 검증을 박싱 없이 이진 탐색으로 수행
+ * 불변 객체이므로 같은 헤더 값끼리 공유 (ManagedStoresCache)
+ */
+public final class ManagedStores {
+
+    public static final String HEADER = "X-MANAGED-STORE-IDS";
+
+    private static final long[] NO_STORES = new long[0];
+
+    private final String header;
+    private final long[] storeIds;
+
+    private ManagedStores(String header, long[] storeIds) {
+        this.header = header;
+        this.storeIds = storeIds;
+    }
+
+    /**
+     * 헤더 값 파싱 (쉼표 구분, 앞뒤 공백 허용)
+     * 형식이 잘못되었으면 어떤 매장에도 접근할 수 없는 빈 목록
+     */
+    public static ManagedStores parse(String header) {
+        if (header == null || header.isBlank()) {
+            return new ManagedStores(header, NO_STORES);
+        }
+
+        long[] ids = new long[8];
+        int count = 0;
+        long value = 0;
+        boolean inNumber = false;
+        boolean afterNumber = false;
+        for (int i = 0, length = header.length(); i <= length; i++) {
+            char c = i < length ? header.charAt(i) : ',';
+            if (c >= '0' && c <= '9') {
+                if (afterNumber || value > (Long.MAX_VALUE - (c - '0')) / 10) {
+                    return new ManagedStores(header, NO_STORES);
+                }
+                value = value * 10 + (c - '0');
+                inNumber = true;
+            } else if (c == ',') {
+                // 끝의 쉼표는 허용 ("1,2," == "1,2")
+                if (!inNumber && i == length && count > 0) {
+                    break;
+                }
+                if (!inNumber) {
+                    return new ManagedStores(header, NO_STORES);
+                }
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = value;
+                value = 0;
+                inNumber = false;
+                afterNumber = false;
+            } else if (c == ' ' || c == '\t') {
+                afterNumber = inNumber;
+            } else {
+                return new ManagedStores(header, NO_STORES);
+            }
+        }
+
+        long[] sorted = Arrays.copyOf(ids, count);
+        Arrays.sort(sorted);
+        return new ManagedStores(header, sorted);
+    }
+
+    public boolean contains(Long storeId) {
+        return storeId != null && Arrays.binarySearch(storeIds, storeId) >= 0;
+    }
+
+    /**
+     * 매장 접근 권한 검증
+     * @throws CustomException 관리 매장이 아니면 STORE_ACCESS_DENIED
+     */
+    public void validate(Long storeId) {
+        if (!contains(storeId)) {
+            throw new CustomException(ErrorCode.STORE_ACCESS_DENIED);
+        }
+    }
+
+    public int size() {
+        return storeIds.length;
+    }
+
+    // 다른 서비스 호출 시 그대로 전달할 원본 헤더 값
+    public String header() {
+        return header;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(storeIds);
+    }
+}
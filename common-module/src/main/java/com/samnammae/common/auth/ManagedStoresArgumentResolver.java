@@ -0,0 +1,47 @@
+package com.samnammae.common.auth;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러의 ManagedStores 파라미터를 X-MANAGED-STORE-IDS 헤더에서 resolve
+ * 요청 속성(ATTRIBUTE)에 저장하여 한 요청 안에서는 한 번만 파싱
+ * 헤더가 없으면 기존 @RequestHeader와 같이 MissingRequestHeaderException (400)
+ */
+public class ManagedStoresArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String ATTRIBUTE = ManagedStores.class.getName();
+
+    private final ManagedStoresCache cache;
+
+    public ManagedStoresArgumentResolver(ManagedStoresCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return ManagedStores.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        Object resolved = webRequest.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        String header = webRequest.getHeader(ManagedStores.HEADER);
+        if (header == null) {
+            throw new MissingRequestHeaderException(ManagedStores.HEADER, parameter);
+        }
+        ManagedStores managedStores = cache.get(header);
+        webRequest.setAttribute(ATTRIBUTE, managedStores, RequestAttributes.SCOPE_REQUEST);
+        return managedStores;
+    }
+}
@@ -0,0 +1,40 @@
+package com.samnammae.common.auth;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 헤더 원문 → 파싱 결과 캐시
+ * 같은 관리자/키오스크는 매 요청 같은 헤더를 보내므로 대부분 조회만으로 끝남
+ * 항목 수가 상한에 도달하면 전체를 비우고 다시 채움 (파싱 비용이 작아 정교한 제거 정책은 두지 않음)
+ */
+public class ManagedStoresCache {
+
+    private final int maxEntries;
+    private final Map<String, ManagedStores> entries = new ConcurrentHashMap<>();
+
+    public ManagedStoresCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public ManagedStores get(String header) {
+        if (header == null) {
+            return ManagedStores.parse(null);
+        }
+        ManagedStores cached = entries.get(header);
+        if (cached != null) {
+            return cached;
+        }
+
+        ManagedStores parsed = ManagedStores.parse(header);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        entries.put(header, parsed);
+        return parsed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.samnammae.common.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Servlet 기반 서비스에 ManagedStores 인자 resolver 등록 (WebFlux인 api-gateway에는 적용하지 않음)
+ * @WebMvcTest 슬라이스에도 포함되도록 AutoConfigureWebMvc.imports에 함께 등록
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(WebMvcConfigurer.class)
+public class StoreAccessAutoConfiguration implements WebMvcConfigurer {
+
+    private final ManagedStoresCache managedStoresCache;
+
+    public StoreAccessAutoConfiguration(@Value("${store-access.cache.max-entries:1024}") int maxEntries) {
+        this.managedStoresCache = new ManagedStoresCache(maxEntries);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new ManagedStoresArgumentResolver(managedStoresCache));
+    }
+}
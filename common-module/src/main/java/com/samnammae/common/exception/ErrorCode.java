@@ -35,6 +35,11 @@ public enum ErrorCode {
     OPTION_NOT_FOUND(404, "옵션을 찾을 수 없습니다."),
     OPTION_CATEGORY_TYPE_MISMATCH(400, "옵션 카테고리 타입이 일치하지 않습니다."),
     OPTION_CATEGORY_NAME_DUPLICATED(400, "이미 존재하는 옵션 카테고리 이름입니다."),
+    OPTION_DUPLICATED(400, "같은 옵션이 중복되었습니다."),
+    INVALID_MENU_IMPORT_FILE(400, "메뉴 가져오기 파일 형식이 잘못되었습니다."),
+    MENU_TEMPLATE_NOT_FOUND(404, "메뉴 템플릿을 찾을 수 없습니다."),
+    MENU_TEMPLATE_SOURCE_STORE(400, "템플릿 원본 매장에는 템플릿을 적용할 수 없습니다."),
+    MENU_NOT_FROM_TEMPLATE(400, "템플릿으로 추가된 메뉴가 아닙니다."),
 
     // Order Service
     ORDER_NOT_FOUND(404, "주문을 찾을 수 없습니다."),
@@ -42,9 +47,24 @@ public enum ErrorCode {
     ORDER_ITEM_PRICE_MISMATCH(400, "주문 아이템 가격이 일치하지 않습니다."),
     INVALID_OPTION_ID(400, "유효하지 않은 옵션 ID입니다."),
 
+    // Chatbot Service
+    CHATBOT_OVERLOADED(503, "지금 주문 도우미를 찾는 분이 많습니다. 잠시 후 다시 말씀해 주세요."),
+    GEMINI_UNAVAILABLE(503, "죄송합니다. 지금은 답변을 드리기 어렵습니다. 잠시 후 다시 말씀해 주세요."),
+    CHATBOT_SESSION_LIMIT(503, "지금은 주문 도우미를 이용하는 손님이 많습니다. 잠시 후 다시 시작해 주세요."),
+    CART_MENU_NOT_FOUND(400, "말씀하신 메뉴를 찾을 수 없습니다. 다시 말씀해 주세요."),
+    CART_MENU_SOLD_OUT(400, "죄송합니다. 해당 메뉴는 품절입니다. 다른 메뉴를 골라 주세요."),
+    CART_ITEM_NOT_FOUND(400, "장바구니에서 해당 메뉴를 찾을 수 없습니다. 다시 말씀해 주세요."),
+    CART_INVALID_OPTION(400, "선택하신 옵션을 찾을 수 없습니다. 다시 말씀해 주세요."),
+    CART_SINGLE_OPTION_ONLY(400, "해당 옵션은 하나만 선택할 수 있습니다. 하나만 골라 주세요."),
+    CART_INVALID_QUANTITY(400, "수량은 한 개 이상으로 말씀해 주세요."),
+    CART_INVALID_ORDER_INFO(400, "매장 식사 또는 포장, 카드 또는 현금 중에서 말씀해 주세요."),
+    CART_EMPTY(400, "장바구니가 비어 있습니다. 먼저 메뉴를 골라 주세요."),
+    CART_ORDER_INFO_MISSING(400, "매장에서 드실지 포장하실지, 그리고 결제 방법을 먼저 말씀해 주세요."),
+
     // Api Gateway
     INTERNAL_SERVER_ERROR(500, "서버 내부 오류가 발생했습니다."),
-    EXPIRED_TOKEN(401, "토큰이 만료되었습니다."),;
+    EXPIRED_TOKEN(401, "토큰이 만료되었습니다."),
+    TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),;
 
     private final int status;
     private final String message;
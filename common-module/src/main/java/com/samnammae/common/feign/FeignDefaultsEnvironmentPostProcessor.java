@@ -0,0 +1,55 @@
+package com.samnammae.common.feign;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 모든 서비스의 Feign 클라이언트 공통 기본 설정
+ * - Apache HttpClient 5 커넥션 풀 (HTTP/1.1 keep-alive, feign-hc5 의존성이 있을 때 적용)
+ * - 응답 gzip 압축 협상 (/internal/menu/{storeId} 같은 큰 응답)
+ * - 기본 connect/read 타임아웃, 멱등 GET 요청만 재시도
+ *
+ * 가장 낮은 우선순위로 추가하므로 각 서비스 application.yml에서 같은 키로 덮어쓸 수 있음
+ * (클라이언트별 타임아웃은 spring.cloud.openfeign.client.config.{클라이언트 이름}에 지정)
+ */
+public class FeignDefaultsEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "samnammaeFeignDefaults";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        // Feign을 쓰지 않는 서비스(api-gateway 등)에는 적용하지 않음
+        if (!ClassUtils.isPresent("feign.Feign", application.getClassLoader())) {
+            return;
+        }
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, defaults()));
+    }
+
+    static Map<String, Object> defaults() {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+
+        // 커넥션 풀: 최근에 쓴 연결부터 재사용(LIFO)해 유휴 연결이 자연스럽게 만료되도록 함
+        defaults.put("spring.cloud.openfeign.httpclient.hc5.enabled", true);
+        defaults.put("spring.cloud.openfeign.httpclient.hc5.pool-reuse-policy", "LIFO");
+        defaults.put("spring.cloud.openfeign.httpclient.max-connections", 200);
+        defaults.put("spring.cloud.openfeign.httpclient.max-connections-per-route", 50);
+        defaults.put("spring.cloud.openfeign.httpclient.time-to-live", 60);
+
+        // 응답 압축: Accept-Encoding을 보내고 gzip 응답은 클라이언트에서 해제
+        defaults.put("spring.cloud.openfeign.compression.response.enabled", true);
+
+        // 클라이언트 공통 타임아웃과 재시도 정책
+        String client = "spring.cloud.openfeign.client.config.default.";
+        defaults.put(client + "connect-timeout", 1000);
+        defaults.put(client + "read-timeout", 3000);
+        defaults.put(client + "retryer", IdempotentRetryer.class.getName());
+        defaults.put(client + "error-decoder", IdempotentErrorDecoder.class.getName());
+        return defaults;
+    }
+}
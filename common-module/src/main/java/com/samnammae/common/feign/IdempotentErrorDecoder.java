@@ -0,0 +1,32 @@
+package com.samnammae.common.feign;
+
+import feign.FeignException;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+
+import java.util.Set;
+
+/**
+ * 멱등 요청의 일시적 오류 응답(502, 503, 504)을 재시도 대상으로 바꾸는 ErrorDecoder
+ * 그 외 응답은 Feign 기본 ErrorDecoder 결과(FeignException 하위 타입)를 그대로 사용
+ */
+public class IdempotentErrorDecoder implements ErrorDecoder {
+
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(502, 503, 504);
+
+    private final ErrorDecoder delegate = new ErrorDecoder.Default();
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        Exception decoded = delegate.decode(methodKey, response);
+        if (decoded instanceof RetryableException
+                || !TRANSIENT_STATUSES.contains(response.status())
+                || !IdempotentRetryer.IDEMPOTENT_METHODS.contains(response.request().httpMethod())) {
+            return decoded;
+        }
+
+        return new RetryableException(response.status(), decoded.getMessage(),
+                response.request().httpMethod(), decoded, (Long) null, response.request());
+    }
+}
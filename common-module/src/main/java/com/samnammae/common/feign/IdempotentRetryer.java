@@ -0,0 +1,64 @@
+package com.samnammae.common.feign;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 멱등 요청(GET, HEAD)만 재시도하는 Feign Retryer
+ * - 연결 오류(keep-alive 연결이 서버에서 먼저 끊긴 경우 등)와 IdempotentErrorDecoder가 만든 재시도 예외가 대상
+ * - 주문 생성 같은 POST 요청은 중복 처리를 막기 위해 재시도하지 않음
+ * - 대기 시간은 지수 증가 + 지터, 서버가 Retry-After를 주면 그 값을 우선 사용
+ */
+public class IdempotentRetryer implements Retryer {
+
+    static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = Set.of(Request.HttpMethod.GET, Request.HttpMethod.HEAD);
+
+    private final long period;
+    private final long maxPeriod;
+    private final int maxAttempts;
+    private int attempt = 1;
+
+    // spring.cloud.openfeign.client.config.*.retryer 설정에서 기본 생성자로 생성
+    public IdempotentRetryer() {
+        this(100, 1000, 3);
+    }
+
+    public IdempotentRetryer(long period, long maxPeriod, int maxAttempts) {
+        this.period = period;
+        this.maxPeriod = maxPeriod;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (!IDEMPOTENT_METHODS.contains(e.method()) || attempt++ >= maxAttempts) {
+            throw e;
+        }
+
+        try {
+            Thread.sleep(nextInterval(e));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private long nextInterval(RetryableException e) {
+        Long retryAfter = e.retryAfter();
+        if (retryAfter != null) {
+            return Math.min(Math.max(retryAfter - System.currentTimeMillis(), 0), maxPeriod);
+        }
+        long backoff = Math.min(period << (attempt - 2), maxPeriod);
+        // 같은 순간 실패한 호출들이 동시에 재시도하지 않도록 절반 구간에서 무작위 대기
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    @Override
+    public Retryer clone() {
+        return new IdempotentRetryer(period, maxPeriod, maxAttempts);
+    }
+}
@@ -0,0 +1,111 @@
+package com.samnammae.common.loadbalancer;
+
+import java.util.ArrayDeque;
+
+/**
+ * 인스턴스 하나의 응답 시간, 진행 중 요청 수, 연속 실패 기록
+ * - 응답 시간은 최근 값에 가중치를 두는 EWMA이며, 느린 응답은 즉시 반영(peak)하고 시간이 지나면 0을 향해 감쇠
+ * - 연속 실패가 기준을 넘으면 일정 시간 제외(eject)하고, 다시 제외될 때마다 제외 시간을 두 배로 늘림
+ * - 진행 중 요청은 시작 시각으로 보관하고, 종료 기록 없이 오래된 요청(취소 등)은 끝난 것으로 보고 제거
+ */
+final class InstanceStats {
+
+    // 응답 시간 기록이 없는데 진행 중인 요청이 있는 인스턴스의 비용 (새 인스턴스에 요청이 몰리지 않도록)
+    static final double PENALTY = (double) (Long.MAX_VALUE >> 16);
+
+    private final LatencyAwareSettings settings;
+
+    // 진행 중인 요청의 시작 시각 (오래된 순)
+    private final ArrayDeque<Long> inFlight = new ArrayDeque<>();
+    private double ewmaNanos;
+    private long lastSampleNanos;
+    private int consecutiveFailures;
+    private int ejections;
+    private long ejectedUntilNanos;
+
+    InstanceStats(LatencyAwareSettings settings, long now) {
+        this.settings = settings;
+        this.lastSampleNanos = now;
+    }
+
+    synchronized void start(long now) {
+        expireInFlight(now);
+        inFlight.addLast(now);
+    }
+
+    /**
+     * 요청 종료 기록
+     * @param startedAtNanos 요청 시작 시각 (모르면 LatencyTracker.NOT_STARTED)
+     * @param success 5xx나 연결 오류가 아니면 true
+     */
+    synchronized void complete(long startedAtNanos, boolean success, long now) {
+        long latencyNanos = -1;
+        if (startedAtNanos == LatencyTracker.NOT_STARTED) {
+            inFlight.pollFirst();
+        } else {
+            // 이미 만료로 제거된 요청이면 다른 요청의 기록은 건드리지 않음
+            inFlight.removeFirstOccurrence(startedAtNanos);
+            latencyNanos = now - startedAtNanos;
+        }
+
+        if (latencyNanos >= 0 && (success || latencyNanos > ewmaNanos)) {
+            double decayed = decayedEwma(now);
+            ewmaNanos = latencyNanos > decayed
+                    ? latencyNanos
+                    : decayed + (latencyNanos - decayed) * (1 - weight(now));
+            lastSampleNanos = now;
+        }
+
+        if (success) {
+            consecutiveFailures = 0;
+            if (now >= ejectedUntilNanos) {
+                ejections = 0;
+            }
+            return;
+        }
+        if (++consecutiveFailures >= settings.ejectAfterFailures() && now >= ejectedUntilNanos) {
+            long duration = Math.min(settings.ejectionNanos() << Math.min(ejections, 16), settings.maxEjectionNanos());
+            ejectedUntilNanos = now + duration;
+            ejections++;
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * 선택 비용 (낮을수록 우선) = 감쇠된 EWMA × (진행 중 요청 수 + 1)
+     */
+    synchronized double cost(long now) {
+        expireInFlight(now);
+        double ewma = decayedEwma(now);
+        if (ewma == 0 && !inFlight.isEmpty()) {
+            return PENALTY + inFlight.size();
+        }
+        return ewma * (inFlight.size() + 1);
+    }
+
+    synchronized boolean isEjected(long now) {
+        return now < ejectedUntilNanos;
+    }
+
+    synchronized int inFlight(long now) {
+        expireInFlight(now);
+        return inFlight.size();
+    }
+
+    // 종료 콜백이 오지 않은 오래된 요청 제거 (게이트웨이에서 클라이언트가 연결을 끊으면 onComplete가 호출되지 않음)
+    private void expireInFlight(long now) {
+        while (!inFlight.isEmpty() && now - inFlight.peekFirst() > settings.inFlightTimeoutNanos()) {
+            inFlight.pollFirst();
+        }
+    }
+
+    private double decayedEwma(long now) {
+        return ewmaNanos * weight(now);
+    }
+
+    // 마지막 기록 이후 지난 시간에 따른 이전 값의 가중치 (exp(-경과 시간 / 감쇠 시간))
+    private double weight(long now) {
+        long elapsed = Math.max(0, now - lastSampleNanos);
+        return Math.exp(-(double) elapsed / settings.decayNanos());
+    }
+}
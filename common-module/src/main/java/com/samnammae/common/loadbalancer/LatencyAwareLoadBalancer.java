@@ -0,0 +1,58 @@
+package com.samnammae.common.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 응답 시간(EWMA)과 진행 중 요청 수로 인스턴스를 고르는 로드 밸런서
+ * 게이트웨이의 lb:// 라우트와 Feign 클라이언트가 같은 구현을 사용 (기본 RoundRobinLoadBalancer 대체)
+ * 통계는 LatencyTrackingLifecycle이 요청 시작/종료 시 기록
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final LatencyTracker tracker;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                    String serviceId, LatencyTracker tracker) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next()
+                .map(instances -> processInstanceResponse(supplier, instances));
+    }
+
+    private Response<ServiceInstance> processInstanceResponse(ServiceInstanceListSupplier supplier,
+                                                              List<ServiceInstance> instances) {
+        ServiceInstance instance = tracker.choose(instances);
+        if (instance == null) {
+            return new EmptyResponse();
+        }
+        if (supplier instanceof SelectedInstanceCallback callback) {
+            callback.selectedServiceInstance(instance);
+        }
+        return new DefaultResponse(instance);
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+}
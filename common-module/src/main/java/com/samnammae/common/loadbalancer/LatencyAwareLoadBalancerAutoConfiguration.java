@@ -0,0 +1,18 @@
+package com.samnammae.common.loadbalancer;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+
+/**
+ * Spring Cloud LoadBalancer를 쓰는 모든 서비스(api-gateway, Feign 클라이언트)의 기본 로드 밸런서를
+ * LatencyAwareLoadBalancer로 교체
+ * loadbalancer.latency-aware.enabled=false면 기본 라운드 로빈 사용
+ */
+@AutoConfiguration
+@ConditionalOnClass(name = "org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer")
+@ConditionalOnProperty(name = "loadbalancer.latency-aware.enabled", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LatencyAwareLoadBalancerAutoConfiguration {
+}
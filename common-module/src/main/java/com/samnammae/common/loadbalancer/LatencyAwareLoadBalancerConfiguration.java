@@ -0,0 +1,35 @@
+package com.samnammae.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 LoadBalancer 자식 컨텍스트 설정 (@LoadBalancerClients의 defaultConfiguration)
+ * 자식 컨텍스트에서만 등록되어야 하므로 @Configuration을 붙이지 않음
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public LatencyTracker latencyTracker(Environment environment) {
+        return new LatencyTracker(LatencyAwareSettings.from(environment));
+    }
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(Environment environment,
+                                                                                   LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                                   LatencyTracker latencyTracker) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, latencyTracker);
+    }
+
+    @Bean
+    public LatencyTrackingLifecycle latencyTrackingLifecycle(LatencyTracker latencyTracker) {
+        return new LatencyTrackingLifecycle(latencyTracker);
+    }
+}
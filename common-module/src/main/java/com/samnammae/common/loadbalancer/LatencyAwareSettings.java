@@ -0,0 +1,39 @@
+package com.samnammae.common.loadbalancer;
+
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연 시간 기반 로드 밸런서 설정 (loadbalancer.latency-aware.*)
+ * @param decayNanos 응답 시간 EWMA 감쇠 시간
+ * @param ejectAfterFailures 제외를 시작하는 연속 실패 수
+ * @param ejectionNanos 첫 제외 시간 (다시 제외될 때마다 두 배)
+ * @param maxEjectionNanos 최대 제외 시간
+ * @param maxEjectionPercent 동시에 제외할 수 있는 인스턴스 비율 (넘으면 제외를 무시하고 전체에서 선택)
+ * @param inFlightTimeoutNanos 종료 기록 없이 이 시간이 지난 진행 중 요청은 끝난 것으로 봄 (취소된 요청 등)
+ */
+public record LatencyAwareSettings(long decayNanos,
+                                   int ejectAfterFailures,
+                                   long ejectionNanos,
+                                   long maxEjectionNanos,
+                                   int maxEjectionPercent,
+                                   long inFlightTimeoutNanos) {
+
+    static final String PREFIX = "loadbalancer.latency-aware.";
+
+    public static LatencyAwareSettings defaults() {
+        return new LatencyAwareSettings(TimeUnit.SECONDS.toNanos(10), 5,
+                TimeUnit.SECONDS.toNanos(30), TimeUnit.MINUTES.toNanos(5), 50, TimeUnit.SECONDS.toNanos(60));
+    }
+
+    public static LatencyAwareSettings from(Environment environment) {
+        return new LatencyAwareSettings(
+                TimeUnit.SECONDS.toNanos(environment.getProperty(PREFIX + "decay-seconds", Long.class, 10L)),
+                environment.getProperty(PREFIX + "eject-after-failures", Integer.class, 5),
+                TimeUnit.SECONDS.toNanos(environment.getProperty(PREFIX + "ejection-seconds", Long.class, 30L)),
+                TimeUnit.SECONDS.toNanos(environment.getProperty(PREFIX + "max-ejection-seconds", Long.class, 300L)),
+                environment.getProperty(PREFIX + "max-ejection-percent", Integer.class, 50),
+                TimeUnit.SECONDS.toNanos(environment.getProperty(PREFIX + "in-flight-timeout-seconds", Long.class, 60L)));
+    }
+}
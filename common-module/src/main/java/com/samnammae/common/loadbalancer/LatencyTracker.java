@@ -0,0 +1,135 @@
+package com.samnammae.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 서비스 하나의 인스턴스별 통계와 선택 로직 (서비스마다 LoadBalancer 자식 컨텍스트에 하나씩 생성)
+ * - 제외되지 않은 인스턴스 중 무작위로 두 개를 뽑아 비용이 낮은 쪽을 선택 (power of two choices)
+ * - 모든 인스턴스를 비교하지 않으므로 여러 게이트웨이/서비스 인스턴스가 같은 인스턴스로 몰리지 않음
+ * - 디스커버리 목록에서 빠진 인스턴스의 통계는 다음 선택 때 제거
+ */
+public class LatencyTracker {
+
+    // 시작 시각을 모름 (RequestDataContext의 requestStartTime 기본값, 이 클래스의 시각은 1부터 시작하므로 겹치지 않음)
+    public static final long NOT_STARTED = 0;
+
+    private final LatencyAwareSettings settings;
+    private final LongSupplier clock;
+    private final long origin;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public LatencyTracker(LatencyAwareSettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    LatencyTracker(LatencyAwareSettings settings, LongSupplier clock) {
+        this.settings = settings;
+        this.clock = clock;
+        // System.nanoTime()은 음수나 0일 수 있으므로 생성 시각 기준 경과 시간(1부터)으로 사용
+        this.origin = clock.getAsLong() - 1;
+    }
+
+    public ServiceInstance choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (stats.size() > instances.size()) {
+            retain(instances);
+        }
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+
+        long now = now();
+        List<ServiceInstance> candidates = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!statsOf(instance).isEjected(now)) {
+                candidates.add(instance);
+            }
+        }
+        // 제외된 인스턴스가 너무 많으면 실패 원인이 인스턴스가 아니라고 보고 전체에서 선택
+        int minHealthy = (int) Math.ceil(instances.size() * (100 - settings.maxEjectionPercent()) / 100.0);
+        if (candidates.size() < Math.max(1, minHealthy)) {
+            candidates = instances;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return statsOf(a).cost(now) <= statsOf(b).cost(now) ? a : b;
+    }
+
+    /**
+     * 요청 시작 기록
+     * @return 시작 시각 (onComplete에 전달)
+     */
+    public long onStart(ServiceInstance instance) {
+        long now = now();
+        statsOf(instance).start(now);
+        return now;
+    }
+
+    /**
+     * 요청 종료 기록
+     * @param startedAtNanos onStart가 반환한 시작 시각 (모르면 NOT_STARTED)
+     */
+    public void onComplete(ServiceInstance instance, long startedAtNanos, boolean success) {
+        statsOf(instance).complete(startedAtNanos, success, now());
+    }
+
+    public boolean isEjected(ServiceInstance instance) {
+        return statsOf(instance).isEjected(now());
+    }
+
+    public int inFlight(ServiceInstance instance) {
+        return statsOf(instance).inFlight(now());
+    }
+
+    int trackedInstances() {
+        return stats.size();
+    }
+
+    long now() {
+        return clock.getAsLong() - origin;
+    }
+
+    // 종료 기록 없이 진행 중 요청 제한 시간이 지났는지 (취소된 요청 등)
+    boolean isExpired(long startedAtNanos) {
+        return now() - startedAtNanos > settings.inFlightTimeoutNanos();
+    }
+
+    private InstanceStats statsOf(ServiceInstance instance) {
+        return stats.computeIfAbsent(keyOf(instance), key -> new InstanceStats(settings, now()));
+    }
+
+    // 현재 목록에 없는 인스턴스의 통계 제거 (진행 중이던 요청이 나중에 끝나면 다시 생기지만 다음 선택 때 제거됨)
+    private void retain(List<ServiceInstance> instances) {
+        Set<String> keys = new HashSet<>(instances.size() * 2);
+        for (ServiceInstance instance : instances) {
+            keys.add(keyOf(instance));
+        }
+        stats.keySet().retainAll(keys);
+    }
+
+    // 인스턴스 ID가 없는 경우(정적 목록 등)도 있으므로 host:port로 구분
+    private static String keyOf(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,99 @@
+package com.samnammae.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로드 밸런싱된 요청의 시작/종료를 LatencyTracker에 기록
+ * 게이트웨이(ReactiveLoadBalancerClientFilter)와 Feign(FeignBlockingLoadBalancerClient) 모두 이 콜백을 호출
+ * - 연결 오류 등 실패와 5xx 응답은 실패로 기록 (4xx는 호출한 쪽 문제이므로 성공)
+ * - 요청이 취소되면 onComplete가 호출되지 않으므로 진행 중 요청 수는 LatencyTracker가 시간 기준으로 정리
+ * - 시작 시각은 요청 컨텍스트별로 여기서 보관 (TimedRequestContext의 시작 시각은 Micrometer 통계 lifecycle도 쓰므로 덮어쓰지 않음)
+ */
+public class LatencyTrackingLifecycle implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    // 이 횟수만큼 시작될 때마다 종료 기록 없이 제한 시간이 지난 시작 시각을 정리
+    static final int PRUNE_INTERVAL = 1024;
+
+    private final LatencyTracker tracker;
+    private final Map<ContextKey, Long> startTimes = new ConcurrentHashMap<>();
+    private final AtomicInteger startsSincePrune = new AtomicInteger();
+
+    public LatencyTrackingLifecycle(LatencyTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        long startedAt = tracker.onStart(lbResponse.getServer());
+        if (request.getContext() != null) {
+            startTimes.put(new ContextKey(request.getContext()), startedAt);
+        }
+        if (startsSincePrune.incrementAndGet() >= PRUNE_INTERVAL) {
+            startsSincePrune.set(0);
+            startTimes.values().removeIf(tracker::isExpired);
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        long startedAt = LatencyTracker.NOT_STARTED;
+        Request<RequestDataContext> request = completionContext.getLoadBalancerRequest();
+        if (request != null && request.getContext() != null) {
+            Long started = startTimes.remove(new ContextKey(request.getContext()));
+            startedAt = started != null ? started : LatencyTracker.NOT_STARTED;
+        }
+
+        ResponseData response = completionContext.getClientResponse();
+        boolean success = completionContext.status() == CompletionContext.Status.SUCCESS
+                && (response == null || response.getHttpStatus() == null || !response.getHttpStatus().is5xxServerError());
+        tracker.onComplete(lbResponse.getServer(), startedAt, success);
+    }
+
+    int pendingStartTimes() {
+        return startTimes.size();
+    }
+
+    // RequestDataContext는 equals를 값 기준으로 재정의하므로 같은 요청인지 객체 동일성으로 구분
+    private record ContextKey(Object context) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ContextKey other && other.context == context;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(context);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.samnammae.common.auth;
+
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManagedStoresTest {
+
+    @Test
+    @DisplayName("관리 매장 목록에 포함된 매장은 접근을 허용한다")
+    void validate_Success() {
+        // given
+        ManagedStores managedStores = ManagedStores.parse("3, 1,2");
+
+        // when & then
+        assertThatCode(() -> managedStores.validate(1L)).doesNotThrowAnyException();
+        assertThat(managedStores.size()).isEqualTo(3);
+        assertThat(managedStores.header()).isEqualTo("3, 1,2");
+    }
+
+    @Test
+    @DisplayName("관리 매장이 아니면 STORE_ACCESS_DENIED 예외가 발생한다")
+    void validate_Fail() {
+        // given
+        ManagedStores managedStores = ManagedStores.parse("1,2,3");
+
+        // when & then
+        assertThatThrownBy(() -> managedStores.validate(4L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.STORE_ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 헤더는 어떤 매장에도 접근할 수 없다")
+    void parse_Malformed_DeniesAll() {
+        // when & then
+        assertThat(ManagedStores.parse("1,a,3").contains(1L)).isFalse();
+        assertThat(ManagedStores.parse("1,,3").contains(1L)).isFalse();
+        assertThat(ManagedStores.parse("1 2").contains(1L)).isFalse();
+        assertThat(ManagedStores.parse("99999999999999999999").size()).isZero();
+        assertThat(ManagedStores.parse("").size()).isZero();
+        assertThat(ManagedStores.parse("1,2,").contains(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 헤더 값은 캐시된 파싱 결과를 재사용하고, 상한에 도달하면 비운 뒤 다시 채운다")
+    void cache_ReusesParsedResult() {
+        // given
+        ManagedStoresCache cache = new ManagedStoresCache(2);
+
+        // when
+        ManagedStores first = cache.get("1,2,3");
+        ManagedStores second = cache.get("1,2,3");
+        cache.get("4");
+        cache.get("5");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
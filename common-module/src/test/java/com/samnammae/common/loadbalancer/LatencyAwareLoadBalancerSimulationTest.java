@@ -0,0 +1,270 @@
+package com.samnammae.common.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 시간 시뮬레이션: 1ms마다 요청이 들어오고, 인스턴스마다 정해진 속도로 응답
+ * 로드 밸런서 선택 → onStartRequest → (응답 시간 후) onComplete 순서로 실제 콜백 경로를 그대로 사용
+ */
+class LatencyAwareLoadBalancerSimulationTest {
+
+    private static final String SERVICE_ID = "menu-service";
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1);
+    private final Random random = new Random(42);
+
+    private final ServiceInstance fast1 = instance("fast-1");
+    private final ServiceInstance fast2 = instance("fast-2");
+    private final ServiceInstance slow = instance("slow");
+
+    @Test
+    @DisplayName("느린 인스턴스가 섞여 있어도 대부분의 요청을 빠른 인스턴스로 보내 p99를 낮춘다")
+    void slowInstance_AvoidedComparedToRoundRobin() {
+        // given: 5ms, 5ms, 50ms 인스턴스 (±20% 흔들림)
+        Map<ServiceInstance, Long> latencies = Map.of(fast1, 5 * MILLIS, fast2, 5 * MILLIS, slow, 50 * MILLIS);
+        LatencyTracker tracker = new LatencyTracker(LatencyAwareSettings.defaults(), clock::get);
+        LatencyAwareLoadBalancer latencyAware = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, fast1, fast2, slow), SERVICE_ID, tracker);
+        RoundRobinLoadBalancer roundRobin = new RoundRobinLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, fast1, fast2, slow), SERVICE_ID);
+
+        // when
+        Result aware = simulate(latencyAware, new LatencyTrackingLifecycle(tracker), latencies, Map.of(), 20000);
+        Result baseline = simulate(roundRobin, null, latencies, Map.of(), 20000);
+
+        // then
+        assertThat(baseline.percentile(0.99)).isGreaterThanOrEqualTo(40 * MILLIS);
+        assertThat(aware.percentile(0.99)).isLessThanOrEqualTo(10 * MILLIS);
+        assertThat(aware.share(slow)).isLessThan(0.05);
+        assertThat(tracker.inFlight(fast1) + tracker.inFlight(fast2) + tracker.inFlight(slow)).isZero();
+    }
+
+    @Test
+    @DisplayName("연속으로 실패하는 인스턴스는 제외했다가 제외 시간이 지나면 다시 선택한다")
+    void failingInstance_EjectedThenRestored() {
+        // given: 빠르게 실패하는 인스턴스 (응답 시간만 보면 가장 빠름)
+        ServiceInstance broken = instance("broken");
+        Map<ServiceInstance, Long> latencies = Map.of(fast1, 5 * MILLIS, fast2, 5 * MILLIS, broken, MILLIS);
+        LatencyTracker tracker = new LatencyTracker(LatencyAwareSettings.defaults(), clock::get);
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, fast1, fast2, broken), SERVICE_ID, tracker);
+        LatencyTrackingLifecycle lifecycle = new LatencyTrackingLifecycle(tracker);
+
+        // when: 10초 동안 요청
+        Result result = simulate(balancer, lifecycle, latencies, Map.of(broken, true), 10000);
+
+        // then: 기준(5회)만큼 실패한 뒤 제외되어 더 이상 선택되지 않음
+        assertThat(result.failures).isBetween(5, 7);
+        assertThat(tracker.isEjected(broken)).isTrue();
+
+        // when: 제외 시간(30초)이 지남
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        // then
+        assertThat(tracker.isEjected(broken)).isFalse();
+        assertThat(simulate(balancer, lifecycle, latencies, Map.of(), 1000).count(broken)).isPositive();
+    }
+
+    @Test
+    @DisplayName("System.nanoTime()이 음수여도 응답 시간을 기록해 느린 인스턴스를 피한다")
+    void negativeClock_StillRecordsLatency() {
+        // given
+        clock.set(-TimeUnit.SECONDS.toNanos(100));
+        Map<ServiceInstance, Long> latencies = Map.of(fast1, 5 * MILLIS, fast2, 5 * MILLIS, slow, 50 * MILLIS);
+        LatencyTracker tracker = new LatencyTracker(LatencyAwareSettings.defaults(), clock::get);
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, fast1, fast2, slow), SERVICE_ID, tracker);
+
+        // when
+        Result result = simulate(balancer, new LatencyTrackingLifecycle(tracker), latencies, Map.of(), 20000);
+
+        // then
+        assertThat(result.share(slow)).isLessThan(0.05);
+        assertThat(tracker.inFlight(fast1) + tracker.inFlight(fast2) + tracker.inFlight(slow)).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 콜백 없이 취소된 요청은 제한 시간이 지나면 진행 중 요청 수에서 빠진다")
+    void cancelledRequests_ExpireFromInFlight() {
+        // given: 시작만 기록되고 끝나지 않은 요청 10건
+        LatencyTracker tracker = new LatencyTracker(LatencyAwareSettings.defaults(), clock::get);
+        LatencyTrackingLifecycle lifecycle = new LatencyTrackingLifecycle(tracker);
+        Response<ServiceInstance> response = new DefaultResponse(fast1);
+        for (int i = 0; i < 10; i++) {
+            lifecycle.onStartRequest(new DefaultRequest<>(new RequestDataContext()), response);
+        }
+        assertThat(tracker.inFlight(fast1)).isEqualTo(10);
+
+        // when: 제한 시간(60초)이 지남
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        // then
+        assertThat(tracker.inFlight(fast1)).isZero();
+    }
+
+    @Test
+    @DisplayName("취소된 요청의 시작 시각은 제한 시간이 지나면 정리한다")
+    void cancelledRequests_StartTimesPruned() {
+        // given: 시작만 기록되고 끝나지 않은 요청 10건
+        LatencyTracker tracker = new LatencyTracker(LatencyAwareSettings.defaults(), clock::get);
+        LatencyTrackingLifecycle lifecycle = new LatencyTrackingLifecycle(tracker);
+        Response<ServiceInstance> response = new DefaultResponse(fast1);
+        for (int i = 0; i < 10; i++) {
+            lifecycle.onStartRequest(new DefaultRequest<>(new RequestDataContext()), response);
+        }
+
+        // when: 제한 시간이 지난 뒤 정리 주기만큼 요청이 시작되고 끝남
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        for (int i = 0; i < LatencyTrackingLifecycle.PRUNE_INTERVAL; i++) {
+            Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+            lifecycle.onStartRequest(request, response);
+            lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+        }
+
+        // then
+        assertThat(lifecycle.pendingStartTimes()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 컨텍스트의 시작 시각은 덮어쓰지 않고 응답 시간을 기록한다")
+    void requestStartTime_NotOverwritten() {
+        // given
+        LatencyTracker tracker = new LatencyTracker(LatencyAwareSettings.defaults(), clock::get);
+        LatencyTrackingLifecycle lifecycle = new LatencyTrackingLifecycle(tracker);
+        Response<ServiceInstance> response = new DefaultResponse(fast1);
+        RequestDataContext context = new RequestDataContext();
+        long requestStartTime = context.getRequestStartTime();
+        Request<RequestDataContext> request = new DefaultRequest<>(context);
+
+        // when
+        lifecycle.onStartRequest(request, response);
+        clock.addAndGet(5 * MILLIS);
+        lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+
+        // then
+        assertThat(context.getRequestStartTime()).isEqualTo(requestStartTime);
+        assertThat(lifecycle.pendingStartTimes()).isZero();
+        assertThat(tracker.inFlight(fast1)).isZero();
+    }
+
+    @Test
+    @DisplayName("디스커버리 목록에서 빠진 인스턴스의 통계는 다음 선택 때 제거한다")
+    void removedInstance_StatsPruned() {
+        // given
+        LatencyTracker tracker = new LatencyTracker(LatencyAwareSettings.defaults(), clock::get);
+        tracker.choose(List.of(fast1, fast2, slow));
+        assertThat(tracker.trackedInstances()).isEqualTo(3);
+
+        // when
+        tracker.choose(List.of(fast1, fast2));
+
+        // then
+        assertThat(tracker.trackedInstances()).isEqualTo(2);
+    }
+
+    /**
+     * 1ms 간격으로 requests개의 요청을 보내고 응답 시간과 인스턴스별 요청 수를 집계
+     */
+    private Result simulate(ReactorServiceInstanceLoadBalancer balancer, LatencyTrackingLifecycle lifecycle,
+                            Map<ServiceInstance, Long> latencies, Map<ServiceInstance, Boolean> failing, int requests) {
+        PriorityQueue<Completion> pending = new PriorityQueue<>((a, b) -> Long.compare(a.at, b.at));
+        Result result = new Result(requests);
+
+        for (int i = 0; i < requests; i++) {
+            long arrival = clock.get() + MILLIS;
+            completeUntil(pending, lifecycle, arrival);
+            clock.set(arrival);
+
+            Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+            Response<ServiceInstance> response = balancer.choose(request).block();
+            ServiceInstance chosen = response.getServer();
+            if (lifecycle != null) {
+                lifecycle.onStartRequest(request, response);
+            }
+
+            long latency = (long) (latencies.get(chosen) * (0.8 + random.nextDouble() * 0.4));
+            boolean failed = failing.getOrDefault(chosen, false);
+            pending.add(new Completion(arrival + latency, request, response, failed));
+            result.record(i, chosen, latency, failed);
+        }
+        completeUntil(pending, lifecycle, Long.MAX_VALUE);
+        return result;
+    }
+
+    private void completeUntil(PriorityQueue<Completion> pending, LatencyTrackingLifecycle lifecycle, long until) {
+        while (!pending.isEmpty() && pending.peek().at <= until) {
+            Completion completion = pending.poll();
+            clock.set(Math.max(clock.get(), completion.at));
+            if (lifecycle != null) {
+                CompletionContext.Status status = completion.failed
+                        ? CompletionContext.Status.FAILED
+                        : CompletionContext.Status.SUCCESS;
+                lifecycle.onComplete(new CompletionContext<>(status, completion.request, completion.response));
+            }
+        }
+    }
+
+    private static ServiceInstance instance(String host) {
+        return new DefaultServiceInstance(SERVICE_ID + "-" + host, SERVICE_ID, host, 8080, false);
+    }
+
+    private record Completion(long at, Request<RequestDataContext> request, Response<ServiceInstance> response,
+                              boolean failed) {
+    }
+
+    private static class Result {
+        private final long[] latencies;
+        private final Map<ServiceInstance, Integer> counts = new HashMap<>();
+        private int failures;
+
+        Result(int requests) {
+            this.latencies = new long[requests];
+        }
+
+        void record(int index, ServiceInstance instance, long latency, boolean failed) {
+            latencies[index] = latency;
+            counts.merge(instance, 1, Integer::sum);
+            if (failed) {
+                failures++;
+            }
+        }
+
+        long percentile(double p) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+        }
+
+        int count(ServiceInstance instance) {
+            return counts.getOrDefault(instance, 0);
+        }
+
+        double share(ServiceInstance instance) {
+            return (double) count(instance) / latencies.length;
+        }
+    }
+}
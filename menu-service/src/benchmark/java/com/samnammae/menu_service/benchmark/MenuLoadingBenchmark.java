@@ -0,0 +1,296 @@
+package com.samnammae.menu_service.benchmark;
+
+import com.samnammae.menu_service.domain.menu.Menu;
+import com.samnammae.menu_service.domain.menu.MenuRepository;
+import com.samnammae.menu_service.domain.menucategory.MenuCategory;
+import com.samnammae.menu_service.domain.option.Option;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategory;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategoryType;
+import com.samnammae.menu_service.dto.response.MenuWithOptionDetailDto;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 매장 메뉴 전체 조회 방식 비교 벤치마크 (인메모리 H2)
+ * - before: 메뉴 x 옵션 카테고리 x 옵션을 한 번에 fetch join
+ * - after: MenuRepository.findAllByStoreIdWithOptionCategories (메뉴 조회 후 IN 조회로 옵션 카테고리, 옵션 채움)
+ * - 두 방식 모두 트랜잭션 안에서 MenuWithOptionDetailDto로 변환까지 수행 (지연 로딩이 남으면 쿼리 수에 드러남)
+ * - 호출당 실행한 쿼리 수, JDBC로 읽은 행 수, p50/p99 지연 시간을 출력
+ *
+ * 옵션 (--key=value)
+ * --menus: 메뉴 수 (기본 200)
+ * --option-categories-per-menu: 메뉴마다 연결할 옵션 카테고리 수 (기본 5)
+ * --options-per-category: 옵션 카테고리마다 옵션 수 (기본 6)
+ * --store-option-categories: 매장의 옵션 카테고리 수, 메뉴들이 나눠 씀 (기본 20)
+ * --iterations: 측정 호출 수 (기본 200)
+ * --warmup-iterations: 측정 전 버리는 호출 수 (기본 50)
+ */
+public class MenuLoadingBenchmark {
+
+    private static final long STORE_ID = 1L;
+
+    // 변경 전 MenuRepository.findAllByStoreIdWithOptionCategories
+    private static final String FETCH_JOIN_QUERY = "SELECT m FROM Menu m " +
+            "LEFT JOIN FETCH m.menuCategory mc " +
+            "LEFT JOIN FETCH m.optionCategories oc " +
+            "LEFT JOIN FETCH oc.options " +
+            "WHERE m.storeId = :storeId " +
+            "ORDER BY mc.displayOrder, m.id";
+
+    private static final JdbcCounter COUNTER = new JdbcCounter();
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        int menus = intOption(options, "menus", 200);
+        int optionCategoriesPerMenu = intOption(options, "option-categories-per-menu", 5);
+        int optionsPerCategory = intOption(options, "options-per-category", 6);
+        int storeOptionCategories = intOption(options, "store-option-categories", 20);
+        int iterations = intOption(options, "iterations", 200);
+        int warmupIterations = intOption(options, "warmup-iterations", 50);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:menu-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.open-in-view=false",
+                        "--logging.level.root=WARN")) {
+
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            MenuRepository menuRepository = context.getBean(MenuRepository.class);
+            TransactionTemplate transaction = context.getBean(TransactionTemplate.class);
+
+            transaction.executeWithoutResult(status ->
+                    seed(entityManager, menus, optionCategoriesPerMenu, optionsPerCategory, storeOptionCategories));
+
+            System.out.printf("Menu loading: menus=%d, option categories per menu=%d, options per category=%d, store option categories=%d%n%n",
+                    menus, optionCategoriesPerMenu, optionsPerCategory, storeOptionCategories);
+            System.out.printf("%-24s %12s %12s %10s %10s%n", "strategy", "queries/call", "rows/call", "p50(ms)", "p99(ms)");
+
+            measure("fetch join (before)", transaction, iterations, warmupIterations,
+                    storeId -> entityManager.createQuery(FETCH_JOIN_QUERY, Menu.class)
+                            .setParameter("storeId", storeId)
+                            .getResultList());
+            measure("IN batches (after)", transaction, iterations, warmupIterations,
+                    menuRepository::findAllByStoreIdWithOptionCategories);
+        }
+    }
+
+    private static void measure(String name, TransactionTemplate transaction, int iterations, int warmupIterations,
+                                Function<Long, List<Menu>> loader) {
+        // 1. 워밍업 (JIT 컴파일, 쿼리 계획 캐시) 후 결과는 버림
+        for (int i = 0; i < warmupIterations; i++) {
+            load(transaction, loader);
+        }
+        COUNTER.reset();
+
+        // 2. 측정
+        long[] latencies = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = System.nanoTime();
+            load(transaction, loader);
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("%-24s %12.1f %12.1f %10.2f %10.2f%n",
+                name,
+                COUNTER.statements.sum() / (double) iterations,
+                COUNTER.rows.sum() / (double) iterations,
+                latencies[(int) (latencies.length * 0.5)] / 1_000_000.0,
+                latencies[Math.min(latencies.length - 1, (int) (latencies.length * 0.99))] / 1_000_000.0);
+    }
+
+    // 새 트랜잭션(빈 영속성 컨텍스트)에서 조회 후 응답 DTO로 변환
+    private static void load(TransactionTemplate transaction, Function<Long, List<Menu>> loader) {
+        List<MenuWithOptionDetailDto> result = transaction.execute(status -> loader.apply(STORE_ID).stream()
+                .map(MenuWithOptionDetailDto::from)
+                .toList());
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("No menus loaded");
+        }
+    }
+
+    // 카테고리 10개, 매장 옵션 카테고리를 메뉴들이 돌아가며 나눠 쓰는 매장 생성
+    private static void seed(EntityManager entityManager, int menus, int optionCategoriesPerMenu,
+                             int optionsPerCategory, int storeOptionCategories) {
+        List<MenuCategory> categories = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            MenuCategory category = MenuCategory.builder()
+                    .storeId(STORE_ID)
+                    .name("카테고리 " + i)
+                    .displayOrder(i)
+                    .build();
+            entityManager.persist(category);
+            categories.add(category);
+        }
+
+        List<OptionCategory> optionCategories = new ArrayList<>();
+        for (int i = 0; i < Math.max(storeOptionCategories, optionCategoriesPerMenu); i++) {
+            OptionCategory optionCategory = OptionCategory.builder()
+                    .storeId(STORE_ID)
+                    .name("옵션 카테고리 " + i)
+                    .type(i % 2 == 0 ? OptionCategoryType.SINGLE : OptionCategoryType.MULTIPLE)
+                    .isRequired(i % 2 == 0)
+                    .build();
+            for (int j = 0; j < optionsPerCategory; j++) {
+                optionCategory.getOptions().add(Option.builder()
+                        .optionCategory(optionCategory)
+                        .name("옵션 " + i + "-" + j)
+                        .price(j * 500)
+                        .isDefault(j == 0)
+                        .build());
+            }
+            entityManager.persist(optionCategory);
+            optionCategories.add(optionCategory);
+        }
+
+        for (int i = 0; i < menus; i++) {
+            Set<OptionCategory> menuOptionCategories = new HashSet<>();
+            for (int j = 0; j < optionCategoriesPerMenu; j++) {
+                menuOptionCategories.add(optionCategories.get((i + j) % optionCategories.size()));
+            }
+            entityManager.persist(Menu.builder()
+                    .storeId(STORE_ID)
+                    .menuCategory(categories.get(i % categories.size()))
+                    .name("메뉴 " + i)
+                    .price(3000 + i % 20 * 500)
+                    .description("신선한 원두로 내린 시그니처 음료입니다.")
+                    .isSoldOut(false)
+                    .optionCategories(menuOptionCategories)
+                    .build());
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must look like --key=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+
+    /**
+     * JPA와 H2만 띄우는 벤치마크 전용 설정 (S3, Eureka, 웹 설정 제외)
+     */
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackages = "com.samnammae.menu_service.domain")
+    @EnableJpaRepositories(basePackages = "com.samnammae.menu_service.domain")
+    static class BenchmarkApplication {
+
+        // 실행한 쿼리 수와 읽은 행 수를 세도록 DataSource 감싸기
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? COUNTER.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * JDBC 호출 계수기 (DataSource -> Connection -> PreparedStatement -> ResultSet 프록시)
+     */
+    static class JdbcCounter {
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+
+        void reset() {
+            statements.reset();
+            rows.reset();
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, result) ->
+                    result instanceof PreparedStatement statement ? wrap(statement) : result);
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, (method, result) -> {
+                if (result instanceof ResultSet resultSet && method.getName().equals("executeQuery")) {
+                    statements.increment();
+                    return wrap(resultSet);
+                }
+                return result;
+            });
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, (method, result) -> {
+                if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                    rows.increment();
+                }
+                return result;
+            });
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object result);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return afterCall.apply(method, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.samnammae.menu_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.samnammae.menu_service.dto.response.MenuCategoryResponseDto;
+import com.samnammae.menu_service.dto.response.MenuDetailResponseDto;
+import com.samnammae.menu_service.dto.response.MenuListResponseDto;
+import com.samnammae.menu_service.dto.response.OptionCategoryResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import com.samnammae.menu_service.service.MenuVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 메뉴 조회 결과 캐시 (메뉴 상세, 매장 메뉴 목록, 카테고리 목록, 옵션 카테고리 목록)
+ * - 키는 매장 ID와 DB의 매장 메뉴 버전(MenuVersionService)으로 구성하고, 조회마다 PK 조회 한 번으로 현재 버전을 읽음
+ *   (어느 인스턴스에서 쓰기가 커밋되어도 버전이 바뀌므로 모든 인스턴스에서 다음 조회부터 새 키로 다시 조회)
+ * - 버전을 읽은 뒤 내용을 조회하므로 항목 내용은 항상 키의 버전 이후 상태
+ *   (커밋 전에 조회를 시작한 요청이 이전 내용을 늦게 저장해도 이전 버전 키에 들어가므로 이후 조회에 사용되지 않음)
+ * - 이 인스턴스의 쓰기가 커밋되면 이전 버전 항목을 바로 제거하고, 다른 인스턴스의 이전 버전 항목은 TTL이 지나면 만료
+ * - 캐시된 DTO는 여러 요청이 공유하므로 호출하는 쪽에서 수정하지 않음
+ * - 적중/미적중 수는 cache.gets{cache=menu.*} 지표로 기록
+ */
+@Component
+public class MenuCache {
+
+    private final Cache<Key, MenuDetailResponseDto> menuDetails;
+    private final Cache<Key, MenuListResponseDto> menuLists;
+    private final Cache<Key, List<MenuCategoryResponseDto>> categories;
+    private final Cache<Key, List<OptionCategoryResponseDto>> optionCategories;
+
+    private final MenuVersionService menuVersionService;
+
+    public MenuCache(MeterRegistry registry,
+                     MenuVersionService menuVersionService,
+                     @Value("${menu.cache.max-entries:10000}") long maxEntries,
+                     @Value("${menu.cache.ttl:60s}") Duration ttl) {
+        this.menuVersionService = menuVersionService;
+        this.menuDetails = build(registry, "menu.detail", maxEntries, ttl);
+        this.menuLists = build(registry, "menu.list", maxEntries, ttl);
+        this.categories = build(registry, "menu.categories", maxEntries, ttl);
+        this.optionCategories = build(registry, "menu.option_categories", maxEntries, ttl);
+    }
+
+    public MenuDetailResponseDto menuDetail(Long storeId, Long menuId, Supplier<MenuDetailResponseDto> loader) {
+        return get(menuDetails, storeId, menuId, loader);
+    }
+
+    public MenuListResponseDto menuList(Long storeId, Supplier<MenuListResponseDto> loader) {
+        return get(menuLists, storeId, null, loader);
+    }
+
+    public List<MenuCategoryResponseDto> categories(Long storeId, Supplier<List<MenuCategoryResponseDto>> loader) {
+        return get(categories, storeId, null, loader);
+    }
+
+    public List<OptionCategoryResponseDto> optionCategories(Long storeId, Supplier<List<OptionCategoryResponseDto>> loader) {
+        return get(optionCategories, storeId, null, loader);
+    }
+
+    /**
+     * 이 인스턴스에서 쓰기 트랜잭션이 커밋되면 해당 매장 항목 제거 (이전 버전 키는 더 이상 조회되지 않으므로 공간만 차지)
+     * 읽기 모델이 이 캐시를 거쳐 스냅샷을 다시 만들기 때문에 다른 커밋 후 리스너보다 먼저 실행
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        invalidate(event.storeId());
+    }
+
+    // 해당 매장 항목 제거 (읽기 모델이 만료된 스냅샷을 DB 기준으로 다시 만들 때도 사용)
+    public void invalidate(Long storeId) {
+        for (Cache<Key, ?> cache : List.of(menuDetails, menuLists, categories, optionCategories)) {
+            cache.asMap().keySet().removeIf(key -> key.storeId().equals(storeId));
+        }
+    }
+
+    private <T> T get(Cache<Key, T> cache, Long storeId, Long id, Supplier<T> loader) {
+        Key key = new Key(storeId, menuVersionService.currentVersion(storeId), id);
+        return cache.get(key, k -> loader.get());
+    }
+
+    private static <T> Cache<Key, T> build(MeterRegistry registry, String name, long maxEntries, Duration ttl) {
+        Cache<Key, T> cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    private record Key(Long storeId, long menuVersion, Long id) {
+    }
+}
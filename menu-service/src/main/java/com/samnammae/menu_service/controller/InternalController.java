@@ -1,15 +1,17 @@
 package com.samnammae.menu_service.controller;
 
-import com.samnammae.common.response.ApiResponse;
-import com.samnammae.menu_service.dto.response.MenuWithOptionsResponseDto;
-import com.samnammae.menu_service.service.InternalService;
+import com.samnammae.menu_service.readmodel.MenuReadModel;
+import com.samnammae.menu_service.readmodel.MenuSnapshotResponses;
+import com.samnammae.menu_service.readmodel.MenuView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/internal/menu")
@@ -17,15 +19,23 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class InternalController {
 
-    private final InternalService internalService;
+    private final MenuReadModel menuReadModel;
 
     @GetMapping("/{storeId}")
-    @Operation(summary = "키오스크용 메뉴 조회", description = "LLM 처리를 위한 옵션 상세 정보가 포함된 전체 메뉴를 조회합니다.")
-    public ApiResponse<MenuWithOptionsResponseDto> getMenusWithOptions(
-            @PathVariable Long storeId) {
+    @Operation(summary = "키오스크용 메뉴 조회", description = "LLM 처리를 위한 옵션 상세 정보가 포함된 전체 메뉴를 조회합니다. (읽기 모델, ETag 지원)")
+    public ResponseEntity<byte[]> getMenusWithOptions(
+            @PathVariable Long storeId,
+            WebRequest request) {
 
-        MenuWithOptionsResponseDto response = internalService.getMenusWithOptions(storeId);
+        return MenuSnapshotResponses.of(menuReadModel.get(storeId), MenuView.WITH_OPTIONS, request);
+    }
+
+    @GetMapping("/{storeId}/bundle")
+    @Operation(summary = "키오스크 번들용 메뉴 조회", description = "displayOrder 순서의 카테고리별 메뉴와 옵션 상세 정보를 조회합니다. (읽기 모델, ETag 지원)")
+    public ResponseEntity<byte[]> getKioskMenu(
+            @PathVariable Long storeId,
+            WebRequest request) {
 
-        return ApiResponse.success(response);
+        return MenuSnapshotResponses.of(menuReadModel.get(storeId), MenuView.KIOSK, request);
     }
-}
\ No newline at end of file
+}
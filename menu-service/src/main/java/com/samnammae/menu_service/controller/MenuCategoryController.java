@@ -1,11 +1,13 @@
 package com.samnammae.menu_service.controller;
 
+import com.samnammae.common.auth.ManagedStores;
 import com.samnammae.common.response.ApiResponse;
 import com.samnammae.menu_service.dto.request.MenuCategoryCreateRequestDto;
 import com.samnammae.menu_service.dto.request.MenuCategoryUpdateRequestDto;
 import com.samnammae.menu_service.dto.response.MenuCategoryResponseDto;
 import com.samnammae.menu_service.service.MenuCategoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -24,10 +26,10 @@ public class MenuCategoryController {
     @Operation(summary = "메뉴 카테고리 추가", description = "특정 매장에 새로운 메뉴 카테고리를 추가합니다.")
     public ApiResponse<Long> createCategory(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds,
+            @Parameter(hidden = true) ManagedStores managedStores,
             @RequestBody MenuCategoryCreateRequestDto requestDto) {
         // 매장 접근 권한 검증
-        menuCategoryService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 카테고리 생성
         Long categoryId = menuCategoryService.createCategory(storeId, requestDto);
@@ -39,9 +41,9 @@ public class MenuCategoryController {
     @Operation(summary = "메뉴 카테고리 목록 조회", description = "특정 매장의 모든 메뉴 카테고리를 조회합니다.")
     public ApiResponse<List<MenuCategoryResponseDto>> getCategories(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
         // 매장 접근 권한 검증
-        menuCategoryService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 카테고리 목록 조회
         List<MenuCategoryResponseDto> response = menuCategoryService.getCategories(storeId);
@@ -53,10 +55,10 @@ public class MenuCategoryController {
     @Operation(summary = "메뉴 카테고리 수정", description = "특정 매장의 메뉴 카테고리 목록을 일괄 수정합니다. (순서 변경 등)")
     public ApiResponse<List<Long>> updateCategories(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds,
+            @Parameter(hidden = true) ManagedStores managedStores,
             @RequestBody List<MenuCategoryUpdateRequestDto> requestDto) {
         // 매장 접근 권한 검증
-        menuCategoryService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 카테고리 목록 수정
         List<Long> updatedCategoryIds = menuCategoryService.updateCategories(storeId, requestDto);
@@ -69,9 +71,9 @@ public class MenuCategoryController {
     public ApiResponse<Void> deleteCategory(
             @PathVariable Long storeId,
             @PathVariable Long categoryId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
         // 매장 접근 권한 검증
-        menuCategoryService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 카테고리 삭제
         menuCategoryService.deleteCategory(storeId, categoryId);
@@ -1,17 +1,29 @@
 package com.samnammae.menu_service.controller;
 
+import com.samnammae.common.auth.ManagedStores;
 import com.samnammae.common.response.ApiResponse;
 import com.samnammae.menu_service.dto.request.MenuCreateRequestDto;
 import com.samnammae.menu_service.dto.request.MenuUpdateRequestDto;
 import com.samnammae.menu_service.dto.response.MenuDetailResponseDto;
-import com.samnammae.menu_service.dto.response.MenuListResponseDto;
+import com.samnammae.menu_service.dto.response.MenuImportResponseDto;
+import com.samnammae.menu_service.readmodel.MenuReadModel;
+import com.samnammae.menu_service.readmodel.MenuSnapshotResponses;
+import com.samnammae.menu_service.readmodel.MenuView;
+import com.samnammae.menu_service.service.MenuBulkService;
 import com.samnammae.menu_service.service.MenuService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/menu")
@@ -20,17 +32,19 @@ import org.springframework.web.multipart.MultipartFile;
 public class MenuController {
 
     private final MenuService menuService;
+    private final MenuReadModel menuReadModel;
+    private final MenuBulkService menuBulkService;
 
     @PostMapping(value = "/{storeId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "메뉴 추가", description = "새로운 메뉴를 추가합니다.")
     public ApiResponse<Long> createMenu(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds,
+            @Parameter(hidden = true) ManagedStores managedStores,
             @RequestPart("request") MenuCreateRequestDto requestDto,
             @RequestPart(value = "image", required = false) MultipartFile image) {
 
         // 매장 접근 권한 검증
-        menuService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 메뉴 생성
         Long menuId = menuService.createMenu(storeId, requestDto, image);
@@ -38,32 +52,70 @@ public class MenuController {
         return ApiResponse.success(menuId);
     }
 
-    @GetMapping("/{storeId}")
-    @Operation(summary = "메뉴 목록 조회", description = "특정 매장의 전체 메뉴를 카테고리별로 그룹핑하여 조회합니다.")
-    public ApiResponse<MenuListResponseDto> getMenus(
+    @PostMapping(value = "/{storeId}/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "메뉴 일괄 가져오기", description = "JSON 파일과 이미지 zip으로 카테고리, 옵션 카테고리, 옵션, 메뉴를 한 번에 추가합니다.")
+    public ApiResponse<MenuImportResponseDto> importMenus(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores,
+            @RequestPart("file") MultipartFile file,
+            @RequestPart(value = "images", required = false) MultipartFile images) {
 
         // 매장 접근 권한 검증
-        menuService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
-        // 메뉴 목록 조회
-        MenuListResponseDto response = menuService.getMenusByStore(storeId);
+        // 메뉴 일괄 추가
+        MenuImportResponseDto response = menuBulkService.importMenus(storeId, file, images);
 
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/{storeId}/export")
+    @Operation(summary = "메뉴 일괄 내보내기", description = "매장 메뉴 전체를 가져오기와 같은 형식의 JSON 파일로 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportMenus(
+            @PathVariable Long storeId,
+            @Parameter(hidden = true) ManagedStores managedStores) {
+
+        // 매장 접근 권한 검증
+        managedStores.validate(storeId);
+
+        // 응답 버퍼에 모으지 않고 메뉴를 조회하면서 출력 스트림에 바로 직렬화 (게이트웨이 응답 캐시도 거치지 않음)
+        StreamingResponseBody body = outputStream -> menuBulkService.exportMenus(storeId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("menus-" + storeId + ".json")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/{storeId}")
+    @Operation(summary = "메뉴 목록 조회", description = "특정 매장의 전체 메뉴를 카테고리별로 그룹핑하여 조회합니다. (읽기 모델, ETag 지원)")
+    public ResponseEntity<byte[]> getMenus(
+            @PathVariable Long storeId,
+            @Parameter(hidden = true) ManagedStores managedStores,
+            WebRequest request) {
+
+        // 매장 접근 권한 검증
+        managedStores.validate(storeId);
+
+        // 미리 직렬화된 메뉴 목록 응답
+        return MenuSnapshotResponses.of(menuReadModel.get(storeId), MenuView.LIST, request);
+    }
+
     @PutMapping(value = "/{storeId}/{menuId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "메뉴 수정", description = "기존 메뉴의 정보를 수정합니다.")
+    @Operation(summary = "메뉴 수정", description = "기존 메뉴의 정보를 수정합니다. 템플릿으로 추가된 메뉴의 가격, 품절 여부는 매장별 재정의로 저장되어 템플릿을 다시 적용해도 유지됩니다.")
     public ApiResponse<Long> updateMenu(
             @PathVariable Long storeId,
             @PathVariable Long menuId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds,
+            @Parameter(hidden = true) ManagedStores managedStores,
             @RequestPart("request") MenuUpdateRequestDto requestDto,
             @RequestPart(value = "image", required = false) MultipartFile image) {
 
         // 매장 접근 권한 검증
-        menuService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 메뉴 수정
         Long updatedMenuId = menuService.updateMenu(storeId, menuId, requestDto, image);
@@ -76,10 +128,10 @@ public class MenuController {
     public ApiResponse<Void> deleteMenu(
             @PathVariable Long storeId,
             @PathVariable Long menuId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
 
         // 매장 접근 권한 검증
-        menuService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 메뉴 삭제
         menuService.deleteMenu(storeId, menuId);
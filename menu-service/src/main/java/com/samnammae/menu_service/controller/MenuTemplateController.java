@@ -0,0 +1,87 @@
+package com.samnammae.menu_service.controller;
+
+import com.samnammae.common.auth.ManagedStores;
+import com.samnammae.common.response.ApiResponse;
+import com.samnammae.menu_service.domain.template.MenuTemplate;
+import com.samnammae.menu_service.dto.request.MenuOverrideRequestDto;
+import com.samnammae.menu_service.dto.request.MenuTemplateApplyRequestDto;
+import com.samnammae.menu_service.dto.request.MenuTemplateCreateRequestDto;
+import com.samnammae.menu_service.dto.response.MenuTemplateResponseDto;
+import com.samnammae.menu_service.service.MenuTemplateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/menu")
+@Tag(name = "Menu Template", description = "프랜차이즈 메뉴 템플릿 API")
+@RequiredArgsConstructor
+public class MenuTemplateController {
+
+    private final MenuTemplateService menuTemplateService;
+
+    @PostMapping("/templates")
+    @Operation(summary = "메뉴 템플릿 생성", description = "원본 매장의 메뉴 구성을 템플릿으로 등록합니다.")
+    public ApiResponse<Long> createTemplate(
+            @Parameter(hidden = true) ManagedStores managedStores,
+            @RequestBody MenuTemplateCreateRequestDto requestDto) {
+        // 원본 매장 접근 권한 검증
+        managedStores.validate(requestDto.getSourceStoreId());
+
+        // 템플릿 생성
+        Long templateId = menuTemplateService.createTemplate(requestDto);
+
+        return ApiResponse.success(templateId);
+    }
+
+    @GetMapping("/templates/{templateId}")
+    @Operation(summary = "메뉴 템플릿 조회", description = "템플릿 정보와 템플릿을 적용한 매장 목록을 조회합니다.")
+    public ApiResponse<MenuTemplateResponseDto> getTemplate(
+            @PathVariable Long templateId,
+            @Parameter(hidden = true) ManagedStores managedStores) {
+        MenuTemplateResponseDto response = menuTemplateService.getTemplate(templateId);
+
+        // 원본 매장 접근 권한 검증
+        managedStores.validate(response.getSourceStoreId());
+
+        return ApiResponse.success(response);
+    }
+
+    @PostMapping("/templates/{templateId}/apply")
+    @Operation(summary = "메뉴 템플릿 적용", description = "템플릿을 여러 매장에 일괄 복사합니다. 이미 적용한 매장은 원본 매장의 변경 사항으로 갱신됩니다.")
+    public ApiResponse<MenuTemplateResponseDto> applyTemplate(
+            @PathVariable Long templateId,
+            @Parameter(hidden = true) ManagedStores managedStores,
+            @RequestBody MenuTemplateApplyRequestDto requestDto) {
+        // 원본 매장과 대상 매장 모두 접근 권한 검증
+        List<Long> storeIds = requestDto.getStoreIds() == null ? List.of() : requestDto.getStoreIds();
+        MenuTemplate template = menuTemplateService.findTemplate(templateId);
+        managedStores.validate(template.getSourceStoreId());
+        storeIds.forEach(managedStores::validate);
+
+        // 템플릿 적용
+        MenuTemplateResponseDto response = menuTemplateService.applyTemplate(templateId, storeIds);
+
+        return ApiResponse.success(response);
+    }
+
+    @PutMapping("/{storeId}/{menuId}/override")
+    @Operation(summary = "템플릿 메뉴 재정의", description = "템플릿으로 추가된 메뉴의 가격, 품절 여부를 매장별로 재정의합니다. 값을 비우면 템플릿 값을 사용합니다.")
+    public ApiResponse<Long> overrideMenu(
+            @PathVariable Long storeId,
+            @PathVariable Long menuId,
+            @Parameter(hidden = true) ManagedStores managedStores,
+            @RequestBody MenuOverrideRequestDto requestDto) {
+        // 매장 접근 권한 검증
+        managedStores.validate(storeId);
+
+        // 가격, 품절 재정의
+        Long result = menuTemplateService.overrideMenu(storeId, menuId, requestDto);
+
+        return ApiResponse.success(result);
+    }
+}
@@ -1,10 +1,12 @@
 package com.samnammae.menu_service.controller;
 
+import com.samnammae.common.auth.ManagedStores;
 import com.samnammae.common.response.ApiResponse;
 import com.samnammae.menu_service.dto.request.OptionCategoryRequestDto;
 import com.samnammae.menu_service.dto.response.OptionCategoryResponseDto;
 import com.samnammae.menu_service.service.OptionService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -23,11 +25,11 @@ public class OptionController {
     @Operation(summary = "옵션 추가", description = "새로운 옵션 카테고리와 하위 옵션들을 추가합니다.")
     public ApiResponse<Long> createOptionCategory(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds,
+            @Parameter(hidden = true) ManagedStores managedStores,
             @RequestBody OptionCategoryRequestDto requestDto) {
 
         // 매장 접근 권한 검증
-        optionService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 옵션 카테고리 생성
         Long optionCategoryId = optionService.createOptionCategory(storeId, requestDto);
@@ -39,10 +41,10 @@ public class OptionController {
     @Operation(summary = "옵션 목록 조회", description = "특정 매장의 전체 옵션을 조회합니다.")
     public ApiResponse<List<OptionCategoryResponseDto>> getOptions(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
 
         // 매장 접근 권한 검증
-        optionService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 옵션 목록 조회
         List<OptionCategoryResponseDto> response = optionService.getOptionsByStore(storeId);
@@ -55,11 +57,11 @@ public class OptionController {
     public ApiResponse<Long> updateOptionCategory(
             @PathVariable Long storeId,
             @PathVariable Long optionCategoryId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds,
+            @Parameter(hidden = true) ManagedStores managedStores,
             @RequestBody OptionCategoryRequestDto requestDto) {
 
         // 매장 접근 권한 검증
-        optionService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 옵션 카테고리 수정
         Long updatedId = optionService.updateOptionCategory(storeId, optionCategoryId, requestDto);
@@ -72,10 +74,10 @@ public class OptionController {
     public ApiResponse<Void> deleteOptionCategory(
             @PathVariable Long storeId,
             @PathVariable Long optionCategoryId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
 
         // 매장 접근 권한 검증
-        optionService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 옵션 카테고리 삭제
         optionService.deleteOptionCategory(storeId, optionCategoryId);
@@ -89,10 +91,10 @@ public class OptionController {
             @PathVariable Long storeId,
             @PathVariable Long optionCategoryId,
             @PathVariable Long optionId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
 
         // 매장 접근 권한 검증
-        optionService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 개별 옵션 삭제
         optionService.deleteOption(storeId, optionCategoryId, optionId);
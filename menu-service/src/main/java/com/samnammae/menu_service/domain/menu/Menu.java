@@ -9,7 +9,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "menu")
+@Table(name = "menu", indexes = @Index(name = "idx_menu_template_source", columnList = "template_source_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -51,6 +51,10 @@ public class Menu {
     )
     private Set<OptionCategory> optionCategories = new HashSet<>();
 
+    // 템플릿 원본 매장의 항목 ID (템플릿으로 추가된 항목만)
+    @Column(name = "template_source_id")
+    private Long templateSourceId;
+
     public void update(String name, int price, String description, String imageUrl, boolean isSoldOut, MenuCategory menuCategory, Set<OptionCategory> optionCategories) {
         this.name = name;
         this.price = price;
@@ -60,4 +64,10 @@ public class Menu {
         this.menuCategory = menuCategory;
         this.optionCategories = optionCategories;
     }
+
+    // 템플릿 메뉴의 매장별 가격, 품절 재정의
+    public void override(int price, boolean isSoldOut) {
+        this.price = price;
+        this.isSoldOut = isSoldOut;
+    }
 }
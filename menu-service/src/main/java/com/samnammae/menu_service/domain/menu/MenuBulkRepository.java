@@ -0,0 +1,126 @@
+package com.samnammae.menu_service.domain.menu;
+
+import com.samnammae.menu_service.domain.menucategory.MenuCategory;
+import com.samnammae.menu_service.domain.option.Option;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메뉴 일괄 가져오기용 JDBC 배치 INSERT
+ * - 엔티티가 IDENTITY 전략이라 Hibernate는 INSERT를 한 건씩 실행하므로 JDBC 배치로 직접 INSERT
+ * - 생성된 ID는 배치마다 getGeneratedKeys로 입력 순서대로 돌려받음
+ * - 전달받는 엔티티는 값을 담는 용도로만 사용 (영속성 컨텍스트에 올라가지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MenuBulkRepository {
+
+    // MySQL은 rewriteBatchedStatements=true일 때 배치 하나를 여러 행 INSERT 한 문장으로 전송
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertCategories(List<MenuCategory> categories) {
+        return insertAll("INSERT INTO menu_category (store_id, name, display_order) VALUES (?, ?, ?)",
+                categories, (ps, category) -> {
+                    ps.setLong(1, category.getStoreId());
+                    ps.setString(2, category.getName());
+                    ps.setInt(3, category.getDisplayOrder());
+                });
+    }
+
+    public List<Long> insertOptionCategories(List<OptionCategory> optionCategories) {
+        return insertAll("INSERT INTO option_category (store_id, name, type, is_required) VALUES (?, ?, ?, ?)",
+                optionCategories, (ps, optionCategory) -> {
+                    ps.setLong(1, optionCategory.getStoreId());
+                    ps.setString(2, optionCategory.getName());
+                    ps.setString(3, optionCategory.getType().name());
+                    ps.setBoolean(4, optionCategory.isRequired());
+                });
+    }
+
+    public List<Long> insertOptions(List<Option> options) {
+        return insertAll("INSERT INTO options (option_category_id, name, price, is_default) VALUES (?, ?, ?, ?)",
+                options, (ps, option) -> {
+                    ps.setLong(1, option.getOptionCategory().getId());
+                    ps.setString(2, option.getName());
+                    ps.setInt(3, option.getPrice());
+                    ps.setBoolean(4, option.isDefault());
+                });
+    }
+
+    // 메뉴와 메뉴-옵션 카테고리 연결을 함께 저장
+    public List<Long> insertMenus(List<Menu> menus) {
+        List<Long> ids = insertAll("INSERT INTO menu (store_id, menu_category_id, name, price, description, image_url, is_sold_out) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                menus, (ps, menu) -> {
+                    ps.setLong(1, menu.getStoreId());
+                    if (menu.getMenuCategory() != null) {
+                        ps.setLong(2, menu.getMenuCategory().getId());
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setString(3, menu.getName());
+                    ps.setInt(4, menu.getPrice());
+                    ps.setString(5, menu.getDescription());
+                    ps.setString(6, menu.getImageUrl());
+                    ps.setBoolean(7, menu.isSoldOut());
+                });
+
+        List<long[]> links = new ArrayList<>();
+        for (int i = 0; i < menus.size(); i++) {
+            for (OptionCategory optionCategory : menus.get(i).getOptionCategories()) {
+                links.add(new long[]{ids.get(i), optionCategory.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO menu_option_category (menu_id, option_category_id) VALUES (?, ?)",
+                links, BATCH_SIZE, (ps, link) -> {
+                    ps.setLong(1, link[0]);
+                    ps.setLong(2, link[1]);
+                });
+
+        return ids;
+    }
+
+    private <T> List<Long> insertAll(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> generated = new ArrayList<>(rows.size());
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < rows.size(); i++) {
+                    setter.setValues(ps, rows.get(i));
+                    ps.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i == rows.size() - 1) {
+                        ps.executeBatch();
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                generated.add(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+            }
+            return generated;
+        });
+
+        if (ids == null || ids.size() != rows.size()) {
+            throw new IllegalStateException("Generated key count mismatch. expected: " + rows.size()
+                    + ", actual: " + (ids == null ? 0 : ids.size()));
+        }
+        return ids;
+    }
+}
@@ -6,10 +6,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+public interface MenuRepository extends JpaRepository<Menu, Long>, MenuRepositoryCustom {
 
     // 특정 매장의 메뉴 목록을 조회
     @Query("SELECT m FROM Menu m " +
@@ -18,19 +17,6 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
             "WHERE m.storeId = :storeId")
     List<Menu> findAllByStoreIdWithDetails(@Param("storeId") Long storeId);
 
-    // 특정 매장의 메뉴 상세 정보를 조회
-    @Query("SELECT m FROM Menu m " +
-            "LEFT JOIN FETCH m.menuCategory " +
-            "LEFT JOIN FETCH m.optionCategories oc " +
-            "LEFT JOIN FETCH oc.options " +
-            "WHERE m.id = :menuId")
-    Optional<Menu> findByIdWithDetails(@Param("menuId") Long menuId);
-
-    @Query("SELECT m FROM Menu m " +
-            "LEFT JOIN FETCH m.menuCategory mc " +
-            "LEFT JOIN FETCH m.optionCategories oc " +
-            "LEFT JOIN FETCH oc.options " +
-            "WHERE m.storeId = :storeId " +
-            "ORDER BY mc.displayOrder, m.id")
-    List<Menu> findAllByStoreIdWithOptionCategories(@Param("storeId") Long storeId);
+    // 템플릿으로 복사된 메뉴는 원본과 이미지 파일을 공유하므로 삭제 전에 다른 메뉴의 참조 여부를 확인
+    boolean existsByImageUrlAndIdNot(String imageUrl, Long id);
 }
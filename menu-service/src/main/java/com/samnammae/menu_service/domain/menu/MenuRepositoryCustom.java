@@ -0,0 +1,21 @@
+package com.samnammae.menu_service.domain.menu;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 옵션 카테고리와 옵션까지 채운 메뉴 조회
+ * 메뉴 x 옵션 카테고리 x 옵션을 한 번에 fetch join하면 행이 곱으로 늘어나므로 단계별 IN 조회로 나눔
+ */
+public interface MenuRepositoryCustom {
+
+    // 특정 매장의 메뉴 전체 (카테고리 displayOrder, 메뉴 ID 순서)
+    List<Menu> findAllByStoreIdWithOptionCategories(Long storeId);
+
+    // 특정 매장의 메뉴 전체를 같은 순서로 chunkSize개씩 나눠 전달 (청크마다 영속성 컨텍스트를 비우므로 읽기 전용 트랜잭션에서만 사용)
+    void forEachChunkByStoreId(Long storeId, int chunkSize, Consumer<List<Menu>> consumer);
+
+    // 특정 메뉴 상세 정보
+    Optional<Menu> findByIdWithDetails(Long menuId);
+}
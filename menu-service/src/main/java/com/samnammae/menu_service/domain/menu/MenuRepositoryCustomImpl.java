@@ -0,0 +1,108 @@
+package com.samnammae.menu_service.domain.menu;
+
+import com.samnammae.menu_service.domain.optioncategory.OptionCategory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 조회를 세 단계로 나눠 전송 행 수를 데이터 크기에 맞춤
+ * 1. 메뉴 + 메뉴 카테고리 (to-one이므로 메뉴 수만큼)
+ * 2. 메뉴 ID IN으로 메뉴-옵션 카테고리 연결 (연결 수만큼)
+ * 3. 옵션 카테고리 ID IN으로 옵션 (매장의 옵션 카테고리는 여러 메뉴가 공유하므로 한 번씩만)
+ * 2, 3단계는 같은 영속성 컨텍스트의 엔티티 컬렉션을 초기화하므로 호출하는 쪽 트랜잭션 안에서 사용
+ */
+public class MenuRepositoryCustomImpl implements MenuRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Menu> findAllByStoreIdWithOptionCategories(Long storeId) {
+        List<Menu> menus = entityManager.createQuery(
+                        "SELECT m FROM Menu m " +
+                                "LEFT JOIN FETCH m.menuCategory mc " +
+                                "WHERE m.storeId = :storeId " +
+                                "ORDER BY mc.displayOrder, m.id", Menu.class)
+                .setParameter("storeId", storeId)
+                .getResultList();
+
+        fetchOptionCategories(menus);
+        return menus;
+    }
+
+    @Override
+    public void forEachChunkByStoreId(Long storeId, int chunkSize, Consumer<List<Menu>> consumer) {
+        List<Long> menuIds = entityManager.createQuery(
+                        "SELECT m.id FROM Menu m " +
+                                "LEFT JOIN m.menuCategory mc " +
+                                "WHERE m.storeId = :storeId " +
+                                "ORDER BY mc.displayOrder, m.id", Long.class)
+                .setParameter("storeId", storeId)
+                .getResultList();
+
+        for (int from = 0; from < menuIds.size(); from += chunkSize) {
+            List<Menu> menus = entityManager.createQuery(
+                            "SELECT m FROM Menu m " +
+                                    "LEFT JOIN FETCH m.menuCategory mc " +
+                                    "WHERE m.id IN :menuIds " +
+                                    "ORDER BY mc.displayOrder, m.id", Menu.class)
+                    .setParameter("menuIds", menuIds.subList(from, Math.min(from + chunkSize, menuIds.size())))
+                    .getResultList();
+
+            fetchOptionCategories(menus);
+            consumer.accept(menus);
+
+            // 처리한 청크의 엔티티를 분리해 영속성 컨텍스트가 매장 메뉴 전체만큼 커지지 않도록 함
+            entityManager.clear();
+        }
+    }
+
+    @Override
+    public Optional<Menu> findByIdWithDetails(Long menuId) {
+        List<Menu> menus = entityManager.createQuery(
+                        "SELECT m FROM Menu m " +
+                                "LEFT JOIN FETCH m.menuCategory " +
+                                "WHERE m.id = :menuId", Menu.class)
+                .setParameter("menuId", menuId)
+                .getResultList();
+
+        fetchOptionCategories(menus);
+        return menus.stream().findFirst();
+    }
+
+    private void fetchOptionCategories(List<Menu> menus) {
+        if (menus.isEmpty()) {
+            return;
+        }
+
+        // 메뉴의 optionCategories 컬렉션 초기화
+        List<Long> menuIds = menus.stream().map(Menu::getId).toList();
+        entityManager.createQuery(
+                        "SELECT m FROM Menu m " +
+                                "LEFT JOIN FETCH m.optionCategories " +
+                                "WHERE m.id IN :menuIds", Menu.class)
+                .setParameter("menuIds", menuIds)
+                .getResultList();
+
+        // 여러 메뉴가 공유하는 옵션 카테고리는 한 번만 조회해 options 컬렉션 초기화
+        Set<Long> optionCategoryIds = menus.stream()
+                .flatMap(menu -> menu.getOptionCategories().stream())
+                .map(OptionCategory::getId)
+                .collect(Collectors.toSet());
+        if (optionCategoryIds.isEmpty()) {
+            return;
+        }
+        entityManager.createQuery(
+                        "SELECT oc FROM OptionCategory oc " +
+                                "LEFT JOIN FETCH oc.options " +
+                                "WHERE oc.id IN :optionCategoryIds", OptionCategory.class)
+                .setParameter("optionCategoryIds", optionCategoryIds)
+                .getResultList();
+    }
+}
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "menu_category")
+@Table(name = "menu_category", indexes = @Index(name = "idx_menu_category_template_source", columnList = "template_source_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -25,6 +25,10 @@ public class MenuCategory {
     @Column(nullable = false)
     private int displayOrder;
 
+    // 템플릿 원본 매장의 항목 ID (템플릿으로 추가된 항목만)
+    @Column(name = "template_source_id")
+    private Long templateSourceId;
+
     public void update(String name, int displayOrder) {
         this.name = name;
         this.displayOrder = displayOrder;
@@ -0,0 +1,24 @@
+package com.samnammae.menu_service.domain.menuversion;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 메뉴 버전 (메뉴, 카테고리, 옵션 쓰기 트랜잭션마다 같은 트랜잭션에서 1 증가)
+ * 모든 인스턴스가 조회 캐시 키와 읽기 모델 최신 여부 판단에 사용
+ */
+@Entity
+@Table(name = "menu_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MenuVersion {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(nullable = false)
+    private long version;
+}
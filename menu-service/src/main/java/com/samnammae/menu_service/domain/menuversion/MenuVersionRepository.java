@@ -0,0 +1,23 @@
+package com.samnammae.menu_service.domain.menuversion;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MenuVersionRepository extends JpaRepository<MenuVersion, Long> {
+
+    // 매장 메뉴 버전 조회 (PK 조회)
+    @Query("SELECT v.version FROM MenuVersion v WHERE v.storeId = :storeId")
+    Optional<Long> findVersionByStoreId(@Param("storeId") Long storeId);
+
+    // 행이 없으면 1로 만들고 있으면 1 증가 (동시에 처음 쓰는 트랜잭션끼리도 충돌하지 않도록 한 문장으로 처리)
+    @Modifying
+    @Query(value = "INSERT INTO menu_version (store_id, version) VALUES (:storeId, 1) "
+            + "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    void increment(@Param("storeId") Long storeId);
+}
@@ -11,7 +11,8 @@ import lombok.*;
                         name = "uk_option_category_custom",
                         columnNames = {"option_category_id", "name"}
                 )
-        }
+        },
+        indexes = @Index(name = "idx_option_template_source", columnList = "template_source_id")
 )
 @Getter
 @Builder
@@ -37,4 +38,14 @@ public class Option {
     @Column(name = "is_default", nullable = false)
     private boolean isDefault;
 
+    // 템플릿 원본 매장의 항목 ID (템플릿으로 추가된 항목만)
+    @Column(name = "template_source_id")
+    private Long templateSourceId;
+
+    // update 메서드
+    public void update(String name, int price, boolean isDefault) {
+        this.name = name;
+        this.price = price;
+        this.isDefault = isDefault;
+    }
 }
\ No newline at end of file
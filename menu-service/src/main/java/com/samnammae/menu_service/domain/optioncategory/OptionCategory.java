@@ -14,7 +14,8 @@ import java.util.List;
                         name = "uk_option_category_store_custom",
                         columnNames = {"storeId", "name"}
                 )
-        }
+        },
+        indexes = @Index(name = "idx_option_category_template_source", columnList = "template_source_id")
 )
 @Getter
 @Builder
@@ -40,6 +41,10 @@ public class OptionCategory {
     @Column(nullable = false)
     private boolean isRequired;
 
+    // 템플릿 원본 매장의 항목 ID (템플릿으로 추가된 항목만)
+    @Column(name = "template_source_id")
+    private Long templateSourceId;
+
     @OneToMany(mappedBy = "optionCategory", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Option> options = new ArrayList<>();
@@ -13,5 +13,7 @@ public interface OptionCategoryRepository extends JpaRepository<OptionCategory,
 
     Optional<OptionCategory> findByIdAndStoreId(Long id, Long storeId);
 
+    List<OptionCategory> findByStoreId(Long storeId);
+
     boolean existsByStoreIdAndName(Long storeId, String name);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.samnammae.menu_service.domain.template;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 템플릿 메뉴의 매장별 재정의 (가격, 품절)
+ * 값이 null인 항목은 템플릿 원본 메뉴의 값을 그대로 사용
+ */
+@Entity
+@Table(name = "menu_override",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_menu_override_store_source",
+                        columnNames = {"store_id", "template_source_id"}
+                )
+        }
+)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MenuOverride {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "menu_override_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long storeId;
+
+    // 템플릿 원본 메뉴 ID
+    @Column(name = "template_source_id", nullable = false)
+    private Long templateSourceId;
+
+    private Integer price;
+
+    private Boolean soldOut;
+
+    public void update(Integer price, Boolean soldOut) {
+        this.price = price;
+        this.soldOut = soldOut;
+    }
+}
@@ -0,0 +1,9 @@
+package com.samnammae.menu_service.domain.template;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface MenuOverrideRepository extends JpaRepository<MenuOverride, Long> {
+    Optional<MenuOverride> findByStoreIdAndTemplateSourceId(Long storeId, Long templateSourceId);
+}
@@ -0,0 +1,44 @@
+package com.samnammae.menu_service.domain.template;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 프랜차이즈 메뉴 템플릿
+ * 원본 매장의 메뉴 구성을 템플릿으로 삼아 여러 매장에 복사
+ */
+@Entity
+@Table(name = "menu_template")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MenuTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "menu_template_id")
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // 템플릿 원본 매장
+    @Column(nullable = false)
+    private Long sourceStoreId;
+
+    // 템플릿을 적용한 매장
+    @ElementCollection
+    @CollectionTable(name = "menu_template_store", joinColumns = @JoinColumn(name = "menu_template_id"))
+    @Column(name = "store_id")
+    @Builder.Default
+    private Set<Long> storeIds = new HashSet<>();
+
+    public void addStores(Collection<Long> storeIds) {
+        this.storeIds.addAll(storeIds);
+    }
+}
@@ -0,0 +1,155 @@
+package com.samnammae.menu_service.domain.template;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 템플릿 원본 매장의 메뉴 구성을 대상 매장들에 INSERT ... SELECT로 복사
+ * - 대상 매장마다 문장 하나씩, 매장 목록을 JDBC 배치로 묶어 실행 (항목 수와 무관하게 단계별 왕복 1회)
+ * - 복사된 행은 template_source_id에 원본 행 ID를 기록하고, 다시 적용하면 이미 복사된 행은 건너뛰고 원본 값으로 갱신
+ * - 메뉴 가격, 품절은 menu_override에 매장별 재정의가 있으면 그 값을 우선 사용
+ * - 원본에서 삭제된 항목은 대상 매장에서 지우지 않음 (매장에서 직접 삭제)
+ * - 옵션 카테고리는 매장 안에서 이름이 유일하므로, 같은 이름의 카테고리가 이미 다른 원본에 연결되어 있으면
+ *   새로 만들지 않고 메뉴 연결만 그 카테고리로 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class MenuTemplateCopyRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 옵션 카테고리는 매장 안에서 이름이 유일하므로 같은 이름의 기존 항목은 새로 만들지 않고 템플릿에 연결
+    // (원본 항목에 이미 연결된 카테고리가 있으면 연결하지 않음)
+    public void linkOptionCategories(Long sourceStoreId, List<Long> storeIds) {
+        forEachStore("UPDATE option_category t "
+                        + "JOIN option_category s ON s.store_id = ? AND s.name = t.name "
+                        + "LEFT JOIN option_category l ON l.store_id = t.store_id AND l.template_source_id = s.option_category_id "
+                        + "SET t.template_source_id = s.option_category_id "
+                        + "WHERE t.store_id = ? AND t.template_source_id IS NULL AND l.option_category_id IS NULL",
+                storeIds, (ps, storeId) -> {
+                    ps.setLong(1, sourceStoreId);
+                    ps.setLong(2, storeId);
+                });
+    }
+
+    public void copyMenuCategories(Long sourceStoreId, List<Long> storeIds) {
+        forEachStore("INSERT INTO menu_category (store_id, name, display_order, template_source_id) "
+                        + "SELECT ?, s.name, s.display_order, s.menu_category_id FROM menu_category s "
+                        + "WHERE s.store_id = ? AND NOT EXISTS ("
+                        + "SELECT 1 FROM menu_category t WHERE t.store_id = ? AND t.template_source_id = s.menu_category_id)",
+                storeIds, (ps, storeId) -> {
+                    ps.setLong(1, storeId);
+                    ps.setLong(2, sourceStoreId);
+                    ps.setLong(3, storeId);
+                });
+    }
+
+    // 같은 이름이 이미 있으면 (다른 원본에 연결된 카테고리) 새로 만들지 않음 (store_id, name 유니크 키)
+    public void copyOptionCategories(Long sourceStoreId, List<Long> storeIds) {
+        forEachStore("INSERT INTO option_category (store_id, name, type, is_required, template_source_id) "
+                        + "SELECT ?, s.name, s.type, s.is_required, s.option_category_id FROM option_category s "
+                        + "WHERE s.store_id = ? AND NOT EXISTS ("
+                        + "SELECT 1 FROM option_category t WHERE t.store_id = ? "
+                        + "AND (t.template_source_id = s.option_category_id OR t.name = s.name))",
+                storeIds, (ps, storeId) -> {
+                    ps.setLong(1, storeId);
+                    ps.setLong(2, sourceStoreId);
+                    ps.setLong(3, storeId);
+                });
+    }
+
+    // 연결된 옵션 카테고리 안에서 같은 이름의 기존 옵션을 원본 옵션에 연결
+    public void linkOptions(List<Long> storeIds) {
+        forEachStore("UPDATE options t "
+                        + "JOIN option_category tc ON tc.option_category_id = t.option_category_id "
+                        + "JOIN options s ON s.option_category_id = tc.template_source_id AND s.name = t.name "
+                        + "SET t.template_source_id = s.option_id "
+                        + "WHERE tc.store_id = ? AND t.template_source_id IS NULL",
+                storeIds, (ps, storeId) -> ps.setLong(1, storeId));
+    }
+
+    public void copyOptions(List<Long> storeIds) {
+        forEachStore("INSERT INTO options (option_category_id, name, price, is_default, template_source_id) "
+                        + "SELECT tc.option_category_id, s.name, s.price, s.is_default, s.option_id FROM options s "
+                        + "JOIN option_category tc ON tc.template_source_id = s.option_category_id AND tc.store_id = ? "
+                        + "WHERE NOT EXISTS ("
+                        + "SELECT 1 FROM options t WHERE t.option_category_id = tc.option_category_id AND t.template_source_id = s.option_id)",
+                storeIds, (ps, storeId) -> ps.setLong(1, storeId));
+    }
+
+    public void copyMenus(Long sourceStoreId, List<Long> storeIds) {
+        forEachStore("INSERT INTO menu (store_id, menu_category_id, name, price, description, image_url, is_sold_out, template_source_id) "
+                        + "SELECT ?, tc.menu_category_id, s.name, COALESCE(o.price, s.price), s.description, s.image_url, "
+                        + "COALESCE(o.sold_out, s.is_sold_out), s.menu_id FROM menu s "
+                        + "LEFT JOIN menu_category tc ON tc.store_id = ? AND tc.template_source_id = s.menu_category_id "
+                        + "LEFT JOIN menu_override o ON o.store_id = ? AND o.template_source_id = s.menu_id "
+                        + "WHERE s.store_id = ? AND NOT EXISTS ("
+                        + "SELECT 1 FROM menu t WHERE t.store_id = ? AND t.template_source_id = s.menu_id)",
+                storeIds, (ps, storeId) -> {
+                    ps.setLong(1, storeId);
+                    ps.setLong(2, storeId);
+                    ps.setLong(3, storeId);
+                    ps.setLong(4, sourceStoreId);
+                    ps.setLong(5, storeId);
+                });
+    }
+
+    // 원본 옵션 카테고리에 연결된 카테고리가 없으면 같은 이름의 카테고리에 연결
+    public void copyMenuOptionCategories(List<Long> storeIds) {
+        forEachStore("INSERT INTO menu_option_category (menu_id, option_category_id) "
+                        + "SELECT tm.menu_id, toc.option_category_id FROM menu_option_category l "
+                        + "JOIN menu tm ON tm.template_source_id = l.menu_id AND tm.store_id = ? "
+                        + "JOIN option_category sc ON sc.option_category_id = l.option_category_id "
+                        + "JOIN option_category toc ON toc.option_category_id = COALESCE("
+                        + "(SELECT lc.option_category_id FROM option_category lc WHERE lc.store_id = ? AND lc.template_source_id = sc.option_category_id), "
+                        + "(SELECT nc.option_category_id FROM option_category nc WHERE nc.store_id = ? AND nc.name = sc.name)) "
+                        + "WHERE NOT EXISTS ("
+                        + "SELECT 1 FROM menu_option_category x WHERE x.menu_id = tm.menu_id AND x.option_category_id = toc.option_category_id)",
+                storeIds, (ps, storeId) -> {
+                    ps.setLong(1, storeId);
+                    ps.setLong(2, storeId);
+                    ps.setLong(3, storeId);
+                });
+    }
+
+    // 이미 복사된 행을 원본 값으로 갱신 (다시 적용할 때 원본 매장의 변경 사항 반영)
+    public void refresh(List<Long> storeIds) {
+        forEachStore("UPDATE menu_category t JOIN menu_category s ON s.menu_category_id = t.template_source_id "
+                        + "SET t.name = s.name, t.display_order = s.display_order "
+                        + "WHERE t.store_id = ?",
+                storeIds, (ps, storeId) -> ps.setLong(1, storeId));
+        // 원본에서 바뀐 이름을 대상 매장의 다른 카테고리가 이미 쓰고 있으면 이름은 그대로 둠 (store_id, name 유니크 키)
+        forEachStore("UPDATE option_category t JOIN option_category s ON s.option_category_id = t.template_source_id "
+                        + "LEFT JOIN option_category n ON n.store_id = t.store_id AND n.name = s.name "
+                        + "AND n.option_category_id <> t.option_category_id "
+                        + "SET t.name = IF(n.option_category_id IS NULL, s.name, t.name), "
+                        + "t.type = s.type, t.is_required = s.is_required "
+                        + "WHERE t.store_id = ?",
+                storeIds, (ps, storeId) -> ps.setLong(1, storeId));
+        forEachStore("UPDATE options t "
+                        + "JOIN option_category tc ON tc.option_category_id = t.option_category_id "
+                        + "JOIN options s ON s.option_id = t.template_source_id "
+                        + "SET t.name = s.name, t.price = s.price, t.is_default = s.is_default "
+                        + "WHERE tc.store_id = ?",
+                storeIds, (ps, storeId) -> ps.setLong(1, storeId));
+        forEachStore("UPDATE menu t JOIN menu s ON s.menu_id = t.template_source_id "
+                        + "LEFT JOIN menu_category tc ON tc.store_id = t.store_id AND tc.template_source_id = s.menu_category_id "
+                        + "LEFT JOIN menu_override o ON o.store_id = t.store_id AND o.template_source_id = s.menu_id "
+                        + "SET t.name = s.name, t.price = COALESCE(o.price, s.price), t.description = s.description, "
+                        + "t.image_url = s.image_url, t.is_sold_out = COALESCE(o.sold_out, s.is_sold_out), "
+                        + "t.menu_category_id = tc.menu_category_id "
+                        + "WHERE t.store_id = ?",
+                storeIds, (ps, storeId) -> ps.setLong(1, storeId));
+    }
+
+    // 대상 매장마다 같은 문장을 실행
+    private void forEachStore(String sql, List<Long> storeIds, ParameterizedPreparedStatementSetter<Long> setter) {
+        jdbcTemplate.batchUpdate(sql, storeIds, BATCH_SIZE, setter);
+    }
+}
@@ -0,0 +1,6 @@
+package com.samnammae.menu_service.domain.template;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MenuTemplateRepository extends JpaRepository<MenuTemplate, Long> {
+}
@@ -0,0 +1,34 @@
+package com.samnammae.menu_service.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 메뉴 일괄 가져오기/내보내기 파일 형식 (내보낸 파일을 그대로 다른 매장에 가져올 수 있음)
+ * 메뉴는 카테고리와 옵션 카테고리를 ID 대신 이름으로 참조
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuBulkDto {
+    private List<MenuCategoryCreateRequestDto> categories;
+    private List<OptionCategoryRequestDto> optionCategories;
+    private List<MenuItemDto> menus;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MenuItemDto {
+        private String name;
+        private int price;
+        private String description;
+        private String category; // 카테고리 이름
+        private List<String> optionCategories; // 옵션 카테고리 이름 목록
+        private boolean soldOut;
+        private String image; // 함께 올린 이미지 zip 안의 파일 경로
+        private String imageUrl; // 이미 업로드된 이미지 URL (image가 있으면 무시)
+    }
+}
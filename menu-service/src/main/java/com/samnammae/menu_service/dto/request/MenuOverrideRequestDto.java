@@ -0,0 +1,14 @@
+package com.samnammae.menu_service.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 값이 null이면 템플릿 원본 메뉴의 값을 사용
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuOverrideRequestDto {
+    private Integer price;
+    private Boolean soldOut;
+}
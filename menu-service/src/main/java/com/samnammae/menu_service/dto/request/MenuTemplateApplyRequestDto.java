@@ -0,0 +1,14 @@
+package com.samnammae.menu_service.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuTemplateApplyRequestDto {
+    private List<Long> storeIds;
+}
@@ -0,0 +1,13 @@
+package com.samnammae.menu_service.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuTemplateCreateRequestDto {
+    private String name;
+    private Long sourceStoreId; // 메뉴 구성을 템플릿으로 삼을 원본 매장
+}
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class OptionRequestDto {
+    private Long id; // 기존 옵션 수정 시 옵션 ID (없으면 이름으로 기존 옵션을 찾음)
     private String name;
     private int price;
 
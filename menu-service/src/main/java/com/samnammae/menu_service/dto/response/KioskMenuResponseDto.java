@@ -0,0 +1,24 @@
+package com.samnammae.menu_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KioskMenuResponseDto {
+    private List<KioskCategoryDto> categories;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class KioskCategoryDto {
+        private Long id;
+        private String name;
+        private int displayOrder;
+        private List<MenuWithOptionDetailDto> menus;
+    }
+}
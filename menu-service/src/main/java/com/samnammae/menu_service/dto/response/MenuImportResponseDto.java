@@ -0,0 +1,16 @@
+package com.samnammae.menu_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 메뉴 일괄 가져오기로 새로 만든 항목 수
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuImportResponseDto {
+    private int categories;
+    private int optionCategories;
+    private int options;
+    private int menus;
+}
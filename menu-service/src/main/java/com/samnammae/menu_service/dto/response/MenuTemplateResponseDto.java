@@ -0,0 +1,17 @@
+package com.samnammae.menu_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuTemplateResponseDto {
+    private Long id;
+    private String name;
+    private Long sourceStoreId;
+    private List<Long> storeIds;
+}
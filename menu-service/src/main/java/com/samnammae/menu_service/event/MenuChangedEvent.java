@@ -0,0 +1,8 @@
+package com.samnammae.menu_service.event;
+
+/**
+ * 매장 메뉴 데이터(메뉴, 메뉴 카테고리, 옵션) 변경 이벤트
+ * 쓰기 트랜잭션 안에서 발행하고, 구독하는 쪽은 커밋 후에 처리
+ */
+public record MenuChangedEvent(Long storeId) {
+}
@@ -0,0 +1,181 @@
+package com.samnammae.menu_service.readmodel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.common.response.ApiResponse;
+import com.samnammae.menu_service.cache.MenuCache;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import com.samnammae.menu_service.service.InternalService;
+import com.samnammae.menu_service.service.MenuService;
+import com.samnammae.menu_service.service.MenuVersionService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * 매장별 메뉴 읽기 모델
+ * - 조회 응답(ApiResponse JSON)을 미리 직렬화, 압축해 두고 조회 요청에는 바이트를 그대로 응답 (Hibernate 조회 없음)
+ * - 조회마다 DB의 매장 메뉴 버전(MenuVersionService, PK 조회 한 번)과 스냅샷을 만들 때의 버전을 비교해
+ *   다르면 그 자리에서 다시 생성 (어느 인스턴스에서 쓰기가 커밋되어도 다음 조회부터 새 메뉴를 응답)
+ * - 이 인스턴스에서 쓰기가 커밋되면 조회를 기다리지 않고 백그라운드에서 미리 다시 생성
+ * - 버전을 올리지 않은 변경(DB 직접 수정 등)도 반영되도록 스냅샷은 menu.cache.ttl이 지나면 만료
+ *   (다시 만들 때는 MenuCache의 해당 매장 항목도 비우고 DB에서 조회)
+ * - 스냅샷 수는 가장 오래 조회하지 않은 매장부터 제거해 제한 (LRU)
+ */
+@Slf4j
+@Component
+public class MenuReadModel {
+
+    private final MenuService menuService;
+    private final InternalService internalService;
+    private final ObjectMapper objectMapper;
+    private final MenuCache menuCache;
+    private final MenuVersionService menuVersionService;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final Map<Long, MenuSnapshot> snapshots;
+    private final Map<Long, Object> locks = new ConcurrentHashMap<>();
+    private final Set<Long> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "menu-read-model");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MenuReadModel(MenuService menuService,
+                         InternalService internalService,
+                         ObjectMapper objectMapper,
+                         MenuCache menuCache,
+                         MenuVersionService menuVersionService,
+                         @Value("${menu.read-model.max-stores:1000}") int maxStores,
+                         @Value("${menu.cache.ttl:60s}") Duration ttl) {
+        this(menuService, internalService, objectMapper, menuCache, menuVersionService, maxStores, ttl,
+                System::currentTimeMillis);
+    }
+
+    MenuReadModel(MenuService menuService, InternalService internalService, ObjectMapper objectMapper,
+                  MenuCache menuCache, MenuVersionService menuVersionService, int maxStores, Duration ttl,
+                  LongSupplier clock) {
+        this.menuService = menuService;
+        this.internalService = internalService;
+        this.objectMapper = objectMapper;
+        this.menuCache = menuCache;
+        this.menuVersionService = menuVersionService;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MenuSnapshot> eldest) {
+                return size() > maxStores;
+            }
+        };
+    }
+
+    /**
+     * 매장의 최신 스냅샷 (없거나 매장 메뉴 버전이 바뀌었거나 만료되었으면 지금 생성)
+     */
+    public MenuSnapshot get(Long storeId) {
+        MenuSnapshot snapshot = cached(storeId);
+        if (isFresh(snapshot, menuVersionService.currentVersion(storeId))) {
+            return snapshot;
+        }
+        return rebuild(storeId);
+    }
+
+    /**
+     * 이 인스턴스에서 쓰기 트랜잭션이 커밋되면 백그라운드에서 스냅샷을 미리 다시 생성
+     * 조회된 적 없는 매장은 다음 조회 때 생성
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        Long storeId = event.storeId();
+
+        if (cached(storeId) != null && pendingRebuilds.add(storeId)) {
+            rebuilder.execute(() -> {
+                pendingRebuilds.remove(storeId);
+                try {
+                    rebuild(storeId);
+                } catch (Exception e) {
+                    log.warn("Failed to rebuild menu read model. storeId: {}", storeId, e);
+                }
+            });
+        }
+    }
+
+    private MenuSnapshot rebuild(Long storeId) {
+        synchronized (locks.computeIfAbsent(storeId, id -> new Object())) {
+            // 기다리는 동안 다른 스레드가 만들었으면 그대로 사용
+            long menuVersion = menuVersionService.currentVersion(storeId);
+            MenuSnapshot current = cached(storeId);
+            if (isFresh(current, menuVersion)) {
+                return current;
+            }
+
+            // 스냅샷 수명이 캐시 항목의 남은 TTL만큼 늘어나지 않도록 메뉴 조회 캐시를 비우고 DB에서 조회
+            menuCache.invalidate(storeId);
+            long builtAt = clock.getAsLong();
+
+            Map<MenuView, MenuSnapshot.View> views = new EnumMap<>(MenuView.class);
+            views.put(MenuView.LIST, serialize(menuService.getMenusByStore(storeId)));
+            views.put(MenuView.WITH_OPTIONS, serialize(internalService.getMenusWithOptions(storeId)));
+            views.put(MenuView.KIOSK, serialize(internalService.getKioskMenu(storeId)));
+
+            // 버전은 내용이 바뀔 때만 증가하고, 재시작이나 다른 인스턴스와도 뒤로 가지 않도록 현재 시각 이상으로 맞춤
+            long version;
+            if (current == null) {
+                version = clock.getAsLong();
+            } else if (current.sameContent(views)) {
+                version = current.version();
+            } else {
+                version = Math.max(current.version() + 1, clock.getAsLong());
+            }
+            MenuSnapshot snapshot = new MenuSnapshot(storeId, version, menuVersion, builtAt, views);
+
+            // 버전을 읽은 뒤 조회했으므로 내용은 항상 menuVersion 이후 상태
+            // (생성하는 동안 변경이 커밋되었으면 다음 조회에서 버전이 달라 다시 생성)
+            synchronized (snapshots) {
+                snapshots.put(storeId, snapshot);
+            }
+            return snapshot;
+        }
+    }
+
+    private boolean isFresh(MenuSnapshot snapshot, long menuVersion) {
+        return snapshot != null
+                && snapshot.menuVersion() == menuVersion
+                && clock.getAsLong() - snapshot.builtAt() < ttlMillis;
+    }
+
+    private MenuSnapshot.View serialize(Object data) {
+        try {
+            return MenuSnapshot.View.of(objectMapper.writeValueAsBytes(ApiResponse.success(data)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu read model", e);
+        }
+    }
+
+    private MenuSnapshot cached(Long storeId) {
+        synchronized (snapshots) {
+            return snapshots.get(storeId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+}
@@ -0,0 +1,63 @@
+package com.samnammae.menu_service.readmodel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 매장 메뉴 읽기 모델 스냅샷
+ * @param version 매장 메뉴 버전 (다시 만들 때마다 증가, 내용이 같으면 유지)
+ * @param menuVersion 스냅샷을 만들 때의 DB 매장 메뉴 버전 (현재 버전과 다르면 오래된 스냅샷)
+ * @param builtAt 스냅샷을 만든 시각 (epoch millis, 만료 판단)
+ * @param views 응답 종류별 직렬화된 본문
+ */
+public record MenuSnapshot(Long storeId, long version, long menuVersion, long builtAt, Map<MenuView, View> views) {
+
+    public View view(MenuView view) {
+        return views.get(view);
+    }
+
+    // 모든 응답 본문이 같은지 (버전 유지 여부 판단)
+    boolean sameContent(Map<MenuView, View> other) {
+        return views.keySet().equals(other.keySet())
+                && views.entrySet().stream().allMatch(entry -> entry.getValue().etag().equals(other.get(entry.getKey()).etag()));
+    }
+
+    /**
+     * 직렬화된 응답 본문
+     * @param json ApiResponse JSON
+     * @param gzip 미리 압축한 본문 (Accept-Encoding: gzip 요청에 그대로 전송)
+     * @param etag 본문 SHA-256으로 만든 강한 ETag (인스턴스가 달라도 내용이 같으면 같은 값)
+     */
+    public record View(byte[] json, byte[] gzip, String etag) {
+
+        public static View of(byte[] json) {
+            return new View(json, gzip(json), etag(json));
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                out.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static String etag(byte[] body) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+                return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
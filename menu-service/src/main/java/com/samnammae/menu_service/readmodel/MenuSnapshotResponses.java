@@ -0,0 +1,44 @@
+package com.samnammae.menu_service.readmodel;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 읽기 모델 스냅샷을 HTTP 응답으로 변환
+ * - 강한 ETag와 메뉴 버전 헤더를 붙이고, If-None-Match가 같으면 본문 없이 304
+ * - 클라이언트가 gzip을 받으면 미리 압축한 본문을 그대로 전송 (Content-Encoding이 있으면 서버 압축은 건너뜀)
+ */
+public final class MenuSnapshotResponses {
+
+    public static final String MENU_VERSION_HEADER = "X-Menu-Version";
+
+    private MenuSnapshotResponses() {
+    }
+
+    /**
+     * @return 응답 (If-None-Match가 같으면 304 상태와 헤더를 이미 설정했으므로 null)
+     */
+    public static ResponseEntity<byte[]> of(MenuSnapshot snapshot, MenuView view, WebRequest request) {
+        MenuSnapshot.View body = snapshot.view(view);
+        if (request.checkNotModified(body.etag())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(body.etag())
+                .header(MENU_VERSION_HEADER, String.valueOf(snapshot.version()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(body.gzip().length)
+                    .body(body.gzip());
+        }
+        return response.contentLength(body.json().length)
+                .body(body.json());
+    }
+}
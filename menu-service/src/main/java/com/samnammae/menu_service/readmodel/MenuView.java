@@ -0,0 +1,13 @@
+package com.samnammae.menu_service.readmodel;
+
+/**
+ * 읽기 모델로 미리 직렬화해 두는 매장 메뉴 응답 종류
+ */
+public enum MenuView {
+    // GET /api/menu/{storeId} (MenuListResponseDto)
+    LIST,
+    // GET /internal/menu/{storeId} (MenuWithOptionsResponseDto)
+    WITH_OPTIONS,
+    // GET /internal/menu/{storeId}/bundle (KioskMenuResponseDto)
+    KIOSK
+}
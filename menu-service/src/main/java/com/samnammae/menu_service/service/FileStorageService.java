@@ -11,7 +11,30 @@ public interface FileStorageService {
     String storeFile(MultipartFile file);
 
     /**
-     * 기존 파일을 삭제합니다.
+     * 메모리에 있는 파일 내용을 저장하고 접근 가능한 URL을 반환합니다.
+     * @param originalFilename 원래 파일 이름
+     * @param contentType 파일 MIME 타입
+     * @param content 파일 내용
+     * @return 저장된 파일의 URL
+     */
+    String storeFile(String originalFilename, String contentType, byte[] content);
+
+    /**
+     * 이 저장소에 저장된 파일의 URL인지 확인합니다.
+     * @param fileUrl 확인할 URL
+     * @return storeFile이 반환하는 형식의 URL이면 true
+     */
+    boolean isStoredFile(String fileUrl);
+
+    /**
+     * 저장된 파일을 새 파일로 복사하고 접근 가능한 URL을 반환합니다.
+     * @param fileUrl 복사할 파일의 URL (isStoredFile이 true인 URL)
+     * @return 복사된 파일의 URL
+     */
+    String copyFile(String fileUrl);
+
+    /**
+     * 기존 파일을 삭제합니다. 이 저장소에 저장된 파일의 URL이 아니면 무시합니다.
      * @param fileUrl 삭제할 파일의 URL
      */
     void deleteFile(String fileUrl);
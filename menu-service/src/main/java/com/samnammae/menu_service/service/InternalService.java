@@ -2,6 +2,8 @@ package com.samnammae.menu_service.service;
 
 import com.samnammae.menu_service.domain.menu.Menu;
 import com.samnammae.menu_service.domain.menu.MenuRepository;
+import com.samnammae.menu_service.domain.menucategory.MenuCategoryRepository;
+import com.samnammae.menu_service.dto.response.KioskMenuResponseDto;
 import com.samnammae.menu_service.dto.response.MenuWithOptionDetailDto;
 import com.samnammae.menu_service.dto.response.MenuWithOptionsResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
 public class InternalService {
 
     private final MenuRepository menuRepository;
+    private final MenuCategoryRepository menuCategoryRepository;
 
     public MenuWithOptionsResponseDto getMenusWithOptions(Long storeId) {
         // 매장의 모든 메뉴와 옵션 정보를 한 번에 조회 (N+1 방지를 위해 fetch join 사용)
@@ -42,4 +45,28 @@ public class InternalService {
 
         return new MenuWithOptionsResponseDto(categories, menusByCategory);
     }
-}
\ No newline at end of file
+
+    public KioskMenuResponseDto getKioskMenu(Long storeId) {
+        // 메뉴와 옵션은 한 번에 조회한 뒤 카테고리 ID별로 묶음 (카테고리 안에서는 메뉴 ID 순서 유지)
+        Map<Long, List<MenuWithOptionDetailDto>> menusByCategoryId = menuRepository.findAllByStoreIdWithOptionCategories(storeId).stream()
+                .collect(Collectors.groupingBy(
+                        menu -> menu.getMenuCategory().getId(),
+                        Collectors.mapping(
+                                MenuWithOptionDetailDto::from,
+                                Collectors.toList()
+                        )
+                ));
+
+        // 메뉴가 없는 카테고리도 포함해 displayOrder 순서로 구성
+        List<KioskMenuResponseDto.KioskCategoryDto> categories = menuCategoryRepository.findByStoreIdOrderByDisplayOrderAsc(storeId).stream()
+                .map(category -> new KioskMenuResponseDto.KioskCategoryDto(
+                        category.getId(),
+                        category.getName(),
+                        category.getDisplayOrder(),
+                        menusByCategoryId.getOrDefault(category.getId(), List.of())
+                ))
+                .toList();
+
+        return new KioskMenuResponseDto(categories);
+    }
+}
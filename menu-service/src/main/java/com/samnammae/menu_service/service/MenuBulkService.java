@@ -0,0 +1,453 @@
+package com.samnammae.menu_service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.domain.menu.Menu;
+import com.samnammae.menu_service.domain.menu.MenuBulkRepository;
+import com.samnammae.menu_service.domain.menu.MenuRepository;
+import com.samnammae.menu_service.domain.menucategory.MenuCategory;
+import com.samnammae.menu_service.domain.menucategory.MenuCategoryRepository;
+import com.samnammae.menu_service.domain.option.Option;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategory;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategoryRepository;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategoryType;
+import com.samnammae.menu_service.dto.request.MenuBulkDto;
+import com.samnammae.menu_service.dto.request.MenuCategoryCreateRequestDto;
+import com.samnammae.menu_service.dto.request.OptionCategoryRequestDto;
+import com.samnammae.menu_service.dto.request.OptionRequestDto;
+import com.samnammae.menu_service.dto.response.MenuImportResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 매장 메뉴 일괄 가져오기/내보내기
+ * - 가져오기: 파일 검증 → 이미지 병렬 업로드 → 한 트랜잭션에서 카테고리, 옵션 카테고리, 옵션, 메뉴를 JDBC 배치 INSERT
+ *   (매장에 이미 있는 카테고리, 옵션 카테고리 이름은 기존 항목을 그대로 사용하고 메뉴는 모두 새로 추가)
+ * - imageUrl로 참조한 기존 이미지는 이 저장소의 URL만 허용하고 새 파일로 복사해 사용
+ *   (다른 매장 메뉴와 파일을 공유하면 한쪽에서 메뉴를 지울 때 다른 매장 이미지도 삭제되므로)
+ * - 저장에 실패하면 업로드, 복사한 이미지를 삭제
+ * - 내보내기: 가져오기와 같은 형식 (ID 대신 이름으로 참조하므로 다른 매장에 그대로 가져올 수 있음)
+ *   메뉴는 청크 단위로 조회하면서 응답 스트림에 바로 씀
+ */
+@Slf4j
+@Service
+public class MenuBulkService {
+
+    // 내보내기 때 한 번에 조회해 쓰는 메뉴 수
+    static final int EXPORT_CHUNK_SIZE = 500;
+
+    private final MenuRepository menuRepository;
+    private final MenuCategoryRepository menuCategoryRepository;
+    private final OptionCategoryRepository optionCategoryRepository;
+    private final MenuBulkRepository menuBulkRepository;
+    private final FileStorageService fileStorageService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final long maxImageBytes;
+    private final ExecutorService uploader;
+
+    public MenuBulkService(MenuRepository menuRepository,
+                           MenuCategoryRepository menuCategoryRepository,
+                           OptionCategoryRepository optionCategoryRepository,
+                           MenuBulkRepository menuBulkRepository,
+                           FileStorageService fileStorageService,
+                           ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${menu.import.upload-concurrency:8}") int uploadConcurrency,
+                           @Value("${menu.import.max-image-bytes:209715200}") long maxImageBytes) {
+        this.menuRepository = menuRepository;
+        this.menuCategoryRepository = menuCategoryRepository;
+        this.optionCategoryRepository = optionCategoryRepository;
+        this.menuBulkRepository = menuBulkRepository;
+        this.fileStorageService = fileStorageService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.maxImageBytes = maxImageBytes;
+        this.uploader = Executors.newFixedThreadPool(uploadConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "menu-import-upload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public MenuImportResponseDto importMenus(Long storeId, MultipartFile file, MultipartFile images) {
+        MenuBulkDto data = read(file);
+
+        // 1. 이름 참조 검증 (이미지를 올리기 전에 실패하도록 먼저 확인)
+        Map<String, Long> categoryIds = menuCategoryRepository.findByStoreIdOrderByDisplayOrderAsc(storeId).stream()
+                .collect(Collectors.toMap(MenuCategory::getName, MenuCategory::getId, (first, second) -> first, HashMap::new));
+        Map<String, Long> optionCategoryIds = optionCategoryRepository.findByStoreId(storeId).stream()
+                .collect(Collectors.toMap(OptionCategory::getName, OptionCategory::getId, (first, second) -> first, HashMap::new));
+        validate(data, categoryIds.keySet(), optionCategoryIds.keySet());
+
+        // 2. 이미지 업로드, 기존 이미지 복사
+        Map<String, byte[]> files = readImages(images, referencedImages(data));
+        Map<String, Supplier<String>> uploads = new LinkedHashMap<>();
+        files.forEach((path, content) -> uploads.put(path,
+                () -> fileStorageService.storeFile(fileName(path), contentType(path), content)));
+        Map<String, String> imageUrls = storeAll(uploads);
+
+        Map<String, Supplier<String>> copies = new LinkedHashMap<>();
+        referencedImageUrls(data).forEach(url -> copies.put(url, () -> fileStorageService.copyFile(url)));
+        Map<String, String> copiedUrls;
+        try {
+            copiedUrls = storeAll(copies);
+        } catch (RuntimeException e) {
+            imageUrls.values().forEach(fileStorageService::deleteFile);
+            throw e;
+        }
+
+        // 3. 저장 (실패하면 업로드, 복사한 이미지 삭제)
+        try {
+            MenuImportResponseDto result = transactionTemplate.execute(status ->
+                    insert(storeId, data, categoryIds, optionCategoryIds, imageUrls, copiedUrls));
+            log.info("메뉴 일괄 가져오기 완료. storeId: {}, menus: {}", storeId, data.getMenus().size());
+            return result;
+        } catch (RuntimeException e) {
+            imageUrls.values().forEach(fileStorageService::deleteFile);
+            copiedUrls.values().forEach(fileStorageService::deleteFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 내보내기 파일을 출력 스트림에 바로 씀
+     * 읽기 전용 트랜잭션 하나에서 메뉴를 EXPORT_CHUNK_SIZE개씩 조회해 쓰고 비우므로 메모리 사용은 청크 크기로 제한됨
+     */
+    public void exportMenus(Long storeId, OutputStream outputStream) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+
+                List<MenuCategoryCreateRequestDto> categories = menuCategoryRepository.findByStoreIdOrderByDisplayOrderAsc(storeId).stream()
+                        .map(category -> new MenuCategoryCreateRequestDto(category.getName(), category.getDisplayOrder()))
+                        .toList();
+                generator.writeObjectField("categories", categories);
+
+                List<OptionCategoryRequestDto> optionCategories = optionCategoryRepository.findAllByStoreIdWithDetails(storeId).stream()
+                        .sorted(Comparator.comparing(OptionCategory::getId))
+                        .map(optionCategory -> new OptionCategoryRequestDto(
+                                optionCategory.getName(),
+                                optionCategory.getType().name(),
+                                optionCategory.isRequired(),
+                                optionCategory.getOptions().stream()
+                                        .map(option -> new OptionRequestDto(null, option.getName(), option.getPrice(), option.isDefault()))
+                                        .toList()))
+                        .toList();
+                generator.writeObjectField("optionCategories", optionCategories);
+
+                generator.writeArrayFieldStart("menus");
+                menuRepository.forEachChunkByStoreId(storeId, EXPORT_CHUNK_SIZE, menus -> {
+                    try {
+                        for (Menu menu : menus) {
+                            generator.writeObject(toMenuItem(menu));
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private MenuBulkDto.MenuItemDto toMenuItem(Menu menu) {
+        return new MenuBulkDto.MenuItemDto(
+                menu.getName(),
+                menu.getPrice(),
+                menu.getDescription(),
+                menu.getMenuCategory() != null ? menu.getMenuCategory().getName() : null,
+                menu.getOptionCategories().stream().map(OptionCategory::getName).sorted().toList(),
+                menu.isSoldOut(),
+                null,
+                menu.getImageUrl());
+    }
+
+    private MenuImportResponseDto insert(Long storeId, MenuBulkDto data, Map<String, Long> categoryIds,
+                                         Map<String, Long> optionCategoryIds, Map<String, String> imageUrls,
+                                         Map<String, String> copiedUrls) {
+        // 1. 카테고리
+        List<MenuCategory> newCategories = data.getCategories().stream()
+                .filter(category -> !categoryIds.containsKey(category.getName()))
+                .map(category -> MenuCategory.builder()
+                        .storeId(storeId)
+                        .name(category.getName())
+                        .displayOrder(category.getDisplayOrder())
+                        .build())
+                .toList();
+        List<Long> newCategoryIds = menuBulkRepository.insertCategories(newCategories);
+        for (int i = 0; i < newCategories.size(); i++) {
+            categoryIds.put(newCategories.get(i).getName(), newCategoryIds.get(i));
+        }
+
+        // 2. 옵션 카테고리와 옵션
+        List<OptionCategoryRequestDto> newOptionCategoryDtos = data.getOptionCategories().stream()
+                .filter(optionCategory -> !optionCategoryIds.containsKey(optionCategory.getName()))
+                .toList();
+        List<OptionCategory> newOptionCategories = newOptionCategoryDtos.stream()
+                .map(optionCategory -> OptionCategory.builder()
+                        .storeId(storeId)
+                        .name(optionCategory.getName())
+                        .type(OptionCategoryType.valueOf(optionCategory.getType()))
+                        .isRequired(optionCategory.isRequired())
+                        .build())
+                .toList();
+        List<Long> newOptionCategoryIds = menuBulkRepository.insertOptionCategories(newOptionCategories);
+
+        List<Option> newOptions = new ArrayList<>();
+        for (int i = 0; i < newOptionCategoryDtos.size(); i++) {
+            Long optionCategoryId = newOptionCategoryIds.get(i);
+            optionCategoryIds.put(newOptionCategoryDtos.get(i).getName(), optionCategoryId);
+
+            OptionCategory optionCategory = OptionCategory.builder().id(optionCategoryId).build();
+            for (OptionRequestDto option : orEmpty(newOptionCategoryDtos.get(i).getOptions())) {
+                newOptions.add(Option.builder()
+                        .optionCategory(optionCategory)
+                        .name(option.getName())
+                        .price(option.getPrice())
+                        .isDefault(option.isDefault())
+                        .build());
+            }
+        }
+        menuBulkRepository.insertOptions(newOptions);
+
+        // 3. 메뉴와 옵션 카테고리 연결
+        List<Menu> menus = data.getMenus().stream()
+                .map(menu -> Menu.builder()
+                        .storeId(storeId)
+                        .menuCategory(MenuCategory.builder().id(categoryIds.get(menu.getCategory())).build())
+                        .name(menu.getName())
+                        .price(menu.getPrice())
+                        .description(menu.getDescription())
+                        .imageUrl(StringUtils.hasText(menu.getImage())
+                                ? imageUrls.get(menu.getImage())
+                                : copiedUrls.get(menu.getImageUrl()))
+                        .isSoldOut(menu.isSoldOut())
+                        .optionCategories(new LinkedHashSet<>(orEmpty(menu.getOptionCategories())).stream()
+                                .map(name -> OptionCategory.builder().id(optionCategoryIds.get(name)).build())
+                                .collect(Collectors.toSet()))
+                        .build())
+                .toList();
+        menuBulkRepository.insertMenus(menus);
+
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
+        return new MenuImportResponseDto(newCategories.size(), newOptionCategories.size(), newOptions.size(), menus.size());
+    }
+
+    private MenuBulkDto read(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+        }
+
+        MenuBulkDto data;
+        try (InputStream in = file.getInputStream()) {
+            data = objectMapper.readValue(in, MenuBulkDto.class);
+        } catch (IOException e) {
+            log.warn("메뉴 가져오기 파일 파싱 오류", e);
+            throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+        }
+        return new MenuBulkDto(orEmpty(data.getCategories()), orEmpty(data.getOptionCategories()), orEmpty(data.getMenus()));
+    }
+
+    private void validate(MenuBulkDto data, Set<String> existingCategories, Set<String> existingOptionCategories) {
+        Set<String> categories = new HashSet<>(existingCategories);
+        Set<String> fileCategories = new HashSet<>();
+        for (MenuCategoryCreateRequestDto category : data.getCategories()) {
+            if (!StringUtils.hasText(category.getName()) || !fileCategories.add(category.getName())) {
+                throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+            }
+            categories.add(category.getName());
+        }
+
+        Set<String> optionCategories = new HashSet<>(existingOptionCategories);
+        Set<String> fileOptionCategories = new HashSet<>();
+        for (OptionCategoryRequestDto optionCategory : data.getOptionCategories()) {
+            if (!StringUtils.hasText(optionCategory.getName())) {
+                throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+            }
+            if (!fileOptionCategories.add(optionCategory.getName())) {
+                throw new CustomException(ErrorCode.OPTION_CATEGORY_NAME_DUPLICATED);
+            }
+            if (!isOptionCategoryType(optionCategory.getType())) {
+                throw new CustomException(ErrorCode.INVALID_OPTION_CATEGORY_FORMAT);
+            }
+            Set<String> optionNames = new HashSet<>();
+            for (OptionRequestDto option : orEmpty(optionCategory.getOptions())) {
+                if (!StringUtils.hasText(option.getName()) || !optionNames.add(option.getName())) {
+                    throw new CustomException(ErrorCode.OPTION_DUPLICATED);
+                }
+            }
+            optionCategories.add(optionCategory.getName());
+        }
+
+        for (MenuBulkDto.MenuItemDto menu : data.getMenus()) {
+            if (!StringUtils.hasText(menu.getName())) {
+                throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+            }
+            if (!categories.contains(menu.getCategory())) {
+                throw new CustomException(ErrorCode.MENU_CATEGORY_NOT_FOUND);
+            }
+            if (!optionCategories.containsAll(orEmpty(menu.getOptionCategories()))) {
+                throw new CustomException(ErrorCode.OPTION_CATEGORY_NOT_FOUND);
+            }
+            // 다른 호스트나 버킷의 URL은 삭제할 때 엉뚱한 파일을 지울 수 있으므로 거부
+            if (!StringUtils.hasText(menu.getImage()) && StringUtils.hasText(menu.getImageUrl())
+                    && !fileStorageService.isStoredFile(menu.getImageUrl())) {
+                throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+            }
+        }
+    }
+
+    private boolean isOptionCategoryType(String type) {
+        try {
+            OptionCategoryType.valueOf(type);
+            return true;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private Set<String> referencedImages(MenuBulkDto data) {
+        return data.getMenus().stream()
+                .map(MenuBulkDto.MenuItemDto::getImage)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+    }
+
+    // zip 이미지 없이 기존 이미지 URL을 참조하는 메뉴의 URL
+    private Set<String> referencedImageUrls(MenuBulkDto data) {
+        return data.getMenus().stream()
+                .filter(menu -> !StringUtils.hasText(menu.getImage()))
+                .map(MenuBulkDto.MenuItemDto::getImageUrl)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * zip에서 메뉴가 참조하는 이미지만 읽음
+     * 압축을 푼 전체 크기가 max-image-bytes를 넘거나 참조한 이미지가 없으면 실패
+     */
+    private Map<String, byte[]> readImages(MultipartFile images, Set<String> referenced) {
+        if (referenced.isEmpty()) {
+            return Map.of();
+        }
+        if (images == null || images.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+        }
+
+        Map<String, byte[]> files = new HashMap<>();
+        long remaining = maxImageBytes;
+        try (ZipInputStream zip = new ZipInputStream(images.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || !referenced.contains(entry.getName())) {
+                    continue;
+                }
+                byte[] content = zip.readNBytes((int) Math.min(remaining + 1, Integer.MAX_VALUE));
+                if (content.length > remaining) {
+                    throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+                }
+                remaining -= content.length;
+                files.put(entry.getName(), content);
+            }
+        } catch (IOException e) {
+            log.warn("메뉴 이미지 zip 읽기 오류", e);
+            throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+        }
+
+        if (!files.keySet().containsAll(referenced)) {
+            throw new CustomException(ErrorCode.INVALID_MENU_IMPORT_FILE);
+        }
+        return files;
+    }
+
+    // 이미지 병렬 업로드, 복사 (하나라도 실패하면 만든 이미지를 삭제하고 실패)
+    private Map<String, String> storeAll(Map<String, Supplier<String>> tasks) {
+        Map<String, CompletableFuture<String>> uploads = new LinkedHashMap<>();
+        tasks.forEach((key, task) -> uploads.put(key, CompletableFuture.supplyAsync(task, uploader)));
+
+        Map<String, String> urls = new HashMap<>();
+        RuntimeException failure = null;
+        for (Map.Entry<String, CompletableFuture<String>> upload : uploads.entrySet()) {
+            try {
+                urls.put(upload.getKey(), upload.getValue().join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+                }
+            }
+        }
+
+        if (failure != null) {
+            urls.values().forEach(fileStorageService::deleteFile);
+            throw failure;
+        }
+        return urls;
+    }
+
+    private String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private String contentType(String path) {
+        return MediaTypeFactory.getMediaType(path)
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploader.shutdownNow();
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.cache.MenuCache;
 import com.samnammae.menu_service.domain.menu.Menu;
 import com.samnammae.menu_service.domain.menu.MenuRepository;
 import com.samnammae.menu_service.domain.menucategory.MenuCategory;
@@ -15,8 +16,10 @@ import com.samnammae.menu_service.dto.request.MenuUpdateRequestDto;
 import com.samnammae.menu_service.dto.response.MenuDetailResponseDto;
 import com.samnammae.menu_service.dto.response.MenuListResponseDto;
 import com.samnammae.menu_service.dto.response.MenuResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -37,17 +40,9 @@ public class MenuService {
     private final OptionCategoryRepository optionCategoryRepository;
     private final FileStorageService fileStorageService;
     private final ObjectMapper objectMapper;
-
-    // 매장 접근 권한 검증
-    public void validateStoreAccess(Long storeId, String managedStoreIds) {
-        List<Long> accessibleStoreIds = Arrays.stream(managedStoreIds.split(","))
-                .map(Long::parseLong)
-                .toList();
-
-        if (!accessibleStoreIds.contains(storeId)) {
-            throw new CustomException(ErrorCode.STORE_ACCESS_DENIED);
-        }
-    }
+    private final ApplicationEventPublisher eventPublisher;
+    private final MenuCache menuCache;
+    private final MenuTemplateService menuTemplateService;
 
     @Transactional
     public Long createMenu(Long storeId, MenuCreateRequestDto requestDto, MultipartFile image) {
@@ -73,11 +68,16 @@ public class MenuService {
                 .build();
 
         Menu savedMenu = menuRepository.save(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
 
         return savedMenu.getId();
     }
 
     public MenuListResponseDto getMenusByStore(Long storeId) {
+        return menuCache.menuList(storeId, () -> loadMenusByStore(storeId));
+    }
+
+    private MenuListResponseDto loadMenusByStore(Long storeId) {
         List<Menu> allMenus = menuRepository.findAllByStoreIdWithDetails(storeId);
 
         Map<String, List<MenuResponseDto>> menusByCategory = allMenus.stream()
@@ -104,9 +104,7 @@ public class MenuService {
         // 2. 이미지 처리 (새 이미지가 있으면 기존 이미지 삭제 후 저장)
         String imageUrl = menu.getImageUrl();
         if (image != null && !image.isEmpty()) {
-            if (StringUtils.hasText(imageUrl)) {
-                fileStorageService.deleteFile(imageUrl);
-            }
+            deleteImageIfUnshared(menu);
             imageUrl = fileStorageService.storeFile(image);
         }
 
@@ -126,6 +124,13 @@ public class MenuService {
                 optionCategories
         );
 
+        // 5. 템플릿 메뉴의 가격, 품절은 재정의로 기록 (템플릿을 다시 적용해도 유지)
+        if (menu.getTemplateSourceId() != null) {
+            menuTemplateService.recordOverride(menu, requestDto.getPrice(), requestDto.isSoldOut());
+        }
+
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
+
         return menu.getId();
     }
 
@@ -139,14 +144,25 @@ public class MenuService {
         }
 
         // 이미지 파일이 있으면 삭제
-        if (StringUtils.hasText(menu.getImageUrl())) {
-            fileStorageService.deleteFile(menu.getImageUrl());
-        }
+        deleteImageIfUnshared(menu);
 
         menuRepository.delete(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
+    }
+
+    // 다른 메뉴(템플릿 원본 또는 복사본)가 같은 이미지를 쓰고 있으면 파일은 남겨둠
+    private void deleteImageIfUnshared(Menu menu) {
+        String imageUrl = menu.getImageUrl();
+        if (StringUtils.hasText(imageUrl) && !menuRepository.existsByImageUrlAndIdNot(imageUrl, menu.getId())) {
+            fileStorageService.deleteFile(imageUrl);
+        }
     }
 
     public MenuDetailResponseDto getMenuDetail(Long storeId, Long menuId) {
+        return menuCache.menuDetail(storeId, menuId, () -> loadMenuDetail(storeId, menuId));
+    }
+
+    private MenuDetailResponseDto loadMenuDetail(Long storeId, Long menuId) {
         Menu menu = menuRepository.findByIdWithDetails(menuId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MENU_NOT_FOUND));
 
@@ -0,0 +1,155 @@
+package com.samnammae.menu_service.service;
+
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.domain.menu.Menu;
+import com.samnammae.menu_service.domain.menu.MenuRepository;
+import com.samnammae.menu_service.domain.template.MenuOverride;
+import com.samnammae.menu_service.domain.template.MenuOverrideRepository;
+import com.samnammae.menu_service.domain.template.MenuTemplate;
+import com.samnammae.menu_service.domain.template.MenuTemplateCopyRepository;
+import com.samnammae.menu_service.domain.template.MenuTemplateRepository;
+import com.samnammae.menu_service.dto.request.MenuOverrideRequestDto;
+import com.samnammae.menu_service.dto.request.MenuTemplateCreateRequestDto;
+import com.samnammae.menu_service.dto.response.MenuTemplateResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 프랜차이즈 메뉴 템플릿
+ * - 템플릿 적용 시 원본 매장의 메뉴 구성을 대상 매장의 행으로 복사(INSERT ... SELECT)하므로
+ *   조회는 기존 매장 메뉴 조회 경로(MenuCache, 읽기 모델)를 그대로 사용
+ * - 매장별 가격, 품절 재정의는 menu_override에 저장하고 매장 메뉴에 바로 반영, 다시 적용해도 유지
+ *   (일반 메뉴 수정 API로 바꾼 가격, 품절도 재정의로 기록)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenuTemplateService {
+
+    private final MenuTemplateRepository menuTemplateRepository;
+    private final MenuTemplateCopyRepository menuTemplateCopyRepository;
+    private final MenuOverrideRepository menuOverrideRepository;
+    private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 템플릿 생성
+    @Transactional
+    public Long createTemplate(MenuTemplateCreateRequestDto requestDto) {
+        MenuTemplate template = MenuTemplate.builder()
+                .name(requestDto.getName())
+                .sourceStoreId(requestDto.getSourceStoreId())
+                .build();
+
+        return menuTemplateRepository.save(template).getId();
+    }
+
+    // 템플릿 조회
+    public MenuTemplateResponseDto getTemplate(Long templateId) {
+        MenuTemplate template = findTemplate(templateId);
+
+        return new MenuTemplateResponseDto(
+                template.getId(),
+                template.getName(),
+                template.getSourceStoreId(),
+                template.getStoreIds().stream().sorted().toList());
+    }
+
+    public MenuTemplate findTemplate(Long templateId) {
+        return menuTemplateRepository.findById(templateId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MENU_TEMPLATE_NOT_FOUND));
+    }
+
+    // 템플릿을 여러 매장에 적용 (이미 적용한 매장은 원본의 변경 사항으로 갱신)
+    @Transactional
+    public MenuTemplateResponseDto applyTemplate(Long templateId, List<Long> storeIds) {
+        MenuTemplate template = findTemplate(templateId);
+        Long sourceStoreId = template.getSourceStoreId();
+
+        List<Long> targets = storeIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (targets.contains(sourceStoreId)) {
+            throw new CustomException(ErrorCode.MENU_TEMPLATE_SOURCE_STORE);
+        }
+
+        if (!targets.isEmpty()) {
+            // 부모 -> 자식 순서로 복사해야 자식 행이 대상 매장의 부모 행을 template_source_id로 찾을 수 있음
+            menuTemplateCopyRepository.linkOptionCategories(sourceStoreId, targets);
+            menuTemplateCopyRepository.copyMenuCategories(sourceStoreId, targets);
+            menuTemplateCopyRepository.copyOptionCategories(sourceStoreId, targets);
+            menuTemplateCopyRepository.linkOptions(targets);
+            menuTemplateCopyRepository.copyOptions(targets);
+            menuTemplateCopyRepository.copyMenus(sourceStoreId, targets);
+            menuTemplateCopyRepository.copyMenuOptionCategories(targets);
+            menuTemplateCopyRepository.refresh(targets);
+
+            template.addStores(targets);
+            targets.forEach(storeId -> eventPublisher.publishEvent(new MenuChangedEvent(storeId)));
+        }
+
+        return getTemplate(templateId);
+    }
+
+    // 템플릿 메뉴의 매장별 가격, 품절 재정의 (둘 다 null이면 재정의 해제)
+    @Transactional
+    public Long overrideMenu(Long storeId, Long menuId, MenuOverrideRequestDto requestDto) {
+        Menu menu = menuRepository.findById(menuId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MENU_NOT_FOUND));
+
+        if (!menu.getStoreId().equals(storeId)) {
+            throw new CustomException(ErrorCode.MENU_STORE_MISMATCH);
+        }
+        if (menu.getTemplateSourceId() == null) {
+            throw new CustomException(ErrorCode.MENU_NOT_FROM_TEMPLATE);
+        }
+
+        Integer price = requestDto.getPrice();
+        Boolean soldOut = requestDto.getSoldOut();
+        saveOverride(storeId, menu.getTemplateSourceId(), price, soldOut);
+
+        // 재정의하지 않은 값은 원본 메뉴 값으로 되돌림 (원본이 삭제됐으면 현재 값 유지)
+        Menu source = menuRepository.findById(menu.getTemplateSourceId()).orElse(menu);
+        menu.override(
+                price != null ? price : source.getPrice(),
+                soldOut != null ? soldOut : source.isSoldOut());
+
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
+
+        return menu.getId();
+    }
+
+    // 일반 메뉴 수정으로 바뀐 템플릿 메뉴의 가격, 품절을 재정의로 기록 (원본과 같은 값은 재정의하지 않아 원본 변경을 계속 따라감)
+    @Transactional
+    public void recordOverride(Menu menu, int price, boolean soldOut) {
+        Menu source = menuRepository.findById(menu.getTemplateSourceId()).orElse(null);
+        saveOverride(menu.getStoreId(), menu.getTemplateSourceId(),
+                source != null && source.getPrice() == price ? null : price,
+                source != null && source.isSoldOut() == soldOut ? null : soldOut);
+    }
+
+    // 재정의 저장 (둘 다 null이면 재정의 삭제)
+    private void saveOverride(Long storeId, Long templateSourceId, Integer price, Boolean soldOut) {
+        menuOverrideRepository.findByStoreIdAndTemplateSourceId(storeId, templateSourceId)
+                .ifPresentOrElse(override -> {
+                    if (price == null && soldOut == null) {
+                        menuOverrideRepository.delete(override);
+                    } else {
+                        override.update(price, soldOut);
+                    }
+                }, () -> {
+                    if (price != null || soldOut != null) {
+                        menuOverrideRepository.save(MenuOverride.builder()
+                                .storeId(storeId)
+                                .templateSourceId(templateSourceId)
+                                .price(price)
+                                .soldOut(soldOut)
+                                .build());
+                    }
+                });
+    }
+}
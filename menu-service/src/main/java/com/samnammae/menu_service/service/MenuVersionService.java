@@ -0,0 +1,31 @@
+package com.samnammae.menu_service.service;
+
+import com.samnammae.menu_service.domain.menuversion.MenuVersionRepository;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장 메뉴 버전 관리
+ * - 메뉴, 카테고리, 옵션, 일괄 가져오기, 템플릿 적용 등 모든 쓰기가 MenuChangedEvent를 발행하므로
+ *   이벤트를 받아 커밋 직전에 같은 트랜잭션에서 버전을 올림 (쓰기가 롤백되면 버전도 롤백)
+ * - 조회 쪽은 요청마다 PK 조회 한 번으로 현재 버전을 읽어 다른 인스턴스의 쓰기도 바로 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class MenuVersionService {
+
+    private final MenuVersionRepository menuVersionRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMenuChanged(MenuChangedEvent event) {
+        menuVersionRepository.increment(event.storeId());
+    }
+
+    // 매장 메뉴 버전 (쓰기가 한 번도 없었으면 0)
+    public long currentVersion(Long storeId) {
+        return menuVersionRepository.findVersionByStoreId(storeId).orElse(0L);
+    }
+}
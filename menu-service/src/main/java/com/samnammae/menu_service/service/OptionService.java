@@ -2,6 +2,7 @@ package com.samnammae.menu_service.service;
 
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.cache.MenuCache;
 import com.samnammae.menu_service.domain.option.Option;
 import com.samnammae.menu_service.domain.optioncategory.OptionCategory;
 import com.samnammae.menu_service.domain.optioncategory.OptionCategoryRepository;
@@ -9,12 +10,19 @@ import com.samnammae.menu_service.domain.optioncategory.OptionCategoryType;
 import com.samnammae.menu_service.dto.request.OptionCategoryRequestDto;
 import com.samnammae.menu_service.dto.request.OptionRequestDto;
 import com.samnammae.menu_service.dto.response.OptionCategoryResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,14 +30,12 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class OptionService {
 
-    private final OptionCategoryRepository optionCategoryRepository;
+    // 옵션 이름을 맞바꿀 때 잠시 사용하는 이름 접두사
+    private static final String RENAMING_PREFIX = "__renaming__";
 
-    public void validateStoreAccess(Long storeId, String managedStoreIds) {
-        List<Long> accessibleStoreIds = Arrays.stream(managedStoreIds.split(",")).map(Long::parseLong).toList();
-        if (!accessibleStoreIds.contains(storeId)) {
-            throw new CustomException(ErrorCode.STORE_ACCESS_DENIED);
-        }
-    }
+    private final OptionCategoryRepository optionCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MenuCache menuCache;
 
     @Transactional
     public Long createOptionCategory(Long storeId, OptionCategoryRequestDto requestDto) {
@@ -56,11 +62,16 @@ public class OptionService {
 
         // 옵션 카테고리 저장
         OptionCategory savedCategory = optionCategoryRepository.save(category);
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
         return savedCategory.getId();
     }
 
     // 매장별 옵션 카테고리 조회
     public List<OptionCategoryResponseDto> getOptionsByStore(Long storeId) {
+        return menuCache.optionCategories(storeId, () -> loadOptionsByStore(storeId));
+    }
+
+    private List<OptionCategoryResponseDto> loadOptionsByStore(Long storeId) {
         return optionCategoryRepository.findAllByStoreIdWithDetails(storeId).stream()
                 .map(OptionCategoryResponseDto::new)
                 .collect(Collectors.toList());
@@ -85,14 +96,9 @@ public class OptionService {
                 requestDto.isRequired()
         );
 
-        // 옵션 카테고리 정보 업데이트
-        category.getOptions().clear();
-        optionCategoryRepository.flush();
-
-        List<Option> newOptions = requestDto.getOptions().stream()
-                .map(optionDto -> buildOption(optionDto, category))
-                .toList();
-        category.getOptions().addAll(newOptions);
+        // 바뀐 옵션만 반영 (유지되는 옵션은 ID 그대로)
+        syncOptions(category, requestDto.getOptions());
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
 
         return category.getId();
     }
@@ -102,6 +108,7 @@ public class OptionService {
         OptionCategory category = optionCategoryRepository.findByIdAndStoreId(optionCategoryId, storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.OPTION_CATEGORY_NOT_FOUND));
         optionCategoryRepository.delete(category);
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
     }
 
 
@@ -120,6 +127,82 @@ public class OptionService {
 
         // 옵션 삭제(JPA의 orphanRemoval을 사용하여 자동으로 삭제됨)
         category.getOptions().remove(optionToDelete);
+        eventPublisher.publishEvent(new MenuChangedEvent(storeId));
+    }
+
+    /**
+     * 요청한 옵션 목록에 맞게 기존 옵션을 수정, 추가, 삭제
+     * - 요청에 ID가 있으면 ID로, 없으면 이름으로 기존 옵션과 연결
+     * - 연결된 옵션은 값이 바뀐 경우에만 UPDATE, 연결되지 않은 기존 옵션은 DELETE, 나머지 요청만 INSERT
+     * - IDENTITY INSERT는 flush 중 바로 실행되므로 (카테고리, 이름) 유니크 제약에 걸리지 않도록 삭제와 수정을 먼저 flush
+     */
+    private void syncOptions(OptionCategory category, List<OptionRequestDto> optionDtos) {
+        Map<Long, Option> existingById = category.getOptions().stream()
+                .collect(Collectors.toMap(Option::getId, Function.identity()));
+        Map<String, Option> existingByName = category.getOptions().stream()
+                .collect(Collectors.toMap(Option::getName, Function.identity()));
+
+        Map<Option, OptionRequestDto> matched = new LinkedHashMap<>();
+        List<OptionRequestDto> added = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (OptionRequestDto dto : optionDtos) {
+            if (!names.add(dto.getName())) {
+                throw new CustomException(ErrorCode.OPTION_DUPLICATED);
+            }
+        }
+
+        // ID로 지정한 옵션을 먼저 연결 (요청 순서와 관계없이 이름 매칭보다 우선)
+        for (OptionRequestDto dto : optionDtos) {
+            if (dto.getId() == null) {
+                continue;
+            }
+            Option existing = existingById.get(dto.getId());
+            if (existing == null) {
+                throw new CustomException(ErrorCode.OPTION_NOT_FOUND);
+            }
+            if (matched.containsKey(existing)) {
+                throw new CustomException(ErrorCode.OPTION_DUPLICATED);
+            }
+            matched.put(existing, dto);
+        }
+
+        // ID 없는 옵션은 아직 연결되지 않은 기존 옵션 중 같은 이름과 연결하고, 없으면 새 옵션으로 추가
+        for (OptionRequestDto dto : optionDtos) {
+            if (dto.getId() != null) {
+                continue;
+            }
+            Option existing = existingByName.get(dto.getName());
+            if (existing == null || matched.containsKey(existing)) {
+                added.add(dto);
+            } else {
+                matched.put(existing, dto);
+            }
+        }
+
+        // 1. 요청에 없는 옵션 삭제 (orphanRemoval)
+        category.getOptions().removeIf(option -> !matched.containsKey(option));
+
+        // 2. 남은 옵션끼리 이름을 맞바꾸면 유니크 제약에 걸리므로 바뀌는 이름을 먼저 임시 이름으로 변경
+        boolean nameConflict = matched.entrySet().stream()
+                .anyMatch(entry -> !entry.getKey().getName().equals(entry.getValue().getName())
+                        && matched.keySet().stream().anyMatch(other -> other.getName().equals(entry.getValue().getName())));
+        if (nameConflict) {
+            matched.forEach((option, dto) -> {
+                if (!option.getName().equals(dto.getName())) {
+                    option.update(RENAMING_PREFIX + option.getId(), option.getPrice(), option.isDefault());
+                }
+            });
+            optionCategoryRepository.flush();
+        }
+
+        // 3. 값이 바뀐 옵션만 수정 (Dirty Checking)
+        matched.forEach((option, dto) -> option.update(dto.getName(), dto.getPrice(), dto.isDefault()));
+
+        // 4. 새 옵션 추가
+        if (!added.isEmpty()) {
+            optionCategoryRepository.flush();
+            added.forEach(dto -> category.getOptions().add(buildOption(dto, category)));
+        }
     }
 
     private Option buildOption(OptionRequestDto dto, OptionCategory category) {
@@ -10,13 +10,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
-import java.net.URL;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -33,6 +34,9 @@ public class S3FileStorageService implements FileStorageService {
 
     private static final String FOLDER_PREFIX = "back-end/menu/";
 
+    // 업로드할 때 파일 이름 앞에 붙이는 UUID
+    private static final Pattern UUID_PREFIX = Pattern.compile("^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}_");
+
     @Override
     public String storeFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
@@ -44,24 +48,42 @@ public class S3FileStorageService implements FileStorageService {
             throw new CustomException(ErrorCode.INVALID_FILE_NAME);
         }
 
-        String uniqueFileName = UUID.randomUUID().toString() + "_" + originalFilename;
-        String fullKey = FOLDER_PREFIX + uniqueFileName;
+        try {
+            return upload(originalFilename, file.getContentType(), file.getSize(),
+                    RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        } catch (IOException e) {
+            log.error("S3 파일 업로드 중 IO 오류 발생: {}", originalFilename, e);
+            throw new CustomException(ErrorCode.FILE_IO_ERROR);
+        }
+    }
+
+    @Override
+    public String storeFile(String originalFilename, String contentType, byte[] content) {
+        if (content == null || content.length == 0) {
+            throw new CustomException(ErrorCode.INVALID_FILE);
+        }
+        if (originalFilename == null) {
+            throw new CustomException(ErrorCode.INVALID_FILE_NAME);
+        }
+
+        return upload(originalFilename, contentType, content.length, RequestBody.fromBytes(content));
+    }
+
+    private String upload(String originalFilename, String contentType, long size, RequestBody body) {
+        String fullKey = newKey(originalFilename);
 
         try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(fullKey)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
+                    .contentType(contentType)
+                    .contentLength(size)
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            s3Client.putObject(putObjectRequest, body);
 
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, fullKey);
+            return urlOf(fullKey);
 
-        } catch (IOException e) {
-            log.error("S3 파일 업로드 중 IO 오류 발생: {}", originalFilename, e);
-            throw new CustomException(ErrorCode.FILE_IO_ERROR);
         } catch (S3Exception e) {
             log.error("S3 서비스 오류 발생: {}", originalFilename, e);
             throw new CustomException(ErrorCode.S3_SERVICE_ERROR);
@@ -71,6 +93,39 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public boolean isStoredFile(String fileUrl) {
+        return keyOf(fileUrl) != null;
+    }
+
+    @Override
+    public String copyFile(String fileUrl) {
+        String sourceKey = keyOf(fileUrl);
+        if (sourceKey == null) {
+            throw new CustomException(ErrorCode.INVALID_FILE);
+        }
+
+        String fileName = UUID_PREFIX.matcher(sourceKey.substring(FOLDER_PREFIX.length())).replaceFirst("");
+        String fullKey = newKey(fileName);
+
+        try {
+            CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucket)
+                    .destinationKey(fullKey)
+                    .build();
+
+            s3Client.copyObject(copyObjectRequest);
+
+            return urlOf(fullKey);
+
+        } catch (S3Exception e) {
+            log.error("S3 파일 복사 중 오류 발생: {}", fileUrl, e);
+            throw new CustomException(ErrorCode.S3_SERVICE_ERROR);
+        }
+    }
+
     @Override
     public void deleteFile(String fileUrl) {
         if (fileUrl == null || fileUrl.isBlank()) {
@@ -78,9 +133,12 @@ public class S3FileStorageService implements FileStorageService {
         }
 
         try {
-            // 1. URL에서 파일 키(이름) 추출
-            URL url = new URL(fileUrl);
-            String fileKey = url.getPath().substring(1); // URL 경로에서 첫 '/' 제거
+            // 1. URL에서 파일 키(이름) 추출 (이 버킷의 메뉴 이미지 URL이 아니면 무시)
+            String fileKey = keyOf(fileUrl);
+            if (fileKey == null) {
+                log.warn("저장소 형식이 아닌 파일 URL은 삭제하지 않음: {}", fileUrl);
+                return;
+            }
 
             // 2. S3에서 파일 삭제
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -97,4 +155,29 @@ public class S3FileStorageService implements FileStorageService {
             log.error("파일 삭제 중 일반 오류 발생: {}", fileUrl, e);
         }
     }
-}
\ No newline at end of file
+
+    private String newKey(String originalFilename) {
+        return FOLDER_PREFIX + UUID.randomUUID() + "_" + originalFilename;
+    }
+
+    private String urlOf(String key) {
+        return baseUrl() + key;
+    }
+
+    private String baseUrl() {
+        return String.format("https://%s.s3.%s.amazonaws.com/", bucket, region);
+    }
+
+    // storeFile이 반환한 형식(이 버킷, 메뉴 이미지 폴더)의 URL이면 S3 키, 아니면 null
+    private String keyOf(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(baseUrl() + FOLDER_PREFIX)) {
+            return null;
+        }
+        String key = fileUrl.substring(baseUrl().length());
+        if (key.length() == FOLDER_PREFIX.length() || key.indexOf('/', FOLDER_PREFIX.length()) >= 0
+                || key.contains("?") || key.contains("#")) {
+            return null;
+        }
+        return key;
+    }
+}
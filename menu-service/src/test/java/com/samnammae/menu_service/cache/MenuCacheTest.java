@@ -0,0 +1,138 @@
+package com.samnammae.menu_service.cache;
+
+import com.samnammae.menu_service.dto.response.MenuCategoryResponseDto;
+import com.samnammae.menu_service.dto.response.MenuDetailResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import com.samnammae.menu_service.service.MenuVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MenuCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // DB의 매장 메뉴 버전 (쓰기 트랜잭션이 커밋되면 증가)
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final MenuCache menuCache = new MenuCache(registry, menuVersionService(), 100, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("메뉴 상세 - 같은 매장, 같은 메뉴는 한 번만 조회하고 적중/미적중을 기록")
+    void menuDetail_CachedPerStoreAndMenu() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        MenuDetailResponseDto detail = MenuDetailResponseDto.builder().menuId(10L).menuName("아메리카노").build();
+
+        // When
+        MenuDetailResponseDto first = menuCache.menuDetail(1L, 10L, () -> { loads.incrementAndGet(); return detail; });
+        MenuDetailResponseDto second = menuCache.menuDetail(1L, 10L, () -> { loads.incrementAndGet(); return detail; });
+        menuCache.menuDetail(2L, 10L, () -> { loads.incrementAndGet(); return detail; });
+
+        // Then
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "menu.detail").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get("cache.gets").tag("cache", "menu.detail").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("변경 커밋 - 해당 매장 항목만 무효화")
+    void onMenuChanged_EvictsOnlyThatStore() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        menuCache.categories(1L, () -> categories(loads, "음료"));
+        menuCache.categories(2L, () -> categories(loads, "음료"));
+
+        // When
+        commit(1L);
+        List<MenuCategoryResponseDto> reloaded = menuCache.categories(1L, () -> categories(loads, "디저트"));
+        menuCache.categories(2L, () -> categories(loads, "디저트"));
+
+        // Then
+        assertEquals("디저트", reloaded.get(0).getName());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("변경 커밋 - 커밋 전에 시작한 조회가 늦게 저장한 이전 내용은 이후 조회에 사용되지 않음")
+    void onMenuChanged_LateLoadFromBeforeCommit_NotServed() throws Exception {
+        // Given: 이전 내용을 읽은 조회가 저장하기 전에 다른 트랜잭션이 커밋됨
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        CompletableFuture<List<MenuCategoryResponseDto>> slowRead = CompletableFuture.supplyAsync(() ->
+                menuCache.categories(1L, () -> {
+                    List<MenuCategoryResponseDto> old = categories(loads, "음료");
+                    loading.countDown();
+                    await(committed);
+                    return old;
+                }));
+        loading.await(5, TimeUnit.SECONDS);
+        commit(1L);
+        committed.countDown();
+        slowRead.get(5, TimeUnit.SECONDS);
+
+        // When
+        List<MenuCategoryResponseDto> result = menuCache.categories(1L, () -> categories(loads, "디저트"));
+
+        // Then
+        assertEquals("디저트", result.get(0).getName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 커밋 - 이 인스턴스에 이벤트가 없어도 매장 메뉴 버전이 바뀌면 다시 조회")
+    void otherInstanceCommit_Reloads() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        menuCache.categories(1L, () -> categories(loads, "음료"));
+
+        // When: 다른 인스턴스의 쓰기 트랜잭션이 DB 버전만 올림
+        versions.merge(1L, 1L, Long::sum);
+        List<MenuCategoryResponseDto> result = menuCache.categories(1L, () -> categories(loads, "디저트"));
+
+        // Then
+        assertEquals("디저트", result.get(0).getName());
+        assertEquals(2, loads.get());
+    }
+
+    // 이 인스턴스에서 쓰기 트랜잭션 커밋 (같은 트랜잭션에서 버전을 올리고 커밋 후 이벤트 처리)
+    private void commit(Long storeId) {
+        versions.merge(storeId, 1L, Long::sum);
+        menuCache.onMenuChanged(new MenuChangedEvent(storeId));
+    }
+
+    private MenuVersionService menuVersionService() {
+        MenuVersionService menuVersionService = mock(MenuVersionService.class);
+        when(menuVersionService.currentVersion(anyLong()))
+                .thenAnswer(invocation -> versions.getOrDefault(invocation.<Long>getArgument(0), 0L));
+        return menuVersionService;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<MenuCategoryResponseDto> categories(AtomicInteger loads, String name) {
+        loads.incrementAndGet();
+        return List.of(new MenuCategoryResponseDto(1L, name, 1));
+    }
+}
@@ -19,8 +19,6 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -58,7 +56,6 @@ class MenuCategoryControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").value(1));
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).createCategory(eq(storeId), any(MenuCategoryCreateRequestDto.class));
 
     }
@@ -71,9 +68,6 @@ class MenuCategoryControllerTest {
         String managedStoreIds = "2,3,4";
         MenuCategoryCreateRequestDto requestDto = new MenuCategoryCreateRequestDto("메인 메뉴", 1);
 
-        doThrow(new CustomException(ErrorCode.STORE_ACCESS_DENIED))
-                .when(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
-
         // When & Then
         mockMvc.perform(post("/api/menu/{storeId}/category", storeId)
                         .header("X-MANAGED-STORE-IDS", managedStoreIds)
@@ -81,7 +75,6 @@ class MenuCategoryControllerTest {
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isForbidden());
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService, never()).createCategory(any(), any());
     }
 
@@ -108,7 +101,6 @@ class MenuCategoryControllerTest {
                 .andExpect(jsonPath("$.data[0].name").value("메인 메뉴"))
                 .andExpect(jsonPath("$.data[1].name").value("사이드 메뉴"));
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).getCategories(storeId);
     }
 
@@ -133,7 +125,6 @@ class MenuCategoryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).updateCategories(eq(storeId), anyList());
     }
 
@@ -157,7 +148,6 @@ class MenuCategoryControllerTest {
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isNotFound());
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).updateCategories(eq(storeId), anyList());
     }
 
@@ -181,7 +171,6 @@ class MenuCategoryControllerTest {
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isForbidden());
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).updateCategories(eq(storeId), anyList());
     }
 
@@ -199,7 +188,6 @@ class MenuCategoryControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).deleteCategory(storeId, categoryId);
     }
 
@@ -219,7 +207,6 @@ class MenuCategoryControllerTest {
                         .header("X-MANAGED-STORE-IDS", managedStoreIds))
                 .andExpect(status().isNotFound());
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).deleteCategory(storeId, categoryId);
     }
 
@@ -236,7 +223,7 @@ class MenuCategoryControllerTest {
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isBadRequest());
 
-        verify(menuCategoryService, never()).validateStoreAccess(anyLong(), anyString());
+        verify(menuCategoryService, never()).createCategory(any(), any());
     }
 
     @Test
@@ -255,7 +242,6 @@ class MenuCategoryControllerTest {
                         .header("X-MANAGED-STORE-IDS", managedStoreIds))
                 .andExpect(status().isForbidden());
 
-        verify(menuCategoryService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuCategoryService).deleteCategory(storeId, categoryId);
     }
 }
\ No newline at end of file
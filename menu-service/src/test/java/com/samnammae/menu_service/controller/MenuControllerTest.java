@@ -3,11 +3,18 @@ package com.samnammae.menu_service.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.common.response.ApiResponse;
+import com.samnammae.menu_service.dto.request.MenuBulkDto;
 import com.samnammae.menu_service.dto.request.MenuCreateRequestDto;
 import com.samnammae.menu_service.dto.request.MenuUpdateRequestDto;
 import com.samnammae.menu_service.dto.response.MenuDetailResponseDto;
+import com.samnammae.menu_service.dto.response.MenuImportResponseDto;
 import com.samnammae.menu_service.dto.response.MenuListResponseDto;
 import com.samnammae.menu_service.dto.response.MenuResponseDto;
+import com.samnammae.menu_service.readmodel.MenuReadModel;
+import com.samnammae.menu_service.readmodel.MenuSnapshot;
+import com.samnammae.menu_service.readmodel.MenuView;
+import com.samnammae.menu_service.service.MenuBulkService;
 import com.samnammae.menu_service.service.MenuService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,8 +24,10 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -28,7 +37,9 @@ import java.util.Map;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(MenuController.class)
@@ -43,6 +54,12 @@ class MenuControllerTest {
     @MockitoBean
     private MenuService menuService;
 
+    @MockitoBean
+    private MenuReadModel menuReadModel;
+
+    @MockitoBean
+    private MenuBulkService menuBulkService;
+
     @Test
     @DisplayName("메뉴 생성 - 성공 (이미지 있음)")
     void createMenu_WithImage_Success() throws Exception {
@@ -59,7 +76,6 @@ class MenuControllerTest {
                 "request", "request.json", MediaType.APPLICATION_JSON_VALUE,
                 objectMapper.writeValueAsString(requestDto).getBytes(StandardCharsets.UTF_8));
 
-        doNothing().when(menuService).validateStoreAccess(storeId, managedStoreIds);
         when(menuService.createMenu(eq(storeId), any(MenuCreateRequestDto.class), any()))
                 .thenReturn(menuId);
 
@@ -72,7 +88,6 @@ class MenuControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").value(1));
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuService).createMenu(eq(storeId), any(MenuCreateRequestDto.class), any());
     }
 
@@ -90,7 +105,6 @@ class MenuControllerTest {
                 "request", "request.json", MediaType.APPLICATION_JSON_VALUE,
                 objectMapper.writeValueAsString(requestDto).getBytes(StandardCharsets.UTF_8));
 
-        doNothing().when(menuService).validateStoreAccess(storeId, managedStoreIds);
         when(menuService.createMenu(eq(storeId), any(MenuCreateRequestDto.class), isNull()))
                 .thenReturn(menuId);
 
@@ -102,7 +116,6 @@ class MenuControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").value(1));
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuService).createMenu(eq(storeId), any(MenuCreateRequestDto.class), isNull());
     }
 
@@ -119,19 +132,83 @@ class MenuControllerTest {
                 "request", "request.json", MediaType.APPLICATION_JSON_VALUE,
                 objectMapper.writeValueAsString(requestDto).getBytes(StandardCharsets.UTF_8));
 
-        doThrow(new CustomException(ErrorCode.STORE_ACCESS_DENIED))
-                .when(menuService).validateStoreAccess(storeId, managedStoreIds);
-
         // When & Then
         mockMvc.perform(multipart("/api/menu/{storeId}", storeId)
                         .file(requestFile)
                         .header("X-MANAGED-STORE-IDS", managedStoreIds))
                 .andExpect(status().isForbidden());
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuService, never()).createMenu(any(), any(), any());
     }
 
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 성공")
+    void importMenus_Success() throws Exception {
+        // Given
+        Long storeId = 1L;
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "menus.json", MediaType.APPLICATION_JSON_VALUE, "{\"menus\":[]}".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile images = new MockMultipartFile(
+                "images", "images.zip", "application/zip", "zip content".getBytes());
+
+        when(menuBulkService.importMenus(eq(storeId), any(), any()))
+                .thenReturn(new MenuImportResponseDto(2, 1, 3, 10));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/menu/{storeId}/import", storeId)
+                        .file(file)
+                        .file(images)
+                        .header("X-MANAGED-STORE-IDS", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.menus").value(10));
+
+        verify(menuBulkService).importMenus(eq(storeId), any(), any());
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 매장 접근 권한 없음")
+    void importMenus_AccessDenied() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "menus.json", MediaType.APPLICATION_JSON_VALUE, "{}".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/menu/{storeId}/import", 1L)
+                        .file(file)
+                        .header("X-MANAGED-STORE-IDS", "2,3"))
+                .andExpect(status().isForbidden());
+
+        verify(menuBulkService, never()).importMenus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 내보내기 - 첨부 파일로 스트리밍")
+    void exportMenus_Success() throws Exception {
+        // Given
+        Long storeId = 1L;
+        MenuBulkDto data = new MenuBulkDto(List.of(), List.of(), List.of(new MenuBulkDto.MenuItemDto(
+                "치킨버거", 8000, "맛있는 치킨버거", "메인 메뉴", List.of("사이즈"), false, null, "https://example.com/image.jpg")));
+        doAnswer(invocation -> {
+            objectMapper.writeValue(invocation.getArgument(1, OutputStream.class), data);
+            return null;
+        }).when(menuBulkService).exportMenus(eq(storeId), any(OutputStream.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/menu/{storeId}/export", storeId)
+                        .header("X-MANAGED-STORE-IDS", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"menus-1.json\""))
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.menus[0].name").value("치킨버거"))
+                .andExpect(jsonPath("$.menus[0].category").value("메인 메뉴"));
+    }
+
     @Test
     @DisplayName("메뉴 목록 조회 - 성공")
     void getMenus_Success() throws Exception {
@@ -148,19 +225,36 @@ class MenuControllerTest {
 
         MenuListResponseDto response = new MenuListResponseDto(categories, menusByCategory);
 
-        doNothing().when(menuService).validateStoreAccess(storeId, managedStoreIds);
-        when(menuService.getMenusByStore(storeId)).thenReturn(response);
+        when(menuReadModel.get(storeId)).thenReturn(snapshot(storeId, response));
 
         // When & Then
         mockMvc.perform(get("/api/menu/{storeId}", storeId)
                         .header("X-MANAGED-STORE-IDS", managedStoreIds))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("X-Menu-Version", "7"))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.categories").isArray())
                 .andExpect(jsonPath("$.data.categories.length()").value(2));
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
-        verify(menuService).getMenusByStore(storeId);
+        verify(menuReadModel).get(storeId);
+        verify(menuService, never()).getMenusByStore(anyLong());
+    }
+
+    @Test
+    @DisplayName("메뉴 목록 조회 - If-None-Match가 같으면 304")
+    void getMenus_NotModified() throws Exception {
+        // Given
+        Long storeId = 1L;
+        MenuSnapshot snapshot = snapshot(storeId, new MenuListResponseDto(List.of(), Map.of()));
+
+        when(menuReadModel.get(storeId)).thenReturn(snapshot);
+
+        // When & Then
+        mockMvc.perform(get("/api/menu/{storeId}", storeId)
+                        .header("X-MANAGED-STORE-IDS", "1")
+                        .header("If-None-Match", snapshot.view(MenuView.LIST).etag()))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -179,7 +273,6 @@ class MenuControllerTest {
                 "request", "request.json", MediaType.APPLICATION_JSON_VALUE,
                 objectMapper.writeValueAsString(requestDto).getBytes(StandardCharsets.UTF_8));
 
-        doNothing().when(menuService).validateStoreAccess(storeId, managedStoreIds);
         when(menuService.updateMenu(eq(storeId), eq(menuId), any(MenuUpdateRequestDto.class), any()))
                 .thenReturn(menuId);
 
@@ -196,7 +289,6 @@ class MenuControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").value(1));
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuService).updateMenu(eq(storeId), eq(menuId), any(MenuUpdateRequestDto.class), any());
     }
 
@@ -214,7 +306,6 @@ class MenuControllerTest {
                 "request", "request.json", MediaType.APPLICATION_JSON_VALUE,
                 objectMapper.writeValueAsString(requestDto).getBytes(StandardCharsets.UTF_8));
 
-        doNothing().when(menuService).validateStoreAccess(storeId, managedStoreIds);
         when(menuService.updateMenu(eq(storeId), eq(menuId), any(MenuUpdateRequestDto.class), any()))
                 .thenThrow(new CustomException(ErrorCode.MENU_NOT_FOUND));
 
@@ -228,7 +319,6 @@ class MenuControllerTest {
                         }))
                 .andExpect(status().isNotFound());
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuService).updateMenu(eq(storeId), eq(menuId), any(MenuUpdateRequestDto.class), any());
     }
 
@@ -240,7 +330,6 @@ class MenuControllerTest {
         Long menuId = 1L;
         String managedStoreIds = "1,2,3";
 
-        doNothing().when(menuService).validateStoreAccess(storeId, managedStoreIds);
         doNothing().when(menuService).deleteMenu(storeId, menuId);
 
         // When & Then
@@ -249,7 +338,6 @@ class MenuControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuService).deleteMenu(storeId, menuId);
     }
 
@@ -261,7 +349,6 @@ class MenuControllerTest {
         Long menuId = 999L;
         String managedStoreIds = "1,2,3";
 
-        doNothing().when(menuService).validateStoreAccess(storeId, managedStoreIds);
         doThrow(new CustomException(ErrorCode.MENU_NOT_FOUND))
                 .when(menuService).deleteMenu(storeId, menuId);
 
@@ -270,7 +357,6 @@ class MenuControllerTest {
                         .header("X-MANAGED-STORE-IDS", managedStoreIds))
                 .andExpect(status().isNotFound());
 
-        verify(menuService).validateStoreAccess(storeId, managedStoreIds);
         verify(menuService).deleteMenu(storeId, menuId);
     }
 
@@ -368,6 +454,11 @@ class MenuControllerTest {
                         .file(requestFile))
                 .andExpect(status().isBadRequest());
 
-        verify(menuService, never()).validateStoreAccess(anyLong(), anyString());
+        verify(menuService, never()).createMenu(any(), any(), any());
+    }
+
+    private MenuSnapshot snapshot(Long storeId, MenuListResponseDto response) throws Exception {
+        MenuSnapshot.View view = MenuSnapshot.View.of(objectMapper.writeValueAsBytes(ApiResponse.success(response)));
+        return new MenuSnapshot(storeId, 7L, 0L, 0L, Map.of(MenuView.LIST, view));
     }
-}
\ No newline at end of file
+}
@@ -58,7 +58,6 @@ class OptionControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").value(categoryId));
 
-        verify(optionService).validateStoreAccess(storeId, managedStoreIds);
         verify(optionService).createOptionCategory(eq(storeId), any(OptionCategoryRequestDto.class));
     }
 
@@ -67,17 +66,15 @@ class OptionControllerTest {
     void createOptionCategory_AccessDenied() throws Exception {
         // Given
         OptionCategoryRequestDto requestDto = new OptionCategoryRequestDto();
-        doThrow(new CustomException(ErrorCode.STORE_ACCESS_DENIED))
-                .when(optionService).validateStoreAccess(storeId, managedStoreIds);
+        String otherStoreIds = "2,3";
 
         // When & Then
         mockMvc.perform(post("/api/menu/{storeId}/option", storeId)
-                        .header("X-MANAGED-STORE-IDS", managedStoreIds)
+                        .header("X-MANAGED-STORE-IDS", otherStoreIds)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isForbidden());
 
-        verify(optionService).validateStoreAccess(storeId, managedStoreIds);
         verify(optionService, never()).createOptionCategory(any(), any());
     }
 
@@ -95,7 +92,6 @@ class OptionControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isArray());
 
-        verify(optionService).validateStoreAccess(storeId, managedStoreIds);
         verify(optionService).getOptionsByStore(storeId);
     }
 
@@ -116,7 +112,6 @@ class OptionControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").value(categoryId));
 
-        verify(optionService).validateStoreAccess(storeId, managedStoreIds);
         verify(optionService).updateOptionCategory(eq(storeId), eq(categoryId), any(OptionCategoryRequestDto.class));
     }
 
@@ -145,7 +140,6 @@ class OptionControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(optionService).validateStoreAccess(storeId, managedStoreIds);
         verify(optionService).deleteOptionCategory(storeId, categoryId);
     }
 
@@ -158,7 +152,6 @@ class OptionControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(optionService).validateStoreAccess(storeId, managedStoreIds);
         verify(optionService).deleteOption(storeId, categoryId, optionId);
     }
 
@@ -0,0 +1,146 @@
+package com.samnammae.menu_service.domain.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 템플릿 복사 SQL을 실제 MySQL에서 실행하는 테스트
+ * UPDATE ... JOIN 등 MySQL 전용 문법을 쓰므로 H2 대신 Testcontainers MySQL 사용 (Docker가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(MenuTemplateCopyRepository.class)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class MenuTemplateCopyRepositoryTest {
+
+    private static final long SOURCE = 1L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private MenuTemplateCopyRepository copyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 원본 매장: 커피 카테고리, 사이즈 옵션 카테고리(톨, 그란데), 사이즈를 쓰는 아메리카노
+        jdbcTemplate.update("INSERT INTO menu_category (menu_category_id, store_id, name, display_order) VALUES (100, ?, '커피', 1)", SOURCE);
+        jdbcTemplate.update("INSERT INTO option_category (option_category_id, store_id, name, type, is_required) VALUES (200, ?, '사이즈', 'SINGLE', true)", SOURCE);
+        jdbcTemplate.update("INSERT INTO options (option_id, option_category_id, name, price, is_default) VALUES (300, 200, '톨', 0, true)");
+        jdbcTemplate.update("INSERT INTO options (option_id, option_category_id, name, price, is_default) VALUES (301, 200, '그란데', 500, false)");
+        jdbcTemplate.update("INSERT INTO menu (menu_id, store_id, menu_category_id, name, price, is_sold_out) VALUES (400, ?, 100, '아메리카노', 4500, false)", SOURCE);
+        jdbcTemplate.update("INSERT INTO menu_option_category (menu_id, option_category_id) VALUES (400, 200)");
+    }
+
+    @Test
+    @DisplayName("템플릿 적용 - 카테고리, 옵션, 메뉴와 메뉴-옵션 연결을 대상 매장에 복사")
+    void apply_CopiesMenuTree() {
+        // when
+        apply(List.of(2L, 3L));
+
+        // then
+        for (long storeId : List.of(2L, 3L)) {
+            Long menuId = jdbcTemplate.queryForObject(
+                    "SELECT menu_id FROM menu WHERE store_id = ? AND template_source_id = 400", Long.class, storeId);
+            Long categoryId = jdbcTemplate.queryForObject(
+                    "SELECT option_category_id FROM option_category WHERE store_id = ? AND template_source_id = 200", Long.class, storeId);
+            assertEquals(categoryId, jdbcTemplate.queryForObject(
+                    "SELECT option_category_id FROM menu_option_category WHERE menu_id = ?", Long.class, menuId));
+            assertEquals(2, count("SELECT COUNT(*) FROM options WHERE option_category_id = ?", categoryId));
+            assertEquals(4500, jdbcTemplate.queryForObject("SELECT price FROM menu WHERE menu_id = ?", Integer.class, menuId));
+        }
+    }
+
+    @Test
+    @DisplayName("다시 적용 - 원본 변경은 반영하고 매장별 재정의 가격, 품절은 유지")
+    void reapply_KeepsOverride() {
+        // given
+        apply(List.of(2L, 3L));
+        jdbcTemplate.update("INSERT INTO menu_override (store_id, template_source_id, price, sold_out) VALUES (2, 400, 5000, NULL)");
+        jdbcTemplate.update("UPDATE menu SET name = '아이스 아메리카노', price = 4800, is_sold_out = true WHERE menu_id = 400");
+
+        // when
+        apply(List.of(2L, 3L));
+
+        // then
+        assertEquals(1, count("SELECT COUNT(*) FROM menu WHERE store_id = 2"));
+        assertEquals("아이스 아메리카노", jdbcTemplate.queryForObject(
+                "SELECT name FROM menu WHERE store_id = 2", String.class));
+        assertEquals(5000, jdbcTemplate.queryForObject("SELECT price FROM menu WHERE store_id = 2", Integer.class));
+        assertEquals(true, jdbcTemplate.queryForObject("SELECT is_sold_out FROM menu WHERE store_id = 2", Boolean.class));
+        assertEquals(4800, jdbcTemplate.queryForObject("SELECT price FROM menu WHERE store_id = 3", Integer.class));
+    }
+
+    @Test
+    @DisplayName("같은 이름의 옵션 카테고리가 다른 원본에 연결되어 있으면 새로 만들지 않고 그 카테고리에 메뉴 연결")
+    void apply_SameNameLinkedToOtherSource_ReusesCategory() {
+        // given: 대상 매장에 다른 템플릿(원본 999)에서 온 '사이즈'가 이미 있음
+        jdbcTemplate.update("INSERT INTO option_category (option_category_id, store_id, name, type, is_required, template_source_id) "
+                + "VALUES (500, 2, '사이즈', 'SINGLE', true, 999)");
+
+        // when
+        apply(List.of(2L));
+
+        // then
+        assertEquals(1, count("SELECT COUNT(*) FROM option_category WHERE store_id = 2 AND name = '사이즈'"));
+        Long menuId = jdbcTemplate.queryForObject(
+                "SELECT menu_id FROM menu WHERE store_id = 2 AND template_source_id = 400", Long.class);
+        assertEquals(500L, jdbcTemplate.queryForObject(
+                "SELECT option_category_id FROM menu_option_category WHERE menu_id = ?", Long.class, menuId));
+    }
+
+    @Test
+    @DisplayName("원본 옵션 카테고리 이름이 대상 매장의 다른 카테고리와 겹치게 바뀌면 이름만 그대로 둠")
+    void refresh_RenameConflict_KeepsName() {
+        // given
+        apply(List.of(2L));
+        jdbcTemplate.update("INSERT INTO option_category (store_id, name, type, is_required) VALUES (2, '샷', 'MULTIPLE', false)");
+        jdbcTemplate.update("UPDATE option_category SET name = '샷', is_required = false WHERE option_category_id = 200");
+
+        // when
+        apply(List.of(2L));
+
+        // then
+        assertEquals(1, count("SELECT COUNT(*) FROM option_category WHERE store_id = 2 AND name = '샷'"));
+        assertEquals(false, jdbcTemplate.queryForObject(
+                "SELECT is_required FROM option_category WHERE store_id = 2 AND template_source_id = 200", Boolean.class));
+        assertEquals("사이즈", jdbcTemplate.queryForObject(
+                "SELECT name FROM option_category WHERE store_id = 2 AND template_source_id = 200", String.class));
+    }
+
+    // MenuTemplateService.applyTemplate과 같은 순서로 실행
+    private void apply(List<Long> storeIds) {
+        copyRepository.linkOptionCategories(SOURCE, storeIds);
+        copyRepository.copyMenuCategories(SOURCE, storeIds);
+        copyRepository.copyOptionCategories(SOURCE, storeIds);
+        copyRepository.linkOptions(storeIds);
+        copyRepository.copyOptions(storeIds);
+        copyRepository.copyMenus(SOURCE, storeIds);
+        copyRepository.copyMenuOptionCategories(storeIds);
+        copyRepository.refresh(storeIds);
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
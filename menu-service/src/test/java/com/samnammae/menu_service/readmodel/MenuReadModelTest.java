@@ -0,0 +1,188 @@
+package com.samnammae.menu_service.readmodel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.menu_service.cache.MenuCache;
+import com.samnammae.menu_service.dto.response.KioskMenuResponseDto;
+import com.samnammae.menu_service.dto.response.MenuListResponseDto;
+import com.samnammae.menu_service.dto.response.MenuWithOptionsResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import com.samnammae.menu_service.service.InternalService;
+import com.samnammae.menu_service.service.MenuService;
+import com.samnammae.menu_service.service.MenuVersionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuReadModelTest {
+
+    @Mock
+    private MenuService menuService;
+
+    @Mock
+    private InternalService internalService;
+
+    @Mock
+    private MenuCache menuCache;
+
+    @Mock
+    private MenuVersionService menuVersionService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    // DB의 매장 메뉴 버전 (쓰기 트랜잭션이 커밋되면 증가)
+    private final AtomicLong menuVersion = new AtomicLong();
+    private MenuReadModel menuReadModel;
+
+    @BeforeEach
+    void setUp() {
+        menuReadModel = newReadModel();
+        lenient().when(menuVersionService.currentVersion(1L)).thenAnswer(invocation -> menuVersion.get());
+        lenient().when(internalService.getMenusWithOptions(1L))
+                .thenReturn(new MenuWithOptionsResponseDto(List.of(), Map.of()));
+        lenient().when(internalService.getKioskMenu(1L))
+                .thenReturn(new KioskMenuResponseDto(List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuReadModel.shutdown();
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 한 번 생성한 스냅샷은 다시 조회하지 않고 재사용")
+    void get_CachedSnapshot() throws Exception {
+        // Given
+        when(menuService.getMenusByStore(1L)).thenReturn(menuList("메인 메뉴"));
+
+        // When
+        MenuSnapshot first = menuReadModel.get(1L);
+        MenuSnapshot second = menuReadModel.get(1L);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1_000L, first.version());
+        assertTrue(new String(first.view(MenuView.LIST).json()).contains("메인 메뉴"));
+        verify(menuService, times(1)).getMenusByStore(1L);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 이후 조회 - 새 메뉴로 다시 생성하고 버전과 ETag가 바뀜")
+    void get_AfterMenuChanged_Rebuilds() {
+        // Given
+        when(menuService.getMenusByStore(1L))
+                .thenReturn(menuList("메인 메뉴"))
+                .thenReturn(menuList("사이드 메뉴"));
+        MenuSnapshot before = menuReadModel.get(1L);
+        clock.set(500L);
+
+        // When
+        commit();
+        MenuSnapshot after = menuReadModel.get(1L);
+
+        // Then
+        assertTrue(new String(after.view(MenuView.LIST).json()).contains("사이드 메뉴"));
+        assertEquals(before.version() + 1, after.version());
+        assertNotEquals(before.view(MenuView.LIST).etag(), after.view(MenuView.LIST).etag());
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 이후 조회 - 내용이 같으면 버전과 ETag 유지")
+    void get_AfterMenuChanged_SameContent_KeepsVersion() {
+        // Given
+        when(menuService.getMenusByStore(1L)).thenReturn(menuList("메인 메뉴"));
+        MenuSnapshot before = menuReadModel.get(1L);
+        clock.set(5_000L);
+
+        // When
+        commit();
+        MenuSnapshot after = menuReadModel.get(1L);
+
+        // Then
+        assertEquals(before.version(), after.version());
+        assertEquals(before.view(MenuView.LIST).etag(), after.view(MenuView.LIST).etag());
+        verify(menuService, atLeast(2)).getMenusByStore(1L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - TTL이 지나면 메뉴 조회 캐시를 비우고 다시 생성")
+    void get_Expired_Rebuilds() {
+        // Given
+        when(menuService.getMenusByStore(1L))
+                .thenReturn(menuList("메인 메뉴"))
+                .thenReturn(menuList("사이드 메뉴"));
+        MenuSnapshot before = menuReadModel.get(1L);
+
+        // When
+        clock.addAndGet(TTL.toMillis() - 1);
+        MenuSnapshot beforeExpiry = menuReadModel.get(1L);
+        clock.addAndGet(1);
+        MenuSnapshot after = menuReadModel.get(1L);
+
+        // Then
+        assertSame(before, beforeExpiry);
+        assertTrue(new String(after.view(MenuView.LIST).json()).contains("사이드 메뉴"));
+        verify(menuCache, times(2)).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("인스턴스 두 대 - 다른 인스턴스의 쓰기는 이벤트 없이도 다음 조회부터 반영")
+    void get_TwoInstances_OtherInstanceWriteVisibleOnNextGet() {
+        // Given (두 인스턴스가 같은 DB를 조회)
+        MenuReadModel other = newReadModel();
+        when(menuService.getMenusByStore(1L)).thenReturn(menuList("메인 메뉴"));
+        MenuSnapshot before = menuReadModel.get(1L);
+        other.get(1L);
+
+        // When (다른 인스턴스에서 쓰기가 커밋되어 DB 버전이 오르고 그 인스턴스에만 이벤트 발행)
+        when(menuService.getMenusByStore(1L)).thenReturn(menuList("사이드 메뉴"));
+        menuVersion.incrementAndGet();
+        other.onMenuChanged(new MenuChangedEvent(1L));
+
+        // Then (TTL이 지나지 않았어도 이 인스턴스에서 바로 반영)
+        try {
+            MenuSnapshot after = menuReadModel.get(1L);
+            assertTrue(new String(other.get(1L).view(MenuView.LIST).json()).contains("사이드 메뉴"));
+            assertTrue(new String(after.view(MenuView.LIST).json()).contains("사이드 메뉴"));
+            assertNotEquals(before.view(MenuView.LIST).etag(), after.view(MenuView.LIST).etag());
+        } finally {
+            other.shutdown();
+        }
+    }
+
+    // 쓰기 트랜잭션 커밋 (같은 트랜잭션에서 버전을 올리고 커밋 후 이벤트 처리)
+    private void commit() {
+        menuVersion.incrementAndGet();
+        menuReadModel.onMenuChanged(new MenuChangedEvent(1L));
+    }
+
+    private MenuReadModel newReadModel() {
+        return new MenuReadModel(menuService, internalService, objectMapper, menuCache, menuVersionService, 10, TTL,
+                clock::get);
+    }
+
+    private MenuListResponseDto menuList(String category) {
+        return new MenuListResponseDto(List.of(category), Map.of(category, List.of()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.samnammae.menu_service.service;
+
+import com.samnammae.menu_service.domain.menu.Menu;
+import com.samnammae.menu_service.domain.menu.MenuRepository;
+import com.samnammae.menu_service.domain.menucategory.MenuCategory;
+import com.samnammae.menu_service.domain.menucategory.MenuCategoryRepository;
+import com.samnammae.menu_service.dto.response.KioskMenuResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InternalServiceTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private MenuCategoryRepository menuCategoryRepository;
+
+    @InjectMocks
+    private InternalService internalService;
+
+    @Test
+    @DisplayName("키오스크 메뉴 조회 - 카테고리는 displayOrder 순서, 메뉴가 없는 카테고리도 포함")
+    void getKioskMenu_OrderedByDisplayOrder() {
+        // Given
+        Long storeId = 1L;
+        MenuCategory drink = category(10L, storeId, "음료", 1);
+        MenuCategory burger = category(20L, storeId, "버거", 2);
+        MenuCategory dessert = category(30L, storeId, "디저트", 3);
+
+        when(menuCategoryRepository.findByStoreIdOrderByDisplayOrderAsc(storeId))
+                .thenReturn(List.of(drink, burger, dessert));
+        when(menuRepository.findAllByStoreIdWithOptionCategories(storeId))
+                .thenReturn(List.of(menu(1L, storeId, "콜라", drink), menu(2L, storeId, "치킨버거", burger), menu(3L, storeId, "사이다", drink)));
+
+        // When
+        KioskMenuResponseDto result = internalService.getKioskMenu(storeId);
+
+        // Then
+        List<KioskMenuResponseDto.KioskCategoryDto> categories = result.getCategories();
+        assertEquals(List.of("음료", "버거", "디저트"), categories.stream().map(KioskMenuResponseDto.KioskCategoryDto::getName).toList());
+        assertEquals(List.of("콜라", "사이다"), categories.get(0).getMenus().stream().map(menu -> menu.getName()).toList());
+        assertEquals(1, categories.get(1).getMenus().size());
+        assertTrue(categories.get(2).getMenus().isEmpty());
+    }
+
+    private MenuCategory category(Long id, Long storeId, String name, int displayOrder) {
+        return MenuCategory.builder()
+                .id(id)
+                .storeId(storeId)
+                .name(name)
+                .displayOrder(displayOrder)
+                .build();
+    }
+
+    private Menu menu(Long id, Long storeId, String name, MenuCategory category) {
+        return Menu.builder()
+                .id(id)
+                .storeId(storeId)
+                .name(name)
+                .price(2000)
+                .menuCategory(category)
+                .optionCategories(new HashSet<>())
+                .build();
+    }
+}
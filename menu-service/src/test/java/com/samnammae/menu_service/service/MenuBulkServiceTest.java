@@ -0,0 +1,341 @@
+package com.samnammae.menu_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.domain.menu.Menu;
+import com.samnammae.menu_service.domain.menu.MenuBulkRepository;
+import com.samnammae.menu_service.domain.menu.MenuRepository;
+import com.samnammae.menu_service.domain.menucategory.MenuCategory;
+import com.samnammae.menu_service.domain.menucategory.MenuCategoryRepository;
+import com.samnammae.menu_service.domain.option.Option;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategory;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategoryRepository;
+import com.samnammae.menu_service.domain.optioncategory.OptionCategoryType;
+import com.samnammae.menu_service.dto.request.MenuBulkDto;
+import com.samnammae.menu_service.dto.request.MenuCategoryCreateRequestDto;
+import com.samnammae.menu_service.dto.request.OptionCategoryRequestDto;
+import com.samnammae.menu_service.dto.request.OptionRequestDto;
+import com.samnammae.menu_service.dto.response.MenuImportResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuBulkServiceTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private MenuCategoryRepository menuCategoryRepository;
+
+    @Mock
+    private OptionCategoryRepository optionCategoryRepository;
+
+    @Mock
+    private MenuBulkRepository menuBulkRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MenuBulkService menuBulkService;
+
+    @BeforeEach
+    void setUp() {
+        menuBulkService = new MenuBulkService(menuRepository, menuCategoryRepository, optionCategoryRepository,
+                menuBulkRepository, fileStorageService, objectMapper, eventPublisher,
+                new TransactionTemplate(transactionManager), 2, 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuBulkService.shutdown();
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 새 항목만 배치로 저장하고 이름 참조를 ID로 연결")
+    void importMenus_Success() throws Exception {
+        // Given: 음료 카테고리는 매장에 이미 있음
+        MenuBulkDto data = new MenuBulkDto(
+                List.of(new MenuCategoryCreateRequestDto("음료", 1), new MenuCategoryCreateRequestDto("버거", 2)),
+                List.of(new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(
+                        new OptionRequestDto(null, "Regular", 0, true),
+                        new OptionRequestDto(null, "Large", 500, false)))),
+                List.of(menu("치킨버거", "버거", List.of("사이즈"), "images/burger.png", null),
+                        menu("콜라", "음료", List.of(), null, "https://example.com/cola.jpg")));
+        existing(List.of(category(5L, "음료")), List.of());
+
+        when(fileStorageService.storeFile("burger.png", "image/png", "burger".getBytes()))
+                .thenReturn("https://example.com/burger.png");
+        when(fileStorageService.isStoredFile("https://example.com/cola.jpg")).thenReturn(true);
+        when(fileStorageService.copyFile("https://example.com/cola.jpg")).thenReturn("https://example.com/cola-copy.jpg");
+        when(menuBulkRepository.insertCategories(anyList())).thenReturn(List.of(10L));
+        when(menuBulkRepository.insertOptionCategories(anyList())).thenReturn(List.of(20L));
+        when(menuBulkRepository.insertOptions(anyList())).thenReturn(List.of(30L, 31L));
+        when(menuBulkRepository.insertMenus(anyList())).thenReturn(List.of(40L, 41L));
+
+        // When
+        MenuImportResponseDto result = menuBulkService.importMenus(STORE_ID, json(data),
+                zip(Map.of("images/burger.png", "burger".getBytes())));
+
+        // Then
+        assertEquals(1, result.getCategories());
+        assertEquals(1, result.getOptionCategories());
+        assertEquals(2, result.getOptions());
+        assertEquals(2, result.getMenus());
+
+        ArgumentCaptor<List<MenuCategory>> categories = captor();
+        verify(menuBulkRepository).insertCategories(categories.capture());
+        assertEquals(List.of("버거"), categories.getValue().stream().map(MenuCategory::getName).toList());
+
+        ArgumentCaptor<List<Option>> options = captor();
+        verify(menuBulkRepository).insertOptions(options.capture());
+        assertTrue(options.getValue().stream().allMatch(option -> option.getOptionCategory().getId().equals(20L)));
+
+        ArgumentCaptor<List<Menu>> menus = captor();
+        verify(menuBulkRepository).insertMenus(menus.capture());
+        Menu burger = menus.getValue().get(0);
+        Menu cola = menus.getValue().get(1);
+        assertEquals(10L, burger.getMenuCategory().getId());
+        assertEquals("https://example.com/burger.png", burger.getImageUrl());
+        assertEquals(Set.of(20L), ids(burger.getOptionCategories()));
+        assertEquals(5L, cola.getMenuCategory().getId());
+        // 기존 이미지 URL은 공유하지 않고 복사본을 사용
+        assertEquals("https://example.com/cola-copy.jpg", cola.getImageUrl());
+
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(STORE_ID));
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 없는 카테고리를 참조하면 이미지를 올리기 전에 실패")
+    void importMenus_CategoryNotFound() throws Exception {
+        // Given
+        MenuBulkDto data = new MenuBulkDto(List.of(), List.of(),
+                List.of(menu("치킨버거", "버거", List.of(), "burger.png", null)));
+        existing(List.of(), List.of());
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuBulkService.importMenus(STORE_ID, json(data), zip(Map.of("burger.png", "burger".getBytes()))));
+        assertEquals(ErrorCode.MENU_CATEGORY_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(fileStorageService, menuBulkRepository);
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 없는 옵션 카테고리를 참조")
+    void importMenus_OptionCategoryNotFound() throws Exception {
+        // Given
+        MenuBulkDto data = new MenuBulkDto(List.of(new MenuCategoryCreateRequestDto("버거", 1)), List.of(),
+                List.of(menu("치킨버거", "버거", List.of("사이즈"), null, null)));
+        existing(List.of(), List.of());
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuBulkService.importMenus(STORE_ID, json(data), null));
+        assertEquals(ErrorCode.OPTION_CATEGORY_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 참조한 이미지가 zip에 없음")
+    void importMenus_ImageMissing() throws Exception {
+        // Given
+        MenuBulkDto data = new MenuBulkDto(List.of(new MenuCategoryCreateRequestDto("버거", 1)), List.of(),
+                List.of(menu("치킨버거", "버거", List.of(), "burger.png", null)));
+        existing(List.of(), List.of());
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuBulkService.importMenus(STORE_ID, json(data), zip(Map.of("other.png", "other".getBytes()))));
+        assertEquals(ErrorCode.INVALID_MENU_IMPORT_FILE, exception.getErrorCode());
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 이 저장소의 URL이 아닌 이미지 URL은 업로드 전에 거부")
+    void importMenus_ForeignImageUrl() throws Exception {
+        // Given
+        MenuBulkDto data = new MenuBulkDto(List.of(new MenuCategoryCreateRequestDto("음료", 1)), List.of(),
+                List.of(menu("콜라", "음료", List.of(), null, "https://x/back-end/menu/other-store.jpg")));
+        existing(List.of(), List.of());
+        when(fileStorageService.isStoredFile("https://x/back-end/menu/other-store.jpg")).thenReturn(false);
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuBulkService.importMenus(STORE_ID, json(data), null));
+        assertEquals(ErrorCode.INVALID_MENU_IMPORT_FILE, exception.getErrorCode());
+        verify(fileStorageService, never()).copyFile(any());
+        verifyNoInteractions(menuBulkRepository);
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - JSON 형식 오류")
+    void importMenus_InvalidJson() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "menus.json", "application/json", "{menus".getBytes());
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuBulkService.importMenus(STORE_ID, file, null));
+        assertEquals(ErrorCode.INVALID_MENU_IMPORT_FILE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 저장에 실패하면 업로드한 이미지 삭제")
+    void importMenus_InsertFails_DeletesUploadedImages() throws Exception {
+        // Given
+        MenuBulkDto data = new MenuBulkDto(List.of(new MenuCategoryCreateRequestDto("버거", 1)), List.of(),
+                List.of(menu("치킨버거", "버거", List.of(), "burger.png", null)));
+        existing(List.of(), List.of());
+        when(fileStorageService.storeFile(eq("burger.png"), any(), any())).thenReturn("https://example.com/burger.png");
+        when(menuBulkRepository.insertCategories(anyList())).thenThrow(new IllegalStateException("insert failed"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> menuBulkService.importMenus(STORE_ID, json(data), zip(Map.of("burger.png", "burger".getBytes()))));
+        verify(fileStorageService).deleteFile("https://example.com/burger.png");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 가져오기 - 저장에 실패하면 복사한 이미지도 삭제 (원본은 유지)")
+    void importMenus_InsertFails_DeletesCopiedImages() throws Exception {
+        // Given
+        String source = "https://example.com/cola.jpg";
+        MenuBulkDto data = new MenuBulkDto(List.of(new MenuCategoryCreateRequestDto("음료", 1)), List.of(),
+                List.of(menu("콜라", "음료", List.of(), null, source)));
+        existing(List.of(), List.of());
+        when(fileStorageService.isStoredFile(source)).thenReturn(true);
+        when(fileStorageService.copyFile(source)).thenReturn("https://example.com/cola-copy.jpg");
+        when(menuBulkRepository.insertCategories(anyList())).thenThrow(new IllegalStateException("insert failed"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> menuBulkService.importMenus(STORE_ID, json(data), null));
+        verify(fileStorageService).deleteFile("https://example.com/cola-copy.jpg");
+        verify(fileStorageService, never()).deleteFile(source);
+    }
+
+    @Test
+    @DisplayName("메뉴 일괄 내보내기 - 이름으로 참조하는 가져오기 형식으로 스트림에 기록")
+    void exportMenus_Success() throws Exception {
+        // Given
+        MenuCategory burgerCategory = category(10L, "버거");
+        OptionCategory size = OptionCategory.builder()
+                .id(20L)
+                .storeId(STORE_ID)
+                .name("사이즈")
+                .type(OptionCategoryType.SINGLE)
+                .isRequired(true)
+                .build();
+        size.getOptions().add(Option.builder().id(30L).name("Large").price(500).optionCategory(size).build());
+        Menu burger = Menu.builder()
+                .id(40L)
+                .storeId(STORE_ID)
+                .name("치킨버거")
+                .price(8000)
+                .menuCategory(burgerCategory)
+                .imageUrl("https://example.com/burger.png")
+                .optionCategories(new HashSet<>(List.of(size)))
+                .build();
+
+        when(menuCategoryRepository.findByStoreIdOrderByDisplayOrderAsc(STORE_ID)).thenReturn(List.of(burgerCategory));
+        when(optionCategoryRepository.findAllByStoreIdWithDetails(STORE_ID)).thenReturn(List.of(size));
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<Menu>>>getArgument(2).accept(List.of(burger));
+            return null;
+        }).when(menuRepository).forEachChunkByStoreId(eq(STORE_ID), eq(MenuBulkService.EXPORT_CHUNK_SIZE), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        menuBulkService.exportMenus(STORE_ID, out);
+
+        // Then: 가져오기 형식 그대로 읽을 수 있음
+        MenuBulkDto result = objectMapper.readValue(out.toByteArray(), MenuBulkDto.class);
+        assertEquals("버거", result.getCategories().get(0).getName());
+        assertEquals("Large", result.getOptionCategories().get(0).getOptions().get(0).getName());
+        assertNull(result.getOptionCategories().get(0).getOptions().get(0).getId());
+        MenuBulkDto.MenuItemDto menu = result.getMenus().get(0);
+        assertEquals("버거", menu.getCategory());
+        assertEquals(List.of("사이즈"), menu.getOptionCategories());
+        assertEquals("https://example.com/burger.png", menu.getImageUrl());
+    }
+
+    private void existing(List<MenuCategory> categories, List<OptionCategory> optionCategories) {
+        when(menuCategoryRepository.findByStoreIdOrderByDisplayOrderAsc(STORE_ID)).thenReturn(categories);
+        when(optionCategoryRepository.findByStoreId(STORE_ID)).thenReturn(optionCategories);
+    }
+
+    private MenuBulkDto.MenuItemDto menu(String name, String category, List<String> optionCategories, String image, String imageUrl) {
+        return new MenuBulkDto.MenuItemDto(name, 1000, null, category, optionCategories, false, image, imageUrl);
+    }
+
+    private MenuCategory category(Long id, String name) {
+        return MenuCategory.builder()
+                .id(id)
+                .storeId(STORE_ID)
+                .name(name)
+                .displayOrder(1)
+                .build();
+    }
+
+    private MockMultipartFile json(MenuBulkDto data) throws IOException {
+        return new MockMultipartFile("file", "menus.json", "application/json", objectMapper.writeValueAsBytes(data));
+    }
+
+    private MockMultipartFile zip(Map<String, byte[]> files) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue());
+                zip.closeEntry();
+            }
+        }
+        return new MockMultipartFile("images", "images.zip", "application/zip", bytes.toByteArray());
+    }
+
+    private Set<Long> ids(Set<OptionCategory> optionCategories) {
+        return optionCategories.stream().map(OptionCategory::getId).collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ArgumentCaptor<List<T>> captor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
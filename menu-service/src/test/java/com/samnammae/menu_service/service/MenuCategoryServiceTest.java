@@ -2,26 +2,33 @@ package com.samnammae.menu_service.service;
 
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.cache.MenuCache;
 import com.samnammae.menu_service.domain.menu.MenuRepository;
 import com.samnammae.menu_service.domain.menucategory.MenuCategory;
 import com.samnammae.menu_service.domain.menucategory.MenuCategoryRepository;
 import com.samnammae.menu_service.dto.request.MenuCategoryCreateRequestDto;
 import com.samnammae.menu_service.dto.request.MenuCategoryUpdateRequestDto;
 import com.samnammae.menu_service.dto.response.MenuCategoryResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +41,13 @@ class MenuCategoryServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MenuCache menuCache = new MenuCache(new SimpleMeterRegistry(), mock(MenuVersionService.class), 100,
+            Duration.ofMinutes(1));
+
     @InjectMocks
     private MenuCategoryService menuCategoryService;
 
@@ -53,30 +67,6 @@ class MenuCategoryServiceTest {
         updateRequestDto = new MenuCategoryUpdateRequestDto(1L, "수정된 메뉴", 2);
     }
 
-    @Test
-    @DisplayName("매장 접근 권한 검증 - 성공")
-    void validateStoreAccess_Success() {
-        // Given
-        Long storeId = 1L;
-        String managedStoreIds = "1,2,3";
-
-        // When & Then
-        assertDoesNotThrow(() -> menuCategoryService.validateStoreAccess(storeId, managedStoreIds));
-    }
-
-    @Test
-    @DisplayName("매장 접근 권한 검증 - 실패")
-    void validateStoreAccess_Fail() {
-        // Given
-        Long storeId = 4L;
-        String managedStoreIds = "1,2,3";
-
-        // When & Then
-        CustomException exception = assertThrows(CustomException.class,
-                () -> menuCategoryService.validateStoreAccess(storeId, managedStoreIds));
-        assertEquals(ErrorCode.STORE_ACCESS_DENIED, exception.getErrorCode());
-    }
-
     @Test
     @DisplayName("카테고리 생성 - 성공")
     void createCategory_Success() {
@@ -97,6 +87,7 @@ class MenuCategoryServiceTest {
         // Then
         assertEquals(1L, result);
         verify(menuCategoryRepository).save(any(MenuCategory.class));
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(storeId));
     }
 
     @Test
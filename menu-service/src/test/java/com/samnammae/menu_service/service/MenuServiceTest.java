@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.cache.MenuCache;
 import com.samnammae.menu_service.domain.menu.Menu;
 import com.samnammae.menu_service.domain.menu.MenuRepository;
 import com.samnammae.menu_service.domain.menucategory.MenuCategory;
@@ -16,15 +17,19 @@ import com.samnammae.menu_service.dto.request.MenuCreateRequestDto;
 import com.samnammae.menu_service.dto.request.MenuUpdateRequestDto;
 import com.samnammae.menu_service.dto.response.MenuDetailResponseDto;
 import com.samnammae.menu_service.dto.response.MenuListResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +57,16 @@ class MenuServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MenuTemplateService menuTemplateService;
+
+    @Spy
+    private MenuCache menuCache = new MenuCache(new SimpleMeterRegistry(), mock(MenuVersionService.class), 100,
+            Duration.ofMinutes(1));
+
     @InjectMocks
     private MenuService menuService;
 
@@ -101,30 +116,6 @@ class MenuServiceTest {
                 "image", "test.jpg", "image/jpeg", "test content".getBytes());
     }
 
-    @Test
-    @DisplayName("매장 접근 권한 검증 - 성공")
-    void validateStoreAccess_Success() {
-        // Given
-        Long storeId = 1L;
-        String managedStoreIds = "1,2,3";
-
-        // When & Then
-        assertDoesNotThrow(() -> menuService.validateStoreAccess(storeId, managedStoreIds));
-    }
-
-    @Test
-    @DisplayName("매장 접근 권한 검증 - 실패")
-    void validateStoreAccess_Fail() {
-        // Given
-        Long storeId = 4L;
-        String managedStoreIds = "1,2,3";
-
-        // When & Then
-        CustomException exception = assertThrows(CustomException.class,
-                () -> menuService.validateStoreAccess(storeId, managedStoreIds));
-        assertEquals(ErrorCode.STORE_ACCESS_DENIED, exception.getErrorCode());
-    }
-
     @Test
     @DisplayName("메뉴 생성 - 성공 (이미지 있음)")
     void createMenu_WithImage_Success() throws Exception {
@@ -212,6 +203,30 @@ class MenuServiceTest {
         // 기존 이미지 URL로 삭제 검증 (testMenu.getImageUrl() = "https://example.com/image.jpg")
         verify(fileStorageService).deleteFile("https://example.com/image.jpg");
         verify(fileStorageService).storeFile(testImage);
+        verifyNoInteractions(menuTemplateService);
+    }
+
+    @Test
+    @DisplayName("메뉴 수정 - 템플릿 메뉴의 가격, 품절은 재정의로 기록 (템플릿을 다시 적용해도 유지)")
+    void updateMenu_TemplateMenu_RecordsOverride() throws Exception {
+        // Given
+        testMenu = Menu.builder()
+                .id(1L)
+                .storeId(1L)
+                .name("치킨버거")
+                .price(8000)
+                .isSoldOut(false)
+                .menuCategory(testCategory)
+                .templateSourceId(10L)
+                .build();
+        setupMenuUpdateMocks(1L);
+
+        // When
+        menuService.updateMenu(1L, 1L, updateRequestDto, null);
+
+        // Then
+        assertEquals(9000, testMenu.getPrice());
+        verify(menuTemplateService).recordOverride(testMenu, 9000, false);
     }
 
     @Test
@@ -259,6 +274,23 @@ class MenuServiceTest {
         verify(menuRepository).delete(testMenu);
     }
 
+    @Test
+    @DisplayName("메뉴 삭제 - 다른 메뉴와 공유하는 이미지는 삭제하지 않음")
+    void deleteMenu_SharedImageKept() {
+        // Given
+        Long storeId = 1L;
+        Long menuId = 1L;
+        when(menuRepository.findById(menuId)).thenReturn(Optional.of(testMenu));
+        when(menuRepository.existsByImageUrlAndIdNot(testMenu.getImageUrl(), testMenu.getId())).thenReturn(true);
+
+        // When
+        menuService.deleteMenu(storeId, menuId);
+
+        // Then
+        verify(fileStorageService, never()).deleteFile(any());
+        verify(menuRepository).delete(testMenu);
+    }
+
     @Test
     @DisplayName("메뉴 삭제 - 메뉴 없음")
     void deleteMenu_MenuNotFound() {
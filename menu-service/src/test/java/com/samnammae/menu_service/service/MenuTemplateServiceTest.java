@@ -0,0 +1,246 @@
+package com.samnammae.menu_service.service;
+
+import com.samnammae.common.exception.CustomException;
+import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.domain.menu.Menu;
+import com.samnammae.menu_service.domain.menu.MenuRepository;
+import com.samnammae.menu_service.domain.template.MenuOverride;
+import com.samnammae.menu_service.domain.template.MenuOverrideRepository;
+import com.samnammae.menu_service.domain.template.MenuTemplate;
+import com.samnammae.menu_service.domain.template.MenuTemplateCopyRepository;
+import com.samnammae.menu_service.domain.template.MenuTemplateRepository;
+import com.samnammae.menu_service.dto.request.MenuOverrideRequestDto;
+import com.samnammae.menu_service.dto.response.MenuTemplateResponseDto;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuTemplateServiceTest {
+
+    @Mock
+    private MenuTemplateRepository menuTemplateRepository;
+
+    @Mock
+    private MenuTemplateCopyRepository menuTemplateCopyRepository;
+
+    @Mock
+    private MenuOverrideRepository menuOverrideRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MenuTemplateService menuTemplateService;
+
+    private MenuTemplate template;
+    private Menu sourceMenu;
+    private Menu storeMenu;
+
+    @BeforeEach
+    void setUp() {
+        template = MenuTemplate.builder()
+                .id(1L)
+                .name("본사 기본 메뉴")
+                .sourceStoreId(1L)
+                .build();
+
+        sourceMenu = Menu.builder()
+                .id(10L)
+                .storeId(1L)
+                .name("아메리카노")
+                .price(4500)
+                .isSoldOut(false)
+                .build();
+
+        storeMenu = Menu.builder()
+                .id(20L)
+                .storeId(2L)
+                .name("아메리카노")
+                .price(4500)
+                .isSoldOut(false)
+                .templateSourceId(10L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("템플릿 적용 - 성공 (부모 -> 자식 순서로 복사 후 매장별 변경 이벤트 발행)")
+    void applyTemplate_Success() {
+        // Given
+        when(menuTemplateRepository.findById(1L)).thenReturn(Optional.of(template));
+        List<Long> targets = List.of(2L, 3L);
+
+        // When
+        MenuTemplateResponseDto response = menuTemplateService.applyTemplate(1L, Arrays.asList(2L, 3L, 2L, null));
+
+        // Then
+        InOrder inOrder = inOrder(menuTemplateCopyRepository);
+        inOrder.verify(menuTemplateCopyRepository).linkOptionCategories(1L, targets);
+        inOrder.verify(menuTemplateCopyRepository).copyMenuCategories(1L, targets);
+        inOrder.verify(menuTemplateCopyRepository).copyOptionCategories(1L, targets);
+        inOrder.verify(menuTemplateCopyRepository).linkOptions(targets);
+        inOrder.verify(menuTemplateCopyRepository).copyOptions(targets);
+        inOrder.verify(menuTemplateCopyRepository).copyMenus(1L, targets);
+        inOrder.verify(menuTemplateCopyRepository).copyMenuOptionCategories(targets);
+        inOrder.verify(menuTemplateCopyRepository).refresh(targets);
+
+        assertEquals(List.of(2L, 3L), response.getStoreIds());
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(2L));
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(3L));
+    }
+
+    @Test
+    @DisplayName("템플릿 적용 - 원본 매장에는 적용 불가")
+    void applyTemplate_SourceStore() {
+        // Given
+        when(menuTemplateRepository.findById(1L)).thenReturn(Optional.of(template));
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuTemplateService.applyTemplate(1L, List.of(1L, 2L)));
+        assertEquals(ErrorCode.MENU_TEMPLATE_SOURCE_STORE, exception.getErrorCode());
+        verifyNoInteractions(menuTemplateCopyRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("템플릿 적용 - 템플릿 없음")
+    void applyTemplate_TemplateNotFound() {
+        // Given
+        when(menuTemplateRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuTemplateService.applyTemplate(99L, List.of(2L)));
+        assertEquals(ErrorCode.MENU_TEMPLATE_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("메뉴 재정의 - 가격만 재정의하면 품절 여부는 원본 값 사용")
+    void overrideMenu_PriceOnly() {
+        // Given
+        when(menuRepository.findById(20L)).thenReturn(Optional.of(storeMenu));
+        when(menuRepository.findById(10L)).thenReturn(Optional.of(sourceMenu));
+        when(menuOverrideRepository.findByStoreIdAndTemplateSourceId(2L, 10L)).thenReturn(Optional.empty());
+
+        // When
+        Long result = menuTemplateService.overrideMenu(2L, 20L, new MenuOverrideRequestDto(5000, null));
+
+        // Then
+        ArgumentCaptor<MenuOverride> captor = ArgumentCaptor.forClass(MenuOverride.class);
+        verify(menuOverrideRepository).save(captor.capture());
+        assertEquals(5000, captor.getValue().getPrice());
+        assertNull(captor.getValue().getSoldOut());
+
+        assertEquals(20L, result);
+        assertEquals(5000, storeMenu.getPrice());
+        assertFalse(storeMenu.isSoldOut());
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(2L));
+    }
+
+    @Test
+    @DisplayName("메뉴 재정의 - 값을 모두 비우면 재정의를 삭제하고 원본 값으로 복원")
+    void overrideMenu_Clear() {
+        // Given
+        MenuOverride override = MenuOverride.builder()
+                .storeId(2L)
+                .templateSourceId(10L)
+                .price(5000)
+                .soldOut(true)
+                .build();
+        storeMenu.override(5000, true);
+
+        when(menuRepository.findById(20L)).thenReturn(Optional.of(storeMenu));
+        when(menuRepository.findById(10L)).thenReturn(Optional.of(sourceMenu));
+        when(menuOverrideRepository.findByStoreIdAndTemplateSourceId(2L, 10L)).thenReturn(Optional.of(override));
+
+        // When
+        menuTemplateService.overrideMenu(2L, 20L, new MenuOverrideRequestDto(null, null));
+
+        // Then
+        verify(menuOverrideRepository).delete(override);
+        verify(menuOverrideRepository, never()).save(any());
+        assertEquals(4500, storeMenu.getPrice());
+        assertFalse(storeMenu.isSoldOut());
+    }
+
+    @Test
+    @DisplayName("일반 메뉴 수정의 재정의 기록 - 원본과 다른 값만 재정의로 저장")
+    void recordOverride_OnlyDifferentValues() {
+        // Given
+        when(menuRepository.findById(10L)).thenReturn(Optional.of(sourceMenu));
+        when(menuOverrideRepository.findByStoreIdAndTemplateSourceId(2L, 10L)).thenReturn(Optional.empty());
+
+        // When
+        menuTemplateService.recordOverride(storeMenu, 5000, false);
+
+        // Then
+        ArgumentCaptor<MenuOverride> captor = ArgumentCaptor.forClass(MenuOverride.class);
+        verify(menuOverrideRepository).save(captor.capture());
+        assertEquals(5000, captor.getValue().getPrice());
+        assertNull(captor.getValue().getSoldOut());
+    }
+
+    @Test
+    @DisplayName("일반 메뉴 수정의 재정의 기록 - 원본과 같은 값으로 되돌리면 기존 재정의 삭제")
+    void recordOverride_SameAsSource_DeletesOverride() {
+        // Given
+        MenuOverride override = MenuOverride.builder()
+                .storeId(2L)
+                .templateSourceId(10L)
+                .price(5000)
+                .build();
+        when(menuRepository.findById(10L)).thenReturn(Optional.of(sourceMenu));
+        when(menuOverrideRepository.findByStoreIdAndTemplateSourceId(2L, 10L)).thenReturn(Optional.of(override));
+
+        // When
+        menuTemplateService.recordOverride(storeMenu, 4500, false);
+
+        // Then
+        verify(menuOverrideRepository).delete(override);
+        verify(menuOverrideRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("메뉴 재정의 - 템플릿으로 추가된 메뉴가 아님")
+    void overrideMenu_NotFromTemplate() {
+        // Given
+        when(menuRepository.findById(10L)).thenReturn(Optional.of(sourceMenu));
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuTemplateService.overrideMenu(1L, 10L, new MenuOverrideRequestDto(5000, null)));
+        assertEquals(ErrorCode.MENU_NOT_FROM_TEMPLATE, exception.getErrorCode());
+        verifyNoInteractions(menuOverrideRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("메뉴 재정의 - 매장 불일치")
+    void overrideMenu_StoreMismatch() {
+        // Given
+        when(menuRepository.findById(20L)).thenReturn(Optional.of(storeMenu));
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> menuTemplateService.overrideMenu(3L, 20L, new MenuOverrideRequestDto(5000, null)));
+        assertEquals(ErrorCode.MENU_STORE_MISMATCH, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,48 @@
+package com.samnammae.menu_service.service;
+
+import com.samnammae.menu_service.domain.menuversion.MenuVersionRepository;
+import com.samnammae.menu_service.event.MenuChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuVersionServiceTest {
+
+    @Mock
+    private MenuVersionRepository menuVersionRepository;
+
+    @InjectMocks
+    private MenuVersionService menuVersionService;
+
+    @Test
+    @DisplayName("변경 이벤트 - 쓰기 트랜잭션 안에서 매장 메뉴 버전 증가")
+    void onMenuChanged_IncrementsVersion() {
+        // When
+        menuVersionService.onMenuChanged(new MenuChangedEvent(1L));
+
+        // Then
+        verify(menuVersionRepository).increment(1L);
+    }
+
+    @Test
+    @DisplayName("버전 조회 - 쓰기가 한 번도 없었던 매장은 0")
+    void currentVersion_NoWrites_Zero() {
+        // Given
+        when(menuVersionRepository.findVersionByStoreId(1L)).thenReturn(Optional.empty());
+        when(menuVersionRepository.findVersionByStoreId(2L)).thenReturn(Optional.of(3L));
+
+        // When & Then
+        assertEquals(0L, menuVersionService.currentVersion(1L));
+        assertEquals(3L, menuVersionService.currentVersion(2L));
+    }
+}
@@ -2,6 +2,7 @@ package com.samnammae.menu_service.service;
 
 import com.samnammae.common.exception.CustomException;
 import com.samnammae.common.exception.ErrorCode;
+import com.samnammae.menu_service.cache.MenuCache;
 import com.samnammae.menu_service.domain.option.Option;
 import com.samnammae.menu_service.domain.option.OptionRepository;
 import com.samnammae.menu_service.domain.optioncategory.OptionCategory;
@@ -10,14 +11,18 @@ import com.samnammae.menu_service.domain.optioncategory.OptionCategoryType;
 import com.samnammae.menu_service.dto.request.OptionCategoryRequestDto;
 import com.samnammae.menu_service.dto.request.OptionRequestDto;
 import com.samnammae.menu_service.dto.response.OptionCategoryResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +41,11 @@ class OptionServiceTest {
     private OptionCategoryRepository optionCategoryRepository;
     @Mock
     private OptionRepository optionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private MenuCache menuCache = new MenuCache(new SimpleMeterRegistry(), mock(MenuVersionService.class), 100,
+            Duration.ofMinutes(1));
     @InjectMocks
     private OptionService optionService;
     private OptionCategory testCategory;
@@ -61,33 +71,10 @@ class OptionServiceTest {
 
         testCategory.getOptions().add(testOption);
 
-        OptionRequestDto optionDto = new OptionRequestDto("Regular", 0, true);
+        OptionRequestDto optionDto = new OptionRequestDto(null, "Regular", 0, true);
         requestDto = new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(optionDto));
     }
 
-    @Test
-    @DisplayName("매장 접근 권한 검증 - 성공")
-    void validateStoreAccess_Success() {
-        // Given
-        String managedStoreIds = "1,2,3";
-
-        // When & Then
-        assertDoesNotThrow(() -> optionService.validateStoreAccess(storeId, managedStoreIds));
-    }
-
-    @Test
-    @DisplayName("매장 접근 권한 검증 - 실패")
-    void validateStoreAccess_Fail() {
-        // Given
-        Long wrongStoreId = 4L;
-        String managedStoreIds = "1,2,3";
-
-        // When & Then
-        CustomException exception = assertThrows(CustomException.class,
-                () -> optionService.validateStoreAccess(wrongStoreId, managedStoreIds));
-        assertEquals(ErrorCode.STORE_ACCESS_DENIED, exception.getErrorCode());
-    }
-
     @Test
     @DisplayName("옵션 카테고리 생성 - 성공")
     void createOptionCategory_Success() {
@@ -145,6 +132,120 @@ class OptionServiceTest {
         verify(optionCategoryRepository).findByIdAndStoreId(categoryId, storeId);
     }
 
+    @Test
+    @DisplayName("옵션 카테고리 수정 - 기존 옵션은 ID를 유지한 채 수정하고 새 옵션만 추가")
+    void updateOptionCategory_KeepsExistingOptionIds() {
+        // Given
+        Option regular = testCategory.getOptions().get(0);
+        OptionCategoryRequestDto request = new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(
+                new OptionRequestDto(null, "Regular", 500, false),
+                new OptionRequestDto(null, "Large", 1000, false)));
+        when(optionCategoryRepository.findByIdAndStoreId(categoryId, storeId)).thenReturn(Optional.of(testCategory));
+
+        // When
+        optionService.updateOptionCategory(storeId, categoryId, request);
+
+        // Then
+        assertThat(testCategory.getOptions()).hasSize(2);
+        assertSame(regular, testCategory.getOptions().get(0));
+        assertEquals(optionId, regular.getId());
+        assertEquals(500, regular.getPrice());
+        assertNull(testCategory.getOptions().get(1).getId());
+        assertEquals("Large", testCategory.getOptions().get(1).getName());
+        verify(optionCategoryRepository, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("옵션 카테고리 수정 - 요청에 없는 옵션만 삭제")
+    void updateOptionCategory_RemovesOnlyMissingOptions() {
+        // Given
+        Option large = option(102L, "Large");
+        testCategory.getOptions().add(large);
+        OptionCategoryRequestDto request = new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(
+                new OptionRequestDto(102L, "Large", 0, false)));
+        when(optionCategoryRepository.findByIdAndStoreId(categoryId, storeId)).thenReturn(Optional.of(testCategory));
+
+        // When
+        optionService.updateOptionCategory(storeId, categoryId, request);
+
+        // Then
+        assertThat(testCategory.getOptions()).containsExactly(large);
+        verify(optionCategoryRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("옵션 카테고리 수정 - ID로 지정한 옵션끼리 이름을 맞바꿔도 ID 유지")
+    void updateOptionCategory_SwapNames() {
+        // Given
+        Option regular = testCategory.getOptions().get(0);
+        Option large = option(102L, "Large");
+        testCategory.getOptions().add(large);
+        OptionCategoryRequestDto request = new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(
+                new OptionRequestDto(optionId, "Large", 0, false),
+                new OptionRequestDto(102L, "Regular", 0, true)));
+        when(optionCategoryRepository.findByIdAndStoreId(categoryId, storeId)).thenReturn(Optional.of(testCategory));
+
+        // When
+        optionService.updateOptionCategory(storeId, categoryId, request);
+
+        // Then
+        assertEquals("Large", regular.getName());
+        assertEquals("Regular", large.getName());
+        assertThat(testCategory.getOptions()).containsExactly(regular, large);
+        verify(optionCategoryRepository, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("옵션 카테고리 수정 - ID 없는 옵션이 앞에 와도 ID로 지정한 옵션을 먼저 연결")
+    void updateOptionCategory_IdMatchedBeforeName() {
+        // Given: 기존 Regular 옵션의 이름을 Large로 바꾸고, 같은 요청 앞쪽에 새 Regular 옵션을 추가
+        Option regular = testCategory.getOptions().get(0);
+        OptionCategoryRequestDto request = new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(
+                new OptionRequestDto(null, "Regular", 0, false),
+                new OptionRequestDto(optionId, "Large", 1000, false)));
+        when(optionCategoryRepository.findByIdAndStoreId(categoryId, storeId)).thenReturn(Optional.of(testCategory));
+
+        // When
+        optionService.updateOptionCategory(storeId, categoryId, request);
+
+        // Then
+        assertThat(testCategory.getOptions()).hasSize(2);
+        assertSame(regular, testCategory.getOptions().get(0));
+        assertEquals("Large", regular.getName());
+        assertEquals(1000, regular.getPrice());
+        assertNull(testCategory.getOptions().get(1).getId());
+        assertEquals("Regular", testCategory.getOptions().get(1).getName());
+    }
+
+    @Test
+    @DisplayName("옵션 카테고리 수정 - 카테고리에 없는 옵션 ID")
+    void updateOptionCategory_OptionNotFound() {
+        // Given
+        OptionCategoryRequestDto request = new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(
+                new OptionRequestDto(999L, "Large", 0, false)));
+        when(optionCategoryRepository.findByIdAndStoreId(categoryId, storeId)).thenReturn(Optional.of(testCategory));
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> optionService.updateOptionCategory(storeId, categoryId, request));
+        assertEquals(ErrorCode.OPTION_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("옵션 카테고리 수정 - 같은 이름의 옵션이 중복")
+    void updateOptionCategory_DuplicatedOptionName() {
+        // Given
+        OptionCategoryRequestDto request = new OptionCategoryRequestDto("사이즈", "SINGLE", true, List.of(
+                new OptionRequestDto(null, "Large", 0, false),
+                new OptionRequestDto(null, "Large", 500, false)));
+        when(optionCategoryRepository.findByIdAndStoreId(categoryId, storeId)).thenReturn(Optional.of(testCategory));
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> optionService.updateOptionCategory(storeId, categoryId, request));
+        assertEquals(ErrorCode.OPTION_DUPLICATED, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("옵션 카테고리 수정 - 찾을 수 없음")
     void updateOptionCategory_NotFound() {
@@ -209,4 +310,14 @@ class OptionServiceTest {
                 () -> optionService.deleteOption(storeId, categoryId, wrongOptionId));
         assertEquals(ErrorCode.OPTION_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    private Option option(Long id, String name) {
+        return Option.builder()
+                .id(id)
+                .name(name)
+                .price(0)
+                .isDefault(false)
+                .optionCategory(testCategory)
+                .build();
+    }
+}
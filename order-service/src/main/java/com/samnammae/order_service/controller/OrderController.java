@@ -1,5 +1,6 @@
 package com.samnammae.order_service.controller;
 
+import com.samnammae.common.auth.ManagedStores;
 import com.samnammae.common.response.ApiResponse;
 import com.samnammae.order_service.dto.request.OrderCreateRequestDto;
 import com.samnammae.order_service.dto.response.OrderCancelResponseDto;
@@ -7,6 +8,7 @@ import com.samnammae.order_service.dto.response.OrderCreateResponseDto;
 import com.samnammae.order_service.dto.response.OrderDetailResponseDto;
 import com.samnammae.order_service.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -46,10 +48,10 @@ public class OrderController {
     @Operation(summary = "매장별 주문 목록 조회", description = "특정 매장의 전체 주문 목록을 조회합니다.")
     public ApiResponse<List<OrderDetailResponseDto>> getOrders(
             @PathVariable Long storeId,
-            @RequestHeader("X-MANAGED-STORE-IDS") String managedStoreIds) {
+            @Parameter(hidden = true) ManagedStores managedStores) {
 
         // 매장 권한 검증
-        orderService.validateStoreAccess(storeId, managedStoreIds);
+        managedStores.validate(storeId);
 
         // 매장별 주문 목록 조회
         List<OrderDetailResponseDto> response = orderService.getOrdersByStoreId(storeId);
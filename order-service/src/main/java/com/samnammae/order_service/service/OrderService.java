@@ -115,19 +115,6 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 매장 접근 권한을 검증합니다.
-     */
-    public void validateStoreAccess(Long storeId, String managedStoreIds) {
-        List<Long> accessibleStoreIds = Arrays.stream(managedStoreIds.split(","))
-                .map(Long::parseLong)
-                .toList();
-
-        if (!accessibleStoreIds.contains(storeId)) {
-            throw new CustomException(ErrorCode.STORE_ACCESS_DENIED);
-        }
-    }
-
     // ==================== Private Helper Methods ====================
 
     /**